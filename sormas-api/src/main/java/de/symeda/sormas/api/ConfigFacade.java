@@ -60,8 +60,6 @@ public interface ConfigFacade {
 
 	String getCustomFilesPath();
 
-	String getRScriptExecutable();
-
 	char getCsvSeparator();
 
 	String getAppLegacyUrl();
@@ -88,6 +86,10 @@ public interface ConfigFacade {
 
 	int getInfrastructureSyncThreshold();
 
+	long getSyncResponseSizeLimitMb();
+
+	int getBulkPushChunkSize();
+
 	int getDaysAfterSystemEventGetsDeleted();
 
 	GeoLatLon getCountryCenter();
@@ -136,6 +138,8 @@ public interface ConfigFacade {
 
 	String getDemisJndiName();
 
+	int getDemisChunkSize();
+
 	boolean isSkipDefaultPasswordCheck();
 
 	boolean isAuditorAttributeLoggingEnabled();
@@ -146,6 +150,10 @@ public interface ConfigFacade {
 
 	long getImportFileSizeLimitMb();
 
+	int getImportThreadCount();
+
+	int getImportChunkSize();
+
 	String getAuditLoggerConfig();
 
 	String getAuditSourceSite();
@@ -35,6 +35,7 @@ import de.symeda.sormas.api.caze.porthealthinfo.PortHealthInfoFacade;
 import de.symeda.sormas.api.caze.surveillancereport.SurveillanceReportFacade;
 import de.symeda.sormas.api.clinicalcourse.ClinicalCourseFacade;
 import de.symeda.sormas.api.clinicalcourse.ClinicalVisitFacade;
+import de.symeda.sormas.api.common.ReferencePrefetchFacade;
 import de.symeda.sormas.api.contact.ContactFacade;
 import de.symeda.sormas.api.customizableenum.CustomizableEnumFacade;
 import de.symeda.sormas.api.dashboard.DashboardFacade;
@@ -63,6 +64,7 @@ import de.symeda.sormas.api.i18n.I18nFacade;
 import de.symeda.sormas.api.immunization.ImmunizationFacade;
 import de.symeda.sormas.api.importexport.ExportFacade;
 import de.symeda.sormas.api.importexport.ImportFacade;
+import de.symeda.sormas.api.importexport.InfrastructureNameResolverFacade;
 import de.symeda.sormas.api.info.InfoFacade;
 import de.symeda.sormas.api.infrastructure.ClientInfraSyncFacade;
 import de.symeda.sormas.api.infrastructure.PopulationDataFacade;
@@ -280,6 +282,10 @@ public class FacadeProvider {
 		return get().lookupEjbRemote(ImportFacade.class);
 	}
 
+	public static InfrastructureNameResolverFacade getInfrastructureNameResolverFacade() {
+		return get().lookupEjbRemote(InfrastructureNameResolverFacade.class);
+	}
+
 	public static CaseClassificationFacade getCaseClassificationFacade() {
 		return get().lookupEjbRemote(CaseClassificationFacade.class);
 	}
@@ -499,6 +505,10 @@ public class FacadeProvider {
 		return get().lookupEjbRemote(DeletionConfigurationFacade.class);
 	}
 
+	public static ReferencePrefetchFacade getReferencePrefetchFacade() {
+		return get().lookupEjbRemote(ReferencePrefetchFacade.class);
+	}
+
 	@SuppressWarnings("unchecked")
 	public <P> P lookupEjbRemote(Class<P> clazz) {
 		try {
@@ -42,6 +42,9 @@ import de.symeda.sormas.api.event.EventParticipantReferenceDto;
 import de.symeda.sormas.api.externaldata.ExternalDataDto;
 import de.symeda.sormas.api.externaldata.ExternalDataUpdateException;
 import de.symeda.sormas.api.followup.FollowUpPeriodDto;
+import de.symeda.sormas.api.geo.GeoBounds;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
 import de.symeda.sormas.api.importexport.ExportConfigurationDto;
 import de.symeda.sormas.api.infrastructure.district.DistrictDto;
 import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
@@ -60,6 +63,12 @@ public interface CaseFacade extends CoreFacade<CaseDataDto, CaseIndexDto, CaseRe
 
 	long count(CaseCriteria caseCriteria, boolean ignoreUserFilter);
 
+	/**
+	 * @return The number of entries estimated by the database for lists without filters, when it exceeds the configured threshold;
+	 *         {@code null} if the list has to be counted exactly with {@link #count}.
+	 */
+	Long estimateCount(CaseCriteria criteria);
+
 	List<CaseSelectionDto> getCaseSelectionList(CaseCriteria caseCriteria);
 
 	List<CaseListEntryDto> getEntriesList(String personUuid, Integer first, Integer max);
@@ -85,6 +94,19 @@ public interface CaseFacade extends CoreFacade<CaseDataDto, CaseIndexDto, CaseRe
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage);
 
+	/**
+	 * Keyset paged variant of {@link #getExportList}: Returns up to {@code max} cases following the case with the id {@code afterId}
+	 * (from the first case if {@code null}), in the same order as {@link #getExportList} (report date and id descending).
+	 */
+	List<CaseExportDto> getExportListAfter(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Long afterId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage);
+
 	CaseDataDto getCaseDataByUuid(String uuid);
 
 	CaseDataDto updateFollowUpComment(@Valid @NotNull CaseDataDto dto) throws ValidationRuntimeException;
@@ -119,6 +141,25 @@ public interface CaseFacade extends CoreFacade<CaseDataDto, CaseIndexDto, CaseRe
 		Date to,
 		NewCaseDateType dateType);
 
+	/**
+	 * Aggregates the cases of {@link #getCasesForMap} for maps with too many cases to show each of them.
+	 *
+	 * @param bounds
+	 *            The visible part of the map, {@code null} to include all cases.
+	 * @param zoom
+	 *            The zoom level of the map, which determines the size of the grid cells.
+	 */
+	List<MapClusterDto<CaseClassification>> getCaseClustersForMap(
+		RegionReferenceDto regionRef,
+		DistrictReferenceDto districtRef,
+		Disease disease,
+		Date from,
+		Date to,
+		NewCaseDateType dateType,
+		GeoBounds bounds,
+		int zoom,
+		MapClusterGrouping grouping);
+
 	List<Pair<DistrictDto, BigDecimal>> getCaseMeasurePerDistrict(Date onsetFromDate, Date onsetToDate, Disease disease, CaseMeasure caseMeasure);
 
 	List<CaseDataDto> getAllCasesOfPerson(String personUuid);
@@ -218,6 +259,14 @@ public interface CaseFacade extends CoreFacade<CaseDataDto, CaseIndexDto, CaseRe
 
 	int updateCompleteness();
 
+	/**
+	 * Recalculates the classification of the given cases when automatic case classification is enabled.
+	 * Changed classifications are handled like saving the case does, and each batch of cases is committed on its own.
+	 *
+	 * @return The number of cases whose classification has been changed.
+	 */
+	int reclassifyCases(List<String> caseUuids);
+
 	PreviousCaseDto getMostRecentPreviousCase(PersonReferenceDto person, Disease disease, Date startDate);
 
 	void archive(String entityUuid, Date endOfProcessingDate, boolean includeContacts);
@@ -15,6 +15,8 @@
 
 package de.symeda.sormas.api.caze.caseimport;
 
+import java.util.List;
+
 import javax.ejb.Remote;
 import javax.validation.Valid;
 
@@ -32,6 +34,20 @@ public interface CaseImportFacade {
 		boolean ignoreEmptyEntries)
 		throws InvalidColumnException;
 
+	/**
+	 * Builds and validates the entities of a line without looking for similar persons and without saving them, so several lines can be
+	 * prepared at the same time. The prepared entities are saved with {@link #saveImportedEntities(List)}.
+	 *
+	 * @return A success result containing the entities or an error result.
+	 */
+	ImportLineResultDto<CaseImportEntities> prepareCaseData(
+		String[] values,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		boolean ignoreEmptyEntries)
+		throws InvalidColumnException;
+
 	ImportLineResultDto<CaseImportEntities> updateCaseWithImportData(
 		String personUuid,
 		String caseUuid,
@@ -42,4 +58,11 @@ public interface CaseImportFacade {
 		throws InvalidColumnException;
 
 	ImportLineResultDto<CaseImportEntities> saveImportedEntities(@Valid CaseImportEntities entities, boolean skipPersonValidation);
+
+	/**
+	 * Saves the prepared entities of several lines in one transaction, in the given order. Saving stops at the first line whose person
+	 * is similar to an existing one (duplicate result, nothing of this line is saved) or that cannot be saved (error result, the whole
+	 * transaction is rolled back). The results only cover the lines up to this one.
+	 */
+	List<ImportLineResultDto<CaseImportEntities>> saveImportedEntities(List<CaseImportEntities> entities);
 }
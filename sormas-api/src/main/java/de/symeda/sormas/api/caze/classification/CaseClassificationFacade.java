@@ -19,6 +19,7 @@ package de.symeda.sormas.api.caze.classification;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import javax.ejb.Remote;
 
@@ -31,6 +32,11 @@ public interface CaseClassificationFacade {
 
 	CaseClassification getClassification(CaseDataDto caze);
 
+	/**
+	 * @return The classification of each case by its uuid.
+	 */
+	Map<String, CaseClassification> getClassifications(List<CaseDataDto> cases);
+
 	DiseaseClassificationCriteriaDto getByDisease(Disease disease);
 
 	List<DiseaseClassificationCriteriaDto> getAllSince(Date changeDate);
@@ -65,6 +65,20 @@ public class ClassificationAllOfCriteriaDto extends ClassificationCriteriaDto im
 		return true;
 	}
 
+	@Override
+	public ClassificationPredicate compile() {
+
+		ClassificationPredicate[] compiledSubCriteria = compileAll(subCriteria);
+		return (caze, person, pathogenTests, events, lastVaccinationDate) -> {
+			for (ClassificationPredicate compiledCriteria : compiledSubCriteria) {
+				if (!compiledCriteria.test(caze, person, pathogenTests, events, lastVaccinationDate)) {
+					return false;
+				}
+			}
+			return true;
+		};
+	}
+
 	@Override
 	public String buildDescription() {
 		return getCriteriaName();
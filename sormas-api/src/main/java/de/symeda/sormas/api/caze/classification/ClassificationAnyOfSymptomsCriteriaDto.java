@@ -1,6 +1,7 @@
 package de.symeda.sormas.api.caze.classification;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -47,6 +48,28 @@ public class ClassificationAnyOfSymptomsCriteriaDto extends ClassificationCriter
 		return false;
 	}
 
+	@Override
+	public ClassificationPredicate compile() {
+
+		SymptomState symptomState = this.symptomState;
+		List<ClassificationPropertyAccessor> accessors = new ArrayList<>();
+		for (Field field : SymptomsDto.class.getDeclaredFields()) {
+			if (field.getType() == SymptomState.class && fieldVisibilityCheckers.isVisible(SymptomsDto.class, field.getName())) {
+				accessors.add(ClassificationPropertyAccessor.ofField(field));
+			}
+		}
+
+		return (caze, person, pathogenTests, events, lastVaccinationDate) -> {
+			SymptomsDto symptomsDto = caze.getSymptoms();
+			for (ClassificationPropertyAccessor accessor : accessors) {
+				if (accessor.get(symptomsDto) == symptomState) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
 	@Override
 	public String buildDescription() {
 		StringBuilder stringBuilder = new StringBuilder();
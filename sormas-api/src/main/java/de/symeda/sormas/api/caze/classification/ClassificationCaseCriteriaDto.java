@@ -19,6 +19,7 @@ package de.symeda.sormas.api.caze.classification;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -76,6 +77,14 @@ public class ClassificationCaseCriteriaDto extends ClassificationCriteriaDto {
 		}
 	}
 
+	@Override
+	public ClassificationPredicate compile() {
+
+		ClassificationPropertyAccessor accessor = ClassificationPropertyAccessor.ofProperty(getInvokeClass(), propertyId);
+		List<Object> values = new ArrayList<>(propertyValues);
+		return (caze, person, pathogenTests, events, lastVaccinationDate) -> values.contains(accessor.get(getInvokeObject(caze)));
+	}
+
 	protected StringBuilder appendDescValues(StringBuilder stringBuilder) {
 
 		if (propertyValues.size() == 1 && propertyValues.get(0) instanceof YesNoUnknown) {
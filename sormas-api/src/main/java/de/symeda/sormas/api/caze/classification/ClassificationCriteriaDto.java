@@ -66,6 +66,18 @@ public abstract class ClassificationCriteriaDto implements Serializable {
 		List<EventDto> events,
 		Date lastVaccinationDate);
 
+	/**
+	 * Prepares the evaluation of this criteria once, so it can be evaluated repeatedly without looking up properties by reflection.
+	 * Criteria that only consist of other criteria compile them as well.
+	 */
+	public ClassificationPredicate compile() {
+		return this::eval;
+	}
+
+	protected static ClassificationPredicate[] compileAll(List<ClassificationCriteriaDto> criteria) {
+		return criteria.stream().map(ClassificationCriteriaDto::compile).toArray(ClassificationPredicate[]::new);
+	}
+
 	public abstract String buildDescription();
 
 	public String getType() {
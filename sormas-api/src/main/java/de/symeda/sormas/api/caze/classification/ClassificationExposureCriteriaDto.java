@@ -17,6 +17,7 @@ package de.symeda.sormas.api.caze.classification;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -86,6 +87,27 @@ public class ClassificationExposureCriteriaDto extends ClassificationCaseCriteri
 		return false;
 	}
 
+	@Override
+	public ClassificationPredicate compile() {
+
+		ExposureType exposureType = this.exposureType;
+		ClassificationPropertyAccessor accessor = ClassificationPropertyAccessor.ofProperty(getInvokeClass(), propertyId);
+		List<Object> values = new ArrayList<>(propertyValues);
+		return (caze, person, pathogenTests, events, lastVaccinationDate) -> {
+			for (ExposureDto exposure : caze.getEpiData().getExposures()) {
+				if (exposureType != null && exposure.getExposureType() != exposureType) {
+					continue;
+				}
+
+				Object value = accessor.get(exposure);
+				if (values.contains(value) || values.isEmpty() && YesNoUnknown.YES.equals(value)) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
 	@Override
 	public String buildDescription() {
 
@@ -58,6 +58,20 @@ public class ClassificationNoneOfCriteriaDto extends ClassificationCriteriaDto i
 		return true;
 	}
 
+	@Override
+	public ClassificationPredicate compile() {
+
+		ClassificationPredicate[] compiledCriteria = compileAll(classificationCriteria);
+		return (caze, person, pathogenTests, events, lastVaccinationDate) -> {
+			for (ClassificationPredicate criteria : compiledCriteria) {
+				if (criteria.test(caze, person, pathogenTests, events, lastVaccinationDate)) {
+					return false;
+				}
+			}
+			return true;
+		};
+	}
+
 	@Override
 	public String buildDescription() {
 		StringBuilder stringBuilder = new StringBuilder();
@@ -19,6 +19,7 @@ package de.symeda.sormas.api.caze.classification;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -86,6 +87,22 @@ public class ClassificationPathogenTestCriteriaDto extends ClassificationCaseCri
 		return false;
 	}
 
+	@Override
+	public ClassificationPredicate compile() {
+
+		List<PathogenTestType> testTypes = new ArrayList<>(this.testTypes);
+		ClassificationPropertyAccessor accessor = ClassificationPropertyAccessor.ofProperty(getInvokeClass(), propertyId);
+		List<Object> values = new ArrayList<>(propertyValues);
+		return (caze, person, pathogenTests, events, lastVaccinationDate) -> {
+			for (PathogenTestDto pathogenTest : pathogenTests) {
+				if (testTypes.contains(pathogenTest.getTestType()) && values.contains(accessor.get(pathogenTest))) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
 	@Override
 	public String buildDescription() {
 
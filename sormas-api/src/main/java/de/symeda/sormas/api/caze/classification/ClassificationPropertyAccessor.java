@@ -0,0 +1,80 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.caze.classification;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Reads a property of the DTOs compiled classification criteria are evaluated on, without looking up the getter each time.
+ */
+final class ClassificationPropertyAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final MethodHandle getter;
+
+	private ClassificationPropertyAccessor(MethodHandle getter) {
+		this.getter = getter.asType(GETTER_TYPE);
+	}
+
+	/**
+	 * Uses the {@code get} or, for boolean properties, the {@code is} getter of the property.
+	 */
+	static ClassificationPropertyAccessor ofProperty(Class<?> type, String propertyId) {
+
+		String capitalizedPropertyId = propertyId.substring(0, 1).toUpperCase() + propertyId.substring(1);
+		Method method;
+		try {
+			method = type.getMethod("get" + capitalizedPropertyId);
+		} catch (NoSuchMethodException e) {
+			try {
+				method = type.getMethod("is" + capitalizedPropertyId);
+			} catch (NoSuchMethodException newE) {
+				throw new RuntimeException(newE);
+			}
+		}
+
+		try {
+			return new ClassificationPropertyAccessor(MethodHandles.lookup().unreflect(method));
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	static ClassificationPropertyAccessor ofField(Field field) {
+
+		try {
+			field.setAccessible(true);
+			return new ClassificationPropertyAccessor(MethodHandles.lookup().unreflectGetter(field));
+		} catch (IllegalAccessException | SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	Object get(Object object) {
+		try {
+			return (Object) getter.invokeExact(object);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
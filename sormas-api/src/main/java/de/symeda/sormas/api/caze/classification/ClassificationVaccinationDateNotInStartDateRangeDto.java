@@ -56,6 +56,11 @@ public class ClassificationVaccinationDateNotInStartDateRangeDto extends Classif
 				|| (lastVaccinationDate.after(lowerThresholdDate) && lastVaccinationDate.before(startDate)));
 	}
 
+	@Override
+	public ClassificationPredicate compile() {
+		return this::eval;
+	}
+
 	@Override
 	public String buildDescription() {
 
@@ -66,6 +66,25 @@ public class ClassificationXOfCriteriaDto extends ClassificationCriteriaDto impl
 		return false;
 	}
 
+	@Override
+	public ClassificationPredicate compile() {
+
+		int requiredAmount = this.requiredAmount;
+		ClassificationPredicate[] compiledCriteria = compileAll(classificationCriteria);
+		return (caze, person, pathogenTests, events, lastVaccinationDate) -> {
+			int amount = 0;
+			for (ClassificationPredicate criteria : compiledCriteria) {
+				if (criteria.test(caze, person, pathogenTests, events, lastVaccinationDate)) {
+					amount++;
+					if (amount >= requiredAmount) {
+						return true;
+					}
+				}
+			}
+			return false;
+		};
+	}
+
 	@Override
 	public String buildDescription() {
 		return getCriteriaName();
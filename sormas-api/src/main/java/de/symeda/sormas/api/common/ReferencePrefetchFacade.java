@@ -0,0 +1,33 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.common;
+
+import java.util.Collection;
+
+import javax.ejb.Remote;
+
+import de.symeda.sormas.api.EntityDto;
+
+@Remote
+public interface ReferencePrefetchFacade {
+
+	/**
+	 * Loads the existing entities for the given DTOs and the entities they reference (e.g. persons, users and infrastructure) into the
+	 * persistence context of the current transaction, with one query per entity type. Saving the DTOs afterwards in the same
+	 * transaction finds these entities by their uuid without querying them one by one.
+	 */
+	void prefetch(Collection<? extends EntityDto> dtos);
+}
@@ -38,6 +38,9 @@ import de.symeda.sormas.api.dashboard.DashboardContactDto;
 import de.symeda.sormas.api.externaldata.ExternalDataDto;
 import de.symeda.sormas.api.externaldata.ExternalDataUpdateException;
 import de.symeda.sormas.api.followup.FollowUpPeriodDto;
+import de.symeda.sormas.api.geo.GeoBounds;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
 import de.symeda.sormas.api.importexport.ExportConfigurationDto;
 import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
@@ -52,6 +55,12 @@ public interface ContactFacade extends CoreFacade<ContactDto, ContactIndexDto, C
 
 	CoreAndPersonDto<ContactDto> save(@Valid @NotNull CoreAndPersonDto<ContactDto> coreAndPersonDto) throws ValidationRuntimeException;
 
+	/**
+	 * @return The number of entries estimated by the database for lists without filters, when it exceeds the configured threshold;
+	 *         {@code null} if the list has to be counted exactly with {@link #count}.
+	 */
+	Long estimateCount(ContactCriteria criteria);
+
 	List<String> getAllActiveUuids();
 
 	void generateContactFollowUpTasks();
@@ -60,6 +69,24 @@ public interface ContactFacade extends CoreFacade<ContactDto, ContactIndexDto, C
 
 	List<MapContactDto> getContactsForMap(RegionReferenceDto regionRef, DistrictReferenceDto districtRef, Disease disease, Date from, Date to);
 
+	/**
+	 * Aggregates the contacts of {@link #getContactsForMap} for maps with too many contacts to show each of them.
+	 *
+	 * @param bounds
+	 *            The visible part of the map, {@code null} to include all contacts.
+	 * @param zoom
+	 *            The zoom level of the map, which determines the size of the grid cells.
+	 */
+	List<MapClusterDto<ContactClassification>> getContactClustersForMap(
+		RegionReferenceDto regionRef,
+		DistrictReferenceDto districtRef,
+		Disease disease,
+		Date from,
+		Date to,
+		GeoBounds bounds,
+		int zoom,
+		MapClusterGrouping grouping);
+
 	List<String> deleteContacts(List<String> contactUuids, DeletionDetails deletionDetails);
 
 	FollowUpPeriodDto getCalculatedFollowUpUntilDate(ContactDto contactDto, boolean ignoreOverwrite);
@@ -88,6 +115,19 @@ public interface ContactFacade extends CoreFacade<ContactDto, ContactIndexDto, C
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage);
 
+	/**
+	 * Keyset paged variant of {@link #getExportList}: Returns up to {@code max} contacts following the contact with the id
+	 * {@code afterId} (from the first contact if {@code null}), in the same order as {@link #getExportList} (report date and id
+	 * descending).
+	 */
+	List<ContactExportDto> getExportListAfter(
+		ContactCriteria contactCriteria,
+		Collection<String> selectedRows,
+		Long afterId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage);
+
 	List<VisitSummaryExportDto> getVisitSummaryExportList(
 		ContactCriteria contactCriteria,
 		Collection<String> selectedRows,
@@ -0,0 +1,52 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.docgeneneration;
+
+import java.io.Serializable;
+import java.util.List;
+
+import de.symeda.sormas.api.audit.AuditIncludeProperty;
+import de.symeda.sormas.api.audit.AuditedClass;
+
+/**
+ * A ZIP archive of generated documents, written to the temp files directory.
+ */
+@AuditedClass
+public class GeneratedDocumentsArchive implements Serializable {
+
+	private static final long serialVersionUID = -2386917513472209348L;
+
+	private final String archivePath;
+	private final List<String> notUploadedUuids;
+
+	public GeneratedDocumentsArchive(String archivePath, List<String> notUploadedUuids) {
+		this.archivePath = archivePath;
+		this.notUploadedUuids = notUploadedUuids;
+	}
+
+	@AuditIncludeProperty
+	public String getArchivePath() {
+		return archivePath;
+	}
+
+	/**
+	 * @return The uuids of the entities whose document should have been uploaded, but exceeded the document upload size limit.
+	 */
+	@AuditIncludeProperty
+	public List<String> getNotUploadedUuids() {
+		return notUploadedUuids;
+	}
+}
@@ -58,6 +58,26 @@ public interface QuarantineOrderFacade {
 			Boolean shouldUploadGeneratedDoc)
 			throws DocumentTemplateException;
 
+	/**
+	 * Like {@link #getGeneratedDocuments(String, DocumentWorkflow, List, Properties, Boolean)}, but the documents are written to a ZIP
+	 * archive instead of being held in memory.
+	 */
+	GeneratedDocumentsArchive getGeneratedDocumentsArchive(
+		String templateName,
+		DocumentWorkflow workflow,
+		List<ReferenceDto> rootEntityReferences,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException;
+
+	GeneratedDocumentsArchive getGeneratedDocumentsArchiveForEventParticipants(
+		String templateName,
+		List<EventParticipantReferenceDto> rootEntityReferences,
+		Disease eventDisease,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException;
+
 	List<String> getAvailableTemplates(DocumentWorkflow workflow);
 
 	DocumentVariables getDocumentVariables(DocumentWorkflow documentWorkflow, String templateName) throws DocumentTemplateException;
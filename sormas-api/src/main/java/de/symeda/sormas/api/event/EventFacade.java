@@ -42,6 +42,12 @@ public interface EventFacade extends CoreFacade<EventDto, EventIndexDto, EventRe
 
 	EventReferenceDto getReferenceByEventParticipant(String uuid);
 
+	/**
+	 * @return The number of entries estimated by the database for lists without filters, when it exceeds the configured threshold;
+	 *         {@code null} if the list has to be counted exactly with {@link #count}.
+	 */
+	Long estimateCount(EventCriteria criteria);
+
 	List<String> getAllActiveUuids();
 
 	List<EventDto> getAllByCase(CaseDataDto caseDataDto);
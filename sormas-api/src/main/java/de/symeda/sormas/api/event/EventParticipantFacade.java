@@ -67,6 +67,18 @@ public interface EventParticipantFacade
 		Language userLanguage,
 		ExportConfigurationDto exportConfiguration);
 
+	/**
+	 * Keyset paged variant of {@link #getExportList}: Returns up to {@code max} event participants with an id lower than
+	 * {@code afterId} (all event participants if {@code null}), ordered by id descending.
+	 */
+	List<EventParticipantExportDto> getExportListAfter(
+		EventParticipantCriteria eventParticipantCriteria,
+		Collection<String> selectedRows,
+		Long afterId,
+		int max,
+		Language userLanguage,
+		ExportConfigurationDto exportConfiguration);
+
 	List<EventParticipantDto> getByEventUuids(List<String> eventUuids);
 
 	List<SimilarEventParticipantDto> getMatchingEventParticipants(EventParticipantCriteria criteria);
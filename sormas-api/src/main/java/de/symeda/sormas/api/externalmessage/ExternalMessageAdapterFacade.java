@@ -15,6 +15,27 @@ public interface ExternalMessageAdapterFacade {
 	 */
 	ExternalMessageResult<List<ExternalMessageDto>> getExternalMessages(Date since);
 
+	/**
+	 * Fetches the messages that are new or have changed since the given date page by page, oldest first. SORMAS saves each page and
+	 * stores its synchronization date as a checkpoint before requesting the next page with it, so an interrupted synchronization
+	 * resumes after the last saved page. Messages that are delivered again are updated by their UUID.
+	 * <p>
+	 * Adapters that do not support paging return all messages as one last page.
+	 *
+	 * @param since
+	 * @param maxMessages
+	 *            The maximum number of messages the page should contain
+	 * @return An ExternalMessageResult with the page. Its synchronization date is the date to request the next page with.
+	 */
+	default ExternalMessageResult<ExternalMessagePage> getExternalMessagePage(Date since, int maxMessages) {
+		ExternalMessageResult<List<ExternalMessageDto>> result = getExternalMessages(since);
+		return new ExternalMessageResult<>(
+			new ExternalMessagePage(result.getValue(), true),
+			result.getSynchronizationDate(),
+			result.isSuccess(),
+			result.getError());
+	}
+
 	/**
 	 * 
 	 * @param message
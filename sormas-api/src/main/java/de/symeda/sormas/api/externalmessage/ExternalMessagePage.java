@@ -0,0 +1,48 @@
+package de.symeda.sormas.api.externalmessage;
+
+import java.io.Serializable;
+import java.util.List;
+
+import de.symeda.sormas.api.audit.AuditIncludeProperty;
+import de.symeda.sormas.api.audit.AuditedClass;
+
+/**
+ * One page of the messages fetched from an external message adapter, see
+ * {@link ExternalMessageAdapterFacade#getExternalMessagePage(java.util.Date, int)}.
+ */
+@AuditedClass
+public class ExternalMessagePage implements Serializable {
+
+	private static final long serialVersionUID = -2407619531318720417L;
+
+	private List<ExternalMessageDto> messages;
+	@AuditIncludeProperty
+	private boolean lastPage;
+
+	public ExternalMessagePage() {
+	}
+
+	public ExternalMessagePage(List<ExternalMessageDto> messages, boolean lastPage) {
+		this.messages = messages;
+		this.lastPage = lastPage;
+	}
+
+	public List<ExternalMessageDto> getMessages() {
+		return messages;
+	}
+
+	public void setMessages(List<ExternalMessageDto> messages) {
+		this.messages = messages;
+	}
+
+	/**
+	 * @return Whether there are no further messages after this page.
+	 */
+	public boolean isLastPage() {
+		return lastPage;
+	}
+
+	public void setLastPage(boolean lastPage) {
+		this.lastPage = lastPage;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.geo;
+
+import java.io.Serializable;
+
+import de.symeda.sormas.api.audit.AuditedClass;
+
+/**
+ * A rectangular area of the map, e.g. the part of the map that is currently visible.
+ */
+@AuditedClass
+public class GeoBounds implements Serializable {
+
+	private static final long serialVersionUID = 3561849217365302274L;
+
+	private final double south;
+	private final double west;
+	private final double north;
+	private final double east;
+
+	public GeoBounds(double south, double west, double north, double east) {
+		this.south = south;
+		this.west = west;
+		this.north = north;
+		this.east = east;
+	}
+
+	public double getSouth() {
+		return south;
+	}
+
+	public double getWest() {
+		return west;
+	}
+
+	public double getNorth() {
+		return north;
+	}
+
+	public double getEast() {
+		return east;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.geo;
+
+import java.io.Serializable;
+
+import de.symeda.sormas.api.audit.AuditedClass;
+import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
+
+/**
+ * The number of entities with the same classification in one {@link MapClusterGrouping cluster} of a map.
+ * <p>
+ * The coordinates are the center of a grid cell and not the location of one of the entities, so they don't have to be pseudonymized.
+ *
+ * @param <C>
+ *            The classification of the entities, e.g. the case classification.
+ */
+@AuditedClass
+public class MapClusterDto<C extends Enum<C>> implements Serializable {
+
+	private static final long serialVersionUID = -7470593734165232086L;
+
+	private final Double latitude;
+	private final Double longitude;
+	private final C classification;
+	private final long count;
+	private final DistrictReferenceDto district;
+
+	public MapClusterDto(Double latitude, Double longitude, C classification, long count, DistrictReferenceDto district) {
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.classification = classification;
+		this.count = count;
+		this.district = district;
+	}
+
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	public C getClassification() {
+		return classification;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return The district of the cluster when grouped by {@link MapClusterGrouping#DISTRICT}.
+	 */
+	public DistrictReferenceDto getDistrict() {
+		return district;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.geo;
+
+import de.symeda.sormas.api.i18n.I18nProperties;
+
+/**
+ * How the entities shown on a map are aggregated when there are too many of them to show each one.
+ */
+public enum MapClusterGrouping {
+
+	/**
+	 * Cells of a grid whose size depends on the zoom level of the map.
+	 */
+	GRID,
+
+	/**
+	 * The districts the entities belong to.
+	 */
+	DISTRICT;
+
+	@Override
+	public String toString() {
+		return I18nProperties.getEnumCaption(this);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.importexport;
+
+import java.util.List;
+
+import javax.ejb.Remote;
+
+import de.symeda.sormas.api.infrastructure.community.CommunityReferenceDto;
+import de.symeda.sormas.api.infrastructure.country.CountryReferenceDto;
+import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityReferenceDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityType;
+import de.symeda.sormas.api.infrastructure.pointofentry.PointOfEntryReferenceDto;
+import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
+
+/**
+ * Resolves the infrastructure names of imported files from an in-memory index instead of querying the database for every line.
+ * Names are compared case- and accent-insensitively; the results are the same as those of the {@code getByName} methods of the
+ * infrastructure facades.
+ */
+@Remote
+public interface InfrastructureNameResolverFacade {
+
+	List<RegionReferenceDto> getRegionsByName(String name, boolean includeArchivedEntities);
+
+	/**
+	 * @return Whether the region belongs to the country or to no country at all.
+	 */
+	boolean isRegionInCountry(RegionReferenceDto region, CountryReferenceDto country);
+
+	List<DistrictReferenceDto> getDistrictsByName(String name, RegionReferenceDto regionRef, boolean includeArchivedEntities);
+
+	List<CommunityReferenceDto> getCommunitiesByName(String name, DistrictReferenceDto districtRef, boolean includeArchivedEntities);
+
+	List<FacilityReferenceDto> getFacilitiesByNameAndType(
+		String name,
+		DistrictReferenceDto districtRef,
+		CommunityReferenceDto communityRef,
+		FacilityType type,
+		boolean includeArchivedEntities);
+
+	List<FacilityReferenceDto> getLaboratoriesByName(String name, boolean includeArchivedEntities);
+
+	List<PointOfEntryReferenceDto> getPointsOfEntryByName(String name, DistrictReferenceDto districtRef, boolean includeArchivedEntities);
+}
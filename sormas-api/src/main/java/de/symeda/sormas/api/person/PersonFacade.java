@@ -38,6 +38,12 @@ public interface PersonFacade extends BaseFacade<PersonDto, PersonIndexDto, Pers
 
 	Set<PersonAssociation> getPermittedAssociations();
 
+	/**
+	 * @return The number of entries estimated by the database for lists without filters, when it exceeds the configured threshold;
+	 *         {@code null} if the list has to be counted exactly with {@link #count}.
+	 */
+	Long estimateCount(PersonCriteria criteria);
+
 	List<PersonDto> getDeathsBetween(Date fromDate, Date toDate, DistrictReferenceDto districtRef, Disease disease);
 
 	JournalPersonDto getPersonForJournal(String uuid);
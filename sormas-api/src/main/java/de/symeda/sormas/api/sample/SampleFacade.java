@@ -47,8 +47,28 @@ public interface SampleFacade extends DeletableFacade {
 
 	List<SampleExportDto> getExportList(CaseCriteria caseCriteria, Collection<String> selectedRows, int first, int max);
 
+	/**
+	 * Keyset paged variant of {@link #getExportList(SampleCriteria, Collection, int, int)}: Returns up to {@code max} samples
+	 * following the sample with the id {@code afterId} (from the first sample if {@code null}), in the same order as
+	 * {@link #getExportList(SampleCriteria, Collection, int, int)} (report date and id descending).
+	 */
+	List<SampleExportDto> getExportListAfter(SampleCriteria sampleCriteria, Collection<String> selectedRows, Long afterId, int max);
+
+	/**
+	 * Keyset paged variant of {@link #getExportList(CaseCriteria, Collection, int, int)}: Returns up to {@code max} samples following
+	 * the sample with the id {@code afterId} (from the first sample if {@code null}), in the same order as
+	 * {@link #getExportList(CaseCriteria, Collection, int, int)} (report date and id descending).
+	 */
+	List<SampleExportDto> getExportListAfter(CaseCriteria caseCriteria, Collection<String> selectedRows, Long afterId, int max);
+
 	long count(SampleCriteria sampleCriteria);
 
+	/**
+	 * @return The number of entries estimated by the database for lists without filters, when it exceeds the configured threshold;
+	 *         {@code null} if the list has to be counted exactly with {@link #count}.
+	 */
+	Long estimateCount(SampleCriteria criteria);
+
 	SampleDto getSampleByUuid(String uuid);
 
 	SampleDto saveSample(@Valid SampleDto dto);
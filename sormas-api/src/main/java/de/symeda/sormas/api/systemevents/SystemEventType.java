@@ -2,5 +2,6 @@ package de.symeda.sormas.api.systemevents;
 
 public enum SystemEventType {
 	FETCH_EXTERNAL_MESSAGES,
-	CENTRAL_SYNC_INFRA
+	CENTRAL_SYNC_INFRA,
+	CASE_RECLASSIFICATION
 }
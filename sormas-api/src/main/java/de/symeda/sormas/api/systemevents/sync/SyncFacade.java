@@ -15,6 +15,8 @@ public interface SyncFacade {
 
 	void reportSuccessfulSyncWithTimestamp(SystemEventDto systemEvent, Date syncDate);
 
+	void reportSyncCheckpoint(SystemEventDto sync, Date syncDate);
+
 	void reportSyncErrorWithTimestamp(SystemEventDto sync, String errorMessage);
 
     boolean hasAtLeastOneSuccessfullSyncOf(SystemEventType type);
@@ -0,0 +1,315 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.collections.Predicate;
+import org.apache.commons.lang3.StringUtils;
+
+import de.symeda.sormas.api.EntityDto;
+import de.symeda.sormas.api.importexport.ExportConfigurationDto;
+import de.symeda.sormas.api.importexport.ExportProperty;
+import de.symeda.sormas.api.importexport.format.ExportFormat;
+import de.symeda.sormas.api.importexport.format.FormatterProvider;
+import de.symeda.sormas.api.importexport.format.IExportFormatter;
+import de.symeda.sormas.api.utils.fieldvisibility.checkers.CountryFieldVisibilityChecker;
+
+/**
+ * The columns of a CSV export, resolved once per export row class and export configuration.
+ * <p>
+ * Each column holds a {@link MethodHandle} for its getter and its pre-resolved formatter, so writing a row does not need any
+ * reflection lookups. Columns of sub entities ({@link EntityDto} properties of the export row) are grouped, so the sub entity is
+ * fetched only once per row.
+ * <p>
+ * The column resolution is cached per row class, country and configured properties. The {@code redMethodFilter} of an export
+ * (e.g. the export type) is applied to the cached columns for every plan.
+ */
+final class CsvExportRowPlan<T> {
+
+	private static final int MAX_CACHED_CLASS_PLANS = 200;
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final Map<PlanKey, ClassPlan> CLASS_PLANS = new ConcurrentHashMap<>();
+
+	private final List<ColumnGroup> groups;
+	private final List<Column> columns;
+
+	private CsvExportRowPlan(List<ColumnGroup> groups) {
+
+		this.groups = groups;
+		List<Column> columns = new ArrayList<>();
+		for (ColumnGroup group : groups) {
+			columns.addAll(Arrays.asList(group.columns));
+		}
+		this.columns = Collections.unmodifiableList(columns);
+	}
+
+	/**
+	 * @param redMethodFilter
+	 *            Additional filter for the read methods of the export row class, not cached. May be {@code null}.
+	 */
+	static <T> CsvExportRowPlan<T> compile(
+		Class<T> exportRowClass,
+		ExportConfigurationDto exportConfiguration,
+		Predicate redMethodFilter,
+		String countryLocale) {
+
+		PlanKey key = new PlanKey(exportRowClass, countryLocale, exportConfiguration != null ? exportConfiguration.getProperties() : null);
+		ClassPlan classPlan = CLASS_PLANS.get(key);
+		if (classPlan == null) {
+			if (CLASS_PLANS.size() >= MAX_CACHED_CLASS_PLANS) {
+				// export configurations are user defined, so do not let the cache grow endlessly
+				CLASS_PLANS.clear();
+			}
+			classPlan = compileClassPlan(exportRowClass, exportConfiguration, countryLocale);
+			CLASS_PLANS.put(key, classPlan);
+		}
+
+		List<ColumnGroup> groups = new ArrayList<>();
+		for (ColumnGroup group : classPlan.groups) {
+			if (group.entityGetter != null) {
+				if (isIncluded(group.entityMethod, redMethodFilter, classPlan)) {
+					groups.add(group);
+				}
+			} else {
+				List<Column> filteredColumns = new ArrayList<>();
+				for (Column column : group.columns) {
+					if (isIncluded(column.method, redMethodFilter, classPlan)) {
+						filteredColumns.add(column);
+					}
+				}
+				if (!filteredColumns.isEmpty()) {
+					groups.add(new ColumnGroup(null, null, filteredColumns));
+				}
+			}
+		}
+		return new CsvExportRowPlan<>(groups);
+	}
+
+	private static boolean isIncluded(Method m, Predicate redMethodFilter, ClassPlan classPlan) {
+
+		if (redMethodFilter != null && !redMethodFilter.evaluate(m)) {
+			return false;
+		}
+		if (classPlan.missingExportProperty.contains(m)) {
+			throw new RuntimeException("Missing @ExportProperty annotation on method [" + m.getName() + "]");
+		}
+		return true;
+	}
+
+	private static ClassPlan compileClassPlan(Class<?> exportRowClass, ExportConfigurationDto exportConfiguration, String countryLocale) {
+
+		final CountryFieldVisibilityChecker countryFieldVisibilityChecker = new CountryFieldVisibilityChecker(countryLocale);
+		// only an error if the method is not excluded by the redMethodFilter of the export
+		final Set<Method> missingExportProperty = new HashSet<>();
+
+		// fields in order of declaration - not using Introspector here, because it gives properties in alphabetical order
+		List<Method> readMethods = getReadMethods(exportRowClass, o -> {
+			Method m = (Method) o;
+			if (!countryFieldVisibilityChecker.isVisible(m)) {
+				return false;
+			}
+			if (exportConfiguration == null) {
+				return true;
+			}
+
+			ExportProperty exportProperty = m.getAnnotation(ExportProperty.class);
+			if (exportProperty == null) {
+				missingExportProperty.add(m);
+				return true;
+			}
+			return exportConfiguration.getProperties().contains(StringUtils.join(exportProperty.value(), "."));
+		});
+
+		// replace entity fields with all the columns of the entity
+		List<ColumnGroup> groups = new ArrayList<>();
+		List<Column> rowColumns = new ArrayList<>();
+		for (Method method : readMethods) {
+			if (EntityDto.class.isAssignableFrom(method.getReturnType())) {
+				if (!rowColumns.isEmpty()) {
+					groups.add(new ColumnGroup(null, null, rowColumns));
+					rowColumns = new ArrayList<>();
+				}
+
+				List<Column> subColumns = new ArrayList<>();
+				for (Method subReadMethod : getReadMethods(method.getReturnType(), null)) {
+					subColumns.add(new Column(subReadMethod, method));
+				}
+				groups.add(new ColumnGroup(method, toGetterHandle(method), subColumns));
+			} else {
+				rowColumns.add(new Column(method, null));
+			}
+		}
+		if (!rowColumns.isEmpty()) {
+			groups.add(new ColumnGroup(null, null, rowColumns));
+		}
+
+		return new ClassPlan(groups, missingExportProperty);
+	}
+
+	static List<Method> getReadMethods(Class<?> clazz, final Predicate filters) {
+		List<Method> readMethods = new ArrayList<>();
+		for (Method m : clazz.getDeclaredMethods()) {
+			if ((m.getName().startsWith("get") || m.getName().startsWith("is"))
+				&& m.isAnnotationPresent(Order.class)
+				&& (filters == null || filters.evaluate(m))) {
+				readMethods.add(m);
+			}
+		}
+		readMethods.sort(Comparator.comparingInt(m -> m.getAnnotation(Order.class).value()));
+
+		return readMethods;
+	}
+
+	private static MethodHandle toGetterHandle(Method getter) {
+		try {
+			return MethodHandles.publicLookup().unreflect(getter).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			try {
+				getter.setAccessible(true);
+				return MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE);
+			} catch (IllegalAccessException | SecurityException e1) {
+				throw new RuntimeException("Could not access export getter " + getter, e1);
+			}
+		}
+	}
+
+	List<Column> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Writes the formatted values of all columns of {@code exportRow} into {@code target}.
+	 */
+	void formatRow(T exportRow, String[] target) {
+
+		int i = 0;
+		try {
+			for (ColumnGroup group : groups) {
+				// Sub entity might be null
+				Object entity = group.entityGetter != null ? (Object) group.entityGetter.invokeExact((Object) exportRow) : exportRow;
+				for (Column column : group.columns) {
+					Object value = entity != null ? (Object) column.getter.invokeExact(entity) : null;
+					target[i++] = column.formatter != null ? column.formatter.format(value) : DataHelper.valueToString(value);
+				}
+			}
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	static final class Column {
+
+		private final Method method;
+		/**
+		 * The getter of the sub entity this column belongs to, {@code null} for columns of the export row itself.
+		 */
+		private final Method entityMethod;
+		private final MethodHandle getter;
+		private final IExportFormatter<Object> formatter;
+
+		private Column(Method method, Method entityMethod) {
+
+			this.method = method;
+			this.entityMethod = entityMethod;
+			this.getter = toGetterHandle(method);
+
+			ExportFormat formatterAnnotation = method.getAnnotation(ExportFormat.class);
+			this.formatter = formatterAnnotation != null ? FormatterProvider.getExportFormatter(formatterAnnotation.value()) : null;
+		}
+
+		Method getMethod() {
+			return method;
+		}
+
+		Method getEntityMethod() {
+			return entityMethod;
+		}
+	}
+
+	private static final class ColumnGroup {
+
+		private final Method entityMethod;
+		private final MethodHandle entityGetter;
+		private final Column[] columns;
+
+		private ColumnGroup(Method entityMethod, MethodHandle entityGetter, List<Column> columns) {
+			this.entityMethod = entityMethod;
+			this.entityGetter = entityGetter;
+			this.columns = columns.toArray(new Column[0]);
+		}
+	}
+
+	private static final class ClassPlan {
+
+		private final List<ColumnGroup> groups;
+		private final Set<Method> missingExportProperty;
+
+		private ClassPlan(List<ColumnGroup> groups, Set<Method> missingExportProperty) {
+			this.groups = Collections.unmodifiableList(groups);
+			this.missingExportProperty = Collections.unmodifiableSet(missingExportProperty);
+		}
+	}
+
+	private static final class PlanKey {
+
+		private final Class<?> exportRowClass;
+		private final String countryLocale;
+		private final Set<String> properties;
+
+		private PlanKey(Class<?> exportRowClass, String countryLocale, Set<String> properties) {
+			this.exportRowClass = exportRowClass;
+			this.countryLocale = countryLocale;
+			this.properties = properties != null ? new HashSet<>(properties) : null;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			PlanKey planKey = (PlanKey) o;
+			return exportRowClass.equals(planKey.exportRowClass)
+				&& Objects.equals(countryLocale, planKey.countryLocale)
+				&& Objects.equals(properties, planKey.properties);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(exportRowClass, countryLocale, properties);
+		}
+	}
+}
@@ -17,35 +17,29 @@ package de.symeda.sormas.api.utils;
 
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.Predicate;
 import org.apache.commons.lang3.StringUtils;
 
 import com.opencsv.CSVWriter;
 
 import de.symeda.sormas.api.ConfigFacade;
-import de.symeda.sormas.api.EntityDto;
 import de.symeda.sormas.api.importexport.ExportConfigurationDto;
 import de.symeda.sormas.api.importexport.ExportEntity;
 import de.symeda.sormas.api.importexport.ExportProperty;
-import de.symeda.sormas.api.importexport.format.ExportFormat;
-import de.symeda.sormas.api.importexport.format.FormatterProvider;
-import de.symeda.sormas.api.importexport.format.IExportFormatter;
-import de.symeda.sormas.api.utils.fieldvisibility.checkers.CountryFieldVisibilityChecker;
 
 public class CsvStreamUtils {
 
+	/**
+	 * Writes the export rows page by page, using {@code first}/{@code max} (offset) paging.
+	 *
+	 * @param exportRowsSupplier
+	 *            Supplies the rows for the given offset and page size.
+	 */
 	public static <T> void writeCsvContentToStream(
 		Class<T> csvRowClass,
 		SupplierBiFunction<Integer, Integer, List<T>> exportRowsSupplier,
@@ -55,45 +49,79 @@ public class CsvStreamUtils {
 		ConfigFacade configFacade,
 		OutputStream out) {
 
-		try (
-			CSVWriter writer = CSVUtils.createCSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8.name()), configFacade.getCsvSeparator())) {
+		writeCsvContentToStream(csvRowClass, new ExportRowsPager<T>() {
 
-			// 1. fields in order of declaration - not using Introspector here, because it gives properties in alphabetical order
-			List<Method> readMethods =
-				getExportRowClassReadMethods(csvRowClass, exportConfiguration, redMethodFilter, configFacade.getCountryLocale());
+			private int startIndex = 0;
 
-			// 2. replace entity fields with all the columns of the entity
-			Map<Method, SubEntityProvider<T>> subEntityProviders = new HashMap<Method, SubEntityProvider<T>>();
-			for (int i = 0; i < readMethods.size(); i++) {
-				final Method method = readMethods.get(i);
-				if (EntityDto.class.isAssignableFrom(method.getReturnType())) {
+			@Override
+			public List<T> nextPage(int stepSize) {
+				List<T> exportRows = exportRowsSupplier.apply(startIndex, stepSize);
+				startIndex += stepSize;
+				return exportRows;
+			}
+		}, propertyIdCaptionSupplier, exportConfiguration, redMethodFilter, configFacade, out);
+	}
 
-					// allows us to access the sub entity
-					SubEntityProvider<T> subEntityProvider = createSubEntityProvider(method);
+	/**
+	 * Writes the export rows page by page, using keyset paging: Each page is requested with the key of the last row of the previous page
+	 * ({@code null} for the first page). In contrast to offset paging, the database does not have to skip all previous rows again
+	 * for every page, so the export time grows linear with the number of rows.
+	 *
+	 * @param exportRowsAfterSupplier
+	 *            Supplies the rows following the given key (exclusive) in the order of the key, limited to the given page size.
+	 * @param rowKeyExtractor
+	 *            Extracts the key (usually the id) of an export row.
+	 */
+	public static <T> void writeCsvContentToStream(
+		Class<T> csvRowClass,
+		SupplierBiFunction<Long, Integer, List<T>> exportRowsAfterSupplier,
+		Function<T, Long> rowKeyExtractor,
+		SupplierBiFunction<String, Class<?>, String> propertyIdCaptionSupplier,
+		ExportConfigurationDto exportConfiguration,
+		final Predicate redMethodFilter,
+		ConfigFacade configFacade,
+		OutputStream out) {
 
-					// remove entity field
-					readMethods.remove(i);
+		writeCsvContentToStream(csvRowClass, new ExportRowsPager<T>() {
 
-					// add columns of the entity
-					List<Method> subReadMethods = getReadMethods(method.getReturnType(), null);
-					readMethods.addAll(i, subReadMethods);
-					i--;
+			private Long lastKey = null;
 
-					for (Method subReadMethod : subReadMethods) {
-						subEntityProviders.put(subReadMethod, subEntityProvider);
-					}
+			@Override
+			public List<T> nextPage(int stepSize) {
+				List<T> exportRows = exportRowsAfterSupplier.apply(lastKey, stepSize);
+				if (!exportRows.isEmpty()) {
+					lastKey = rowKeyExtractor.apply(exportRows.get(exportRows.size() - 1));
 				}
+				return exportRows;
 			}
+		}, propertyIdCaptionSupplier, exportConfiguration, redMethodFilter, configFacade, out);
+	}
+
+	private static <T> void writeCsvContentToStream(
+		Class<T> csvRowClass,
+		ExportRowsPager<T> exportRowsPager,
+		SupplierBiFunction<String, Class<?>, String> propertyIdCaptionSupplier,
+		ExportConfigurationDto exportConfiguration,
+		final Predicate redMethodFilter,
+		ConfigFacade configFacade,
+		OutputStream out) {
+
+		try (
+			CSVWriter writer = CSVUtils.createCSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8.name()), configFacade.getCsvSeparator())) {
+
+			// columns in order of declaration, with entity fields replaced by all the columns of the entity
+			CsvExportRowPlan<T> rowPlan = CsvExportRowPlan.compile(csvRowClass, exportConfiguration, redMethodFilter, configFacade.getCountryLocale());
+			List<CsvExportRowPlan.Column> columns = rowPlan.getColumns();
 
 			Class<?> entityClass = null;
 			if (csvRowClass.isAnnotationPresent(ExportEntity.class)) {
 				entityClass = csvRowClass.getAnnotation(ExportEntity.class).value();
 			}
-			String[] fieldClassNames = new String[readMethods.size()];
-			String[] fieldIds = new String[readMethods.size()];
-			String[] labels = new String[readMethods.size()];
-			for (int i = 0; i < readMethods.size(); i++) {
-				final Method method = readMethods.get(i);
+			String[] fieldClassNames = new String[columns.size()];
+			String[] fieldIds = new String[columns.size()];
+			String[] labels = new String[columns.size()];
+			for (int i = 0; i < columns.size(); i++) {
+				final Method method = columns.get(i).getMethod();
 				String fieldName = getFieldNameFromMethod(method);
 
 				String propertyId = fieldName;
@@ -110,9 +138,10 @@ public class CsvStreamUtils {
 					fieldEntityClass = method.getAnnotation(ExportEntity.class).value();
 				}
 
-				if (subEntityProviders.containsKey(method)) {
-					fieldEntityClass = subEntityProviders.get(method).getEntityClass();
-					propertyId = subEntityProviders.get(method).getName() + "." + propertyId;
+				Method subEntityMethod = columns.get(i).getEntityMethod();
+				if (subEntityMethod != null) {
+					fieldEntityClass = subEntityMethod.getReturnType();
+					propertyId = getFieldNameFromMethod(subEntityMethod) + "." + propertyId;
 				}
 
 				if (fieldEntityClass != null) {
@@ -129,42 +158,17 @@ public class CsvStreamUtils {
 			labels[0] = CSVCommentLineValidator.DEFAULT_COMMENT_LINE_PREFIX + labels[0];
 			writer.writeNext(labels, false);
 
-			int startIndex = 0;
 			int stepSize = configFacade.getStepSizeForCsvExport();
 
 			List<T> exportRows;
 			do {
-				exportRows = exportRowsSupplier.apply(startIndex, stepSize);
-				try {
-					for (T exportRow : exportRows) {
-						for (int i = 0; i < readMethods.size(); i++) {
-							Method method = readMethods.get(i);
-							SubEntityProvider<T> subEntityProvider = subEntityProviders.get(method);
-							Object entity = subEntityProvider != null ? subEntityProvider.get(exportRow) : exportRow;
-							// Sub entity might be null
-							Object value = entity != null ? method.invoke(entity) : null;
-
-							String formattedValue;
-							ExportFormat formatterAnnotation = method.getAnnotation(ExportFormat.class);
-							if (formatterAnnotation != null) {
-								IExportFormatter<Object> formatter = FormatterProvider.getExportFormatter(formatterAnnotation.value());
-								formattedValue = formatter.format(value);
-							} else {
-								formattedValue = DataHelper.valueToString(value);
-							}
-
-							labels[i] = formattedValue;
-						}
-						writer.writeNext(labels);
-					}
-				} catch (InvocationTargetException | IllegalAccessException | IllegalArgumentException e) {
-					throw new RuntimeException(e);
-				} catch (Exception e) {
-					throw new RuntimeException(e);
+				exportRows = exportRowsPager.nextPage(stepSize);
+				for (T exportRow : exportRows) {
+					rowPlan.formatRow(exportRow, labels);
+					writer.writeNext(labels);
 				}
 
 				writer.flush();
-				startIndex += stepSize;
 			}
 			while (!(exportRows.size() < stepSize));
 		} catch (Exception e) {
@@ -178,98 +182,13 @@ public class CsvStreamUtils {
 		return propertyId;
 	}
 
-	private static <T> List<Method> getExportRowClassReadMethods(
-		Class<T> exportRowClass,
-		final ExportConfigurationDto exportConfiguration,
-		final Predicate redMethodFilter,
-		String countryLocale) {
-		final CountryFieldVisibilityChecker countryFieldVisibilityChecker = new CountryFieldVisibilityChecker(countryLocale);
-
-		return getReadMethods(exportRowClass, new Predicate() {
-
-			@Override
-			public boolean evaluate(Object o) {
-				Method m = (Method) o;
-
-				return (countryFieldVisibilityChecker.isVisible(m))
-					&& (redMethodFilter == null || redMethodFilter.evaluate(o))
-					&& (exportConfiguration == null || isConfiguredForExport(m, exportConfiguration));
-			}
-		});
-	}
-
-	private static boolean isConfiguredForExport(Method m, ExportConfigurationDto exportConfiguration) {
-		ExportProperty exportProperty = m.getAnnotation(ExportProperty.class);
-
-		if (exportProperty == null) {
-			throw new RuntimeException("Missing @ExportProperty annotation on method [" + m.getName() + "]");
-		}
-
-		return exportConfiguration.getProperties().contains(StringUtils.join(exportProperty.value(), "."));
-	}
-
-	private static List<Method> getReadMethods(Class<?> clazz, final Predicate filters) {
-		ArrayList<Method> readMethods = new ArrayList<>(Arrays.asList(clazz.getDeclaredMethods()));
-
-		CollectionUtils.filter(readMethods, new Predicate() {
-
-			@Override
-			public boolean evaluate(Object o) {
-				Method m = (Method) o;
-				return (m.getName().startsWith("get") || m.getName().startsWith("is"))
-					&& m.isAnnotationPresent(Order.class)
-					&& (filters == null || filters.evaluate(o));
-			}
-		});
-		Collections.sort(readMethods, new Comparator<Method>() {
-
-			@Override
-			public int compare(Method m1, Method m2) {
-				int o1 = m1.getAnnotation(Order.class).value();
-				int o2 = m2.getAnnotation(Order.class).value();
-
-				return o1 - o2;
-			}
-		});
-
-		return readMethods;
-	}
-
 	public interface SupplierBiFunction<T, U, R> {
 
 		R apply(T t, U u);
 	}
 
-	private interface SubEntityProvider<T> {
-
-		String getName();
-
-		Class<?> getEntityClass();
-
-		Object get(T parent);
-	}
-
-	private static <T> SubEntityProvider<T> createSubEntityProvider(final Method getter) {
-		return new SubEntityProvider<T>() {
-
-			@Override
-			public String getName() {
-				return getFieldNameFromMethod(getter);
-			}
-
-			@Override
-			public Class<?> getEntityClass() {
-				return getter.getReturnType();
-			}
+	private interface ExportRowsPager<T> {
 
-			@Override
-			public Object get(T parent) {
-				try {
-					return getter.invoke(parent);
-				} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-					throw new RuntimeException(e);
-				}
-			}
-		};
+		List<T> nextPage(int stepSize);
 	}
 }
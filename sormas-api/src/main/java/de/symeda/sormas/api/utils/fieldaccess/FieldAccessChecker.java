@@ -27,4 +27,9 @@ public interface FieldAccessChecker {
 	boolean isEmbedded(Field field);
 
 	boolean hasRight();
+
+	/**
+	 * @return Equal for checkers that grant access to the same fields, so the result of checking all fields of a class can be shared.
+	 */
+	Object getConfigurationKey();
 }
@@ -106,6 +106,13 @@ public class FieldAccessCheckers {
 		return true;
 	}
 
+	/**
+	 * @return Equal for checkers that grant access to the same fields.
+	 */
+	public List<Object> getConfigurationKey() {
+		return checkers.stream().map(FieldAccessChecker::getConfigurationKey).collect(Collectors.toList());
+	}
+
 	public FieldAccessCheckers add(FieldAccessChecker checker) {
 		checkers.add(checker);
 		return this;
@@ -16,6 +16,7 @@
 package de.symeda.sormas.api.utils.fieldaccess.checkers;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.utils.DependingOnUserRight;
@@ -45,4 +46,9 @@ public class UserRightFieldAccessChecker implements FieldAccessChecker {
 	public boolean hasRight() {
 		return hasRight;
 	}
+
+	@Override
+	public Object getConfigurationKey() {
+		return Arrays.asList(getClass(), userRight, hasRight);
+	}
 }
@@ -15,27 +15,36 @@
 
 package de.symeda.sormas.api.utils.pseudonymization;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.utils.fieldaccess.FieldAccessChecker;
 import de.symeda.sormas.api.utils.fieldaccess.FieldAccessCheckers;
-import de.symeda.sormas.api.utils.fieldaccess.checkers.PersonalDataFieldAccessChecker;
-import de.symeda.sormas.api.utils.fieldaccess.checkers.SensitiveDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.pseudonymization.PseudonymizationPlan.PlannedField;
 import de.symeda.sormas.api.utils.pseudonymization.valuepseudonymizers.DefaultValuePseudonymizer;
 
 public class DtoPseudonymizer {
 
+	/**
+	 * The plans only depend on the configuration of the checkers (and the rights of the current user they hold), so they are shared by
+	 * all pseudonymizers, although a new one is created for every request.
+	 */
+	private static final Map<List<Object>, Map<Class<?>, PseudonymizationPlan>> PLANS = new ConcurrentHashMap<>();
+
 	protected FieldAccessCheckers inJurisdictionCheckers;
 	protected FieldAccessCheckers outsideJurisdictionCheckers;
 
-	private final String stringValuePlaceholder;
+	private final DefaultValuePseudonymizer<?> defaultValuePseudonymizer;
 
 	protected final boolean pseudonymizeMandatoryFields;
 
+	private Map<Class<?>, PseudonymizationPlan> inJurisdictionPlans;
+	private Map<Class<?>, PseudonymizationPlan> outsideJurisdictionPlans;
+
 	protected DtoPseudonymizer(
 		FieldAccessCheckers inJurisdictionCheckers,
 		FieldAccessCheckers outsideJurisdictionCheckers,
@@ -44,13 +53,16 @@ public class DtoPseudonymizer {
 		this.inJurisdictionCheckers = inJurisdictionCheckers;
 		this.outsideJurisdictionCheckers = outsideJurisdictionCheckers;
 
-		this.stringValuePlaceholder = stringValuePlaceholder;
+		this.defaultValuePseudonymizer = new DefaultValuePseudonymizer<>(stringValuePlaceholder);
 		this.pseudonymizeMandatoryFields = pseudonymizeMandatoryFields;
 	}
 
 	public void addFieldAccessChecker(FieldAccessChecker inJurisdictionChecker, FieldAccessChecker outsideJurisdictionChecker) {
 		this.inJurisdictionCheckers.add(inJurisdictionChecker);
 		this.outsideJurisdictionCheckers.add(outsideJurisdictionChecker);
+
+		inJurisdictionPlans = null;
+		outsideJurisdictionPlans = null;
 	}
 
 	public <DTO> void pseudonymizeDtoCollection(
@@ -69,17 +81,14 @@ public class DtoPseudonymizer {
 		final CustomCollectionItemPseudonymization<DTO> customPseudonymization,
 		boolean skipEmbeddedFields) {
 
-		List<Field> pseudonymizableFieldsInJurisdiction = getPseudonymizableFields(type, true);
-		List<Field> pseudonymizableFieldsOutsideJurisdiction = getPseudonymizableFields(type, false);
-		List<Field> embeddedFieldsInJurisdiction = getEmbeddedFields(type, true);
-		List<Field> embeddedFieldsOutsideJurisdiction = getEmbeddedFields(type, false);
+		PseudonymizationPlan planInJurisdiction = getPlan(type, true);
+		PseudonymizationPlan planOutsideJurisdiction = getPlan(type, false);
 
 		for (final DTO dto : dtos) {
 			final boolean isInJurisdiction = jurisdictionValidator.validate(dto);
 			pseudonymizeDto(
 				dto,
-				isInJurisdiction ? pseudonymizableFieldsInJurisdiction : pseudonymizableFieldsOutsideJurisdiction,
-				isInJurisdiction ? embeddedFieldsInJurisdiction : embeddedFieldsOutsideJurisdiction,
+				isInJurisdiction ? planInJurisdiction : planOutsideJurisdiction,
 				isInJurisdiction,
 				null,
 				customPseudonymization == null ? null : (CustomPseudonymization<DTO>) d -> customPseudonymization.pseudonymize(dto, isInJurisdiction),
@@ -88,17 +97,14 @@ public class DtoPseudonymizer {
 	}
 
 	public <DTO> void pseudonymizeDto(Class<DTO> type, DTO dto, boolean isInJurisdiction, CustomPseudonymization<DTO> customPseudonymization) {
-		List<Field> declaredFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
-
-		pseudonymizeDto(dto, declaredFields, embeddedFields, isInJurisdiction, null, customPseudonymization, false);
+		pseudonymizeDto(dto, getPlan(type, isInJurisdiction), isInJurisdiction, null, customPseudonymization, false);
 	}
 
 	public <DTO> boolean isAccessible(Class<DTO> type, String fieldName, boolean isInJurisdiction) {
-		List<Field> pseudonymizableFields = getPseudonymizableFields(type, isInJurisdiction);
-		for (Field field : pseudonymizableFields) {
+		PseudonymizationPlan plan = getPlan(type, isInJurisdiction);
+		for (PlannedField field : plan.getPseudonymizableFields()) {
 			if (fieldName.equals(field.getName())) {
-				return getFieldAccessCheckers(isInJurisdiction).isAccessible(field, pseudonymizeMandatoryFields);
+				return plan.isAccessible(field);
 			}
 		}
 		throw new RuntimeException("Could not find field: " + fieldName);
@@ -109,80 +115,41 @@ public class DtoPseudonymizer {
 			return;
 		}
 
-		List<Field> pseudonymizableFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
+		PseudonymizationPlan plan = getPlan(type, isInJurisdiction);
 
-		for (Field pseudonymizedField : pseudonymizableFields) {
-			try {
-				if (!getFieldAccessCheckers(isInJurisdiction).isAccessible(pseudonymizedField, pseudonymizeMandatoryFields)
-					|| dto.isPseudonymized() && isFieldValuePseudonymized(pseudonymizedField, dto)) {
-					restoreOriginalValue(dto, pseudonymizedField, originalDto);
-				}
-			} catch (IllegalAccessException | InstantiationException e) {
-				throw new RuntimeException(e);
+		for (PlannedField pseudonymizedField : plan.getPseudonymizableFields()) {
+			if (!plan.isAccessible(pseudonymizedField)
+				|| dto.isPseudonymized() && isFieldValuePseudonymized(pseudonymizedField, dto)) {
+				pseudonymizedField.set(dto, pseudonymizedField.get(originalDto));
 			}
 		}
-		for (Field embeddedField : embeddedFields) {
+		for (PlannedField embeddedField : plan.getEmbeddedFields()) {
 			Class<?> fieldType = embeddedField.getType();
 
 			if (Pseudonymizable.class.isAssignableFrom(fieldType)) {
-				boolean isAccessible = embeddedField.isAccessible();
+				Pseudonymizable embeddedDto;
+				Pseudonymizable originalEmbeddedDto;
 				try {
-					embeddedField.setAccessible(true);
-
-					restorePseudonymizedValues(
-						(Class<Pseudonymizable>) fieldType,
-						(Pseudonymizable) embeddedField.get(dto),
-						(Pseudonymizable) embeddedField.get(originalDto),
-						isInJurisdiction);
-				} catch (IllegalAccessException e) {
+					embeddedDto = (Pseudonymizable) embeddedField.get(dto);
+					originalEmbeddedDto = (Pseudonymizable) embeddedField.get(originalDto);
+				} catch (RuntimeException e) {
 					throw new RuntimeException("Couldn't restore embedded field " + dto.getClass().getName() + "." + embeddedField.getName(), e);
-				} finally {
-					embeddedField.setAccessible(isAccessible);
 				}
+
+				restorePseudonymizedValues((Class<Pseudonymizable>) fieldType, embeddedDto, originalEmbeddedDto, isInJurisdiction);
 			}
 		}
 	}
 
-	private <DTO extends Pseudonymizable> boolean isFieldValuePseudonymized(Field pseudonymizedField, DTO dto)
-		throws IllegalAccessException, InstantiationException {
+	private <DTO extends Pseudonymizable> boolean isFieldValuePseudonymized(PlannedField pseudonymizedField, DTO dto) {
 
 		ValuePseudonymizer<Object> pseudonymizer = (ValuePseudonymizer<Object>) getPseudonymizer(pseudonymizedField, null);
-
-		boolean accessible = pseudonymizedField.isAccessible();
-		pseudonymizedField.setAccessible(true);
-
-		Object fieldValue = pseudonymizedField.get(dto);
-
-		pseudonymizedField.setAccessible(accessible);
-
-		return pseudonymizer.isValuePseudonymized(fieldValue);
+		return pseudonymizer.isValuePseudonymized(pseudonymizedField.get(dto));
 	}
 
 	private <DTO> boolean pseudonymizeDto(
-		Class<DTO> type,
 		DTO dto,
-		boolean isInJurisdiction,
-		Class<? extends ValuePseudonymizer> defaultPseudonymizerClass,
-		CustomPseudonymization<DTO> customPseudonymization,
-		boolean skipEmbeddedFields) {
-		List<Field> declaredFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
-
-		return pseudonymizeDto(
-			dto,
-			declaredFields,
-			embeddedFields,
-			isInJurisdiction,
-			defaultPseudonymizerClass,
-			customPseudonymization,
-			skipEmbeddedFields);
-	}
-
-	private <DTO> boolean pseudonymizeDto(
-		DTO dto,
-		List<Field> pseudonymizableFields,
-		List<Field> embeddedFields,
+		PseudonymizationPlan plan,
 		boolean inJurisdiction,
 		Class<? extends ValuePseudonymizer> defaultPseudonymizerClass,
 		CustomPseudonymization<DTO> customPseudonymization,
@@ -191,49 +158,34 @@ public class DtoPseudonymizer {
 			return false;
 		}
 
-		boolean didPersonalOrSensitiveDataPseudonymization = false;
-
-		for (Field field : pseudonymizableFields) {
-			FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
-			if (!fieldAccessCheckers.isAccessible(field, pseudonymizeMandatoryFields)) {
-				pseudonymizeField(dto, field, defaultPseudonymizerClass);
-				// only personal and sensitive data pseudonymization needs special handling on the client side
-				// other not accessible data is hidden on the client side, so just cleanup and don't mark the DTO as pseudonymized
-				if (!didPersonalOrSensitiveDataPseudonymization) {
-					didPersonalOrSensitiveDataPseudonymization = !fieldAccessCheckers.isAccessibleBy(
-						field,
-						pseudonymizeMandatoryFields,
-						PersonalDataFieldAccessChecker.class,
-						SensitiveDataFieldAccessChecker.class);
-				}
-			}
+		for (PlannedField field : plan.getInaccessibleFields()) {
+			ValuePseudonymizer<?> pseudonymizer = getPseudonymizer(field, defaultPseudonymizerClass);
+			field.set(dto, pseudonymizer.pseudonymize(field.get(dto)));
 		}
+		boolean didPersonalOrSensitiveDataPseudonymization = plan.isPersonalOrSensitiveDataInaccessible();
 
 		if (!skipEmbeddedFields) {
-			for (Field embeddedField : embeddedFields) {
-				boolean accessible = embeddedField.isAccessible();
-				try {
+			for (PlannedField embeddedField : plan.getEmbeddedFields()) {
+				Class<? extends ValuePseudonymizer> psudonomyzerClass =
+					embeddedField.getPseudonymizerClass() != null ? embeddedField.getPseudonymizerClass() : defaultPseudonymizerClass;
 
-					embeddedField.setAccessible(true);
-					Pseudonymizer pseudonymizerAnnotation = embeddedField.getAnnotation(Pseudonymizer.class);
-					Class<? extends ValuePseudonymizer> psudonomyzerClass =
-						pseudonymizerAnnotation != null ? pseudonymizerAnnotation.value() : defaultPseudonymizerClass;
-
-					if (pseudonymizeDto(
-						(Class<Object>) embeddedField.getType(),
-						embeddedField.get(dto),
-						inJurisdiction,
-						psudonomyzerClass,
-						null,
-						skipEmbeddedFields)) {
-						didPersonalOrSensitiveDataPseudonymization = true;
-					}
-				} catch (IllegalAccessException e) {
+				Object embeddedDto;
+				try {
+					embeddedDto = embeddedField.get(dto);
+				} catch (RuntimeException e) {
 					throw new RuntimeException(
 						"Failed to pseudonymize embedded field " + dto.getClass().getName() + "." + embeddedField.getName(),
 						e);
-				} finally {
-					embeddedField.setAccessible(accessible);
+				}
+
+				if (pseudonymizeDto(
+					embeddedDto,
+					getPlan(embeddedField.getType(), inJurisdiction),
+					inJurisdiction,
+					psudonomyzerClass,
+					null,
+					skipEmbeddedFields)) {
+					didPersonalOrSensitiveDataPseudonymization = true;
 				}
 			}
 		}
@@ -250,87 +202,44 @@ public class DtoPseudonymizer {
 		return didPersonalOrSensitiveDataPseudonymization;
 	}
 
-	private <DTO> void pseudonymizeField(DTO dto, Field field, Class<? extends ValuePseudonymizer> pseudonymizerClass) {
-
-		try {
-			field.setAccessible(true);
+	private ValuePseudonymizer<?> getPseudonymizer(PlannedField field, Class<? extends ValuePseudonymizer> defaultPseudonymizerClass) {
 
-			ValuePseudonymizer<?> pseudonymizer = getPseudonymizer(field, pseudonymizerClass);
-			Object emptyValue = pseudonymizer.pseudonymize(field.get(dto));
-			field.set(dto, emptyValue);
-		} catch (IllegalAccessException | InstantiationException e) {
-			throw new RuntimeException(e);
-		} finally {
-			field.setAccessible(false);
+		if (field.getPseudonymizerClass() != null) {
+			return PseudonymizationPlan.getValuePseudonymizer(field.getPseudonymizerClass());
 		}
-	}
-
-	private ValuePseudonymizer<?> getPseudonymizer(Field field, Class<? extends ValuePseudonymizer> defaultPseudonymizerClass)
-		throws IllegalAccessException, InstantiationException {
-		Pseudonymizer pseudonymizerAnnotation = field.getAnnotation(Pseudonymizer.class);
-
-		if (pseudonymizerAnnotation == null) {
-			if (defaultPseudonymizerClass != null) {
-				return defaultPseudonymizerClass.newInstance();
-			}
 
-			return new DefaultValuePseudonymizer<>(stringValuePlaceholder);
+		if (defaultPseudonymizerClass != null) {
+			return PseudonymizationPlan.getValuePseudonymizer(defaultPseudonymizerClass);
 		}
 
-		return pseudonymizerAnnotation.value().newInstance();
+		return defaultValuePseudonymizer;
 	}
 
-	private <DTO extends Pseudonymizable> void restoreOriginalValue(DTO dto, Field field, DTO originalDto) {
+	PseudonymizationPlan getPlan(Class<?> type, boolean inJurisdiction) {
 
-		try {
-			field.setAccessible(true);
-			Object originalValue = field.get(originalDto);
-			field.set(dto, originalValue);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		} finally {
-			field.setAccessible(false);
+		Map<Class<?>, PseudonymizationPlan> plans = getPlans(inJurisdiction);
+		PseudonymizationPlan plan = plans.get(type);
+		if (plan == null) {
+			plan = PseudonymizationPlan.compile(type, getFieldAccessCheckers(inJurisdiction), pseudonymizeMandatoryFields);
+			plans.put(type, plan);
 		}
+		return plan;
 	}
 
-	private List<Field> getPseudonymizableFields(Class<?> type, boolean inJurisdiction) {
-		final FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
-
-		return filterFields(type, new FieldFilter() {
-
-			@Override
-			public boolean apply(Field field) {
-				return fieldAccessCheckers.isConfiguredForCheck(field, pseudonymizeMandatoryFields);
-			}
-		});
-	}
-
-	private List<Field> getEmbeddedFields(Class<?> type, boolean inJurisdiction) {
-		final FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
-
-		return filterFields(type, new FieldFilter() {
-
-			@Override
-			public boolean apply(Field field) {
-				return fieldAccessCheckers.isEmbedded(field);
-			}
-		});
-	}
-
-	private List<Field> filterFields(Class<?> type, FieldFilter filter) {
-		List<Field> declaredFields = new ArrayList<>();
-
-		for (Field field : type.getDeclaredFields()) {
-			if (filter.apply(field)) {
-				declaredFields.add(field);
+	private Map<Class<?>, PseudonymizationPlan> getPlans(boolean inJurisdiction) {
+
+		Map<Class<?>, PseudonymizationPlan> plans = inJurisdiction ? inJurisdictionPlans : outsideJurisdictionPlans;
+		if (plans == null) {
+			List<Object> key =
+				Arrays.asList(inJurisdiction, pseudonymizeMandatoryFields, getFieldAccessCheckers(inJurisdiction).getConfigurationKey());
+			plans = PLANS.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+			if (inJurisdiction) {
+				inJurisdictionPlans = plans;
+			} else {
+				outsideJurisdictionPlans = plans;
 			}
 		}
-
-		if (type.getSuperclass() != null) {
-			declaredFields.addAll(filterFields(type.getSuperclass(), filter));
-		}
-
-		return declaredFields;
+		return plans;
 	}
 
 	protected FieldAccessCheckers getFieldAccessCheckers(boolean inJurisdiction) {
@@ -357,9 +266,4 @@ public class DtoPseudonymizer {
 		void pseudonymize(DTO dto);
 	}
 
-	private interface FieldFilter {
-
-		boolean apply(Field field);
-	}
-
 }
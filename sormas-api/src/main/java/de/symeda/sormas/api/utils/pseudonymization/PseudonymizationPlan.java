@@ -0,0 +1,258 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils.pseudonymization;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.symeda.sormas.api.utils.fieldaccess.FieldAccessCheckers;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.PersonalDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.SensitiveDataFieldAccessChecker;
+
+/**
+ * The pseudonymizable and embedded fields of a DTO class for one set of {@link FieldAccessCheckers}, with the results of the checkers
+ * evaluated in advance and {@link MethodHandle} accessors, so pseudonymizing a DTO does not need any reflection lookups.
+ */
+final class PseudonymizationPlan {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * Declared fields of a class and its super classes; independent of the checkers and therefore shared by all plans.
+	 */
+	private static final Map<Class<?>, List<Field>> DECLARED_FIELDS = new ConcurrentHashMap<>();
+	private static final Map<Field, PlannedField> PLANNED_FIELDS = new ConcurrentHashMap<>();
+
+	private static final Map<Class<? extends ValuePseudonymizer>, ValuePseudonymizer<?>> VALUE_PSEUDONYMIZERS = new ConcurrentHashMap<>();
+
+	private final List<PlannedField> pseudonymizableFields;
+	private final List<PlannedField> inaccessibleFields;
+	private final Set<PlannedField> inaccessibleFieldSet;
+	private final List<PlannedField> embeddedFields;
+	/**
+	 * Whether one of the inaccessible fields holds personal or sensitive data.
+	 */
+	private final boolean personalOrSensitiveDataInaccessible;
+
+	private PseudonymizationPlan(
+		List<PlannedField> pseudonymizableFields,
+		List<PlannedField> inaccessibleFields,
+		List<PlannedField> embeddedFields,
+		boolean personalOrSensitiveDataInaccessible) {
+
+		this.pseudonymizableFields = pseudonymizableFields;
+		this.inaccessibleFields = inaccessibleFields;
+		this.inaccessibleFieldSet = new HashSet<>(inaccessibleFields);
+		this.embeddedFields = embeddedFields;
+		this.personalOrSensitiveDataInaccessible = personalOrSensitiveDataInaccessible;
+	}
+
+	static PseudonymizationPlan compile(Class<?> type, FieldAccessCheckers fieldAccessCheckers, boolean pseudonymizeMandatoryFields) {
+
+		List<PlannedField> pseudonymizableFields = new ArrayList<>();
+		List<PlannedField> inaccessibleFields = new ArrayList<>();
+		List<PlannedField> embeddedFields = new ArrayList<>();
+		boolean personalOrSensitiveDataInaccessible = false;
+
+		for (Field field : getDeclaredFields(type)) {
+			if (fieldAccessCheckers.isConfiguredForCheck(field, pseudonymizeMandatoryFields)) {
+				PlannedField plannedField = getPlannedField(field);
+				pseudonymizableFields.add(plannedField);
+				if (!fieldAccessCheckers.isAccessible(field, pseudonymizeMandatoryFields)) {
+					inaccessibleFields.add(plannedField);
+					// only personal and sensitive data pseudonymization needs special handling on the client side
+					// other not accessible data is hidden on the client side, so just cleanup and don't mark the DTO as pseudonymized
+					personalOrSensitiveDataInaccessible |= !fieldAccessCheckers.isAccessibleBy(
+						field,
+						pseudonymizeMandatoryFields,
+						PersonalDataFieldAccessChecker.class,
+						SensitiveDataFieldAccessChecker.class);
+				}
+			}
+			if (fieldAccessCheckers.isEmbedded(field)) {
+				embeddedFields.add(getPlannedField(field));
+			}
+		}
+
+		return new PseudonymizationPlan(
+			Collections.unmodifiableList(pseudonymizableFields),
+			Collections.unmodifiableList(inaccessibleFields),
+			Collections.unmodifiableList(embeddedFields),
+			personalOrSensitiveDataInaccessible);
+	}
+
+	private static List<Field> getDeclaredFields(Class<?> type) {
+
+		List<Field> declaredFields = DECLARED_FIELDS.get(type);
+		if (declaredFields == null) {
+			declaredFields = new ArrayList<>();
+			for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+				Collections.addAll(declaredFields, c.getDeclaredFields());
+			}
+			declaredFields = Collections.unmodifiableList(declaredFields);
+			DECLARED_FIELDS.put(type, declaredFields);
+		}
+		return declaredFields;
+	}
+
+	private static PlannedField getPlannedField(Field field) {
+
+		PlannedField plannedField = PLANNED_FIELDS.get(field);
+		if (plannedField == null) {
+			plannedField = new PlannedField(field);
+			PLANNED_FIELDS.put(field, plannedField);
+		}
+		return plannedField;
+	}
+
+	/**
+	 * Value pseudonymizers don't have any state, so one instance per class is used for all fields.
+	 */
+	static ValuePseudonymizer<?> getValuePseudonymizer(Class<? extends ValuePseudonymizer> pseudonymizerClass) {
+
+		ValuePseudonymizer<?> pseudonymizer = VALUE_PSEUDONYMIZERS.get(pseudonymizerClass);
+		if (pseudonymizer == null) {
+			try {
+				pseudonymizer = pseudonymizerClass.newInstance();
+			} catch (InstantiationException | IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
+			VALUE_PSEUDONYMIZERS.put(pseudonymizerClass, pseudonymizer);
+		}
+		return pseudonymizer;
+	}
+
+	/**
+	 * @return All fields the checkers are configured for.
+	 */
+	List<PlannedField> getPseudonymizableFields() {
+		return pseudonymizableFields;
+	}
+
+	/**
+	 * @return The fields the checkers deny access to.
+	 */
+	List<PlannedField> getInaccessibleFields() {
+		return inaccessibleFields;
+	}
+
+	boolean isAccessible(PlannedField field) {
+		return !inaccessibleFieldSet.contains(field);
+	}
+
+	List<PlannedField> getEmbeddedFields() {
+		return embeddedFields;
+	}
+
+	boolean isPersonalOrSensitiveDataInaccessible() {
+		return personalOrSensitiveDataInaccessible;
+	}
+
+	static final class PlannedField {
+
+		private final Field field;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+		/**
+		 * The pseudonymizer of the {@link Pseudonymizer} annotation, {@code null} if the field is not annotated.
+		 */
+		private final Class<? extends ValuePseudonymizer> pseudonymizerClass;
+
+		private PlannedField(Field field) {
+
+			this.field = field;
+
+			try {
+				field.setAccessible(true);
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+			} catch (IllegalAccessException | SecurityException e) {
+				throw new RuntimeException("Could not access field " + field.getDeclaringClass().getName() + "." + field.getName(), e);
+			}
+			setter = toSetterHandle(field);
+
+			Pseudonymizer pseudonymizerAnnotation = field.getAnnotation(Pseudonymizer.class);
+			pseudonymizerClass = pseudonymizerAnnotation != null ? pseudonymizerAnnotation.value() : null;
+		}
+
+		/**
+		 * @return {@code null} if no method handle can be created to write the field (e.g. because it is final).
+		 */
+		private static MethodHandle toSetterHandle(Field field) {
+			try {
+				return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+			} catch (IllegalAccessException e) {
+				return null;
+			}
+		}
+
+		Field getField() {
+			return field;
+		}
+
+		String getName() {
+			return field.getName();
+		}
+
+		Class<?> getType() {
+			return field.getType();
+		}
+
+		Class<? extends ValuePseudonymizer> getPseudonymizerClass() {
+			return pseudonymizerClass;
+		}
+
+		Object get(Object dto) {
+			try {
+				return (Object) getter.invokeExact(dto);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		void set(Object dto, Object value) {
+
+			if (setter == null) {
+				try {
+					field.set(dto, value);
+				} catch (IllegalAccessException e) {
+					throw new RuntimeException(e);
+				}
+				return;
+			}
+
+			try {
+				setter.invokeExact(dto, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+}
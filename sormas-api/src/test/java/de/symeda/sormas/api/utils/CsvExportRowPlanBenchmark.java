@@ -0,0 +1,147 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import de.symeda.sormas.api.EntityDto;
+import de.symeda.sormas.api.caze.CaseExportDto;
+import de.symeda.sormas.api.importexport.format.ExportFormat;
+import de.symeda.sormas.api.importexport.format.FormatterProvider;
+import de.symeda.sormas.api.importexport.format.IExportFormatter;
+import de.symeda.sormas.api.utils.fieldvisibility.checkers.CountryFieldVisibilityChecker;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Compares formatting {@link CaseExportDto} rows with a {@link CsvExportRowPlan} against the per cell reflection loop
+ * {@link CsvStreamUtils} used before.
+ * <p>
+ * Not run as part of the build, start it with {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvExportRowPlanBenchmark {
+
+	private static final int ROW_COUNT = 1000;
+	private static final String COUNTRY_LOCALE = "de";
+
+	private List<CaseExportDto> rows;
+
+	private CsvExportRowPlan<CaseExportDto> rowPlan;
+
+	private List<Method> readMethods;
+	private Map<Method, Method> subEntityGetters;
+
+	private String[] values;
+
+	@Setup
+	public void setup() {
+
+		PodamFactory factory = new PodamFactoryImpl();
+		rows = new ArrayList<>(ROW_COUNT);
+		for (int i = 0; i < ROW_COUNT; i++) {
+			rows.add(factory.manufacturePojo(CaseExportDto.class));
+		}
+
+		rowPlan = CsvExportRowPlan.compile(CaseExportDto.class, null, null, COUNTRY_LOCALE);
+
+		// the column setup of the reflection loop
+		CountryFieldVisibilityChecker countryFieldVisibilityChecker = new CountryFieldVisibilityChecker(COUNTRY_LOCALE);
+		readMethods = CsvExportRowPlan.getReadMethods(CaseExportDto.class, o -> countryFieldVisibilityChecker.isVisible((Method) o));
+		subEntityGetters = new HashMap<>();
+		for (int i = 0; i < readMethods.size(); i++) {
+			Method method = readMethods.get(i);
+			if (EntityDto.class.isAssignableFrom(method.getReturnType())) {
+				readMethods.remove(i);
+				List<Method> subReadMethods = CsvExportRowPlan.getReadMethods(method.getReturnType(), null);
+				readMethods.addAll(i, subReadMethods);
+				i--;
+				for (Method subReadMethod : subReadMethods) {
+					subEntityGetters.put(subReadMethod, method);
+				}
+			}
+		}
+
+		if (readMethods.size() != rowPlan.getColumns().size()) {
+			throw new IllegalStateException("Reflection loop and row plan export different columns");
+		}
+		values = new String[readMethods.size()];
+	}
+
+	@Benchmark
+	public void reflectionLoop(Blackhole blackhole) throws Exception {
+
+		for (CaseExportDto row : rows) {
+			for (int i = 0; i < readMethods.size(); i++) {
+				Method method = readMethods.get(i);
+				Method subEntityGetter = subEntityGetters.get(method);
+				Object entity = subEntityGetter != null ? subEntityGetter.invoke(row) : row;
+				Object value = entity != null ? method.invoke(entity) : null;
+
+				ExportFormat formatterAnnotation = method.getAnnotation(ExportFormat.class);
+				if (formatterAnnotation != null) {
+					IExportFormatter<Object> formatter = FormatterProvider.getExportFormatter(formatterAnnotation.value());
+					values[i] = formatter.format(value);
+				} else {
+					values[i] = DataHelper.valueToString(value);
+				}
+			}
+			blackhole.consume(values);
+		}
+	}
+
+	@Benchmark
+	public void rowPlan(Blackhole blackhole) {
+
+		for (CaseExportDto row : rows) {
+			rowPlan.formatRow(row, values);
+			blackhole.consume(values);
+		}
+	}
+
+	@Benchmark
+	public CsvExportRowPlan<CaseExportDto> cachedPlanLookup() {
+		return CsvExportRowPlan.compile(CaseExportDto.class, null, null, COUNTRY_LOCALE);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(CsvExportRowPlanBenchmark.class.getSimpleName()).build()).run();
+	}
+}
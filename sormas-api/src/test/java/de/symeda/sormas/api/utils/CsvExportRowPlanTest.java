@@ -0,0 +1,107 @@
+package de.symeda.sormas.api.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.EntityDto;
+
+public class CsvExportRowPlanTest {
+
+	@Test
+	public void testColumnsAndValues() {
+
+		CsvExportRowPlan<TestExportRow> plan = CsvExportRowPlan.compile(TestExportRow.class, null, null, null);
+
+		assertThat(getMethodNames(plan), contains("getFirst", "getNumber", "getValue", "getLast"));
+		assertThat(plan.getColumns().get(1).getEntityMethod(), sameInstance(plan.getColumns().get(2).getEntityMethod()));
+
+		String[] values = new String[plan.getColumns().size()];
+		plan.formatRow(new TestExportRow("a", new TestSubEntity(3, "b"), "c"), values);
+		assertThat(values, arrayContaining("a", "3", "b", "c"));
+
+		// null sub entity
+		plan.formatRow(new TestExportRow("a", null, null), values);
+		assertThat(values, arrayContaining("a", "", "", ""));
+	}
+
+	@Test
+	public void testRedMethodFilter() {
+
+		CsvExportRowPlan<TestExportRow> plan =
+			CsvExportRowPlan.compile(TestExportRow.class, null, o -> !((Method) o).getName().equals("getSubEntity"), null);
+		assertThat(getMethodNames(plan), contains("getFirst", "getLast"));
+
+		String[] values = new String[plan.getColumns().size()];
+		plan.formatRow(new TestExportRow("a", new TestSubEntity(3, "b"), "c"), values);
+		assertThat(values, arrayContaining("a", "c"));
+
+		// the filter is not part of the cached plan
+		plan = CsvExportRowPlan.compile(TestExportRow.class, null, o -> !((Method) o).getName().equals("getLast"), null);
+		assertThat(getMethodNames(plan), contains("getFirst", "getNumber", "getValue"));
+	}
+
+	private static List<String> getMethodNames(CsvExportRowPlan<?> plan) {
+		return plan.getColumns().stream().map(c -> c.getMethod().getName()).collect(Collectors.toList());
+	}
+
+	public static class TestExportRow {
+
+		private final String first;
+		private final TestSubEntity subEntity;
+		private final String last;
+
+		public TestExportRow(String first, TestSubEntity subEntity, String last) {
+			this.first = first;
+			this.subEntity = subEntity;
+			this.last = last;
+		}
+
+		@Order(2)
+		public String getLast() {
+			return last;
+		}
+
+		@Order(0)
+		public String getFirst() {
+			return first;
+		}
+
+		@Order(1)
+		public TestSubEntity getSubEntity() {
+			return subEntity;
+		}
+
+		public String getNotExported() {
+			return "x";
+		}
+	}
+
+	public static class TestSubEntity extends EntityDto {
+
+		private final Integer number;
+		private final String value;
+
+		public TestSubEntity(Integer number, String value) {
+			this.number = number;
+			this.value = value;
+		}
+
+		@Order(0)
+		public Integer getNumber() {
+			return number;
+		}
+
+		@Order(1)
+		public String getValue() {
+			return value;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils.pseudonymization;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import de.symeda.sormas.api.caze.CaseExportDto;
+import de.symeda.sormas.api.caze.CaseIndexDto;
+import de.symeda.sormas.api.utils.fieldaccess.FieldAccessCheckers;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.PersonalDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.SensitiveDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.pseudonymization.valuepseudonymizers.DefaultValuePseudonymizer;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Compares pseudonymizing a page of {@link CaseIndexDto}s and a batch of {@link CaseExportDto}s with the compiled
+ * {@link PseudonymizationPlan}s against the per call reflection {@link DtoPseudonymizer} used before. As in the backend, a new
+ * pseudonymizer is created for each call; the plans are shared across these calls, {@link #caseIndexPlanPerCall()} shows the cost of
+ * compiling them for each call instead.
+ * <p>
+ * Not run as part of the build, start it with {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoPseudonymizerBenchmark {
+
+	private static final int INDEX_PAGE_SIZE = 100;
+	private static final int EXPORT_BATCH_SIZE = 5000;
+
+	private List<CaseIndexDto> indexDtos;
+	private List<CaseExportDto> exportDtos;
+
+	@Setup
+	public void setup() {
+
+		PodamFactory factory = new PodamFactoryImpl();
+		indexDtos = new ArrayList<>(INDEX_PAGE_SIZE);
+		for (int i = 0; i < INDEX_PAGE_SIZE; i++) {
+			indexDtos.add(factory.manufacturePojo(CaseIndexDto.class));
+		}
+		exportDtos = new ArrayList<>(EXPORT_BATCH_SIZE);
+		for (int i = 0; i < EXPORT_BATCH_SIZE; i++) {
+			exportDtos.add(factory.manufacturePojo(CaseExportDto.class));
+		}
+	}
+
+	@Benchmark
+	public List<CaseIndexDto> caseIndexReflection() {
+		ReflectionPseudonymizer.pseudonymizeDtoCollection(CaseIndexDto.class, indexDtos, createCheckers());
+		return indexDtos;
+	}
+
+	@Benchmark
+	public List<CaseIndexDto> caseIndexPlan() {
+		createPseudonymizer().pseudonymizeDtoCollection(CaseIndexDto.class, indexDtos, d -> false, null);
+		return indexDtos;
+	}
+
+	/**
+	 * Compiles the plans of the page for each call, like the pseudonymizers did before they shared the plans.
+	 */
+	@Benchmark
+	public List<CaseIndexDto> caseIndexPlanPerCall() {
+		PseudonymizationPlan plan = PseudonymizationPlan.compile(CaseIndexDto.class, createCheckers(), true);
+		for (PseudonymizationPlan.PlannedField embeddedField : plan.getEmbeddedFields()) {
+			PseudonymizationPlan.compile(embeddedField.getType(), createCheckers(), true);
+		}
+		return caseIndexPlan();
+	}
+
+	@Benchmark
+	public List<CaseExportDto> caseExportReflection() {
+		ReflectionPseudonymizer.pseudonymizeDtoCollection(CaseExportDto.class, exportDtos, createCheckers());
+		return exportDtos;
+	}
+
+	@Benchmark
+	public List<CaseExportDto> caseExportPlan() {
+		createPseudonymizer().pseudonymizeDtoCollection(CaseExportDto.class, exportDtos, d -> false, null);
+		return exportDtos;
+	}
+
+	private static DtoPseudonymizer createPseudonymizer() {
+		return new DtoPseudonymizer(createCheckers(), createCheckers(), "", true);
+	}
+
+	/**
+	 * No rights to see personal or sensitive data, so every annotated field is pseudonymized.
+	 */
+	private static FieldAccessCheckers createCheckers() {
+		return FieldAccessCheckers.withCheckers(
+			PersonalDataFieldAccessChecker.outsideJurisdiction(r -> false),
+			SensitiveDataFieldAccessChecker.outsideJurisdiction(r -> false));
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(DtoPseudonymizerBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	/**
+	 * The reflection based pseudonymization {@link DtoPseudonymizer} did before the plans: field lookups per call (and per DTO for
+	 * embedded fields), toggling the accessible flag and instantiating the value pseudonymizer per field.
+	 */
+	private static final class ReflectionPseudonymizer {
+
+		static <DTO> void pseudonymizeDtoCollection(Class<DTO> type, List<DTO> dtos, FieldAccessCheckers checkers) {
+
+			List<Field> pseudonymizableFields = filterFields(type, f -> checkers.isConfiguredForCheck(f, true));
+			List<Field> embeddedFields = filterFields(type, checkers::isEmbedded);
+			for (DTO dto : dtos) {
+				pseudonymizeDto(dto, pseudonymizableFields, embeddedFields, checkers, null);
+			}
+		}
+
+		private static void pseudonymizeDto(
+			Object dto,
+			List<Field> pseudonymizableFields,
+			List<Field> embeddedFields,
+			FieldAccessCheckers checkers,
+			Class<? extends ValuePseudonymizer> defaultPseudonymizerClass) {
+
+			if (dto == null) {
+				return;
+			}
+
+			try {
+				for (Field field : pseudonymizableFields) {
+					if (!checkers.isAccessible(field, true)) {
+						field.setAccessible(true);
+						Pseudonymizer annotation = field.getAnnotation(Pseudonymizer.class);
+						ValuePseudonymizer<?> pseudonymizer = annotation != null
+							? annotation.value().newInstance()
+							: defaultPseudonymizerClass != null ? defaultPseudonymizerClass.newInstance() : new DefaultValuePseudonymizer<>("");
+						field.set(dto, pseudonymizer.pseudonymize(field.get(dto)));
+						field.setAccessible(false);
+						checkers.isAccessibleBy(field, true, PersonalDataFieldAccessChecker.class, SensitiveDataFieldAccessChecker.class);
+					}
+				}
+
+				for (Field embeddedField : embeddedFields) {
+					embeddedField.setAccessible(true);
+					Pseudonymizer annotation = embeddedField.getAnnotation(Pseudonymizer.class);
+					Class<?> embeddedType = embeddedField.getType();
+					pseudonymizeDto(
+						embeddedField.get(dto),
+						filterFields(embeddedType, f -> checkers.isConfiguredForCheck(f, true)),
+						filterFields(embeddedType, checkers::isEmbedded),
+						checkers,
+						annotation != null ? annotation.value() : defaultPseudonymizerClass);
+					embeddedField.setAccessible(false);
+				}
+			} catch (IllegalAccessException | InstantiationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		private static List<Field> filterFields(Class<?> type, Predicate<Field> filter) {
+
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (filter.test(field)) {
+						fields.add(field);
+					}
+				}
+			}
+			return fields;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package de.symeda.sormas.api.utils.pseudonymization;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.user.UserRight;
+import de.symeda.sormas.api.utils.DependingOnUserRight;
+import de.symeda.sormas.api.utils.EmbeddedPersonalData;
+import de.symeda.sormas.api.utils.PersonalData;
+import de.symeda.sormas.api.utils.SensitiveData;
+import de.symeda.sormas.api.utils.fieldaccess.FieldAccessCheckers;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.PersonalDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.SensitiveDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.UserRightFieldAccessChecker;
+import de.symeda.sormas.api.utils.pseudonymization.valuepseudonymizers.PostalCodePseudonymizer;
+
+public class DtoPseudonymizerTest {
+
+	@Test
+	public void testPseudonymizeDto() {
+
+		DtoPseudonymizer pseudonymizer = createPseudonymizer();
+
+		TestDto dto = new TestDto();
+		pseudonymizer.pseudonymizeDto(TestDto.class, dto, true, null);
+		assertThat(dto.firstName, is("First"));
+		assertThat(dto.isPseudonymized(), is(false));
+
+		pseudonymizer.pseudonymizeDto(TestDto.class, dto, false, null);
+		assertThat(dto.firstName, is("***"));
+		assertThat(dto.birthYear, is(nullValue()));
+		assertThat(dto.postalCode, is("123"));
+		assertThat(dto.clinicalNote, is("Note"));
+		assertThat(dto.embedded.street, is("***"));
+		assertThat(dto.isPseudonymized(), is(true));
+		assertThat(dto.isInJurisdiction(), is(false));
+
+		assertThat(pseudonymizer.isAccessible(TestDto.class, "firstName", true), is(true));
+		assertThat(pseudonymizer.isAccessible(TestDto.class, "firstName", false), is(false));
+	}
+
+	@Test
+	public void testRestorePseudonymizedValues() {
+
+		DtoPseudonymizer pseudonymizer = createPseudonymizer();
+
+		TestDto dto = new TestDto();
+		pseudonymizer.pseudonymizeDto(TestDto.class, dto, false, null);
+		pseudonymizer.restorePseudonymizedValues(TestDto.class, dto, new TestDto(), false);
+		assertThat(dto.firstName, is("First"));
+		assertThat(dto.birthYear, is(1980));
+		assertThat(dto.postalCode, is("12345"));
+		assertThat(dto.embedded.street, is("Street"));
+	}
+
+	@Test
+	public void testAddedCheckerIsApplied() {
+
+		DtoPseudonymizer pseudonymizer = createPseudonymizer();
+		pseudonymizer.pseudonymizeDto(TestDto.class, new TestDto(), true, null);
+
+		UserRightFieldAccessChecker checker = new UserRightFieldAccessChecker(UserRight.CASE_CLINICIAN_VIEW, false);
+		pseudonymizer.addFieldAccessChecker(checker, checker);
+
+		TestDto dto = new TestDto();
+		pseudonymizer.pseudonymizeDto(TestDto.class, dto, true, null);
+		assertThat(dto.clinicalNote, is("***"));
+		assertThat(dto.firstName, is("First"));
+		// not personal or sensitive data
+		assertThat(dto.isPseudonymized(), is(false));
+	}
+
+	@Test
+	public void testPlansAreSharedByPseudonymizersWithSameCheckers() {
+
+		DtoPseudonymizer pseudonymizer = createPseudonymizer();
+		assertThat(createPseudonymizer().getPlan(TestDto.class, false), is(sameInstance(pseudonymizer.getPlan(TestDto.class, false))));
+		assertThat(pseudonymizer.getPlan(TestDto.class, true), is(not(sameInstance(pseudonymizer.getPlan(TestDto.class, false)))));
+
+		// other rights lead to other plans
+		DtoPseudonymizer allowingPseudonymizer = new DtoPseudonymizer(
+			FieldAccessCheckers.withCheckers(
+				PersonalDataFieldAccessChecker.inJurisdiction(r -> true),
+				SensitiveDataFieldAccessChecker.inJurisdiction(r -> true)),
+			FieldAccessCheckers.withCheckers(
+				PersonalDataFieldAccessChecker.outsideJurisdiction(r -> true),
+				SensitiveDataFieldAccessChecker.outsideJurisdiction(r -> true)),
+			"***",
+			true);
+		assertThat(allowingPseudonymizer.getPlan(TestDto.class, true), is(sameInstance(pseudonymizer.getPlan(TestDto.class, true))));
+		assertThat(allowingPseudonymizer.getPlan(TestDto.class, false), is(not(sameInstance(pseudonymizer.getPlan(TestDto.class, false)))));
+		assertThat(allowingPseudonymizer.isAccessible(TestDto.class, "firstName", false), is(true));
+
+		UserRightFieldAccessChecker checker = new UserRightFieldAccessChecker(UserRight.CASE_CLINICIAN_VIEW, false);
+		PseudonymizationPlan planWithoutChecker = pseudonymizer.getPlan(TestDto.class, true);
+		pseudonymizer.addFieldAccessChecker(checker, checker);
+		assertThat(pseudonymizer.getPlan(TestDto.class, true), is(not(sameInstance(planWithoutChecker))));
+	}
+
+	private static DtoPseudonymizer createPseudonymizer() {
+		return new DtoPseudonymizer(
+			FieldAccessCheckers.withCheckers(
+				PersonalDataFieldAccessChecker.inJurisdiction(r -> true),
+				SensitiveDataFieldAccessChecker.inJurisdiction(r -> true)),
+			FieldAccessCheckers.withCheckers(
+				PersonalDataFieldAccessChecker.outsideJurisdiction(r -> false),
+				SensitiveDataFieldAccessChecker.outsideJurisdiction(r -> false)),
+			"***",
+			true);
+	}
+
+	public static class TestDto extends PseudonymizableDto {
+
+		@PersonalData
+		private String firstName = "First";
+		@SensitiveData
+		private Integer birthYear = 1980;
+		@PersonalData
+		@Pseudonymizer(PostalCodePseudonymizer.class)
+		private String postalCode = "12345";
+		@DependingOnUserRight(UserRight.CASE_CLINICIAN_VIEW)
+		private String clinicalNote = "Note";
+		@EmbeddedPersonalData
+		private TestEmbeddedDto embedded = new TestEmbeddedDto();
+	}
+
+	public static class TestEmbeddedDto extends PseudonymizableDto {
+
+		@PersonalData
+		private String street = "Street";
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded multi-producer/single-consumer queue that decouples the audited call from writing the audit trail.
+ * Producers only enqueue; a dedicated writer thread drains the queue in batches and hands them to the batch writer.
+ * <p>
+ * The writer thread is not managed by the container on purpose: It does not use any container services
+ * (transactions, security, persistence) and must keep running independently of the request threads.
+ *
+ * @param <T>
+ *            Type of the queued audit entries.
+ */
+public class AsyncAuditQueue<T> {
+
+	/**
+	 * Determines what happens when an entry is offered while the queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * The producer waits until the writer has made room. No audit entries are lost, but callers are slowed down to the write speed.
+		 */
+		BLOCK,
+
+		/**
+		 * The entry is discarded and counted. Callers are never slowed down, but the audit trail may be incomplete.
+		 */
+		DROP
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncAuditQueue.class);
+
+	private static final long POLL_INTERVAL_MILLIS = 200;
+	private static final long DROP_WARNING_INTERVAL = 1000;
+
+	private final BlockingQueue<QueuedEntry<T>> queue;
+	private final int batchSize;
+	private final OverflowPolicy overflowPolicy;
+	private final Consumer<List<T>> batchWriter;
+	private final Thread writerThread;
+
+	private volatile boolean running;
+
+	private final AtomicLong enqueuedCount = new AtomicLong();
+	private final AtomicLong writtenCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+	private final AtomicLong lastLagMillis = new AtomicLong();
+	private final AtomicLong maxLagMillis = new AtomicLong();
+
+	/**
+	 * @param name
+	 *            Name of the writer thread.
+	 * @param capacity
+	 *            Maximum number of entries waiting to be written.
+	 * @param batchSize
+	 *            Maximum number of entries handed to the {@code batchWriter} at once.
+	 * @param overflowPolicy
+	 *            Backpressure applied when the queue is full.
+	 * @param batchWriter
+	 *            Writes a batch of entries. Only ever called from the writer thread.
+	 */
+	public AsyncAuditQueue(String name, int capacity, int batchSize, OverflowPolicy overflowPolicy, Consumer<List<T>> batchWriter) {
+
+		if (capacity < 1 || batchSize < 1) {
+			throw new IllegalArgumentException("capacity and batchSize must be positive");
+		}
+
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+		this.overflowPolicy = overflowPolicy;
+		this.batchWriter = batchWriter;
+		this.writerThread = new Thread(this::writeLoop, name);
+		this.writerThread.setDaemon(true);
+	}
+
+	public void start() {
+		running = true;
+		writerThread.start();
+	}
+
+	/**
+	 * Stops accepting new entries and waits until the writer has written the remaining entries.
+	 *
+	 * @param timeoutMillis
+	 *            Maximum time to wait for the writer thread.
+	 */
+	public void stop(long timeoutMillis) {
+
+		running = false;
+		try {
+			writerThread.join(timeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (writerThread.isAlive()) {
+			logger.warn("Audit writer did not finish within {} ms, {} entries may be lost", timeoutMillis, queue.size());
+		}
+		logger.info(
+			"Audit writer stopped: {} enqueued, {} written, {} dropped, {} failed, max lag {} ms",
+			enqueuedCount.get(),
+			writtenCount.get(),
+			droppedCount.get(),
+			failedCount.get(),
+			maxLagMillis.get());
+	}
+
+	/**
+	 * @return {@code true} if the entry has been handed over to the writer or was dropped according to {@link OverflowPolicy#DROP},
+	 *         {@code false} if the queue is not running (anymore) or the producer was interrupted while waiting. In this case the
+	 *         caller is responsible to write the entry itself.
+	 */
+	public boolean offer(T entry) {
+
+		if (!running) {
+			return false;
+		}
+
+		QueuedEntry<T> queuedEntry = new QueuedEntry<>(entry, System.nanoTime());
+		if (overflowPolicy == OverflowPolicy.BLOCK) {
+			try {
+				queue.put(queuedEntry);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		} else if (!queue.offer(queuedEntry)) {
+			long dropped = droppedCount.incrementAndGet();
+			if (dropped == 1 || dropped % DROP_WARNING_INTERVAL == 0) {
+				logger.warn("Audit queue is full, {} audit entries have been dropped so far", dropped);
+			}
+			return true;
+		}
+
+		enqueuedCount.incrementAndGet();
+		return true;
+	}
+
+	private void writeLoop() {
+
+		List<QueuedEntry<T>> drained = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			QueuedEntry<T> first;
+			try {
+				first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				// keep draining, the loop ends with stop()
+				continue;
+			}
+
+			if (first == null) {
+				continue;
+			}
+
+			drained.clear();
+			drained.add(first);
+			queue.drainTo(drained, batchSize - 1);
+			writeBatch(drained);
+		}
+	}
+
+	private void writeBatch(List<QueuedEntry<T>> drained) {
+
+		// the first entry is the oldest one and therefore determines the lag of the batch
+		long lag = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - drained.get(0).enqueuedNanos);
+		lastLagMillis.set(lag);
+		maxLagMillis.accumulateAndGet(lag, Math::max);
+
+		List<T> batch = new ArrayList<>(drained.size());
+		for (QueuedEntry<T> queuedEntry : drained) {
+			batch.add(queuedEntry.entry);
+		}
+
+		try {
+			batchWriter.accept(batch);
+			writtenCount.addAndGet(batch.size());
+		} catch (RuntimeException e) {
+			// never let the writer thread die, otherwise producers would block forever
+			failedCount.addAndGet(batch.size());
+			logger.error("Could not write {} audit entries", batch.size(), e);
+		}
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	public int getRemainingCapacity() {
+		return queue.remainingCapacity();
+	}
+
+	public long getEnqueuedCount() {
+		return enqueuedCount.get();
+	}
+
+	public long getWrittenCount() {
+		return writtenCount.get();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	/**
+	 * @return Time in milliseconds the oldest entry of the last written batch waited in the queue.
+	 */
+	public long getLastLagMillis() {
+		return lastLagMillis.get();
+	}
+
+	public long getMaxLagMillis() {
+		return maxLagMillis.get();
+	}
+
+	private static final class QueuedEntry<T> {
+
+		private final T entry;
+		private final long enqueuedNanos;
+
+		private QueuedEntry(T entry, long enqueuedNanos) {
+			this.entry = entry;
+			this.enqueuedNanos = enqueuedNanos;
+		}
+	}
+}
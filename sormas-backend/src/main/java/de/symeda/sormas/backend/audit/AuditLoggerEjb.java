@@ -44,12 +44,17 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
 import javax.ejb.SessionContext;
 import javax.ejb.Singleton;
 
@@ -79,8 +84,16 @@ import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.backend.user.CurrentUserService;
 import de.symeda.sormas.backend.user.User;
 
+/**
+ * Writes the SORMAS audit trail.
+ * <p>
+ * All methods are called concurrently ({@link LockType#READ}), only the encoding and writing of an event is serialized.
+ * With {@code audit.logger.async} enabled, callers only take a snapshot of the audited call and hand it over to
+ * {@link AsyncAuditQueue}, which builds, encodes and writes the FHIR {@link AuditEvent}s on a dedicated writer thread.
+ */
 @AuditIgnore
 @Singleton(name = "AuditLoggerFacade")
+@Lock(LockType.READ)
 public class AuditLoggerEjb implements AuditLoggerFacade {
 
 	private static final Logger logger = LoggerFactory.getLogger(AuditLoggerEjb.class);
@@ -97,7 +110,12 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 	public static final Reference LAB_MESSAGE_CONVERT_TO_HTML = new Reference("convertToHTML");
 	public static final Reference GET_EXTERNAL_LAB_MESSAGES = new Reference("getExternalLabMessages");
 
+	private static final long ASYNC_SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
 	private IParser fhirJsonParser;
+	private IParser asyncFhirJsonParser;
+	private Logger auditSink;
+	private AsyncAuditQueue<Supplier<AuditEvent>> asyncQueue;
 	private String auditSourceSite;
 	private Reflections reflections;
 	private Map<String, AuditEvent.AuditEventAction> actionBackendMap;
@@ -112,10 +130,10 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 		actionRestMap = Collections.unmodifiableMap(map);
 	}
 
-	private final Map<Class<?>, String> cachedClassName = new HashMap<>();
+	private final Map<Class<?>, String> cachedClassName = new ConcurrentHashMap<>();
 
-	private final Map<Class<?>, List<Field>> cachedAnnotatedFields = new HashMap<>();
-	private final Map<Class<?>, List<Method>> cachedAnnotatedMethods = new HashMap<>();
+	private final Map<Class<?>, List<Field>> cachedAnnotatedFields = new ConcurrentHashMap<>();
+	private final Map<Class<?>, List<Method>> cachedAnnotatedMethods = new ConcurrentHashMap<>();
 
 	@EJB
 	private ConfigFacadeEjb.ConfigFacadeEjbLocal configFacade;
@@ -149,10 +167,23 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 			loggingDisabled = true;
 		}
 
-		actionBackendMap = new HashMap<>();
+		actionBackendMap = new ConcurrentHashMap<>();
 
 		FhirContext fhirContext = FhirContext.forR4();
 		fhirJsonParser = fhirContext.newJsonParser();
+		auditSink = auditLogger.getAuditLogger();
+
+		if (!loggingDisabled && configFacade.isAuditLoggerAsync()) {
+			// parsers are not thread-safe, the writer thread gets its own one
+			asyncFhirJsonParser = fhirContext.newJsonParser();
+			asyncQueue = new AsyncAuditQueue<>(
+				"sormas-audit-writer",
+				configFacade.getAuditLoggerAsyncQueueCapacity(),
+				configFacade.getAuditLoggerAsyncBatchSize(),
+				configFacade.getAuditLoggerAsyncOverflowPolicy(),
+				this::writeBatch);
+			asyncQueue.start();
+		}
 
 		ConfigurationBuilder configurationBuilder = new ConfigurationBuilder();
 		configurationBuilder.forPackages("de.symeda.sormas.api")
@@ -162,9 +193,46 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 		reflections = new Reflections(configurationBuilder);
 	}
 
+	@PreDestroy
+	private void shutdown() {
+		if (asyncQueue != null) {
+			asyncQueue.stop(ASYNC_SHUTDOWN_TIMEOUT_MILLIS);
+		}
+	}
+
 	private void accept(AuditEvent event) {
-		String serialized = fhirJsonParser.encodeResourceToString(event);
-		auditLogger.getAuditLogger().info(serialized);
+		dispatch(() -> event);
+	}
+
+	/**
+	 * Hands the event over to the async writer if enabled, otherwise (or if the writer is not available) writes it directly.
+	 */
+	private void dispatch(Supplier<AuditEvent> eventSupplier) {
+		if (asyncQueue == null || !asyncQueue.offer(eventSupplier)) {
+			AuditEvent event = eventSupplier.get();
+			String serialized;
+			synchronized (fhirJsonParser) {
+				serialized = fhirJsonParser.encodeResourceToString(event);
+			}
+			auditSink.info(serialized);
+		}
+	}
+
+	/**
+	 * Only called from the writer thread of {@link #asyncQueue}.
+	 */
+	private void writeBatch(List<Supplier<AuditEvent>> batch) {
+		for (Supplier<AuditEvent> eventSupplier : batch) {
+			auditSink.info(asyncFhirJsonParser.encodeResourceToString(eventSupplier.get()));
+		}
+	}
+
+	/**
+	 * @return The queue of the asynchronous audit writer to monitor queue depth and lag, {@code null} if the audit log is written
+	 *         synchronously.
+	 */
+	public AsyncAuditQueue<Supplier<AuditEvent>> getAsyncQueue() {
+		return asyncQueue;
 	}
 
 	public void logApplicationStart() {
@@ -218,20 +286,37 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 	}
 
 	public void logBackendCall(Method calledMethod, Object[] params, Object returnValue, Date start, Date end) {
+
+		// everything depending on the calling thread or on mutable objects has to be captured right away
+		AgentDetails agentDetails = new AgentDetails(currentUserService, sessionContext);
+		BackendCallRecord record = new BackendCallRecord(
+			calledMethod.toString(),
+			inferBackendAction(calledMethod.getName()),
+			params == null ? null : Arrays.stream(params).map(this::printObject).collect(Collectors.toList()),
+			printObject(returnValue),
+			agentDetails.name,
+			agentDetails.uuid,
+			start,
+			end,
+			Calendar.getInstance(TimeZone.getDefault()).getTime());
+
+		dispatch(() -> createBackendCallEvent(record));
+	}
+
+	private AuditEvent createBackendCallEvent(BackendCallRecord record) {
 		AuditEvent backendCall = new AuditEvent();
 
-		backendCall.setAction(inferBackendAction(calledMethod.getName()));
-		makePeriod(start, end, backendCall);
+		backendCall.setAction(record.getAction());
+		makePeriod(record.getStart(), record.getEnd(), backendCall);
 
-		backendCall.setRecorded(Calendar.getInstance(TimeZone.getDefault()).getTime());
-		backendCall.setOutcomeDesc(printObject(returnValue));
+		backendCall.setRecorded(record.getRecorded());
+		backendCall.setOutcomeDesc(record.getReturnValue());
 
 		AuditEvent.AuditEventAgentComponent agent = new AuditEvent.AuditEventAgentComponent();
 		CodeableConcept codeableConcept = new CodeableConcept();
 
-		AgentDetails agentDetails = new AgentDetails(currentUserService, sessionContext);
-
-		if (agentDetails.name.equals("SYSTEM") || agentDetails.name.equals("ANONYMOUS")) {
+		String agentName = record.getAgentName();
+		if (agentName.equals("SYSTEM") || agentName.equals("ANONYMOUS")) {
 			codeableConcept.addCoding(new Coding(VALUESET_PARTICIPATION_ROLE_TYPE_HTML, "110150", "Application"));
 			agent.setType(codeableConcept);
 		} else {
@@ -239,11 +324,11 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 			agent.setType(codeableConcept);
 		}
 
-		agent.setName(agentDetails.name);
+		agent.setName(agentName);
 		Reference who = new Reference();
 		Identifier identifier = new Identifier();
-		if (!agentDetails.name.equals("SYSTEM") && !agentDetails.name.equals("ANONYMOUS")) {
-			identifier.setValue(agentDetails.uuid);
+		if (!agentName.equals("SYSTEM") && !agentName.equals("ANONYMOUS")) {
+			identifier.setValue(record.getAgentUuid());
 		}
 
 		who.setIdentifier(identifier);
@@ -258,12 +343,12 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 		backendCall.setSource(source);
 
 		AuditEvent.AuditEventEntityComponent entity = new AuditEvent.AuditEventEntityComponent();
-		entity.setWhat(new Reference(calledMethod.toString()));
+		entity.setWhat(new Reference(record.getMethod()));
 
 		List<AuditEvent.AuditEventEntityDetailComponent> details = new ArrayList<>();
 
-		if (params != null) {
-			Arrays.stream(params).map(this::printObject).forEach(p -> {
+		if (record.getParams() != null) {
+			record.getParams().forEach(p -> {
 				AuditEvent.AuditEventEntityDetailComponent detail =
 					new AuditEvent.AuditEventEntityDetailComponent(new StringType("param"), new StringType(p));
 				details.add(detail);
@@ -273,7 +358,7 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 		entity.setDetail(details);
 		backendCall.addEntity(entity);
 
-		accept(backendCall);
+		return backendCall;
 	}
 
 	private void makePeriod(Date start, Date end, AuditEvent event) {
@@ -0,0 +1,105 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.audit;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.hl7.fhir.r4.model.AuditEvent;
+
+/**
+ * Immutable snapshot of an audited backend call.
+ * Everything that depends on the calling thread (current user, mutable parameters) is resolved when the snapshot is taken,
+ * so that the FHIR {@link AuditEvent} can be built and written later on any thread.
+ */
+final class BackendCallRecord {
+
+	private final String method;
+	private final AuditEvent.AuditEventAction action;
+	/**
+	 * {@code null} if the method was called without parameters array.
+	 */
+	private final List<String> params;
+	private final String returnValue;
+	private final String agentName;
+	private final String agentUuid;
+	private final Date start;
+	private final Date end;
+	private final Date recorded;
+
+	BackendCallRecord(
+		String method,
+		AuditEvent.AuditEventAction action,
+		List<String> params,
+		String returnValue,
+		String agentName,
+		String agentUuid,
+		Date start,
+		Date end,
+		Date recorded) {
+
+		this.method = method;
+		this.action = action;
+		this.params = params == null ? null : Collections.unmodifiableList(params);
+		this.returnValue = returnValue;
+		this.agentName = agentName;
+		this.agentUuid = agentUuid;
+		this.start = copy(start);
+		this.end = copy(end);
+		this.recorded = copy(recorded);
+	}
+
+	private static Date copy(Date date) {
+		return date == null ? null : new Date(date.getTime());
+	}
+
+	String getMethod() {
+		return method;
+	}
+
+	AuditEvent.AuditEventAction getAction() {
+		return action;
+	}
+
+	List<String> getParams() {
+		return params;
+	}
+
+	String getReturnValue() {
+		return returnValue;
+	}
+
+	String getAgentName() {
+		return agentName;
+	}
+
+	String getAgentUuid() {
+		return agentUuid;
+	}
+
+	Date getStart() {
+		return copy(start);
+	}
+
+	Date getEnd() {
+		return copy(end);
+	}
+
+	Date getRecorded() {
+		return copy(recorded);
+	}
+}
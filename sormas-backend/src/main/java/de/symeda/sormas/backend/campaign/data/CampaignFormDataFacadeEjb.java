@@ -185,6 +185,7 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 		validate(campaignFormDataDto);
 
 		campaignFormDataService.ensurePersisted(campaignFormData);
+		campaignFormDataService.updateValues(campaignFormData);
 		return toDto(campaignFormData);
 	}
 
@@ -539,21 +540,29 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 				.append(CampaignFormMeta.FORM_ID)
 				.append(" as formId");
 
+			// the values of a field are aggregated from the projection of the form values, the forms are counted from the form data
+			final String dataTable = series.getFieldId() != null ? CampaignFormDataValue.TABLE_NAME : CampaignFormData.TABLE_NAME;
 			if (series.getFieldId() != null) {
-				selectBuilder.append(", jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' as fieldId, jsonMeta->>'")
+				selectBuilder.append(", ")
+					.append(CampaignFormDataValue.TABLE_NAME)
+					.append(".")
+					.append(CampaignFormDataValue.ELEMENT_ID)
+					.append(" as fieldId, formElement.")
 					.append(CampaignFormElement.CAPTION)
-					.append("' as fieldCaption,")
-					.append("CASE WHEN (jsonMeta ->> '")
+					.append(" as fieldCaption,")
+					.append("CASE WHEN formElement.")
 					.append(CampaignFormElement.TYPE)
-					.append("') = '")
+					.append(" = '")
 					.append(CampaignFormElementType.NUMBER.toString())
-					.append("' THEN sum(cast_to_int(jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("', 0)) ELSE sum(CASE WHEN(jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("') = '")
+					.append("' THEN sum(coalesce(")
+					.append(CampaignFormDataValue.TABLE_NAME)
+					.append(".")
+					.append(CampaignFormDataValue.NUMERIC_VALUE)
+					.append(", 0)) ELSE sum(CASE WHEN ")
+					.append(CampaignFormDataValue.TABLE_NAME)
+					.append(".")
+					.append(CampaignFormDataValue.TEXT_VALUE)
+					.append(" = '")
 					.append(series.getReferenceValue())
 					.append("' THEN 1 ELSE 0 END) END as sumValue,");
 			} else {
@@ -626,11 +635,37 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 				.append(Campaign.ID);
 
 			if (series.getFieldId() != null) {
-				joinBuilder.append(", json_array_elements(")
-					.append(CampaignFormData.FORM_VALUES)
-					.append(") as jsonData, json_array_elements(")
+				// only the elements of the form meta are still read from JSON
+				joinBuilder.append(" JOIN (SELECT ")
+					.append(CampaignFormMeta.ID)
+					.append(" as formMetaId, jsonMeta->>'")
+					.append(CampaignFormElement.ID)
+					.append("' as ")
+					.append(CampaignFormElement.ID)
+					.append(", jsonMeta->>'")
+					.append(CampaignFormElement.TYPE)
+					.append("' as ")
+					.append(CampaignFormElement.TYPE)
+					.append(", jsonMeta->>'")
+					.append(CampaignFormElement.CAPTION)
+					.append("' as ")
+					.append(CampaignFormElement.CAPTION)
+					.append(" FROM ")
+					.append(CampaignFormMeta.TABLE_NAME)
+					.append(", json_array_elements(")
 					.append(CampaignFormMeta.CAMPAIGN_FORM_ELEMENTS)
-					.append(") as jsonMeta");
+					.append(") as jsonMeta WHERE ")
+					.append(CampaignFormMeta.FORM_ID)
+					.append(" = :campaignFormMetaId) as formElement ON formElement.formMetaId = ")
+					.append(CampaignFormDataValue.TABLE_NAME)
+					.append(".")
+					.append(CampaignFormDataValue.CAMPAIGN_FORM_META)
+					.append("_id AND formElement.")
+					.append(CampaignFormElement.ID)
+					.append(" = ")
+					.append(CampaignFormDataValue.TABLE_NAME)
+					.append(".")
+					.append(CampaignFormDataValue.ELEMENT_ID);
 			}
 
 			// WHERE
@@ -640,16 +675,11 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 				.append(" = :campaignFormMetaId");
 
 			if (series.getFieldId() != null) {
-				whereBuilder.append(" AND jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' = :campaignFormDataId")
-					.append(" AND jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("' IS NOT NULL AND jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' = jsonMeta->>'")
-					.append(CampaignFormElement.ID)
-					.append("'");
+				whereBuilder.append(" AND ")
+					.append(CampaignFormDataValue.TABLE_NAME)
+					.append(".")
+					.append(CampaignFormDataValue.ELEMENT_ID)
+					.append(" = :campaignFormDataId");
 			}
 
 			whereBuilder.append(areaFilter).append(regionFilter).append(districtFilter).append(campaignFilter);
@@ -664,13 +694,14 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 				.append(CampaignFormMeta.FORM_ID);
 
 			if (series.getFieldId() != null) {
-				groupByBuilder.append(", jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("', jsonMeta->>'")
+				groupByBuilder.append(", ")
+					.append(CampaignFormDataValue.TABLE_NAME)
+					.append(".")
+					.append(CampaignFormDataValue.ELEMENT_ID)
+					.append(", formElement.")
 					.append(CampaignFormElement.CAPTION)
-					.append("', jsonMeta->>'")
-					.append(CampaignFormElement.TYPE)
-					.append("'");
+					.append(", formElement.")
+					.append(CampaignFormElement.TYPE);
 			}
 
 			switch (campaignDiagramCriteria.getCampaignJurisdictionLevelGroupBy()) {
@@ -692,7 +723,7 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 
 			//@formatter:off
 			Query seriesDataQuery = em.createNativeQuery(
-					selectBuilder.toString() + " FROM " + CampaignFormData.TABLE_NAME + joinBuilder + whereBuilder + groupByBuilder);
+					selectBuilder.toString() + " FROM " + dataTable + joinBuilder + whereBuilder + groupByBuilder);
 			//@formatter:on
 
 			seriesDataQuery.setParameter("campaignFormMetaId", series.getFormId());
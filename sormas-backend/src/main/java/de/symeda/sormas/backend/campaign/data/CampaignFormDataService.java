@@ -20,11 +20,14 @@
 
 package de.symeda.sormas.backend.campaign.data;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.From;
 import javax.persistence.criteria.Join;
@@ -33,6 +36,7 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import de.symeda.sormas.api.campaign.data.CampaignFormDataCriteria;
+import de.symeda.sormas.api.campaign.data.CampaignFormDataEntry;
 import de.symeda.sormas.api.user.JurisdictionLevel;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.backend.campaign.Campaign;
@@ -161,6 +165,89 @@ public class CampaignFormDataService extends AdoServiceWithUserFilterAndJurisdic
 		return filter;
 	}
 
+	public List<CampaignFormDataValue> getValues(CampaignFormData campaignFormData) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<CampaignFormDataValue> cq = cb.createQuery(CampaignFormDataValue.class);
+		Root<CampaignFormDataValue> from = cq.from(CampaignFormDataValue.class);
+		cq.where(cb.equal(from.get(CampaignFormDataValue.CAMPAIGN_FORM_DATA), campaignFormData));
+		return em.createQuery(cq).getResultList();
+	}
+
+	/**
+	 * Writes the {@link CampaignFormDataValue values} of the persisted campaign form data: Values of elements that were removed from the
+	 * form values are deleted, changed values are updated and new values inserted.
+	 */
+	public void updateValues(CampaignFormData campaignFormData) {
+
+		Map<String, CampaignFormDataValue> existingValues = new LinkedHashMap<>();
+		getValues(campaignFormData).forEach(v -> existingValues.put(v.getElementId(), v));
+
+		Map<String, Object> formValues = new LinkedHashMap<>();
+		if (campaignFormData.getFormValues() != null) {
+			for (CampaignFormDataEntry entry : campaignFormData.getFormValues()) {
+				// null values are not written to the JSON either; for duplicate ids the first value is used
+				if (entry.getId() != null && entry.getValue() != null) {
+					formValues.putIfAbsent(entry.getId(), entry.getValue());
+				}
+			}
+		}
+
+		formValues.forEach((elementId, value) -> {
+			CampaignFormDataValue formDataValue = existingValues.remove(elementId);
+			if (formDataValue == null) {
+				formDataValue = new CampaignFormDataValue();
+				formDataValue.setCampaignFormData(campaignFormData);
+				formDataValue.setElementId(elementId);
+				fillValue(formDataValue, campaignFormData, value);
+				em.persist(formDataValue);
+			} else {
+				fillValue(formDataValue, campaignFormData, value);
+			}
+		});
+		existingValues.values().forEach(em::remove);
+	}
+
+	private static void fillValue(CampaignFormDataValue formDataValue, CampaignFormData campaignFormData, Object value) {
+
+		String textValue = String.valueOf(value);
+		formDataValue.setTextValue(textValue);
+		formDataValue.setNumericValue(toInteger(textValue));
+		formDataValue.setCampaign(campaignFormData.getCampaign());
+		formDataValue.setCampaignFormMeta(campaignFormData.getCampaignFormMeta());
+		formDataValue.setRegion(campaignFormData.getRegion());
+		formDataValue.setDistrict(campaignFormData.getDistrict());
+		formDataValue.setCommunity(campaignFormData.getCommunity());
+	}
+
+	/**
+	 * Like {@code cast_to_int(value, null)} in the database, but values out of the integer range are {@code null} as well.
+	 */
+	private static Integer toInteger(String textValue) {
+
+		try {
+			return Integer.valueOf(textValue.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private void deleteValues(CampaignFormData campaignFormData) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaDelete<CampaignFormDataValue> cd = cb.createCriteriaDelete(CampaignFormDataValue.class);
+		Root<CampaignFormDataValue> from = cd.from(CampaignFormDataValue.class);
+		cd.where(cb.equal(from.get(CampaignFormDataValue.CAMPAIGN_FORM_DATA), campaignFormData));
+		em.createQuery(cd).executeUpdate();
+	}
+
+	@Override
+	public void deletePermanent(CampaignFormData campaignFormData) {
+
+		deleteValues(campaignFormData);
+		super.deletePermanent(campaignFormData);
+	}
+
 	@Override
 	public boolean inJurisdictionOrOwned(CampaignFormData campaignFormData) {
 		return fulfillsCondition(campaignFormData, this::inJurisdictionOrOwned);
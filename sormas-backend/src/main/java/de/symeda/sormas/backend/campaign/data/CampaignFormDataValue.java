@@ -0,0 +1,197 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.campaign.data;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.ExcludeDefaultListeners;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+
+import de.symeda.sormas.backend.campaign.Campaign;
+import de.symeda.sormas.backend.campaign.form.CampaignFormMeta;
+import de.symeda.sormas.backend.infrastructure.community.Community;
+import de.symeda.sormas.backend.infrastructure.district.District;
+import de.symeda.sormas.backend.infrastructure.region.Region;
+
+/**
+ * One value of the {@link CampaignFormData#getFormValues() form values} of a campaign form data, so the campaign statistics and
+ * diagrams can aggregate the values without parsing the JSON of every form.
+ * <p>
+ * The values are a projection maintained by {@link CampaignFormDataService#updateValues(CampaignFormData)}; campaign, form and
+ * jurisdiction are copied from the form data to filter the values without joining it.
+ * Not audited: the values only repeat the audited form values.
+ */
+@Entity(name = CampaignFormDataValue.TABLE_NAME)
+@IdClass(CampaignFormDataValue.Key.class)
+@ExcludeDefaultListeners
+public class CampaignFormDataValue implements Serializable {
+
+	private static final long serialVersionUID = 3386104539129872637L;
+
+	public static final String TABLE_NAME = "campaignformdatavalue";
+
+	public static final String CAMPAIGN_FORM_DATA = "campaignFormData";
+	public static final String ELEMENT_ID = "elementId";
+	public static final String NUMERIC_VALUE = "numericValue";
+	public static final String TEXT_VALUE = "textValue";
+	public static final String CAMPAIGN = "campaign";
+	public static final String CAMPAIGN_FORM_META = "campaignFormMeta";
+	public static final String REGION = "region";
+	public static final String DISTRICT = "district";
+	public static final String COMMUNITY = "community";
+
+	private CampaignFormData campaignFormData;
+	private String elementId;
+	private Integer numericValue;
+	private String textValue;
+	private Campaign campaign;
+	private CampaignFormMeta campaignFormMeta;
+	private Region region;
+	private District district;
+	private Community community;
+
+	@Id
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(nullable = false)
+	public CampaignFormData getCampaignFormData() {
+		return campaignFormData;
+	}
+
+	public void setCampaignFormData(CampaignFormData campaignFormData) {
+		this.campaignFormData = campaignFormData;
+	}
+
+	@Id
+	@Column(nullable = false)
+	public String getElementId() {
+		return elementId;
+	}
+
+	public void setElementId(String elementId) {
+		this.elementId = elementId;
+	}
+
+	/**
+	 * @return The value as integer or {@code null} if it is not an integer.
+	 */
+	@Column
+	public Integer getNumericValue() {
+		return numericValue;
+	}
+
+	public void setNumericValue(Integer numericValue) {
+		this.numericValue = numericValue;
+	}
+
+	/**
+	 * @return The value as it is written to the JSON of the form values, e.g. {@code true} for a yes-no element.
+	 */
+	@Column(columnDefinition = "text")
+	public String getTextValue() {
+		return textValue;
+	}
+
+	public void setTextValue(String textValue) {
+		this.textValue = textValue;
+	}
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(nullable = false)
+	public Campaign getCampaign() {
+		return campaign;
+	}
+
+	public void setCampaign(Campaign campaign) {
+		this.campaign = campaign;
+	}
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(nullable = false)
+	public CampaignFormMeta getCampaignFormMeta() {
+		return campaignFormMeta;
+	}
+
+	public void setCampaignFormMeta(CampaignFormMeta campaignFormMeta) {
+		this.campaignFormMeta = campaignFormMeta;
+	}
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	public Region getRegion() {
+		return region;
+	}
+
+	public void setRegion(Region region) {
+		this.region = region;
+	}
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	public District getDistrict() {
+		return district;
+	}
+
+	public void setDistrict(District district) {
+		this.district = district;
+	}
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	public Community getCommunity() {
+		return community;
+	}
+
+	public void setCommunity(Community community) {
+		this.community = community;
+	}
+
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = -4508460532389212451L;
+
+		private Long campaignFormData;
+		private String elementId;
+
+		public Key() {
+		}
+
+		public Key(Long campaignFormData, String elementId) {
+			this.campaignFormData = campaignFormData;
+			this.elementId = elementId;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Key key = (Key) o;
+			return Objects.equals(campaignFormData, key.campaignFormData) && Objects.equals(elementId, key.elementId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(campaignFormData, elementId);
+		}
+	}
+}
@@ -20,7 +20,7 @@ import de.symeda.sormas.api.campaign.statistics.CampaignStatisticsCriteria;
 import de.symeda.sormas.api.campaign.statistics.CampaignStatisticsDto;
 import de.symeda.sormas.api.campaign.statistics.CampaignStatisticsGroupingDto;
 import de.symeda.sormas.backend.campaign.Campaign;
-import de.symeda.sormas.backend.campaign.data.CampaignFormData;
+import de.symeda.sormas.backend.campaign.data.CampaignFormDataValue;
 import de.symeda.sormas.backend.campaign.form.CampaignFormMeta;
 import de.symeda.sormas.backend.infrastructure.area.Area;
 import de.symeda.sormas.backend.infrastructure.community.Community;
@@ -67,23 +67,21 @@ public class CampaignStatisticsService {
 			.append(")")
 			.append(" AS formCount, ")
 			.append(buildSelectExpression(criteria))
-			.append(buildJsonSelectExpression())
+			.append(buildValueSelectExpression())
 			.append(" FROM ")
-			.append(CampaignFormData.TABLE_NAME)
+			.append(CampaignFormDataValue.TABLE_NAME)
 			.toString();
-		String joinExpression = new StringBuilder().append(buildJoinExpression()).append(buildJsonJoinExpression()).toString();
+		String joinExpression = new StringBuilder().append(buildJoinExpression()).append(buildValueJoinExpression()).toString();
 
 		StringBuilder queryBuilder = new StringBuilder();
 		queryBuilder.append(selectExpression).append(joinExpression);
 
-		queryBuilder.append(" WHERE ");
 		String whereExpression = buildWhereExpression(criteria);
 		if (!whereExpression.isEmpty()) {
-			queryBuilder.append(whereExpression).append(" AND ");
+			queryBuilder.append(" WHERE ").append(whereExpression);
 		}
-		queryBuilder.append(buildJsonWhereExpression());
 
-		queryBuilder.append(buildGroupByExpression(criteria)).append(buildJsonGroupByExpression()).append(buildOrderByExpression(criteria));
+		queryBuilder.append(buildGroupByExpression(criteria)).append(buildGroupByValueExpression()).append(buildOrderByExpression(criteria));
 
 		return queryBuilder.toString();
 	}
@@ -117,11 +115,11 @@ public class CampaignStatisticsService {
 
 	private String buildJoinExpression() {
 		StringBuilder joinBuilder = new StringBuilder();
-		joinBuilder.append(buildLeftJoinCondition(CampaignFormData.CAMPAIGN, Campaign.TABLE_NAME, Campaign.ID));
-		joinBuilder.append(buildLeftJoinCondition(CampaignFormData.CAMPAIGN_FORM_META, CampaignFormMeta.TABLE_NAME, CampaignFormMeta.ID));
-		joinBuilder.append(buildLeftJoinCondition(CampaignFormData.REGION, Region.TABLE_NAME, Region.ID));
-		joinBuilder.append(buildLeftJoinCondition(CampaignFormData.DISTRICT, District.TABLE_NAME, District.ID));
-		joinBuilder.append(buildLeftJoinCondition(CampaignFormData.COMMUNITY, Community.TABLE_NAME, Community.ID));
+		joinBuilder.append(buildLeftJoinCondition(CampaignFormDataValue.CAMPAIGN, Campaign.TABLE_NAME, Campaign.ID));
+		joinBuilder.append(buildLeftJoinCondition(CampaignFormDataValue.CAMPAIGN_FORM_META, CampaignFormMeta.TABLE_NAME, CampaignFormMeta.ID));
+		joinBuilder.append(buildLeftJoinCondition(CampaignFormDataValue.REGION, Region.TABLE_NAME, Region.ID));
+		joinBuilder.append(buildLeftJoinCondition(CampaignFormDataValue.DISTRICT, District.TABLE_NAME, District.ID));
+		joinBuilder.append(buildLeftJoinCondition(CampaignFormDataValue.COMMUNITY, Community.TABLE_NAME, Community.ID));
 		joinBuilder.append(" LEFT JOIN ")
 			.append(Area.TABLE_NAME)
 			.append(" ON ")
@@ -139,7 +137,7 @@ public class CampaignStatisticsService {
 		StringBuilder joinConditionBuilder = new StringBuilder(" LEFT JOIN ");
 		joinConditionBuilder.append(joinedTableName)
 			.append(" ON ")
-			.append(CampaignFormData.TABLE_NAME)
+			.append(CampaignFormDataValue.TABLE_NAME)
 			.append(".")
 			.append(fieldPart)
 			.append("_id = ")
@@ -269,57 +267,75 @@ public class CampaignStatisticsService {
 		return CampaignJurisdictionLevel.COMMUNITY.equals(groupingLevel);
 	}
 
-	private String buildJsonSelectExpression() {
-		StringBuilder jsonQueryExpression = new StringBuilder();
-		jsonQueryExpression.append(", jsonData->>'")
-			.append(CampaignFormElement.ID)
-			.append("' as fieldId, ")
-			.append("CASE WHEN (jsonMeta ->> '")
+	private String buildValueSelectExpression() {
+		StringBuilder valueQueryExpression = new StringBuilder();
+		valueQueryExpression.append(", ")
+			.append(CampaignFormDataValue.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormDataValue.ELEMENT_ID)
+			.append(" as fieldId, ")
+			.append("CASE WHEN formElement.")
 			.append(CampaignFormElement.TYPE)
-			.append("') = '")
+			.append(" = '")
 			.append(CampaignFormElementType.NUMBER.toString())
-			.append("' THEN sum(cast_to_int(jsonData->>'")
-			.append(CampaignFormDataEntry.VALUE)
-			.append("', 0))")
-			.append(" WHEN (jsonMeta ->> '")
+			.append("' THEN sum(coalesce(")
+			.append(CampaignFormDataValue.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormDataValue.NUMERIC_VALUE)
+			.append(", 0))")
+			.append(" WHEN formElement.")
 			.append(CampaignFormElement.TYPE)
-			.append("') = '")
+			.append(" = '")
 			.append(CampaignFormElementType.YES_NO.toString())
-			.append("' THEN sum(CASE WHEN(jsonData->>'")
-			.append(CampaignFormDataEntry.VALUE)
-			.append("') = 'true' THEN 1 ELSE 0 END) END as sumValue");
-		return jsonQueryExpression.toString();
+			.append("' THEN sum(CASE WHEN ")
+			.append(CampaignFormDataValue.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormDataValue.TEXT_VALUE)
+			.append(" = 'true' THEN 1 ELSE 0 END) END as sumValue");
+		return valueQueryExpression.toString();
 	}
 
-	private String buildJsonJoinExpression() {
-		return new StringBuilder().append(", json_array_elements(")
-			.append(CampaignFormData.FORM_VALUES)
-			.append(") as jsonData, json_array_elements(")
+	/**
+	 * The form values are aggregated from their projection, only the elements of the form metas are still read from JSON.
+	 */
+	private String buildValueJoinExpression() {
+		return new StringBuilder().append(" JOIN (SELECT ")
+			.append(CampaignFormMeta.ID)
+			.append(" as formMetaId, jsonMeta->>'")
+			.append(CampaignFormElement.ID)
+			.append("' as ")
+			.append(CampaignFormElement.ID)
+			.append(", jsonMeta->>'")
+			.append(CampaignFormElement.TYPE)
+			.append("' as ")
+			.append(CampaignFormElement.TYPE)
+			.append(" FROM ")
+			.append(CampaignFormMeta.TABLE_NAME)
+			.append(", json_array_elements(")
 			.append(CampaignFormMeta.CAMPAIGN_FORM_ELEMENTS)
-			.append(") as jsonMeta")
-			.toString();
-	}
-
-	private String buildJsonWhereExpression() {
-		return new StringBuilder().append("jsonData->>'")
-			.append(CampaignFormDataEntry.VALUE)
-			.append("' IS NOT NULL AND jsonData->>'")
-			.append(CampaignFormDataEntry.ID)
-			.append("' = jsonMeta->>'")
+			.append(") as jsonMeta) as formElement ON formElement.formMetaId = ")
+			.append(CampaignFormDataValue.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormDataValue.CAMPAIGN_FORM_META)
+			.append("_id AND formElement.")
 			.append(CampaignFormElement.ID)
-			.append("'")
+			.append(" = ")
+			.append(CampaignFormDataValue.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormDataValue.ELEMENT_ID)
 			.toString();
 	}
 
-	private String buildJsonGroupByExpression() {
+	private String buildGroupByValueExpression() {
 		return new StringBuilder(", ").append(CampaignFormMeta.TABLE_NAME)
 			.append(".")
 			.append(CampaignFormMeta.UUID)
-			.append(", jsonData->>'")
-			.append(CampaignFormDataEntry.ID)
-			.append("', jsonMeta->>'")
+			.append(", ")
+			.append(CampaignFormDataValue.TABLE_NAME)
+			.append(".")
+			.append(CampaignFormDataValue.ELEMENT_ID)
+			.append(", formElement.")
 			.append(CampaignFormElement.TYPE)
-			.append("'")
 			.toString();
 	}
 }
@@ -21,6 +21,7 @@ import static de.symeda.sormas.api.utils.FieldConstraints.CHARACTER_LIMIT_BIG;
 import static de.symeda.sormas.api.utils.FieldConstraints.CHARACTER_LIMIT_DEFAULT;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +32,7 @@ import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
@@ -42,7 +44,11 @@ import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.Type;
+import org.hibernate.annotations.TypeDef;
+
+import com.vladmihalcea.hibernate.type.array.ListArrayType;
 
 import de.symeda.auditlog.api.Audited;
 import de.symeda.auditlog.api.AuditedIgnore;
@@ -80,6 +86,10 @@ import de.symeda.sormas.backend.caze.surveillancereport.SurveillanceReport;
 import de.symeda.sormas.backend.clinicalcourse.ClinicalCourse;
 import de.symeda.sormas.backend.clinicalcourse.HealthConditions;
 import de.symeda.sormas.backend.common.CoreAdo;
+import de.symeda.sormas.backend.common.HasJurisdictionKeys;
+import de.symeda.sormas.backend.common.InfrastructureAdo;
+import de.symeda.sormas.backend.common.JurisdictionKeysListener;
+import de.symeda.sormas.backend.common.NotExposedToApi;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.disease.DiseaseVariantConverter;
 import de.symeda.sormas.backend.epidata.EpiData;
@@ -105,7 +115,9 @@ import de.symeda.sormas.backend.visit.Visit;
 
 @Entity(name = "cases")
 @Audited
-public class Case extends CoreAdo implements SormasToSormasShareable, HasExternalData {
+@EntityListeners(JurisdictionKeysListener.class)
+@TypeDef(name = "list-array", typeClass = ListArrayType.class)
+public class Case extends CoreAdo implements SormasToSormasShareable, HasExternalData, HasJurisdictionKeys {
 
 	private static final long serialVersionUID = -2697795184663562129L;
 
@@ -332,6 +344,8 @@ public class Case extends CoreAdo implements SormasToSormasShareable, HasExterna
 	@PersonalData
 	private PointOfEntry pointOfEntry;
 	private String pointOfEntryDetails;
+	@NotExposedToApi
+	private List<Long> jurisdictionKeys;
 
 	private Float completeness;
 	private String additionalDetails;
@@ -1161,6 +1175,32 @@ public class Case extends CoreAdo implements SormasToSormasShareable, HasExterna
 		this.pointOfEntryDetails = pointOfEntryDetails;
 	}
 
+	@Override
+	@AuditedIgnore
+	@Type(type = "list-array", parameters = @Parameter(name = ListArrayType.SQL_ARRAY_TYPE, value = "bigint"))
+	@Column(columnDefinition = "BIGINT ARRAY")
+	public List<Long> getJurisdictionKeys() {
+		return jurisdictionKeys;
+	}
+
+	@Override
+	public void setJurisdictionKeys(List<Long> jurisdictionKeys) {
+		this.jurisdictionKeys = jurisdictionKeys;
+	}
+
+	@Override
+	public List<InfrastructureAdo> jurisdictionUnits() {
+		return Arrays.asList(
+			region,
+			district,
+			community,
+			responsibleRegion,
+			responsibleDistrict,
+			responsibleCommunity,
+			healthFacility,
+			pointOfEntry);
+	}
+
 	public Float getCompleteness() {
 		return completeness;
 	}
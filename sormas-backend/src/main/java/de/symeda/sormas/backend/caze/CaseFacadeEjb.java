@@ -40,6 +40,7 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -118,6 +119,7 @@ import de.symeda.sormas.api.caze.NewCaseDateType;
 import de.symeda.sormas.api.caze.PlagueType;
 import de.symeda.sormas.api.caze.PreviousCaseDto;
 import de.symeda.sormas.api.caze.ReinfectionDetail;
+import de.symeda.sormas.api.caze.classification.DiseaseClassificationCriteriaDto;
 import de.symeda.sormas.api.caze.maternalhistory.MaternalHistoryDto;
 import de.symeda.sormas.api.caze.porthealthinfo.PortHealthInfoDto;
 import de.symeda.sormas.api.caze.surveillancereport.SurveillanceReportDto;
@@ -148,6 +150,9 @@ import de.symeda.sormas.api.feature.FeatureTypeProperty;
 import de.symeda.sormas.api.followup.FollowUpDto;
 import de.symeda.sormas.api.followup.FollowUpLogic;
 import de.symeda.sormas.api.followup.FollowUpPeriodDto;
+import de.symeda.sormas.api.geo.GeoBounds;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
 import de.symeda.sormas.api.hospitalization.PreviousHospitalizationDto;
 import de.symeda.sormas.api.i18n.Captions;
 import de.symeda.sormas.api.i18n.I18nProperties;
@@ -182,6 +187,8 @@ import de.symeda.sormas.api.sormastosormas.SormasToSormasException;
 import de.symeda.sormas.api.sormastosormas.SormasToSormasRuntimeException;
 import de.symeda.sormas.api.symptoms.SymptomsDto;
 import de.symeda.sormas.api.symptoms.SymptomsHelper;
+import de.symeda.sormas.api.systemevents.SystemEventDto;
+import de.symeda.sormas.api.systemevents.SystemEventType;
 import de.symeda.sormas.api.task.TaskContext;
 import de.symeda.sormas.api.task.TaskCriteria;
 import de.symeda.sormas.api.task.TaskHelper;
@@ -233,6 +240,7 @@ import de.symeda.sormas.backend.clinicalcourse.HealthConditionsMapper;
 import de.symeda.sormas.backend.common.AbstractCoreFacadeEjb;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.common.CountCache;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.NotificationService;
 import de.symeda.sormas.backend.common.messaging.ManualMessageLogService;
@@ -317,6 +325,7 @@ import de.symeda.sormas.backend.sormastosormas.share.outgoing.SormasToSormasShar
 import de.symeda.sormas.backend.symptoms.Symptoms;
 import de.symeda.sormas.backend.symptoms.SymptomsFacadeEjb;
 import de.symeda.sormas.backend.symptoms.SymptomsFacadeEjb.SymptomsFacadeEjbLocal;
+import de.symeda.sormas.backend.systemevent.sync.SyncFacadeEjb.SyncFacadeEjbLocal;
 import de.symeda.sormas.backend.task.Task;
 import de.symeda.sormas.backend.task.TaskService;
 import de.symeda.sormas.backend.therapy.Prescription;
@@ -358,11 +367,18 @@ import de.symeda.sormas.backend.visit.VisitService;
 public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, CaseIndexDto, CaseReferenceDto, CaseService, CaseCriteria>
 	implements CaseFacade {
 
+	/**
+	 * Number of cases loaded, classified and committed together by {@link #reclassifyCases(List)}.
+	 */
+	private static final int RECLASSIFICATION_BATCH_SIZE = 1000;
+
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	@EJB
 	private CaseClassificationFacadeEjbLocal caseClassificationFacade;
 	@EJB
+	private SyncFacadeEjbLocal syncFacade;
+	@EJB
 	private CaseListCriteriaBuilder listQueryBuilder;
 	@EJB
 	private PersonService personService;
@@ -488,6 +504,8 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 	private CaseService caseService;
 	@EJB
 	private UserRoleService userRoleService;
+	@EJB
+	private CountCache countCache;
 
 	@Resource
 	private ManagedScheduledExecutorService executorService;
@@ -529,7 +547,19 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 	@Override
 	public long count(CaseCriteria caseCriteria) {
 
-		return count(caseCriteria, false);
+		return countCache.count("cases", caseCriteria, service::getLatestChangeDate, () -> count(caseCriteria, false));
+	}
+
+	@Override
+	public Long estimateCount(CaseCriteria caseCriteria) {
+
+		CaseCriteria unfilteredCriteria = new CaseCriteria();
+		if (caseCriteria != null) {
+			unfilteredCriteria.relevanceStatus(caseCriteria.getRelevanceStatus());
+			// only excludes the cases handed over to other systems
+			unfilteredCriteria.setWithOwnership(caseCriteria.getWithOwnership());
+		}
+		return countCache.estimate(caseCriteria, unfilteredCriteria, () -> service.estimateCount(unfilteredCriteria.getRelevanceStatus()));
 	}
 
 	@Override
@@ -740,6 +770,38 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage) {
 
+		return getExportList(caseCriteria, selectedRows, exportType, first, null, max, exportConfiguration, userLanguage);
+	}
+
+	@Override
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	@RightsAllowed(UserRight._CASE_EXPORT)
+	public List<CaseExportDto> getExportListAfter(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Long afterId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
+
+		return getExportList(caseCriteria, selectedRows, exportType, null, afterId, max, exportConfiguration, userLanguage);
+	}
+
+	/**
+	 * @param first
+	 *            Offset for offset paging. {@code null} for keyset paging, starting after the case with the id {@code afterId}.
+	 */
+	private List<CaseExportDto> getExportList(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Integer first,
+		Long afterId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
+
 		Boolean previousCaseManagementDataCriteria = caseCriteria.getMustHaveCaseManagementData();
 		if (CaseExportType.CASE_MANAGEMENT == exportType) {
 			caseCriteria.setMustHaveCaseManagementData(Boolean.TRUE);
@@ -890,6 +952,10 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 			filter = CriteriaBuilderHelper.and(cb, filter, criteriaFilter);
 		}
 		filter = CriteriaBuilderHelper.andInValues(selectedRows, filter, cb, caseRoot.get(Case.UUID));
+		if (afterId != null) {
+			filter = CriteriaBuilderHelper
+				.and(cb, filter, CriteriaBuilderHelper.afterInDescendingOrder(cb, cq, caseRoot, Case.REPORT_DATE, afterId));
+		}
 
 		if (filter != null) {
 			cq.where(filter);
@@ -901,7 +967,7 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		 */
 		cq.orderBy(cb.desc(caseRoot.get(Case.REPORT_DATE)), cb.desc(caseRoot.get(Case.ID)));
 
-		List<CaseExportDto> resultList = QueryHelper.getResultList(em, cq, first, max);
+		List<CaseExportDto> resultList = QueryHelper.getResultList(em, cq, first != null ? first : 0, max);
 
 		List<Long> resultCaseIds = resultList.stream().map(CaseExportDto::getId).collect(Collectors.toList());
 		if (!resultList.isEmpty()) {
@@ -1362,6 +1428,26 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		return cases;
 	}
 
+	@Override
+	@RightsAllowed({
+		UserRight._DASHBOARD_SURVEILLANCE_VIEW, })
+	public List<MapClusterDto<CaseClassification>> getCaseClustersForMap(
+		RegionReferenceDto regionRef,
+		DistrictReferenceDto districtRef,
+		Disease disease,
+		Date from,
+		Date to,
+		NewCaseDateType dateType,
+		GeoBounds bounds,
+		int zoom,
+		MapClusterGrouping grouping) {
+
+		Region region = regionService.getByReferenceDto(regionRef);
+		District district = districtService.getByReferenceDto(districtRef);
+
+		return service.getCaseClustersForMap(region, district, disease, from, to, dateType, bounds, zoom, grouping);
+	}
+
 	@Override
 	public List<CaseDataDto> getAllCasesOfPerson(String personUuid) {
 
@@ -2039,19 +2125,122 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 				CaseDataDto newCaseDto = toDto(associatedCase);
 
 				CaseClassification classification = caseClassificationFacade.getClassification(newCaseDto);
+				updateSystemCaseClassification(associatedCase, classification);
+			}
+		}
+	}
 
-				// only update when classification by system changes - user may overwrite this
-				if (classification != associatedCase.getSystemCaseClassification()) {
-					associatedCase.setSystemCaseClassification(classification);
+	/**
+	 * Only updates the case classification when the classification by the system changes - the user may have overwritten it.
+	 *
+	 * @return Whether the case classification has been changed.
+	 */
+	private boolean updateSystemCaseClassification(Case caze, CaseClassification classification) {
 
-					// really a change? (user may have already set it)
-					if (classification != associatedCase.getCaseClassification()) {
-						associatedCase.setCaseClassification(classification);
-						associatedCase.setClassificationUser(null);
-						associatedCase.setClassificationDate(new Date());
-					}
-				}
+		if (classification != caze.getSystemCaseClassification()) {
+			caze.setSystemCaseClassification(classification);
+
+			// really a change? (user may have already set it)
+			if (classification != caze.getCaseClassification()) {
+				caze.setCaseClassification(classification);
+				caze.setClassificationUser(null);
+				caze.setClassificationDate(new Date());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Applies a classification calculated by the system outside of saving the case. When it changes the case classification, the
+	 * change is handled like {@link #onCaseChanged(CaseDataDto, Case)} handles it.
+	 *
+	 * @return Whether the case classification has been changed.
+	 */
+	@PermitAll
+	public boolean onSystemCaseClassificationCalculated(Case caze, CaseClassification classification) {
+
+		CaseClassification previousClassification = caze.getCaseClassification();
+		if (!updateSystemCaseClassification(caze, classification)) {
+			return false;
+		}
+
+		updateCaseReferenceDefinition(caze, classification);
+		service.clearCompleteness(caze);
+		notifyCaseClassificationChanged(caze);
+		if (isNewlyConfirmed(previousClassification, caze.getCaseClassification())) {
+			sendConfirmedCaseNotificationsForEvents(caze);
+		}
+		return true;
+	}
+
+	/**
+	 * Recalculates the classification of the cases. The cases are classified and committed in batches of
+	 * {@link #RECLASSIFICATION_BATCH_SIZE} by {@link CaseClassificationFacadeEjbLocal#reclassifyCaseBatch(List)}, so one failing
+	 * batch does not roll back the others.
+	 *
+	 * @return The number of cases whose classification has been changed.
+	 */
+	@Override
+	@RightsAllowed({
+		UserRight._CASE_EDIT,
+		UserRight._SYSTEM })
+	@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+	public int reclassifyCases(List<String> caseUuids) {
+
+		if (!configFacade.isFeatureAutomaticCaseClassification()) {
+			return 0;
+		}
+
+		long startTime = DateHelper.startTime();
+		AtomicInteger processedCount = new AtomicInteger();
+		AtomicInteger changedCount = new AtomicInteger();
+		IterableHelper.executeBatched(caseUuids, RECLASSIFICATION_BATCH_SIZE, batchedUuids -> {
+			changedCount.addAndGet(caseClassificationFacade.reclassifyCaseBatch(batchedUuids));
+			logger.debug(
+				"Reclassified {} of {} cases, {} changed, {}ms",
+				processedCount.addAndGet(batchedUuids.size()),
+				caseUuids.size(),
+				changedCount.get(),
+				DateHelper.durationMillies(startTime));
+		});
+
+		return changedCount.get();
+	}
+
+	/**
+	 * Reclassifies the cases of the diseases whose classification criteria have changed since the last run, e.g. with an update of
+	 * the server. The first run only records the change date of the current criteria, because the existing cases have been
+	 * classified with them when they were saved.
+	 */
+	@RightsAllowed(UserRight._SYSTEM)
+	@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+	public void reclassifyCasesWithChangedCriteria() {
+
+		if (!configFacade.isFeatureAutomaticCaseClassification()) {
+			return;
+		}
+
+		boolean firstRun = !syncFacade.hasAtLeastOneSuccessfullSyncOf(SystemEventType.CASE_RECLASSIFICATION);
+		SystemEventDto reclassification = syncFacade.startSyncFor(SystemEventType.CASE_RECLASSIFICATION);
+		try {
+			Date lastCriteriaChangeDate = syncFacade.findLastSyncDateFor(SystemEventType.CASE_RECLASSIFICATION);
+			List<DiseaseClassificationCriteriaDto> changedCriteria = caseClassificationFacade.getAllSince(lastCriteriaChangeDate);
+			Date newestCriteriaChangeDate = changedCriteria.stream()
+				.map(DiseaseClassificationCriteriaDto::getChangeDate)
+				.max(Date::compareTo)
+				.orElse(lastCriteriaChangeDate);
+
+			if (!firstRun && !changedCriteria.isEmpty()) {
+				List<Disease> diseases =
+					changedCriteria.stream().map(DiseaseClassificationCriteriaDto::getDisease).collect(Collectors.toList());
+				int changedCount = reclassifyCases(service.getClassifiableUuidsByDiseases(diseases));
+				logger.info("Reclassified the cases of {} after their classification criteria have changed, {} changed", diseases, changedCount);
 			}
+
+			syncFacade.reportSuccessfulSyncWithTimestamp(reclassification, newestCriteriaChangeDate);
+		} catch (RuntimeException e) {
+			syncFacade.reportSyncErrorWithTimestamp(reclassification, e.getMessage());
 		}
 	}
 
@@ -2173,19 +2362,7 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 				CaseDataDto newCaseDto = toDto(newCase);
 
 				classification = caseClassificationFacade.getClassification(newCaseDto);
-
-				// only update when classification by system changes - user may overwrite this
-				if (classification != newCase.getSystemCaseClassification()) {
-					newCase.setSystemCaseClassification(classification);
-
-					// really a change? (user may have already set it)
-					if (classification != newCase.getCaseClassification()) {
-						newCase.setCaseClassification(classification);
-						newCase.setClassificationUser(null);
-						newCase.setClassificationDate(new Date());
-						setClassificationInfo = false;
-					}
-				}
+				setClassificationInfo = !updateSystemCaseClassification(newCase, classification);
 			}
 		}
 
@@ -2196,11 +2373,7 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 			newCase.setClassificationDate(new Date());
 		}
 
-		// calculate reference definition for cases
-		if (configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY)) {
-			boolean fulfilled = evaluateFulfilledCondition(toDto(newCase), classification);
-			newCase.setCaseReferenceDefinition(fulfilled ? CaseReferenceDefinition.FULFILLED : CaseReferenceDefinition.NOT_FULFILLED);
-		}
+		updateCaseReferenceDefinition(newCase, classification);
 
 		// Set Yes/No/Unknown fields associated with embedded lists to Yes if the lists
 		// are not empty
@@ -2218,21 +2391,7 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		// Send an email to all responsible supervisors when the case classification has
 		// changed
 		if (existingCase != null && existingCase.getCaseClassification() != newCase.getCaseClassification()) {
-
-			try {
-				String message = String.format(
-					I18nProperties.getString(MessageContents.CONTENT_CASE_CLASSIFICATION_CHANGED),
-					DataHelper.getShortUuid(newCase.getUuid()),
-					newCase.getCaseClassification().toString());
-				notificationService.sendNotifications(
-					NotificationType.CASE_CLASSIFICATION_CHANGED,
-					JurisdictionHelper.getCaseRegions(newCase),
-					null,
-					MessageSubject.CASE_CLASSIFICATION_CHANGED,
-					message);
-			} catch (NotificationDeliveryFailedException e) {
-				logger.error("NotificationDeliveryFailedException when trying to notify supervisors about the change of a case classification. ");
-			}
+			notifyCaseClassificationChanged(newCase);
 		}
 
 		// Send an email to all responsible supervisors when the disease of an
@@ -2259,9 +2418,7 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 
 		// If the case is a newly created case or if it was not in a CONFIRMED status
 		// and now the case is in a CONFIRMED status, notify related surveillance officers
-		Set<CaseClassification> confirmedClassifications = CaseClassification.getConfirmedClassifications();
-		if ((existingCase == null || !confirmedClassifications.contains(existingCase.getCaseClassification()))
-			&& confirmedClassifications.contains(newCase.getCaseClassification())) {
+		if (isNewlyConfirmed(existingCase != null ? existingCase.getCaseClassification() : null, newCase.getCaseClassification())) {
 			sendConfirmedCaseNotificationsForEvents(newCase);
 		}
 
@@ -2285,6 +2442,44 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		}
 	}
 
+	/**
+	 * Calculates the reference definition of the case on German systems.
+	 */
+	private void updateCaseReferenceDefinition(Case caze, CaseClassification classification) {
+
+		if (configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY)) {
+			boolean fulfilled = evaluateFulfilledCondition(toDto(caze), classification);
+			caze.setCaseReferenceDefinition(fulfilled ? CaseReferenceDefinition.FULFILLED : CaseReferenceDefinition.NOT_FULFILLED);
+		}
+	}
+
+	/**
+	 * Sends an email to all responsible supervisors when the case classification has changed.
+	 */
+	private void notifyCaseClassificationChanged(Case caze) {
+
+		try {
+			String message = String.format(
+				I18nProperties.getString(MessageContents.CONTENT_CASE_CLASSIFICATION_CHANGED),
+				DataHelper.getShortUuid(caze.getUuid()),
+				caze.getCaseClassification().toString());
+			notificationService.sendNotifications(
+				NotificationType.CASE_CLASSIFICATION_CHANGED,
+				JurisdictionHelper.getCaseRegions(caze),
+				null,
+				MessageSubject.CASE_CLASSIFICATION_CHANGED,
+				message);
+		} catch (NotificationDeliveryFailedException e) {
+			logger.error("NotificationDeliveryFailedException when trying to notify supervisors about the change of a case classification. ");
+		}
+	}
+
+	private static boolean isNewlyConfirmed(CaseClassification previousClassification, CaseClassification classification) {
+
+		Set<CaseClassification> confirmedClassifications = CaseClassification.getConfirmedClassifications();
+		return !confirmedClassifications.contains(previousClassification) && confirmedClassifications.contains(classification);
+	}
+
 	private boolean evaluateFulfilledCondition(CaseDataDto newCase, CaseClassification caseClassification) {
 
 		if (newCase.getCaseClassification() != CaseClassification.NO_CASE) {
@@ -2698,7 +2893,7 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		super.archive(entityUuids);
 		if (includeContacts) {
 			List<String> caseContacts = contactService.getAllUuidsByCaseUuids(entityUuids);
-			contactService.archive(caseContacts);
+			archiveInChunks(contactService, caseContacts, CoreEntityType.CONTACT);
 		}
 	}
 
@@ -3807,6 +4002,9 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 			t.setPerson(leadCase.getPerson());
 			travelEntryService.ensurePersisted(t);
 		});
+
+		// the exposures and epi data of the lead case were changed after the case itself was saved
+		service.updateTreeChangeDate(leadCase);
 	}
 
 	private void copyDtoValues(CaseDataDto leadCaseData, CaseDataDto otherCaseData, boolean cloning) {
@@ -90,6 +90,9 @@ import de.symeda.sormas.api.externalsurveillancetool.ExternalSurveillanceToolRun
 import de.symeda.sormas.api.feature.FeatureType;
 import de.symeda.sormas.api.feature.FeatureTypeProperty;
 import de.symeda.sormas.api.followup.FollowUpLogic;
+import de.symeda.sormas.api.geo.GeoBounds;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
 import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
 import de.symeda.sormas.api.infrastructure.facility.FacilityType;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
@@ -119,6 +122,7 @@ import de.symeda.sormas.backend.common.AbstractCoreAdoService;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ChangeDateBuilder;
 import de.symeda.sormas.backend.common.ChangeDateFilterBuilder;
+import de.symeda.sormas.backend.common.CoreAdo;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.DeletableAdo;
 import de.symeda.sormas.backend.contact.Contact;
@@ -134,6 +138,8 @@ import de.symeda.sormas.backend.event.EventParticipantService;
 import de.symeda.sormas.backend.externaljournal.ExternalJournalService;
 import de.symeda.sormas.backend.externalmessage.ExternalMessageService;
 import de.symeda.sormas.backend.externalsurveillancetool.ExternalSurveillanceToolGatewayFacadeEjb;
+import de.symeda.sormas.backend.geo.GeoShapeProviderEjb;
+import de.symeda.sormas.backend.geo.MapClusterHelper;
 import de.symeda.sormas.backend.hospitalization.Hospitalization;
 import de.symeda.sormas.backend.immunization.ImmunizationService;
 import de.symeda.sormas.backend.immunization.entity.Immunization;
@@ -243,6 +249,8 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 	private RegionService regionService;
 	@EJB
 	private DistrictService districtService;
+	@EJB
+	private GeoShapeProviderEjb.GeoShapeProviderEjbLocal geoShapeProvider;
 
 	public CaseService() {
 		super(Case.class);
@@ -384,6 +392,50 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 		return result;
 	}
 
+	/**
+	 * Clusters the cases of {@link #getCasesForMap} within the given bounds. The location of a case is taken from the person's address,
+	 * the report coordinates or the facility, in this order.
+	 */
+	public List<MapClusterDto<CaseClassification>> getCaseClustersForMap(
+		Region region,
+		District district,
+		Disease disease,
+		Date from,
+		Date to,
+		NewCaseDateType dateType,
+		GeoBounds bounds,
+		int zoom,
+		MapClusterGrouping grouping) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Case> caze = cq.from(getElementClass());
+
+		CaseQueryContext caseQueryContext = new CaseQueryContext(cb, cq, caze);
+		CaseJoins joins = caseQueryContext.getJoins();
+
+		Predicate filter = createMapCasesFilter(caseQueryContext, region, district, disease, from, to, dateType);
+		if (filter == null) {
+			return Collections.emptyList();
+		}
+
+		MapClusterHelper.Coordinates coordinates = new MapClusterHelper.Coordinates(cb)
+			.or(joins.getPersonAddress().<Double> get(Location.LATITUDE), joins.getPersonAddress().<Double> get(Location.LONGITUDE))
+			.or(caze.<Double> get(Case.REPORT_LAT), caze.<Double> get(Case.REPORT_LON))
+			.or(joins.getFacility().<Double> get(Facility.LATITUDE), joins.getFacility().<Double> get(Facility.LONGITUDE));
+		cq.where(CriteriaBuilderHelper.and(cb, filter, coordinates.createBoundsFilter(bounds)));
+
+		return MapClusterHelper.getClusters(
+			em,
+			cq,
+			coordinates,
+			caze.<CaseClassification> get(Case.CASE_CLASSIFICATION),
+			joins.getResponsibleDistrict().<String> get(District.UUID),
+			geoShapeProvider::getCenterOfDistrict,
+			zoom,
+			grouping);
+	}
+
 	private Predicate createMapCasesFilter(
 		CaseQueryContext caseQueryContext,
 		Region region,
@@ -519,6 +571,26 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 		return QueryHelper.getFirstResult(em, cq);
 	}
 
+	/**
+	 * @return The uuids of all cases of the diseases that are not deleted and can be classified automatically, i.e. are not classified
+	 *         as no case.
+	 */
+	public List<String> getClassifiableUuidsByDiseases(Collection<Disease> diseases) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<String> cq = cb.createQuery(String.class);
+		Root<Case> caze = cq.from(Case.class);
+
+		cq.where(
+			caze.get(Case.DISEASE).in(diseases),
+			cb.notEqual(caze.get(Case.CASE_CLASSIFICATION), CaseClassification.NO_CASE),
+			cb.isFalse(caze.get(Case.DELETED)));
+		cq.select(caze.get(Case.UUID));
+		cq.orderBy(cb.asc(caze.get(Case.ID)));
+
+		return em.createQuery(cq).getResultList();
+	}
+
 	public List<String> getArchivedUuidsSince(Date since) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -1236,7 +1308,7 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 
 	@Override
 	public Predicate createChangeDateFilter(CriteriaBuilder cb, From<?, Case> casePath, Timestamp date) {
-		return createChangeDateFilter(cb, toJoins(casePath), date, false);
+		return createTreeChangeDateFilter(cb, casePath, date, null);
 	}
 
 	/**
@@ -1249,7 +1321,8 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 	 */
 	public Predicate createChangeDateFilter(CriteriaBuilder cb, CaseJoins joins, Timestamp date, boolean includeExtendedChangeDateFilters) {
 
-		return addChangeDates(new ChangeDateFilterBuilder(cb, date), joins, includeExtendedChangeDateFilters).build();
+		ChangeDateFilterBuilder builder = new ChangeDateFilterBuilder(cb, date).addTreeChangeDate(joins.getRoot());
+		return includeExtendedChangeDateFilters ? addExtendedChangeDates(builder, joins).build() : builder.build();
 	}
 
 	private Predicate createChangeDateFilter(
@@ -1292,23 +1365,23 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 			.add(caseFrom, Case.SORMAS_TO_SORMAS_ORIGIN_INFO)
 			.add(caseFrom, Case.SORMAS_TO_SORMAS_SHARES);
 
-		builder = epiDataService.addChangeDates(builder, joins.getEpiData());
+		return epiDataService.addChangeDates(builder, joins.getEpiData());
+	}
 
-		if (includeExtendedChangeDateFilters) {
-			Join<Case, Sample> caseSampleJoin = joins.getSamples();
-			Join<Case, Person> casePersonJoin = joins.getPerson();
-			Join<Case, Visit> caseVisitJoin = joins.getVisit();
-			Join<Case, SurveillanceReport> caseSurveillanceReportJoin = joins.getSurveillanceReportJoin();
+	@Override
+	protected <T extends ChangeDateBuilder<T>> T addExtendedChangeDates(T builder, CaseJoins joins) {
 
-			builder = builder.add(caseSampleJoin)
-				.add(caseSampleJoin, Sample.PATHOGENTESTS)
-				.add(casePersonJoin)
-				.add(casePersonJoin, Person.ADDRESS)
-				.add(caseVisitJoin)
-				.add(caseSurveillanceReportJoin);
-		}
+		Join<Case, Sample> caseSampleJoin = joins.getSamples();
+		Join<Case, Person> casePersonJoin = joins.getPerson();
+		Join<Case, Visit> caseVisitJoin = joins.getVisit();
+		Join<Case, SurveillanceReport> caseSurveillanceReportJoin = joins.getSurveillanceReportJoin();
 
-		return builder;
+		return builder.add(caseSampleJoin)
+			.add(caseSampleJoin, Sample.PATHOGENTESTS)
+			.add(casePersonJoin)
+			.add(casePersonJoin, Person.ADDRESS)
+			.add(caseVisitJoin)
+			.add(caseSurveillanceReportJoin);
 	}
 
 	@Override
@@ -1353,49 +1426,36 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 				filterResponsible = cb.disjunction();
 			}
 
+			// the jurisdiction keys hold the place and the responsible jurisdiction, the facility and the point of entry of the case
 			switch (jurisdictionLevel) {
 			case REGION:
 				final Region region = currentUser.getRegion();
 				if (region != null) {
-					filter = CriteriaBuilderHelper.or(
-						cb,
-						filter,
-						cb.equal(casePath.get(Case.REGION).get(Region.ID), region.getId()),
-						cb.equal(casePath.get(Case.RESPONSIBLE_REGION).get(Region.ID), region.getId()));
+					filter = CriteriaBuilderHelper.or(cb, filter, CriteriaBuilderHelper.jurisdictionKeysContain(cb, casePath, region));
 				}
 				break;
 			case DISTRICT:
 				final District district = currentUser.getDistrict();
 				if (district != null) {
-					filter = CriteriaBuilderHelper.or(
-						cb,
-						filter,
-						cb.equal(casePath.get(Case.DISTRICT).get(District.ID), district.getId()),
-						cb.equal(casePath.get(Case.RESPONSIBLE_DISTRICT).get(District.ID), district.getId()));
+					filter = CriteriaBuilderHelper.or(cb, filter, CriteriaBuilderHelper.jurisdictionKeysContain(cb, casePath, district));
 				}
 				break;
 			case HEALTH_FACILITY:
 				final Facility healthFacility = currentUser.getHealthFacility();
 				if (healthFacility != null) {
-					filter =
-						CriteriaBuilderHelper.or(cb, filter, cb.equal(casePath.get(Case.HEALTH_FACILITY).get(Facility.ID), healthFacility.getId()));
+					filter = CriteriaBuilderHelper.or(cb, filter, CriteriaBuilderHelper.jurisdictionKeysContain(cb, casePath, healthFacility));
 				}
 				break;
 			case COMMUNITY:
 				final Community community = currentUser.getCommunity();
 				if (community != null) {
-					filter = CriteriaBuilderHelper.or(
-						cb,
-						filter,
-						cb.equal(casePath.get(Case.COMMUNITY).get(Community.ID), community.getId()),
-						cb.equal(casePath.get(Case.RESPONSIBLE_COMMUNITY).get(Community.ID), community.getId()));
+					filter = CriteriaBuilderHelper.or(cb, filter, CriteriaBuilderHelper.jurisdictionKeysContain(cb, casePath, community));
 				}
 				break;
 			case POINT_OF_ENTRY:
 				final PointOfEntry pointOfEntry = currentUser.getPointOfEntry();
 				if (pointOfEntry != null) {
-					filter =
-						CriteriaBuilderHelper.or(cb, filter, cb.equal(casePath.get(Case.POINT_OF_ENTRY).get(PointOfEntry.ID), pointOfEntry.getId()));
+					filter = CriteriaBuilderHelper.or(cb, filter, CriteriaBuilderHelper.jurisdictionKeysContain(cb, casePath, pointOfEntry));
 				}
 				break;
 			case LABORATORY:
@@ -1502,6 +1562,27 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 		return newCaseFilter;
 	}
 
+	/**
+	 * @return The date that {@link #createNewCaseFilter(CaseQueryContext, Date, Date, CriteriaDateType)} filters by for the given date
+	 *         type, or {@code null} if it can not be expressed as a single date of the case.
+	 */
+	public Expression<Date> getNewCaseDateExpression(CaseQueryContext caseQueryContext, CriteriaDateType dateType) {
+
+		final CriteriaBuilder cb = caseQueryContext.getCriteriaBuilder();
+		final From<?, Case> caze = caseQueryContext.getRoot();
+		final Join<Case, Symptoms> symptoms = caseQueryContext.getJoins().getSymptoms();
+
+		if (dateType == null || dateType == NewCaseDateType.MOST_RELEVANT) {
+			return CriteriaBuilderHelper.coalesce(cb, Date.class, symptoms.get(Symptoms.ONSET_DATE), caze.get(Case.REPORT_DATE));
+		} else if (dateType == NewCaseDateType.ONSET) {
+			return symptoms.get(Symptoms.ONSET_DATE);
+		} else if (dateType == NewCaseDateType.REPORT) {
+			return caze.get(Case.REPORT_DATE);
+		}
+
+		return null;
+	}
+
 	public Case getRelevantCaseForFollowUp(Person person, Disease disease, Date referenceDate) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -2198,8 +2279,10 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 		CriteriaUpdate<Case> cu = cb.createCriteriaUpdate(Case.class);
 		Root<Case> root = cu.from(Case.class);
 
+		Timestamp now = new Timestamp(System.currentTimeMillis());
 		cu.set(root.get(Case.VACCINATION_STATUS), VaccinationStatus.VACCINATED);
-		cu.set(root.get(AbstractDomainObject.CHANGE_DATE), new Date());
+		cu.set(root.get(AbstractDomainObject.CHANGE_DATE), now);
+		cu.set(root.get(CoreAdo.TREE_CHANGE_DATE), now);
 
 		Predicate datePredicate = vaccinationService.getRelevantVaccinationPredicate(root, cu, cb, vaccination);
 
@@ -2208,6 +2291,7 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 				.and(cb, cb.equal(root.get(Case.PERSON).get(Person.ID), personId), cb.equal(root.get(Case.DISEASE), disease), datePredicate));
 
 		em.createQuery(cu).executeUpdate();
+		logBulkChanges(now);
 	}
 
 	private float calculateCompleteness(Case caze) {
@@ -25,8 +25,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
+import javax.annotation.Resource;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
+import javax.ejb.SessionContext;
 import javax.ejb.Stateless;
 import javax.transaction.Transactional;
 import javax.validation.Valid;
@@ -35,6 +37,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.symeda.sormas.api.EntityDto;
 import de.symeda.sormas.api.Language;
 import de.symeda.sormas.api.caze.BirthDateDto;
 import de.symeda.sormas.api.caze.CaseDataDto;
@@ -77,12 +80,11 @@ import de.symeda.sormas.api.utils.ValidationRuntimeException;
 import de.symeda.sormas.api.vaccination.VaccinationDto;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
 import de.symeda.sormas.backend.common.EnumService;
+import de.symeda.sormas.backend.common.ReferencePrefetchFacadeEjb.ReferencePrefetchFacadeEjbLocal;
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb.FeatureConfigurationFacadeEjbLocal;
 import de.symeda.sormas.backend.importexport.ImportFacadeEjb.ImportFacadeEjbLocal;
 import de.symeda.sormas.backend.importexport.ImportHelper;
-import de.symeda.sormas.backend.infrastructure.community.CommunityFacadeEjb.CommunityFacadeEjbLocal;
-import de.symeda.sormas.backend.infrastructure.district.DistrictFacadeEjb.DistrictFacadeEjbLocal;
-import de.symeda.sormas.backend.infrastructure.facility.FacilityFacadeEjb.FacilityFacadeEjbLocal;
+import de.symeda.sormas.backend.importexport.InfrastructureNameResolver;
 import de.symeda.sormas.backend.infrastructure.pointofentry.PointOfEntryFacadeEjb.PointOfEntryFacadeEjbLocal;
 import de.symeda.sormas.backend.person.PersonFacadeEjb.PersonFacadeEjbLocal;
 import de.symeda.sormas.backend.sample.PathogenTestFacadeEjb.PathogenTestFacadeEjbLocal;
@@ -110,19 +112,20 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 	@EJB
 	private PathogenTestFacadeEjbLocal pathogenTestFacade;
 	@EJB
-	private DistrictFacadeEjbLocal districtFacade;
-	@EJB
-	private CommunityFacadeEjbLocal communityFacade;
-	@EJB
-	private FacilityFacadeEjbLocal facilityFacade;
-	@EJB
 	private PointOfEntryFacadeEjbLocal pointOfEntryFacade;
 	@EJB
 	private FeatureConfigurationFacadeEjbLocal featureConfigurationFacade;
 	@EJB
 	private ImportFacadeEjbLocal importFacade;
 	@EJB
+	private InfrastructureNameResolver infrastructureNameResolver;
+	@EJB
 	private VaccinationFacadeEjbLocal vaccinationFacade;
+	@EJB
+	private ReferencePrefetchFacadeEjbLocal referencePrefetchFacade;
+
+	@Resource
+	private SessionContext sessionContext;
 
 	@Override
 	@Transactional
@@ -134,6 +137,33 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 		boolean ignoreEmptyEntries)
 		throws InvalidColumnException {
 
+		ImportLineResultDto<CaseImportEntities> prepareResult =
+			prepareCaseData(values, entityClasses, entityProperties, entityPropertyPaths, ignoreEmptyEntries);
+		if (prepareResult.isError()) {
+			return prepareResult;
+		}
+
+		CaseImportEntities entities = prepareResult.getImportEntities();
+		PersonDto person = entities.getPerson();
+
+		if (personFacade.isPersonSimilarToExisting(person)) {
+			return ImportLineResultDto.duplicateResult(entities);
+		}
+
+		ImportLineResultDto<CaseImportEntities> result = saveImportedEntities(entities, false);
+
+		return result;
+	}
+
+	@Override
+	public ImportLineResultDto<CaseImportEntities> prepareCaseData(
+		String[] values,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		boolean ignoreEmptyEntries)
+		throws InvalidColumnException {
+
 		// Check whether the new line has the same length as the header line
 		if (values.length > entityProperties.length) {
 			return ImportLineResultDto.errorResult(I18nProperties.getValidationError(Validations.importLineTooLong));
@@ -151,15 +181,7 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 			return validationResult;
 		}
 
-		PersonDto person = entities.getPerson();
-
-		if (personFacade.isPersonSimilarToExisting(person)) {
-			return ImportLineResultDto.duplicateResult(entities);
-		}
-
-		ImportLineResultDto<CaseImportEntities> result = saveImportedEntities(entities, false);
-
-		return result;
+		return ImportLineResultDto.successResult(entities);
 	}
 
 	@Override
@@ -244,6 +266,36 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 		}
 	}
 
+	@Override
+	public List<ImportLineResultDto<CaseImportEntities>> saveImportedEntities(List<CaseImportEntities> entitiesList) {
+
+		List<EntityDto> dtos = new ArrayList<>();
+		for (CaseImportEntities entities : entitiesList) {
+			dtos.add(entities.getPerson());
+			dtos.add(entities.getCaze());
+		}
+		referencePrefetchFacade.prefetch(dtos);
+
+		List<ImportLineResultDto<CaseImportEntities>> results = new ArrayList<>(entitiesList.size());
+		for (CaseImportEntities entities : entitiesList) {
+			// persons saved earlier in this transaction are taken into account, like persons of earlier lines of a line by line import
+			if (personFacade.isPersonSimilarToExisting(entities.getPerson())) {
+				results.add(ImportLineResultDto.duplicateResult(entities));
+				break;
+			}
+
+			ImportLineResultDto<CaseImportEntities> result = saveImportedEntities(entities, false);
+			results.add(result);
+			if (result.isError()) {
+				// validation errors don't roll back the transaction on their own
+				sessionContext.setRollbackOnly();
+				break;
+			}
+		}
+
+		return results;
+	}
+
 	private ImportLineResultDto<CaseImportEntities> validateEntities(CaseImportEntities entities) {
 
 		ImportLineResultDto<CaseImportEntities> validationResult = importFacade.validateConstraints(entities);
@@ -411,8 +463,10 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 					if (importFacade.executeDefaultInvoke(pd, currentElement, entry, entryHeaderPath, false)) {
 						continue;
 					} else if (propertyType.isAssignableFrom(DistrictReferenceDto.class)) {
-						List<DistrictReferenceDto> district = districtFacade
-							.getByName(entry, ImportHelper.getRegionBasedOnDistrict(pd.getName(), caze, null, null, person, currentElement), false);
+						List<DistrictReferenceDto> district = infrastructureNameResolver.getDistrictsByName(
+							entry,
+							ImportHelper.getRegionBasedOnDistrict(pd.getName(), caze, null, null, person, currentElement),
+							false);
 						if (district.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties
@@ -424,8 +478,10 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 							pd.getWriteMethod().invoke(currentElement, district.get(0));
 						}
 					} else if (propertyType.isAssignableFrom(CommunityReferenceDto.class)) {
-						List<CommunityReferenceDto> community = communityFacade
-							.getByName(entry, ImportHelper.getDistrictBasedOnCommunity(pd.getName(), caze, person, currentElement), false);
+						List<CommunityReferenceDto> community = infrastructureNameResolver.getCommunitiesByName(
+							entry,
+							ImportHelper.getDistrictBasedOnCommunity(pd.getName(), caze, person, currentElement),
+							false);
 						if (community.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties.getValidationError(
@@ -450,7 +506,7 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 							entry = FacilityDto.NO_FACILITY;
 						}
 
-						List<FacilityReferenceDto> facilities = facilityFacade.getByNameAndType(
+						List<FacilityReferenceDto> facilities = infrastructureNameResolver.getFacilitiesByNameAndType(
 							entry,
 							infrastructureData.getElement0(),
 							infrastructureData.getElement1(),
@@ -485,7 +541,8 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 					} else if (propertyType.isAssignableFrom(PointOfEntryReferenceDto.class)) {
 						PointOfEntryReferenceDto pointOfEntryReference;
 						DistrictReferenceDto pointOfEntryDistrict = CaseLogic.getDistrictWithFallback(caze);
-						List<PointOfEntryReferenceDto> customPointsOfEntry = pointOfEntryFacade.getByName(entry, pointOfEntryDistrict, false);
+						List<PointOfEntryReferenceDto> customPointsOfEntry =
+							infrastructureNameResolver.getPointsOfEntryByName(entry, pointOfEntryDistrict, false);
 						if (customPointsOfEntry.isEmpty()) {
 							final String poeName = entry;
 							List<PointOfEntryDto> defaultPointOfEntries = pointOfEntryFacade.getByUuids(PointOfEntryDto.CONSTANT_POE_UUIDS);
@@ -561,7 +618,7 @@ public class CaseImportFacadeEjb implements CaseImportFacade {
 					if (importFacade.executeDefaultInvoke(pd, currentElement, entry, entryHeaderPath, false)) {
 						continue;
 					} else if (propertyType.isAssignableFrom(FacilityReferenceDto.class)) {
-						List<FacilityReferenceDto> lab = facilityFacade.getLaboratoriesByName(entry, false);
+						List<FacilityReferenceDto> lab = infrastructureNameResolver.getLaboratoriesByName(entry, false);
 						if (lab.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties.getValidationError(Validations.importEntryDoesNotExist, entry, buildEntityProperty(entryHeaderPath)));
@@ -19,16 +19,20 @@ package de.symeda.sormas.backend.caze.classification;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.security.PermitAll;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
 
 import de.symeda.sormas.api.CountryHelper;
 import de.symeda.sormas.api.Disease;
@@ -72,13 +76,21 @@ import de.symeda.sormas.api.symptoms.SymptomState;
 import de.symeda.sormas.api.symptoms.SymptomsDto;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.YesNoUnknown;
+import de.symeda.sormas.backend.caze.Case;
+import de.symeda.sormas.backend.caze.CaseFacadeEjb;
+import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
+import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.event.Event;
 import de.symeda.sormas.backend.event.EventFacadeEjb;
 import de.symeda.sormas.backend.event.EventService;
 import de.symeda.sormas.backend.immunization.ImmunizationService;
 import de.symeda.sormas.backend.person.PersonFacadeEjb.PersonFacadeEjbLocal;
+import de.symeda.sormas.backend.sample.PathogenTest;
 import de.symeda.sormas.backend.sample.PathogenTestFacadeEjb;
 import de.symeda.sormas.backend.sample.PathogenTestService;
+import de.symeda.sormas.backend.util.IterableHelper;
+import de.symeda.sormas.backend.util.ModelConstants;
 
 /**
  * Stateless instead of Singleton. It's ok to have multiple instances with an
@@ -101,9 +113,15 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 	private EventService eventService;
 	@EJB
 	private ImmunizationService immunizationService;
+	@EJB
+	private CaseService caseService;
+	@EJB
+	private CaseFacadeEjbLocal caseFacade;
 
 	/** local cache */
 	private final Map<Disease, DiseaseClassificationCriteriaDto> criteriaMap = new HashMap<>();
+	/** criteriaMap compiled for classifying cases */
+	private final Map<Disease, CompiledDiseaseClassificationCriteria> compiledCriteriaMap = new HashMap<>();
 
 	@Override
 	public CaseClassification getClassification(CaseDataDto caze) {
@@ -112,43 +130,112 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			buildCriteria();
 		}
 
+		CompiledDiseaseClassificationCriteria criteria = compiledCriteriaMap.get(caze.getDisease());
+		if (criteria == null) {
+			return CaseClassification.NOT_CLASSIFIED;
+		}
+
 		PersonDto person = personFacade.getByUuid(caze.getPerson().getUuid());
 		List<PathogenTestDto> pathogenTests = pathogenTestService.getAllByCase(caze.getUuid())
 			.stream()
 			.map(PathogenTestFacadeEjb.PathogenTestFacadeEjbLocal::toDto)
 			.collect(Collectors.toList());
 		List<EventDto> caseEvents = eventFacade.getAllByCase(caze);
-		Date lastVaccinationDate = null;
-		if (caze.getDisease() == Disease.YELLOW_FEVER && caze.getVaccinationStatus() == VaccinationStatus.VACCINATED) {
-			lastVaccinationDate = immunizationService.getLastVaccinationDateBefore(person.getUuid(), caze.getDisease(), CaseLogic.getStartDate(caze));
+
+		return criteria.classify(caze, person, pathogenTests, caseEvents, getLastVaccinationDate(caze), isClassifyConfirmedWithoutSymptoms());
+	}
+
+	/**
+	 * Classifies several cases at once. Persons, pathogen tests and events of the cases are loaded with one query each per
+	 * {@link ModelConstants#PARAMETER_LIMIT} cases instead of separately for every case.
+	 */
+	@Override
+	public Map<String, CaseClassification> getClassifications(List<CaseDataDto> cases) {
+
+		if (criteriaMap.isEmpty()) {
+			buildCriteria();
+		}
+
+		boolean classifyConfirmedWithoutSymptoms = isClassifyConfirmedWithoutSymptoms();
+		Map<String, CaseClassification> classifications = new HashMap<>(cases.size());
+		List<CaseDataDto> casesWithCriteria = new ArrayList<>(cases.size());
+		for (CaseDataDto caze : cases) {
+			if (compiledCriteriaMap.containsKey(caze.getDisease())) {
+				casesWithCriteria.add(caze);
+			} else {
+				classifications.put(caze.getUuid(), CaseClassification.NOT_CLASSIFIED);
+			}
 		}
 
-		DiseaseClassificationCriteriaDto criteria = criteriaMap.get(caze.getDisease());
-
-		if (criteria != null) {
-			if (criteria.getConfirmedCriteria() != null
-				&& criteria.getConfirmedCriteria().eval(caze, person, pathogenTests, caseEvents, lastVaccinationDate)) {
-				return CaseClassification.CONFIRMED;
-			} else if (criteria.getNotACaseCriteria() != null
-				&& criteria.getNotACaseCriteria().eval(caze, person, pathogenTests, caseEvents, lastVaccinationDate)) {
-				return CaseClassification.NO_CASE;
-			} else if (criteria.getProbableCriteria() != null
-				&& criteria.getProbableCriteria().eval(caze, person, pathogenTests, caseEvents, lastVaccinationDate)) {
-				return CaseClassification.PROBABLE;
-			} else if (criteria.getSuspectCriteria() != null
-				&& criteria.getSuspectCriteria().eval(caze, person, pathogenTests, caseEvents, lastVaccinationDate)) {
-				return CaseClassification.SUSPECT;
-			} else if (configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY)) {
-				if (criteria.getConfirmedNoSymptomsCriteria() != null
-					&& criteria.getConfirmedNoSymptomsCriteria().eval(caze, person, pathogenTests, caseEvents, lastVaccinationDate)) {
-					return CaseClassification.CONFIRMED_NO_SYMPTOMS;
-				} else if (criteria.getConfirmedUnknownSymptomsCriteria() != null
-					&& criteria.getConfirmedUnknownSymptomsCriteria().eval(caze, person, pathogenTests, caseEvents, lastVaccinationDate)) {
-					return CaseClassification.CONFIRMED_UNKNOWN_SYMPTOMS;
-				}
+		IterableHelper.executeBatched(casesWithCriteria, ModelConstants.PARAMETER_LIMIT, batchedCases -> {
+			List<String> caseUuids = batchedCases.stream().map(CaseDataDto::getUuid).collect(Collectors.toList());
+			List<String> personUuids = batchedCases.stream().map(c -> c.getPerson().getUuid()).distinct().collect(Collectors.toList());
+
+			Map<String, PersonDto> persons =
+				personFacade.getByUuids(personUuids).stream().collect(Collectors.toMap(PersonDto::getUuid, Function.identity()));
+			Map<String, List<PathogenTest>> pathogenTestsByCase = pathogenTestService.getAllByCaseUuids(caseUuids);
+			Map<String, List<Event>> eventsByCase = eventService.getAllByCaseUuids(caseUuids);
+
+			for (CaseDataDto caze : batchedCases) {
+				List<PathogenTestDto> pathogenTests = pathogenTestsByCase.getOrDefault(caze.getUuid(), Collections.emptyList())
+					.stream()
+					.map(PathogenTestFacadeEjb.PathogenTestFacadeEjbLocal::toDto)
+					.collect(Collectors.toList());
+				List<EventDto> caseEvents = eventFacade.toDtos(eventsByCase.getOrDefault(caze.getUuid(), Collections.emptyList()).stream());
+
+				CaseClassification classification = compiledCriteriaMap.get(caze.getDisease())
+					.classify(
+						caze,
+						persons.get(caze.getPerson().getUuid()),
+						pathogenTests,
+						caseEvents,
+						getLastVaccinationDate(caze),
+						classifyConfirmedWithoutSymptoms);
+				classifications.put(caze.getUuid(), classification);
+			}
+		});
+
+		return classifications;
+	}
+
+	/**
+	 * Reclassifies the cases in a new transaction, so callers reclassifying many cases commit them batch by batch. Changed
+	 * classifications are applied with {@link CaseFacadeEjb#onSystemCaseClassificationCalculated(Case, CaseClassification)}.
+	 *
+	 * @return The number of cases whose classification has been changed.
+	 */
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public int reclassifyCaseBatch(List<String> caseUuids) {
+
+		List<Case> cases = caseService.getByUuids(caseUuids)
+			.stream()
+			.filter(c -> c.getCaseClassification() != CaseClassification.NO_CASE)
+			.collect(Collectors.toList());
+		Map<String, CaseClassification> classifications =
+			getClassifications(cases.stream().map(caseFacade::toDto).collect(Collectors.toList()));
+
+		int changedCount = 0;
+		for (Case caze : cases) {
+			if (caseFacade.onSystemCaseClassificationCalculated(caze, classifications.get(caze.getUuid()))) {
+				changedCount++;
 			}
 		}
-		return CaseClassification.NOT_CLASSIFIED;
+		return changedCount;
+	}
+
+	/**
+	 * Only needed for yellow fever, so it is still loaded for each vaccinated case.
+	 */
+	private Date getLastVaccinationDate(CaseDataDto caze) {
+
+		if (caze.getDisease() == Disease.YELLOW_FEVER && caze.getVaccinationStatus() == VaccinationStatus.VACCINATED) {
+			return immunizationService.getLastVaccinationDateBefore(caze.getPerson().getUuid(), caze.getDisease(), CaseLogic.getStartDate(caze));
+		}
+		return null;
+	}
+
+	private boolean isClassifyConfirmedWithoutSymptoms() {
+		return configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY);
 	}
 
 	@Override
@@ -533,6 +620,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 		DiseaseClassificationCriteriaDto criteria =
 			new DiseaseClassificationCriteriaDto(disease, changeDate, suspect, probable, confirmed, null, null, notACase);
 		criteriaMap.put(disease, criteria);
+		compiledCriteriaMap.put(disease, new CompiledDiseaseClassificationCriteria(criteria));
 	}
 
 	private void addCriteria(
@@ -555,6 +643,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			confirmedUnknownSymptoms,
 			notACase);
 		criteriaMap.put(disease, criteria);
+		compiledCriteriaMap.put(disease, new CompiledDiseaseClassificationCriteria(criteria));
 	}
 
 	private ClassificationAllOfCriteriaDto allOf(ClassificationCriteriaDto... criteria) {
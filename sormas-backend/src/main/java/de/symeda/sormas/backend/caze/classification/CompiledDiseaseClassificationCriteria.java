@@ -0,0 +1,98 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.caze.classification;
+
+import java.util.Date;
+import java.util.List;
+
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.caze.classification.ClassificationCriteriaDto;
+import de.symeda.sormas.api.caze.classification.ClassificationPredicate;
+import de.symeda.sormas.api.caze.classification.DiseaseClassificationCriteriaDto;
+import de.symeda.sormas.api.event.EventDto;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.sample.PathogenTestDto;
+
+/**
+ * The classification criteria of a disease compiled to {@link ClassificationPredicate}s, evaluated in the order of
+ * {@link #classify(CaseDataDto, PersonDto, List, List, Date, boolean)}.
+ */
+final class CompiledDiseaseClassificationCriteria {
+
+	private final ClassificationPredicate confirmed;
+	private final ClassificationPredicate notACase;
+	private final ClassificationPredicate probable;
+	private final ClassificationPredicate suspect;
+	private final ClassificationPredicate confirmedNoSymptoms;
+	private final ClassificationPredicate confirmedUnknownSymptoms;
+
+	CompiledDiseaseClassificationCriteria(DiseaseClassificationCriteriaDto criteria) {
+
+		confirmed = compile(criteria.getConfirmedCriteria());
+		notACase = compile(criteria.getNotACaseCriteria());
+		probable = compile(criteria.getProbableCriteria());
+		suspect = compile(criteria.getSuspectCriteria());
+		confirmedNoSymptoms = compile(criteria.getConfirmedNoSymptomsCriteria());
+		confirmedUnknownSymptoms = compile(criteria.getConfirmedUnknownSymptomsCriteria());
+	}
+
+	private static ClassificationPredicate compile(ClassificationCriteriaDto criteria) {
+		return criteria != null ? criteria.compile() : null;
+	}
+
+	/**
+	 * @param classifyConfirmedWithoutSymptoms
+	 *            Whether {@link CaseClassification#CONFIRMED_NO_SYMPTOMS} and {@link CaseClassification#CONFIRMED_UNKNOWN_SYMPTOMS}
+	 *            are used in the configured country.
+	 */
+	CaseClassification classify(
+		CaseDataDto caze,
+		PersonDto person,
+		List<PathogenTestDto> pathogenTests,
+		List<EventDto> events,
+		Date lastVaccinationDate,
+		boolean classifyConfirmedWithoutSymptoms) {
+
+		if (matches(confirmed, caze, person, pathogenTests, events, lastVaccinationDate)) {
+			return CaseClassification.CONFIRMED;
+		} else if (matches(notACase, caze, person, pathogenTests, events, lastVaccinationDate)) {
+			return CaseClassification.NO_CASE;
+		} else if (matches(probable, caze, person, pathogenTests, events, lastVaccinationDate)) {
+			return CaseClassification.PROBABLE;
+		} else if (matches(suspect, caze, person, pathogenTests, events, lastVaccinationDate)) {
+			return CaseClassification.SUSPECT;
+		} else if (classifyConfirmedWithoutSymptoms) {
+			if (matches(confirmedNoSymptoms, caze, person, pathogenTests, events, lastVaccinationDate)) {
+				return CaseClassification.CONFIRMED_NO_SYMPTOMS;
+			} else if (matches(confirmedUnknownSymptoms, caze, person, pathogenTests, events, lastVaccinationDate)) {
+				return CaseClassification.CONFIRMED_UNKNOWN_SYMPTOMS;
+			}
+		}
+		return CaseClassification.NOT_CLASSIFIED;
+	}
+
+	private static boolean matches(
+		ClassificationPredicate predicate,
+		CaseDataDto caze,
+		PersonDto person,
+		List<PathogenTestDto> pathogenTests,
+		List<EventDto> events,
+		Date lastVaccinationDate) {
+
+		return predicate != null && predicate.test(caze, person, pathogenTests, events, lastVaccinationDate);
+	}
+}
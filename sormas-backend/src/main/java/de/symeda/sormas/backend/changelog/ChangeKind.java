@@ -0,0 +1,42 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.changelog;
+
+import de.symeda.sormas.backend.common.CoreAdo;
+
+public enum ChangeKind {
+
+	/**
+	 * The entity was created or changed.
+	 */
+	UPSERT,
+	/**
+	 * The entity was archived.
+	 */
+	ARCHIVE,
+	/**
+	 * The entity was deleted, either only marked as deleted or permanently.
+	 */
+	DELETE;
+
+	public static ChangeKind of(CoreAdo ado) {
+
+		if (ado.isDeleted()) {
+			return DELETE;
+		}
+		return ado.isArchived() ? ARCHIVE : UPSERT;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.changelog;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.ExcludeDefaultListeners;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+
+/**
+ * One change of a core entity, written in the same transaction as the change itself. Entries are only appended; the id is taken from
+ * a sequence and thus ascending in the order the entries were written.
+ * <p>
+ * Not audited: the entries only repeat what the audit log already contains for the changed entities.
+ */
+@Entity(name = ChangeLogEntry.TABLE_NAME)
+@ExcludeDefaultListeners
+public class ChangeLogEntry implements Serializable {
+
+	private static final long serialVersionUID = -1739216546236584627L;
+
+	public static final String TABLE_NAME = "changelog";
+
+	private static final String SEQ_JPA_NAME = "Changelog_seq";
+	private static final String SEQ_SQL_NAME = "changelog_seq";
+
+	public static final String ID = "id";
+	public static final String ENTITY_TYPE = "entityType";
+	public static final String ENTITY_ID = "entityId";
+	public static final String ENTITY_UUID = "entityUuid";
+	public static final String CHANGE_DATE = "changeDate";
+	public static final String CHANGE_KIND = "changeKind";
+
+	private Long id;
+	private String entityType;
+	private Long entityId;
+	private String entityUuid;
+	private Timestamp changeDate;
+	private ChangeKind changeKind;
+
+	@Id
+	@SequenceGenerator(name = SEQ_JPA_NAME, allocationSize = 1, sequenceName = SEQ_SQL_NAME)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQ_JPA_NAME)
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	@Column(nullable = false)
+	public String getEntityType() {
+		return entityType;
+	}
+
+	public void setEntityType(String entityType) {
+		this.entityType = entityType;
+	}
+
+	@Column(nullable = false)
+	public Long getEntityId() {
+		return entityId;
+	}
+
+	public void setEntityId(Long entityId) {
+		this.entityId = entityId;
+	}
+
+	@Column(nullable = false, length = 36)
+	public String getEntityUuid() {
+		return entityUuid;
+	}
+
+	public void setEntityUuid(String entityUuid) {
+		this.entityUuid = entityUuid;
+	}
+
+	@Column(nullable = false, columnDefinition = "TIMESTAMP(3) not null")
+	public Timestamp getChangeDate() {
+		return changeDate;
+	}
+
+	public void setChangeDate(Timestamp changeDate) {
+		this.changeDate = changeDate;
+	}
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	public ChangeKind getChangeKind() {
+		return changeKind;
+	}
+
+	public void setChangeKind(ChangeKind changeKind) {
+		this.changeKind = changeKind;
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.changelog;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+
+import de.symeda.sormas.backend.common.CoreAdo;
+
+/**
+ * Collects the changes of {@link CoreAdo}s flushed during a transaction and writes them to the change log right before the transaction
+ * is completed, so the entries are committed or rolled back together with the changes.
+ * <p>
+ * Changes done through bulk updates are not seen here and have to be logged with {@link ChangeLogService}.
+ */
+public class ChangeLogEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+	private static final long serialVersionUID = 6342517093470283736L;
+
+	private final Map<Transaction, PendingChanges> pendingChanges = new ConcurrentHashMap<>();
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		log(event.getSession(), event.getPersister(), event.getEntity(), event.getId(), null);
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		log(event.getSession(), event.getPersister(), event.getEntity(), event.getId(), null);
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		log(event.getSession(), event.getPersister(), event.getEntity(), event.getId(), ChangeKind.DELETE);
+	}
+
+	@Override
+	public boolean requiresPostCommitHanding(EntityPersister persister) {
+		return false;
+	}
+
+	private void log(EventSource session, EntityPersister persister, Object entity, Serializable id, ChangeKind changeKind) {
+
+		if (!(entity instanceof CoreAdo)) {
+			return;
+		}
+
+		CoreAdo ado = (CoreAdo) entity;
+		pendingChanges.computeIfAbsent(session.accessTransaction(), transaction -> {
+			PendingChanges created = new PendingChanges(transaction);
+			session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) created);
+			session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) created);
+			return created;
+		})
+			.add(
+				ChangeLogService.getEntityType(persister.getMappedClass()),
+				(Long) id,
+				ado.getUuid(),
+				changeKind != null ? changeKind : ChangeKind.of(ado));
+	}
+
+	private class PendingChanges implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+		private final Transaction transaction;
+		/**
+		 * Only the last change of each entity in the transaction is logged.
+		 */
+		private final Map<List<Object>, ChangeLogEntry> entries = new LinkedHashMap<>();
+
+		private PendingChanges(Transaction transaction) {
+			this.transaction = transaction;
+		}
+
+		private synchronized void add(String entityType, Long entityId, String entityUuid, ChangeKind changeKind) {
+
+			List<Object> key = Arrays.asList(entityType, entityId);
+			entries.remove(key);
+			entries.put(key, ChangeLogService.buildEntry(entityType, entityId, entityUuid, changeKind, null));
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor session) {
+
+			List<ChangeLogEntry> toWrite;
+			synchronized (this) {
+				toWrite = new ArrayList<>(entries.values());
+				entries.clear();
+			}
+			if (toWrite.isEmpty()) {
+				return;
+			}
+
+			// written through a temporary session on the same connection, so the session of the transaction is not flushed again
+			Timestamp now = Timestamp.from(Instant.now());
+			try (Session temporarySession = session.sessionWithOptions()
+				.connection()
+				.autoClose(false)
+				.connectionHandlingMode(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION)
+				.openSession()) {
+				for (ChangeLogEntry entry : toWrite) {
+					entry.setChangeDate(now);
+					temporarySession.persist(entry);
+				}
+				temporarySession.flush();
+			}
+		}
+
+		@Override
+		public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+			pendingChanges.remove(transaction);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.changelog;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+import javax.ejb.LocalBean;
+import javax.ejb.Stateless;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CommonAbstractCriteria;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+import de.symeda.sormas.backend.common.CoreAdo;
+import de.symeda.sormas.backend.util.ModelConstants;
+
+/**
+ * Reads and maintains the {@link ChangeLogEntry change log}. Changes of entities that are flushed are logged by the
+ * {@link ChangeLogEventListener}, changes done through bulk updates have to be logged here.
+ */
+@Stateless
+@LocalBean
+public class ChangeLogService {
+
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
+	public static String getEntityType(Class<?> entityClass) {
+		return entityClass.getSimpleName();
+	}
+
+	static ChangeLogEntry buildEntry(String entityType, Long entityId, String entityUuid, ChangeKind changeKind, Timestamp changeDate) {
+
+		ChangeLogEntry entry = new ChangeLogEntry();
+		entry.setEntityType(entityType);
+		entry.setEntityId(entityId);
+		entry.setEntityUuid(entityUuid);
+		entry.setChangeKind(changeKind);
+		entry.setChangeDate(changeDate);
+		return entry;
+	}
+
+	/**
+	 * @param uuidsById
+	 *            The changed entities.
+	 */
+	public void log(Class<? extends CoreAdo> entityClass, Map<Long, String> uuidsById, ChangeKind changeKind) {
+
+		String entityType = getEntityType(entityClass);
+		Timestamp now = Timestamp.from(Instant.now());
+		uuidsById.forEach((id, uuid) -> em.persist(buildEntry(entityType, id, uuid, changeKind, now)));
+	}
+
+	/**
+	 * @return Whether all changes of the entity type since the given date are contained in the change log, i.e. the log was not
+	 *         started or cut off by the retention after that date.
+	 */
+	public boolean isLoggedSince(Class<? extends CoreAdo> entityClass, Date since) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Timestamp> cq = cb.createQuery(Timestamp.class);
+		Root<ChangeLogEntry> from = cq.from(ChangeLogEntry.class);
+		cq.select(cb.least(from.<Timestamp> get(ChangeLogEntry.CHANGE_DATE)));
+		cq.where(cb.equal(from.get(ChangeLogEntry.ENTITY_TYPE), getEntityType(entityClass)));
+
+		Timestamp oldestChangeDate = em.createQuery(cq).getSingleResult();
+		return oldestChangeDate != null && !oldestChangeDate.after(since);
+	}
+
+	/**
+	 * @return The ids of the entities that were changed since the given date.
+	 */
+	public Subquery<Long> createChangedIdsSubquery(CriteriaBuilder cb, CommonAbstractCriteria cq, Class<? extends CoreAdo> entityClass, Date since) {
+
+		Subquery<Long> subquery = cq.subquery(Long.class);
+		Root<ChangeLogEntry> from = subquery.from(ChangeLogEntry.class);
+		subquery.select(from.get(ChangeLogEntry.ENTITY_ID));
+		subquery.where(
+			cb.equal(from.get(ChangeLogEntry.ENTITY_TYPE), getEntityType(entityClass)),
+			cb.greaterThanOrEqualTo(from.<Date> get(ChangeLogEntry.CHANGE_DATE), since));
+		return subquery;
+	}
+
+	/**
+	 * Removes all entries that are followed by a newer entry of the same entity.
+	 *
+	 * @return The number of removed entries.
+	 */
+	public int compact() {
+
+		return em
+			.createNativeQuery(
+				"delete from " + ChangeLogEntry.TABLE_NAME + " c where exists (select 1 from " + ChangeLogEntry.TABLE_NAME
+					+ " n where n.entitytype = c.entitytype and n.entityid = c.entityid and n.id > c.id)")
+			.executeUpdate();
+	}
+
+	/**
+	 * @return The number of removed entries.
+	 */
+	public int deleteOlderThan(Date date) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaDelete<ChangeLogEntry> cd = cb.createCriteriaDelete(ChangeLogEntry.class);
+		Root<ChangeLogEntry> from = cd.from(ChangeLogEntry.class);
+		cd.where(cb.lessThan(from.<Date> get(ChangeLogEntry.CHANGE_DATE), date));
+		return em.createQuery(cd).executeUpdate();
+	}
+}
@@ -19,6 +19,7 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,6 +28,8 @@ import javax.annotation.security.DenyAll;
 import javax.ejb.EJB;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
+import javax.persistence.EntityExistsException;
+import javax.persistence.criteria.CommonAbstractCriteria;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
@@ -36,16 +39,21 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import de.symeda.sormas.api.EditPermissionType;
+import de.symeda.sormas.api.EntityRelevanceStatus;
 import de.symeda.sormas.api.feature.FeatureType;
+import de.symeda.sormas.backend.changelog.ChangeKind;
+import de.symeda.sormas.backend.changelog.ChangeLogService;
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb.FeatureConfigurationFacadeEjbLocal;
 import de.symeda.sormas.backend.util.IterableHelper;
 
 public abstract class AbstractCoreAdoService<ADO extends CoreAdo, J extends QueryJoins<ADO>> extends AbstractDeletableAdoService<ADO> {
 
-	private static final int ARCHIVE_BATCH_SIZE = 1000;
+	public static final int ARCHIVE_BATCH_SIZE = 1000;
 
 	@EJB
 	protected FeatureConfigurationFacadeEjbLocal featureConfigurationFacade;
+	@EJB
+	protected ChangeLogService changeLogService;
 
 	protected AbstractCoreAdoService(Class<ADO> elementClass) {
 		super(elementClass);
@@ -93,14 +101,160 @@ public abstract class AbstractCoreAdoService<ADO extends CoreAdo, J extends Quer
 		return count > 0;
 	}
 
+	/**
+	 * @return The number of entities with the given relevance status estimated by the database, see {@link #estimateCount(String)}.
+	 */
+	public Long estimateCount(EntityRelevanceStatus relevanceStatus) {
+
+		String filter;
+		if (relevanceStatus == EntityRelevanceStatus.DELETED) {
+			filter = "deleted = true";
+		} else if (relevanceStatus == EntityRelevanceStatus.ACTIVE) {
+			filter = "deleted = false AND archived = false";
+		} else if (relevanceStatus == EntityRelevanceStatus.ARCHIVED) {
+			filter = "deleted = false AND archived = true";
+		} else {
+			filter = "deleted = false";
+		}
+
+		return estimateCount("SELECT 1 FROM " + em.getMetamodel().entity(getElementClass()).getName() + " WHERE " + filter);
+	}
+
 	protected abstract J toJoins(From<?, ADO> adoPath);
 
 	private <T extends ChangeDateBuilder<T>> T addChangeDates(T builder, From<?, ADO> adoPath, boolean includeExtendedChangeDateFilters) {
 		return addChangeDates(builder, toJoins(adoPath), includeExtendedChangeDateFilters);
 	}
 
+	/**
+	 * Adds the change dates of the entity and its embedded entities. These are also covered by {@link CoreAdo#getTreeChangeDate()}.
+	 */
 	protected <T extends ChangeDateBuilder<T>> T addChangeDates(T builder, J joins, boolean includeExtendedChangeDateFilters) {
-		return builder.add(joins.getRoot());
+
+		builder = builder.add(joins.getRoot());
+		if (includeExtendedChangeDateFilters) {
+			builder = addExtendedChangeDates(builder, joins);
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Adds the change dates of related entities that are not covered by {@link CoreAdo#getTreeChangeDate()}, like samples or visits.
+	 */
+	protected <T extends ChangeDateBuilder<T>> T addExtendedChangeDates(T builder, J joins) {
+		return builder;
+	}
+
+	/**
+	 * Filters on {@link CoreAdo#getTreeChangeDate()} instead of joining all embedded entities.
+	 */
+	protected Predicate createTreeChangeDateFilter(CriteriaBuilder cb, From<?, ADO> from, Timestamp date, String lastSynchronizedUuid) {
+		return new ChangeDateFilterBuilder(cb, date, from, lastSynchronizedUuid).addTreeChangeDate(from).build();
+	}
+
+	/**
+	 * Uses the change log, as long as it contains all changes since the given date.
+	 */
+	@Override
+	protected Predicate createChangedSinceFilter(CriteriaBuilder cb, CommonAbstractCriteria cq, From<?, ADO> from, Date since) {
+
+		if (!changeLogService.isLoggedSince(getElementClass(), since)) {
+			return null;
+		}
+
+		return from.get(AbstractDomainObject.ID).in(changeLogService.createChangedIdsSubquery(cb, cq, getElementClass(), since));
+	}
+
+	/**
+	 * Logs changes of entities done through bulk updates, changes of entities that are flushed are logged anyway.
+	 */
+	protected void logChanges(FilterProvider<ADO> filterProvider, ChangeKind changeKind) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<ADO> from = cq.from(getElementClass());
+		cq.multiselect(from.get(AbstractDomainObject.ID), from.get(AbstractDomainObject.UUID));
+		cq.where(filterProvider.provide(cb, cq, from));
+
+		Map<Long, String> uuidsById = new HashMap<>();
+		em.createQuery(cq).getResultList().forEach(r -> uuidsById.put((Long) r[0], (String) r[1]));
+		changeLogService.log(getElementClass(), uuidsById, changeKind);
+	}
+
+	/**
+	 * @param treeChangeDate
+	 *            The tree change date set by the bulk update.
+	 */
+	protected void logBulkChanges(Timestamp treeChangeDate) {
+		logChanges((cb, cq, from) -> cb.equal(from.get(CoreAdo.TREE_CHANGE_DATE), treeChangeDate), ChangeKind.UPSERT);
+	}
+
+	private void logChanges(List<String> uuids, ChangeKind changeKind) {
+		logChanges((cb, cq, from) -> from.get(AbstractDomainObject.UUID).in(uuids), changeKind);
+	}
+
+	@Override
+	public void ensurePersisted(ADO ado) throws EntityExistsException {
+
+		super.ensurePersisted(ado);
+		updateTreeChangeDate(ado);
+	}
+
+	public void updateTreeChangeDate(ADO ado) {
+
+		if (ado != null && ado.getId() != null) {
+			Timestamp treeChangeDate = updateTreeChangeDates((cb, cq, from) -> cb.equal(from.get(AbstractDomainObject.ID), ado.getId())).get(ado.getId());
+			if (treeChangeDate != null) {
+				// not written back by the persistence provider, the column is not updatable
+				ado.setTreeChangeDate(treeChangeDate);
+			}
+		}
+	}
+
+	/**
+	 * Recalculates {@link CoreAdo#getTreeChangeDate()} from the change dates of the entity and its embedded entities. Has to be called
+	 * after an embedded entity was changed without persisting the entity through {@link #ensurePersisted(CoreAdo)}.
+	 * 
+	 * @return The new tree change dates of the entities that were updated, by id.
+	 */
+	public Map<Long, Timestamp> updateTreeChangeDates(FilterProvider<ADO> filterProvider) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<ADO> from = cq.from(getElementClass());
+
+		Expression aggregatedChangeDateExpression = addChangeDates(new AggregatedChangeDateExpressionBuilder(cb), from, false).build();
+		cq.multiselect(
+			from.get(AbstractDomainObject.ID),
+			from.get(AbstractDomainObject.UUID),
+			from.get(CoreAdo.TREE_CHANGE_DATE),
+			cb.max(aggregatedChangeDateExpression));
+		cq.where(filterProvider.provide(cb, cq, from));
+		cq.groupBy(from.get(AbstractDomainObject.ID), from.get(AbstractDomainObject.UUID), from.get(CoreAdo.TREE_CHANGE_DATE));
+
+		Map<Long, Timestamp> updated = new HashMap<>();
+		Map<Long, String> updatedUuids = new HashMap<>();
+		for (Object[] result : em.createQuery(cq).getResultList()) {
+			Date treeChangeDate = (Date) result[2];
+			Date aggregatedChangeDate = (Date) result[3];
+			if (aggregatedChangeDate == null || treeChangeDate != null && treeChangeDate.getTime() == aggregatedChangeDate.getTime()) {
+				continue;
+			}
+
+			Long id = (Long) result[0];
+			Timestamp newTreeChangeDate = new Timestamp(aggregatedChangeDate.getTime());
+			CriteriaUpdate<ADO> cu = cb.createCriteriaUpdate(getElementClass());
+			Root<ADO> root = cu.from(getElementClass());
+			cu.set(root.get(CoreAdo.TREE_CHANGE_DATE), newTreeChangeDate);
+			cu.where(cb.equal(root.get(AbstractDomainObject.ID), id));
+			em.createQuery(cu).executeUpdate();
+			updated.put(id, newTreeChangeDate);
+			updatedUuids.put(id, (String) result[1]);
+		}
+
+		changeLogService.log(getElementClass(), updatedUuids, ChangeKind.UPSERT);
+		return updated;
 	}
 
 	public Map<String, Date> calculateEndOfProcessingDate(List<String> entityuuids) {
@@ -113,7 +267,9 @@ public abstract class AbstractCoreAdoService<ADO extends CoreAdo, J extends Quer
 		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
 		Root<ADO> from = cq.from(getElementClass());
 
-		Expression aggregatedChangeDateExpression = addChangeDates(new AggregatedChangeDateExpressionBuilder(cb), from, true).build();
+		// the tree change date already covers the embedded entities, only the extended ones have to be joined
+		Expression aggregatedChangeDateExpression =
+			addExtendedChangeDates(new AggregatedChangeDateExpressionBuilder(cb).addTreeChangeDate(from), toJoins(from)).build();
 		cq.multiselect(from.get(CoreAdo.UUID), cb.max(aggregatedChangeDateExpression));
 		cq.where(from.get(CoreAdo.UUID).in(entityuuids));
 		cq.groupBy(from.get(CoreAdo.UUID));
@@ -133,34 +289,50 @@ public abstract class AbstractCoreAdoService<ADO extends CoreAdo, J extends Quer
 		CriteriaUpdate<ADO> cu = cb.createCriteriaUpdate(getElementClass());
 		Root<ADO> root = cu.from(getElementClass());
 
-		cu.set(AbstractDomainObject.CHANGE_DATE, Timestamp.from(Instant.now()));
+		Timestamp now = Timestamp.from(Instant.now());
+		cu.set(AbstractDomainObject.CHANGE_DATE, now);
+		cu.set(root.get(CoreAdo.TREE_CHANGE_DATE), now);
 		cu.set(root.get(CoreAdo.ARCHIVED), true);
 		cu.set(root.get(CoreAdo.END_OF_PROCESSING_DATE), endOfProcessingDate);
 
 		cu.where(cb.equal(root.get(AbstractDomainObject.UUID), entityUuid));
 
 		em.createQuery(cu).executeUpdate();
+		logChanges(Collections.singletonList(entityUuid), ChangeKind.ARCHIVE);
 	}
 
+	/**
+	 * Archives the entities with one update per batch. Callers archiving many entities should pass chunks of
+	 * {@link #ARCHIVE_BATCH_SIZE}, so each chunk is committed on its own.
+	 */
 	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
 	public void archive(List<String> entityUuids) {
 
-		IterableHelper.executeBatched(
-			entityUuids,
-			ARCHIVE_BATCH_SIZE,
-			batchedUuids -> calculateEndOfProcessingDate(batchedUuids).forEach((entityUuid, finalEndOfProcessingDate) -> {
-				CriteriaBuilder cb = em.getCriteriaBuilder();
-				CriteriaUpdate<ADO> cu = cb.createCriteriaUpdate(getElementClass());
-				Root<ADO> root = cu.from(getElementClass());
+		IterableHelper.executeBatched(entityUuids, ARCHIVE_BATCH_SIZE, batchedUuids -> {
+			Map<String, Date> endOfProcessingDates = calculateEndOfProcessingDate(batchedUuids);
+			if (endOfProcessingDates.isEmpty()) {
+				return;
+			}
 
-				cu.set(AbstractDomainObject.CHANGE_DATE, Timestamp.from(Instant.now()));
-				cu.set(root.get(CoreAdo.ARCHIVED), true);
-				cu.set(root.get(CoreAdo.END_OF_PROCESSING_DATE), finalEndOfProcessingDate);
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaUpdate<ADO> cu = cb.createCriteriaUpdate(getElementClass());
+			Root<ADO> root = cu.from(getElementClass());
 
-				cu.where(cb.equal(root.get(AbstractDomainObject.UUID), entityUuid));
+			// every entity gets its own end of processing date within the same statement
+			CriteriaBuilder.SimpleCase<String, Date> endOfProcessingDate = cb.selectCase(root.<String> get(AbstractDomainObject.UUID));
+			endOfProcessingDates.forEach((uuid, date) -> endOfProcessingDate.when(uuid, date));
 
-				em.createQuery(cu).executeUpdate();
-			}));
+			Timestamp now = Timestamp.from(Instant.now());
+			cu.set(AbstractDomainObject.CHANGE_DATE, now);
+			cu.set(root.get(CoreAdo.TREE_CHANGE_DATE), now);
+			cu.set(root.get(CoreAdo.ARCHIVED), true);
+			cu.set(root.<Date> get(CoreAdo.END_OF_PROCESSING_DATE), endOfProcessingDate);
+
+			cu.where(root.get(AbstractDomainObject.UUID).in(endOfProcessingDates.keySet()));
+
+			em.createQuery(cu).executeUpdate();
+			logChanges(batchedUuids, ChangeKind.ARCHIVE);
+		});
 	}
 
 	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
@@ -171,7 +343,9 @@ public abstract class AbstractCoreAdoService<ADO extends CoreAdo, J extends Quer
 			CriteriaUpdate<ADO> cu = cb.createCriteriaUpdate(getElementClass());
 			Root<ADO> root = cu.from(getElementClass());
 
-			cu.set(AbstractDomainObject.CHANGE_DATE, Timestamp.from(Instant.now()));
+			Timestamp now = Timestamp.from(Instant.now());
+			cu.set(AbstractDomainObject.CHANGE_DATE, now);
+			cu.set(root.get(CoreAdo.TREE_CHANGE_DATE), now);
 			cu.set(root.get(CoreAdo.ARCHIVED), false);
 			cu.set(root.get(CoreAdo.END_OF_PROCESSING_DATE), (Date) null);
 			cu.set(root.get(CoreAdo.ARCHIVE_UNDONE_REASON), dearchiveReason);
@@ -179,6 +353,7 @@ public abstract class AbstractCoreAdoService<ADO extends CoreAdo, J extends Quer
 			cu.where(root.get(AbstractDomainObject.UUID).in(batchedUuids));
 
 			em.createQuery(cu).executeUpdate();
+			logChanges(batchedUuids, ChangeKind.UPSERT);
 		});
 	}
 
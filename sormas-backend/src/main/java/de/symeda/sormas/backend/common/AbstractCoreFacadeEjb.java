@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.security.DenyAll;
 import javax.ejb.TransactionAttribute;
@@ -31,6 +32,9 @@ import javax.persistence.criteria.Root;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import de.symeda.sormas.api.CoreFacade;
 import de.symeda.sormas.api.EditPermissionType;
 import de.symeda.sormas.api.EntityDto;
@@ -48,12 +52,15 @@ import de.symeda.sormas.api.utils.criteria.BaseCriteria;
 import de.symeda.sormas.backend.deletionconfiguration.DeletionConfiguration;
 import de.symeda.sormas.backend.deletionconfiguration.DeletionConfigurationService;
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb;
+import de.symeda.sormas.backend.util.IterableHelper;
 import de.symeda.sormas.backend.util.Pseudonymizer;
 
 public abstract class AbstractCoreFacadeEjb<ADO extends CoreAdo, DTO extends EntityDto, INDEX_DTO extends Serializable, REF_DTO extends ReferenceDto, SRV extends AbstractCoreAdoService<ADO, ? extends QueryJoins<ADO>>, CRITERIA extends BaseCriteria>
 	extends AbstractBaseEjb<ADO, DTO, INDEX_DTO, REF_DTO, SRV, CRITERIA>
 	implements CoreFacade<DTO, INDEX_DTO, REF_DTO, CRITERIA> {
 
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
 	@Inject
 	private DeletionConfigurationService deletionConfigurationService;
 	@Inject
@@ -222,7 +229,26 @@ public abstract class AbstractCoreFacadeEjb<ADO extends CoreAdo, DTO extends Ent
 
 	@DenyAll
 	public void archive(List<String> entityUuids) {
-		service.archive(entityUuids);
+		archiveInChunks(service, entityUuids, getCoreEntityType());
+	}
+
+	/**
+	 * Archives the entities in chunks that are committed one after another, so archiving many entities does not hold a long
+	 * transaction. An interrupted run is continued by the next one, because the already archived entities are not archivable anymore.
+	 */
+	protected void archiveInChunks(AbstractCoreAdoService<?, ?> archiveService, List<String> entityUuids, CoreEntityType entityType) {
+
+		long startTime = DateHelper.startTime();
+		AtomicInteger archivedCount = new AtomicInteger();
+		IterableHelper.executeBatched(entityUuids, AbstractCoreAdoService.ARCHIVE_BATCH_SIZE, batchedUuids -> {
+			archiveService.archive(batchedUuids);
+			logger.debug(
+				"Archived {} of {} entities of type {}, {}ms",
+				archivedCount.addAndGet(batchedUuids.size()),
+				entityUuids.size(),
+				entityType,
+				DateHelper.durationMillies(startTime));
+		});
 	}
 
 	@DenyAll
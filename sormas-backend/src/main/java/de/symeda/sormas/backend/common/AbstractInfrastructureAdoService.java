@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import javax.ejb.EJB;
+import javax.persistence.EntityExistsException;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Join;
@@ -12,20 +14,46 @@ import javax.persistence.criteria.Root;
 
 import de.symeda.sormas.api.EntityRelevanceStatus;
 import de.symeda.sormas.api.utils.criteria.BaseCriteria;
+import de.symeda.sormas.backend.importexport.InfrastructureNameResolver;
 import de.symeda.sormas.backend.util.QueryHelper;
 
 public abstract class AbstractInfrastructureAdoService<ADO extends InfrastructureAdo, CRITERIA extends BaseCriteria>
 	extends AdoServiceWithUserFilterAndJurisdiction<ADO> {
 
+	@EJB
+	private InfrastructureNameResolver infrastructureNameResolver;
+
 	protected AbstractInfrastructureAdoService(Class<ADO> elementClass) {
 		super(elementClass);
 	}
 
+	@Override
+	public void persist(ADO persistme) {
+
+		super.persist(persistme);
+		infrastructureNameResolver.invalidate(getElementClass());
+	}
+
+	@Override
+	public void ensurePersisted(ADO ado) throws EntityExistsException {
+
+		super.ensurePersisted(ado);
+		infrastructureNameResolver.invalidate(getElementClass());
+	}
+
+	@Override
+	public void deletePermanent(ADO ado) {
+
+		super.deletePermanent(ado);
+		infrastructureNameResolver.invalidate(getElementClass());
+	}
+
 	public void archive(ADO archiveme) {
 
 		archiveme.setArchived(true);
 		em.persist(archiveme);
 		em.flush();
+		infrastructureNameResolver.invalidate(getElementClass());
 	}
 
 	public Predicate createBasicFilter(CriteriaBuilder cb, Root<ADO> root) {
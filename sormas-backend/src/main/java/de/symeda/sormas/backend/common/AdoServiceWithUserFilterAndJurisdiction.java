@@ -6,6 +6,7 @@ import java.util.Date;
 import java.util.List;
 
 import javax.ejb.EJB;
+import javax.persistence.criteria.CommonAbstractCriteria;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Expression;
@@ -79,6 +80,16 @@ public abstract class AdoServiceWithUserFilterAndJurisdiction<ADO extends Abstra
 		return createUserFilter(cb, cq, from);
 	}
 
+	/**
+	 * Narrows {@link #getAllAfter(Date, Integer, String)} and {@link #getObsoleteUuidsSince(Date)} down to the entities that can have
+	 * been changed since the given date, so the change date filter does not have to be evaluated for all entities.
+	 *
+	 * @return {@code null} if the entities can't be narrowed down.
+	 */
+	protected Predicate createChangedSinceFilter(CriteriaBuilder cb, CommonAbstractCriteria cq, From<?, ADO> from, Date since) {
+		return null;
+	}
+
 	public List<ADO> getAllAfter(Date since) {
 		return getAllAfter(since, null, null);
 	}
@@ -90,6 +101,7 @@ public abstract class AdoServiceWithUserFilterAndJurisdiction<ADO extends Abstra
 			Predicate filter = createRelevantDataFilter(cb, cq, from);
 			if (since != null) {
 				filter = CriteriaBuilderHelper.and(cb, filter, createChangeDateFilter(cb, from, since, lastSynchronizedUuid));
+				filter = CriteriaBuilderHelper.and(cb, filter, createChangedSinceFilter(cb, cq, from, since));
 			}
 
 			if (RequestContextHolder.isMobileSync()) {
@@ -152,6 +164,7 @@ public abstract class AdoServiceWithUserFilterAndJurisdiction<ADO extends Abstra
 		Predicate filter = getUserFilterForObsoleteUuids(cb, cq, from);
 		if (since != null) {
 			filter = CriteriaBuilderHelper.and(cb, filter, cb.greaterThanOrEqualTo(from.get(AbstractDomainObject.CHANGE_DATE), since));
+			filter = CriteriaBuilderHelper.and(cb, filter, createChangedSinceFilter(cb, cq, from, since));
 		}
 
 		Predicate contentFilter = null;
@@ -28,6 +28,12 @@ public class AggregatedChangeDateExpressionBuilder implements ChangeDateBuilder<
 		return this;
 	}
 
+	@Override
+	public <C extends CoreAdo> AggregatedChangeDateExpressionBuilder addTreeChangeDate(From<?, C> path) {
+		dateExpressions.add(path.get(CoreAdo.TREE_CHANGE_DATE));
+		return this;
+	}
+
 	private <C> Expression<? extends Date> changeDateExpression(From<?, C> path, String... joinFields) {
 		From<?, ?> parent = path;
 		for (String joinField : joinFields) {
@@ -30,8 +30,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import javax.annotation.Resource;
 import javax.ejb.EJB;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
@@ -51,11 +54,15 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Selection;
 import javax.persistence.criteria.Subquery;
+import javax.transaction.TransactionSynchronizationRegistry;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.hibernate.LockMode;
 import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,11 +82,16 @@ public class BaseAdoService<ADO extends AbstractDomainObject> implements AdoServ
 	// protected to be used by implementations
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
+	private static final Pattern PLAN_ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
+
 	private final Class<ADO> elementClass;
 
 	@EJB
 	private CurrentUserService currentUserService;
 
+	@Resource
+	private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
 	// protected to be used by implementations
 	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
 	protected EntityManager em;
@@ -144,6 +156,25 @@ public class BaseAdoService<ADO extends AbstractDomainObject> implements AdoServ
 		return QueryHelper.getSingleResult(em, cq);
 	}
 
+	/**
+	 * @param nativeQuery
+	 *            SQL query whose number of result rows is estimated; it is planned, but not executed.
+	 * @return The number of rows estimated by the PostgreSQL planner based on the table statistics, null if the database is not
+	 *         PostgreSQL.
+	 */
+	protected Long estimateCount(String nativeQuery) {
+
+		Dialect dialect = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+		if (!(dialect instanceof PostgreSQL81Dialect)) {
+			return null;
+		}
+
+		// the first line describes the top plan node, e.g. "Seq Scan on cases  (cost=0.00..4517.00 rows=99813 width=0)"
+		String plan = (String) em.createNativeQuery("EXPLAIN " + nativeQuery).setMaxResults(1).getSingleResult();
+		Matcher rows = PLAN_ROWS_PATTERN.matcher(plan);
+		return rows.find() ? Long.valueOf(rows.group(1)) : null;
+	}
+
 	@Override
 	public List<ADO> getAll() {
 
@@ -460,6 +491,11 @@ public class BaseAdoService<ADO extends AbstractDomainObject> implements AdoServ
 			return null;
 		}
 
+		ADO prefetched = PrefetchedEntities.get(transactionSynchronizationRegistry, em, getElementClass(), uuid);
+		if (prefetched != null) {
+			return prefetched;
+		}
+
 		final CriteriaBuilder cb = em.getCriteriaBuilder();
 		final ParameterExpression<String> uuidParam = cb.parameter(String.class, AbstractDomainObject.UUID);
 		final CriteriaQuery<Long> cq = cb.createQuery(Long.class);
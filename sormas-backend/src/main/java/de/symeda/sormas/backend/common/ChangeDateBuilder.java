@@ -5,4 +5,10 @@ import javax.persistence.criteria.From;
 public interface ChangeDateBuilder<T extends ChangeDateBuilder> {
 
 	<C> T add(From<?, C> path, String... joinFields);
+
+	/**
+	 * Adds the {@link CoreAdo#getTreeChangeDate()} of the core entity, which already covers its own change date and those of its
+	 * embedded entities.
+	 */
+	<C extends CoreAdo> T addTreeChangeDate(From<?, C> path);
 }
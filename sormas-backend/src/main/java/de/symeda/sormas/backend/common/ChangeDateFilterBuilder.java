@@ -23,6 +23,7 @@ import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.From;
 import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 
 import de.symeda.sormas.api.EntityDto;
@@ -65,6 +66,12 @@ public class ChangeDateFilterBuilder implements ChangeDateBuilder<ChangeDateFilt
 		return this;
 	}
 
+	@Override
+	public <C extends CoreAdo> ChangeDateFilterBuilder addTreeChangeDate(From<?, C> path) {
+		filters.add(changeDateFilter(cb, path.get(CoreAdo.TREE_CHANGE_DATE)));
+		return this;
+	}
+
 	public Predicate build() {
 		return cb.or(filters.build().toArray(Predicate[]::new));
 	}
@@ -75,17 +82,22 @@ public class ChangeDateFilterBuilder implements ChangeDateBuilder<ChangeDateFilt
 			parent = parent.join(joinField, JoinType.LEFT);
 		}
 
+		return changeDateFilter(cb, parent.get(AbstractDomainObject.CHANGE_DATE));
+	}
+
+	private Predicate changeDateFilter(CriteriaBuilder cb, Path<Date> changeDate) {
+
 		Predicate filter;
 		if (dateExpression == null) {
-			filter = CriteriaBuilderHelper.greaterThanOrEqualToAndNotNull(cb, parent.get(AbstractDomainObject.CHANGE_DATE), timestampUpper);
+			filter = CriteriaBuilderHelper.greaterThanOrEqualToAndNotNull(cb, changeDate, timestampUpper);
 		} else {
-			filter = CriteriaBuilderHelper.greaterThanAndNotNull(cb, parent.get(AbstractDomainObject.CHANGE_DATE), dateExpression);
+			filter = CriteriaBuilderHelper.greaterThanAndNotNull(cb, changeDate, dateExpression);
 		}
 
 		if (root != null && lastSynchronizedUuid != null && !EntityDto.NO_LAST_SYNCED_UUID.equals(lastSynchronizedUuid)) {
 			Predicate filterUuid = cb.greaterThan(root.get(AbstractDomainObject.UUID), lastSynchronizedUuid);
 			if (dateExpression == null) {
-				filterUuid = cb.and(cb.greaterThanOrEqualTo(parent.get(AbstractDomainObject.CHANGE_DATE), timestampLower), filterUuid);
+				filterUuid = cb.and(cb.greaterThanOrEqualTo(changeDate, timestampLower), filterUuid);
 			} else {
 				throw new UnsupportedOperationException("ChangeDateFilterBuilder: no implementation for batch filter with date expressions");
 			}
@@ -51,6 +51,7 @@ import de.symeda.sormas.api.utils.CompatibilityCheckResponse;
 import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.api.utils.InfoProvider;
 import de.symeda.sormas.api.utils.VersionHelper;
+import de.symeda.sormas.backend.audit.AsyncAuditQueue;
 
 /**
  * Provides the application configuration settings
@@ -92,7 +93,6 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	public static final String GENERATED_FILES_PATH = "generated.path";
 	public static final String CUSTOM_FILES_PATH = "custom.path";
 	public static final String CSV_SEPARATOR = "csv.separator";
-	public static final String RSCRIPT_EXECUTABLE = "rscript.executable";
 
 	public static final String EMAIL_SENDER_ADDRESS = "email.sender.address";
 	public static final String EMAIL_SENDER_NAME = "email.sender.name";
@@ -104,6 +104,8 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	public static final String NAME_SIMILARITY_THRESHOLD = "namesimilaritythreshold";
 
 	public static final String INFRASTRUCTURE_SYNC_THRESHOLD = "infrastructuresyncthreshold";
+	public static final String SYNC_RESPONSE_SIZE_LIMIT_MB = "syncresponsesizelimitmb";
+	public static final String BULK_PUSH_CHUNK_SIZE = "bulkpushchunksize";
 
 	public static final String INTERFACE_SYMPTOM_JOURNAL_URL = "interface.symptomjournal.url";
 	public static final String INTERFACE_SYMPTOM_JOURNAL_AUTH_URL = "interface.symptomjournal.authurl";
@@ -124,17 +126,25 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	public static final String INTERFACE_PATIENT_DIARY_ACCEPT_PHONE_CONTACT = "interface.patientdiary.acceptPhoneContact";
 
 	public static final String DOCGENERATION_NULL_REPLACEMENT = "docgeneration.nullReplacement";
+	private static final String DOCGENERATION_BULK_THREADS = "docgeneration.bulk.threads";
 	public static final String INTERFACE_DEMIS_JNDINAME = "interface.demis.jndiName";
+	public static final String INTERFACE_DEMIS_CHUNK_SIZE = "interface.demis.chunkSize";
 
 	public static final String ALLOWED_FILE_EXTENSIONS = "allowed.file.extensions";
 	public static final String DEFAULT_ALLOWED_FILETYPES = ".pdf,.txt,.doc,.docx,.odt,.xls,.xlsx,.ods,.ppt,.pptx,.odp,.jpg,.jpeg,.png,.gif,.msg,.html";
 
 	private static final String DAYS_AFTER_SYSTEM_EVENT_GETS_DELETED = "daysAfterSystemEventGetsDeleted";
+	private static final String DAYS_AFTER_CHANGE_LOG_ENTRIES_GET_DELETED = "daysAfterChangeLogEntriesGetDeleted";
 
 	public static final String GEOCODING_SERVICE_URL_TEMPLATE = "geocodingServiceUrlTemplate";
 	private static final String GEOCODING_LONGITUDE_JSON_PATH = "geocodingLongitudeJsonPath";
 	private static final String GEOCODING_LATITUDE_JSON_PATH = "geocodingLatitudeJsonPath";
 	private static final String GEOCODING_EPSG4326_WKT = "geocodingEPSG4326_WKT";
+	public static final String GEOCODING_CACHE_TTL_SECONDS = "geocoding.cache.ttlSeconds";
+	public static final String GEOCODING_CACHE_NEGATIVE_TTL_SECONDS = "geocoding.cache.negativeTtlSeconds";
+	public static final String GEOCODING_CACHE_MAX_ENTRIES = "geocoding.cache.maxEntries";
+	public static final String GEOCODING_MAX_REQUESTS_PER_SECOND = "geocoding.maxRequestsPerSecond";
+	private static final String GEOCODING_BULK_THREADS = "geocoding.bulk.threads";
 
 	private static final String CENTRAL_OIDC_URL = "central.oidc.url";
 	private static final String CENTRAL_ETCD_HOST = "central.etcd.host";
@@ -160,14 +170,27 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	private static final String SORMAS2SORMAS_ETCD_KEY_PREFIX = "sormas2sormas.etcd.keyPrefix";
 
 	public static final String SORMAS2SORMAS_DISTRICT_EXTERNAL_ID = "sormas2sormas.districtExternalId";
+	public static final String SORMAS2SORMAS_CERTIFICATE_CACHE_TTL_SECONDS = "sormas2sormas.certificateCacheTtlSeconds";
 
 	private static final String EXTERNAL_SURVEILLANCE_TOOL_GATEWAY_URL = "survnet.url";
 	private static final String EXTERNAL_SURVEILLANCE_TOOL_VERSION_ENDPOINT = "survnet.versionEndpoint";
 
 	private static final String DASHBOARD_MAP_MARKER_LIMIT = "dashboardMapMarkerLimit";
+	public static final String DASHBOARD_CACHE_ENABLED = "dashboard.cache.enabled";
+	public static final String DASHBOARD_CACHE_TTL_SECONDS = "dashboard.cache.ttlSeconds";
+	public static final String DASHBOARD_CACHE_MAX_ENTRIES = "dashboard.cache.maxEntries";
+	public static final String COUNT_CACHE_ENABLED = "count.cache.enabled";
+	public static final String COUNT_CACHE_TTL_SECONDS = "count.cache.ttlSeconds";
+	public static final String COUNT_CACHE_MAX_ENTRIES = "count.cache.maxEntries";
+	public static final String COUNT_ESTIMATE_THRESHOLD = "count.estimate.threshold";
+	public static final String FEATURE_CACHE_POLL_INTERVAL_SECONDS = "feature.cache.pollIntervalSeconds";
 	private static final String AUDITOR_ATTRIBUTE_LOGGING = "auditor.attribute.logging";
 	private static final String AUDIT_LOGGER_CONFIG = "audit.logger.config";
 	private static final String AUDIT_SOURCE_SITE = "audit.source.site";
+	private static final String AUDIT_LOGGER_ASYNC = "audit.logger.async";
+	private static final String AUDIT_LOGGER_ASYNC_QUEUE_CAPACITY = "audit.logger.async.queueCapacity";
+	private static final String AUDIT_LOGGER_ASYNC_BATCH_SIZE = "audit.logger.async.batchSize";
+	private static final String AUDIT_LOGGER_ASYNC_OVERFLOW_POLICY = "audit.logger.async.overflowPolicy";
 
 	private static final String CREATE_DEFAULT_ENTITIES = "createDefaultEntities";
 	private static final String SKIP_DEFAULT_PASSWORD_CHECK = "skipDefaultPasswordCheck";
@@ -181,6 +204,8 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	public static final int DEFAULT_DOCUMENT_UPLOAD_SIZE_LIMIT_MB = 20;
 	public static final String IMPORT_FILE_SIZE_LIMIT_MB = "importFileSizeLimitMb";
 	public static final int DEFAULT_IMPOR_FILE_SIZE_LIMIT_MB = 20;
+	public static final String IMPORT_THREAD_COUNT = "importThreadCount";
+	public static final String IMPORT_CHUNK_SIZE = "importChunkSize";
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -395,11 +420,6 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(CUSTOM_FILES_PATH, "/opt/sormas/custom/");
 	}
 
-	@Override
-	public String getRScriptExecutable() {
-		return getProperty(RSCRIPT_EXECUTABLE, null);
-	}
-
 	@Override
 	public boolean isFeatureAutomaticCaseClassification() {
 		return getBoolean(FEATURE_AUTOMATIC_CASE_CLASSIFICATION, true);
@@ -445,6 +465,16 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getInt(INFRASTRUCTURE_SYNC_THRESHOLD, 1000);
 	}
 
+	@Override
+	public long getSyncResponseSizeLimitMb() {
+		return getLong(SYNC_RESPONSE_SIZE_LIMIT_MB, 10L);
+	}
+
+	@Override
+	public int getBulkPushChunkSize() {
+		return getInt(BULK_PUSH_CHUNK_SIZE, 100);
+	}
+
 	@Override
 	public char getCsvSeparator() {
 
@@ -460,6 +490,10 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getInt(DAYS_AFTER_SYSTEM_EVENT_GETS_DELETED, 90);
 	}
 
+	public int getDaysAfterChangeLogEntriesGetDeleted() {
+		return getInt(DAYS_AFTER_CHANGE_LOG_ENTRIES_GET_DELETED, 30);
+	}
+
 	@Override
 	public String getGeocodingServiceUrlTemplate() {
 		return getProperty(GEOCODING_SERVICE_URL_TEMPLATE, null);
@@ -482,6 +516,26 @@ public class ConfigFacadeEjb implements ConfigFacade {
 			"GEOGCS[\"WGS 84\",DATUM[\"WGS_1984\",SPHEROID[\"WGS 84\",6378137,298.257223563,AUTHORITY[\"EPSG\",\"7030\"]],AUTHORITY[\"EPSG\",\"6326\"]],PRIMEM[\"Greenwich\",0,AUTHORITY[\"EPSG\",\"8901\"]],UNIT[\"degree\",0.01745329251994328,AUTHORITY[\"EPSG\",\"9122\"]],AXIS[\"Long\",EAST],AXIS[\"Lat\",NORTH],AUTHORITY[\"EPSG\",\"4326\"]]");
 	}
 
+	public int getGeocodingCacheTtlSeconds() {
+		return getInt(GEOCODING_CACHE_TTL_SECONDS, 86400);
+	}
+
+	public int getGeocodingCacheNegativeTtlSeconds() {
+		return getInt(GEOCODING_CACHE_NEGATIVE_TTL_SECONDS, 3600);
+	}
+
+	public int getGeocodingCacheMaxEntries() {
+		return getInt(GEOCODING_CACHE_MAX_ENTRIES, 10000);
+	}
+
+	public double getGeocodingMaxRequestsPerSecond() {
+		return getDouble(GEOCODING_MAX_REQUESTS_PER_SECOND, 10);
+	}
+
+	public int getGeocodingBulkThreads() {
+		return getInt(GEOCODING_BULK_THREADS, 4);
+	}
+
 	@Override
 	public SymptomJournalConfig getSymptomJournalConfig() {
 		SymptomJournalConfig config = new SymptomJournalConfig();
@@ -544,6 +598,10 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return config;
 	}
 
+	public int getS2SCertificateCacheTtlSeconds() {
+		return getInt(SORMAS2SORMAS_CERTIFICATE_CACHE_TTL_SECONDS, 3600);
+	}
+
 	@Override
 	public Boolean isS2SConfigured() {
 		return !StringUtils.isEmpty(getS2SConfig().getPath());
@@ -714,6 +772,10 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(DOCGENERATION_NULL_REPLACEMENT, "./.");
 	}
 
+	public int getDocgenerationBulkThreads() {
+		return getInt(DOCGENERATION_BULK_THREADS, 4);
+	}
+
 	public String getCentralEtcdHost() {
 		return getProperty(CENTRAL_ETCD_HOST, null);
 	}
@@ -749,6 +811,54 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(AUDIT_SOURCE_SITE, "");
 	}
 
+	public boolean isDashboardCacheEnabled() {
+		return getBoolean(DASHBOARD_CACHE_ENABLED, false);
+	}
+
+	public int getDashboardCacheTtlSeconds() {
+		return getInt(DASHBOARD_CACHE_TTL_SECONDS, 300);
+	}
+
+	public int getDashboardCacheMaxEntries() {
+		return getInt(DASHBOARD_CACHE_MAX_ENTRIES, 1000);
+	}
+
+	public boolean isCountCacheEnabled() {
+		return getBoolean(COUNT_CACHE_ENABLED, false);
+	}
+
+	public int getCountCacheTtlSeconds() {
+		return getInt(COUNT_CACHE_TTL_SECONDS, 60);
+	}
+
+	public int getCountCacheMaxEntries() {
+		return getInt(COUNT_CACHE_MAX_ENTRIES, 1000);
+	}
+
+	public long getCountEstimateThreshold() {
+		return getLong(COUNT_ESTIMATE_THRESHOLD, 0L);
+	}
+
+	public int getFeatureCachePollIntervalSeconds() {
+		return getInt(FEATURE_CACHE_POLL_INTERVAL_SECONDS, 10);
+	}
+
+	public boolean isAuditLoggerAsync() {
+		return getBoolean(AUDIT_LOGGER_ASYNC, false);
+	}
+
+	public int getAuditLoggerAsyncQueueCapacity() {
+		return getInt(AUDIT_LOGGER_ASYNC_QUEUE_CAPACITY, 10000);
+	}
+
+	public int getAuditLoggerAsyncBatchSize() {
+		return getInt(AUDIT_LOGGER_ASYNC_BATCH_SIZE, 500);
+	}
+
+	public AsyncAuditQueue.OverflowPolicy getAuditLoggerAsyncOverflowPolicy() {
+		return parseProperty(AUDIT_LOGGER_ASYNC_OVERFLOW_POLICY, AsyncAuditQueue.OverflowPolicy.BLOCK, AsyncAuditQueue.OverflowPolicy::valueOf);
+	}
+
 	@Override
 	public int getStepSizeForCsvExport() {
 		return getInt(STEP_SIZE_FOR_CSV_EXPORT, 5000);
@@ -764,6 +874,11 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(INTERFACE_DEMIS_JNDINAME, null);
 	}
 
+	@Override
+	public int getDemisChunkSize() {
+		return getInt(INTERFACE_DEMIS_CHUNK_SIZE, 100);
+	}
+
 	@Override
 	public String[] getAllowedFileExtensions() {
 		return getProperty(ALLOWED_FILE_EXTENSIONS, DEFAULT_ALLOWED_FILETYPES).split(",");
@@ -779,6 +894,16 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getLong(IMPORT_FILE_SIZE_LIMIT_MB, DEFAULT_IMPOR_FILE_SIZE_LIMIT_MB);
 	}
 
+	@Override
+	public int getImportThreadCount() {
+		return getInt(IMPORT_THREAD_COUNT, 4);
+	}
+
+	@Override
+	public int getImportChunkSize() {
+		return getInt(IMPORT_CHUNK_SIZE, 100);
+	}
+
 	@Override
 	public void setRequestContext(RequestContextTO requestContext) {
 		RequestContextHolder.setRequestContext(requestContext);
@@ -21,6 +21,7 @@ import java.sql.Timestamp;
 
 import javax.persistence.Column;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.PrePersist;
 
 import de.symeda.auditlog.api.Audited;
 
@@ -36,6 +37,7 @@ public class CoreAdo extends DeletableAdo {
     public static final String ARCHIVED = "archived";
 	public static final String END_OF_PROCESSING_DATE = "endOfProcessingDate";
 	public static final String ARCHIVE_UNDONE_REASON = "archiveUndoneReason";
+	public static final String TREE_CHANGE_DATE = "treeChangeDate";
 
 	@NotExposedToApi
 	private boolean archived;
@@ -43,6 +45,8 @@ public class CoreAdo extends DeletableAdo {
 	private Timestamp endOfProcessingDate;
 	@NotExposedToApi
 	private String archiveUndoneReason;
+	@NotExposedToApi
+	private Timestamp treeChangeDate;
 
 	@Column(nullable = false)
 	public boolean isArchived() {
@@ -70,4 +74,32 @@ public class CoreAdo extends DeletableAdo {
 	public void setArchiveUndoneReason(String archiveUndoneReason) {
 		this.archiveUndoneReason = archiveUndoneReason;
 	}
+
+	/**
+	 * The latest change date of the entity and the entities embedded in it (those that are synchronized together with it), so
+	 * changes can be looked up by an index instead of joining all embedded entities.
+	 * <p>
+	 * Not written by the entity itself (and thus not increasing its version), but by the services after the entity or one of the
+	 * embedded entities was persisted.
+	 */
+	@Column(updatable = false, columnDefinition = "TIMESTAMP(3)")
+	public Timestamp getTreeChangeDate() {
+		return treeChangeDate;
+	}
+
+	public void setTreeChangeDate(Timestamp treeChangeDate) {
+		this.treeChangeDate = treeChangeDate;
+	}
+
+	@PrePersist
+	protected void initTreeChangeDate() {
+
+		// the version is only seeded by the persistence provider when not set, so both dates are the same
+		if (getChangeDate() == null) {
+			setChangeDate(new Timestamp(System.currentTimeMillis()));
+		}
+		if (treeChangeDate == null) {
+			treeChangeDate = getChangeDate();
+		}
+	}
 }
@@ -0,0 +1,231 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.user.JurisdictionLevel;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.dashboard.DashboardResultCache;
+import de.symeda.sormas.backend.user.User;
+import de.symeda.sormas.backend.user.UserService;
+
+/**
+ * Provides the total counts of the directories.
+ * <p>
+ * Exact counts are cached for users with the same jurisdiction and the same criteria. A cached count is used as long as the latest
+ * change dates of the counted entities have not advanced and it has not expired after {@code count.cache.ttlSeconds}.
+ * <p>
+ * For national users looking at a directory without filters, the count can be estimated by the PostgreSQL planner instead, which
+ * takes milliseconds regardless of the size of the table.
+ */
+@Singleton
+@LocalBean
+@Lock(LockType.READ)
+public class CountCache {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	@EJB
+	private UserService userService;
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	/**
+	 * @param listName
+	 *            Name of the counted list; lists counted with different user filters need different names.
+	 * @param criteria
+	 *            The criteria of the count; {@code null} for all entries.
+	 * @param dataVersion
+	 *            The latest change date of the counted entities (or a list of the latest change dates of all entities the count depends
+	 *            on).
+	 * @param counter
+	 *            Counts exactly when the count is not cached.
+	 */
+	public long count(String listName, Serializable criteria, Supplier<Object> dataVersion, LongSupplier counter) {
+
+		if (!configFacade.isCountCacheEnabled()) {
+			return counter.getAsLong();
+		}
+
+		List<Object> key = Arrays.asList(listName, criteriaKey(criteria), DashboardResultCache.getUserScope(userService.getCurrentUser()));
+		Object currentDataVersion = dataVersion.get();
+		long now = System.currentTimeMillis();
+
+		Entry entry = entries.get(key);
+		if (entry != null && Objects.equals(entry.dataVersion, currentDataVersion) && !isExpired(entry, now)) {
+			hitCount.incrementAndGet();
+			return entry.count;
+		}
+
+		missCount.incrementAndGet();
+		long count = counter.getAsLong();
+		entries.put(key, new Entry(count, currentDataVersion, now));
+		evictIfFull(now);
+		return count;
+	}
+
+	/**
+	 * @param criteria
+	 *            The criteria of the count; {@code null} for all entries.
+	 * @param unfilteredCriteria
+	 *            The given criteria without any filter that narrows down the list, i.e. a new instance with only the properties set the
+	 *            estimator considers.
+	 * @param estimator
+	 *            Estimates the count of the unfiltered list; returns {@code null} when no estimate is available.
+	 * @return The estimated count or {@code null} when the list should be counted exactly: The user filter or the criteria narrow down
+	 *         the list, or the list is small enough (below {@code count.estimate.threshold}).
+	 */
+	public Long estimate(Serializable criteria, Serializable unfilteredCriteria, Supplier<Long> estimator) {
+
+		long threshold = configFacade.getCountEstimateThreshold();
+		if (threshold <= 0) {
+			return null;
+		}
+
+		User user = userService.getCurrentUser();
+		if (user == null || user.getJurisdictionLevel() != JurisdictionLevel.NATION || user.getLimitedDisease() != null) {
+			return null;
+		}
+
+		if (criteria != null && !criteriaKey(criteria).equals(criteriaKey(unfilteredCriteria))) {
+			return null;
+		}
+
+		Long estimate = estimator.get();
+		return estimate != null && estimate >= threshold ? estimate : null;
+	}
+
+	/**
+	 * The criteria classes do not implement equals, their serialized form contains all filters.
+	 */
+	private static String criteriaKey(Serializable criteria) {
+		return criteria != null ? Base64.getEncoder().encodeToString(SerializationUtils.serialize(criteria)) : null;
+	}
+
+	private boolean isExpired(Entry entry, long now) {
+		return now - entry.createdAt >= TimeUnit.SECONDS.toMillis(configFacade.getCountCacheTtlSeconds());
+	}
+
+	private void evictIfFull(long now) {
+
+		int maxEntries = configFacade.getCountCacheMaxEntries();
+		if (entries.size() <= maxEntries) {
+			return;
+		}
+
+		entries.entrySet().removeIf(e -> {
+			boolean expired = isExpired(e.getValue(), now);
+			if (expired) {
+				evictionCount.incrementAndGet();
+			}
+			return expired;
+		});
+
+		int excessEntries = entries.size() - maxEntries;
+		if (excessEntries > 0) {
+			List<List<Object>> oldestKeys = entries.entrySet()
+				.stream()
+				.sorted(Comparator.comparingLong(e -> e.getValue().createdAt))
+				.limit(excessEntries)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+			oldestKeys.forEach(k -> {
+				if (entries.remove(k) != null) {
+					evictionCount.incrementAndGet();
+				}
+			});
+		}
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return Number of counts discarded because the cache was full.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	public int getSize() {
+		return entries.size();
+	}
+
+	@Schedule(hour = "*", minute = "35", second = "0", persistent = false)
+	public void logStatistics() {
+
+		if (configFacade.isCountCacheEnabled()) {
+			logger.info(
+				"Count cache: {} hits, {} misses, {} evictions, {} entries",
+				getHitCount(),
+				getMissCount(),
+				getEvictionCount(),
+				getSize());
+		}
+	}
+
+	private static final class Entry {
+
+		private final long count;
+		private final Object dataVersion;
+		private final long createdAt;
+
+		private Entry(long count, Object dataVersion, long createdAt) {
+			this.count = count;
+			this.dataVersion = dataVersion;
+			this.createdAt = createdAt;
+		}
+	}
+}
@@ -11,10 +11,14 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.From;
 import javax.persistence.criteria.Join;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
@@ -156,6 +160,40 @@ public class CriteriaBuilderHelper {
 		return cb.isTrue(cb.function(ExtendedPostgreSQL94Dialect.ILIKE, Boolean.class, valueExpression, patternExpression));
 	}
 
+	/**
+	 * Checks whether the infrastructure unit is one of the {@link HasJurisdictionKeys#getJurisdictionKeys() jurisdiction keys} of the
+	 * entity. The containment check can use the GIN index on the keys.
+	 */
+	public static Predicate jurisdictionKeysContain(
+		CriteriaBuilder cb,
+		From<?, ? extends HasJurisdictionKeys> from,
+		InfrastructureAdo infrastructureUnit) {
+		return cb.isTrue(
+			cb.function(
+				ExtendedPostgreSQL94Dialect.ARRAY_CONTAINS_ID,
+				Boolean.class,
+				from.get(HasJurisdictionKeys.JURISDICTION_KEYS),
+				cb.literal(infrastructureUnit.getId())));
+	}
+
+	/**
+	 * Keyset paging filter for the order {@code dateProperty DESC, id DESC}: Selects the rows that follow the row with the id
+	 * {@code afterId} in this order. The date of that row is looked up by a subquery, so the caller only needs the id of the last row
+	 * of the previous page. The date property must not be nullable.
+	 */
+	public static Predicate afterInDescendingOrder(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<?> root, String dateProperty, Long afterId) {
+
+		Subquery<Date> afterDate = cq.subquery(Date.class);
+		Root<?> afterRoot = afterDate.from(root.getJavaType());
+		afterDate.select(afterRoot.<Date> get(dateProperty));
+		afterDate.where(cb.equal(afterRoot.get(AbstractDomainObject.ID), afterId));
+
+		Path<Date> date = root.get(dateProperty);
+		return cb.or(
+			cb.lessThan(date, afterDate),
+			cb.and(cb.equal(date, afterDate), cb.lessThan(root.get(AbstractDomainObject.ID), afterId)));
+	}
+
 	public static Expression<String> windowFirstValueDesc(
 		CriteriaBuilder cb,
 		Path<Object> valueProperty,
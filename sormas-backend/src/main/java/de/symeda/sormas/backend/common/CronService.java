@@ -37,6 +37,7 @@ import de.symeda.sormas.api.task.TaskType;
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
+import de.symeda.sormas.backend.changelog.ChangeLogService;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb.ContactFacadeEjbLocal;
 import de.symeda.sormas.backend.deletionconfiguration.CoreEntityDeletionService;
@@ -90,6 +91,8 @@ public class CronService {
 	private CentralInfraSyncFacade centralInfraSyncFacade;
 	@EJB
 	private CoreEntityDeletionService coreEntityDeletionService;
+	@EJB
+	private ChangeLogService changeLogService;
 
 	@Schedule(hour = "*", minute = "*/" + TASK_UPDATE_INTERVAL, second = "0", persistent = false)
 	public void sendNewAndDueTaskMessages() {
@@ -274,4 +277,15 @@ public class CronService {
 		}
 	}
 
+	@Schedule(hour = "2", minute = "35", persistent = false)
+	public void cleanupChangeLog() {
+		changeLogService.compact();
+		changeLogService.deleteOlderThan(DateHelper.subtractDays(new Date(), configFacade.getDaysAfterChangeLogEntriesGetDeleted()));
+	}
+
+	@Schedule(hour = "2", minute = "40", persistent = false)
+	public void reclassifyCasesWithChangedCriteria() {
+		caseFacade.reclassifyCasesWithChangedCriteria();
+	}
+
 }
@@ -0,0 +1,40 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import java.util.List;
+
+/**
+ * An entity that stores the ids of all infrastructure units it belongs to (place and responsible jurisdiction) in one array column.
+ * The user filters check the jurisdiction with one containment predicate on this column, which is backed by a GIN index, instead of
+ * comparing every infrastructure column.
+ * <p>
+ * The keys are maintained by the {@link JurisdictionKeysListener}. Ids are unique across all entity tables, so the ids of regions,
+ * districts, communities, facilities and points of entry can share one array.
+ */
+public interface HasJurisdictionKeys {
+
+	String JURISDICTION_KEYS = "jurisdictionKeys";
+
+	List<Long> getJurisdictionKeys();
+
+	void setJurisdictionKeys(List<Long> jurisdictionKeys);
+
+	/**
+	 * @return The infrastructure units whose ids are stored as jurisdiction keys. May contain {@code null}.
+	 */
+	List<InfrastructureAdo> jurisdictionUnits();
+}
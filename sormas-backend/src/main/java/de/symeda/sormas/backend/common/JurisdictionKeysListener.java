@@ -0,0 +1,51 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+
+/**
+ * Recalculates the {@link HasJurisdictionKeys#getJurisdictionKeys() jurisdiction keys} whenever an entity is inserted or updated, so
+ * they are written in the same statement as the infrastructure columns they are derived from.
+ */
+public class JurisdictionKeysListener {
+
+	@PrePersist
+	@PreUpdate
+	public void updateJurisdictionKeys(Object entity) {
+
+		HasJurisdictionKeys holder = (HasJurisdictionKeys) entity;
+		List<Long> jurisdictionKeys = toJurisdictionKeys(holder.jurisdictionUnits());
+		if (!jurisdictionKeys.equals(holder.getJurisdictionKeys())) {
+			holder.setJurisdictionKeys(jurisdictionKeys);
+		}
+	}
+
+	public static List<Long> toJurisdictionKeys(List<InfrastructureAdo> jurisdictionUnits) {
+		return jurisdictionUnits.stream()
+			.filter(Objects::nonNull)
+			.map(InfrastructureAdo::getId)
+			.filter(Objects::nonNull)
+			.distinct()
+			.sorted()
+			.collect(Collectors.toList());
+	}
+}
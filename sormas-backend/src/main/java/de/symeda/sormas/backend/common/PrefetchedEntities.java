@@ -0,0 +1,93 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Status;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * The entities {@link ReferencePrefetchFacadeEjb} loaded for the current transaction, by class and uuid, so
+ * {@link BaseAdoService#getByUuid(String)} finds them without querying their ids.
+ */
+public final class PrefetchedEntities {
+
+	private static final Object RESOURCE_KEY = PrefetchedEntities.class;
+
+	private PrefetchedEntities() {
+		// Hide Utility Class Constructor
+	}
+
+	/**
+	 * Does nothing outside of a transaction.
+	 */
+	public static void add(TransactionSynchronizationRegistry registry, Class<?> entityClass, Collection<?> entities) {
+
+		Map<Class<?>, Map<String, AbstractDomainObject>> prefetched = getPrefetched(registry, true);
+		if (prefetched == null) {
+			return;
+		}
+
+		Map<String, AbstractDomainObject> entitiesByUuid = prefetched.computeIfAbsent(entityClass, c -> new HashMap<>());
+		for (Object entity : entities) {
+			if (entity instanceof AbstractDomainObject) {
+				entitiesByUuid.put(((AbstractDomainObject) entity).getUuid(), (AbstractDomainObject) entity);
+			}
+		}
+	}
+
+	/**
+	 * @return {@code null} if the entity was not prefetched in the current transaction or is no longer managed by the entity manager
+	 *         (e.g. because it was removed).
+	 */
+	public static <ADO extends AbstractDomainObject> ADO get(
+		TransactionSynchronizationRegistry registry,
+		EntityManager em,
+		Class<ADO> entityClass,
+		String uuid) {
+
+		Map<Class<?>, Map<String, AbstractDomainObject>> prefetched = getPrefetched(registry, false);
+		if (prefetched == null) {
+			return null;
+		}
+
+		Map<String, AbstractDomainObject> entities = prefetched.get(entityClass);
+		AbstractDomainObject entity = entities != null ? entities.get(uuid) : null;
+		return entity != null && em.contains(entity) ? entityClass.cast(entity) : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Class<?>, Map<String, AbstractDomainObject>> getPrefetched(
+		TransactionSynchronizationRegistry registry,
+		boolean create) {
+
+		if (registry == null || registry.getTransactionStatus() == Status.STATUS_NO_TRANSACTION) {
+			return null;
+		}
+
+		Map<Class<?>, Map<String, AbstractDomainObject>> prefetched =
+			(Map<Class<?>, Map<String, AbstractDomainObject>>) registry.getResource(RESOURCE_KEY);
+		if (prefetched == null && create) {
+			prefetched = new HashMap<>();
+			registry.putResource(RESOURCE_KEY, prefetched);
+		}
+		return prefetched;
+	}
+}
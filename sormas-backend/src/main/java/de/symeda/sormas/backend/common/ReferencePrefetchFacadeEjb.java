@@ -0,0 +1,177 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Resource;
+import javax.ejb.LocalBean;
+import javax.ejb.Stateless;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.metamodel.EntityType;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.EntityDto;
+import de.symeda.sormas.api.ReferenceDto;
+import de.symeda.sormas.api.audit.AuditIgnore;
+import de.symeda.sormas.api.common.ReferencePrefetchFacade;
+import de.symeda.sormas.backend.util.IterableHelper;
+import de.symeda.sormas.backend.util.ModelConstants;
+
+@AuditIgnore
+@Stateless(name = "ReferencePrefetchFacade")
+public class ReferencePrefetchFacadeEjb implements ReferencePrefetchFacade {
+
+	/**
+	 * Embedded DTOs (e.g. the address of a person or the symptoms of a case) are searched for references up to this depth.
+	 */
+	private static final int MAX_DEPTH = 2;
+
+	private static final Map<Class<?>, List<Method>> REFERENCE_GETTERS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, List<Method>> EMBEDDED_DTO_GETTERS = new ConcurrentHashMap<>();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
+	@Resource
+	private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+	@Override
+	public void prefetch(Collection<? extends EntityDto> dtos) {
+
+		if (dtos == null || dtos.isEmpty()) {
+			return;
+		}
+
+		Map<String, EntityType<?>> entityTypes = new HashMap<>();
+		em.getMetamodel().getEntities().forEach(e -> entityTypes.put(e.getJavaType().getSimpleName(), e));
+
+		Map<EntityType<?>, Set<String>> uuidsByEntityType = new HashMap<>();
+		for (EntityDto dto : dtos) {
+			if (dto.getUuid() != null) {
+				addUuid(uuidsByEntityType, entityTypes.get(getEntityName(dto.getClass(), "Dto")), dto.getUuid());
+			}
+			collectReferences(dto, 0, entityTypes, uuidsByEntityType);
+		}
+
+		uuidsByEntityType.forEach(
+			(entityType, uuids) -> IterableHelper.executeBatched(
+				new ArrayList<>(uuids),
+				ModelConstants.PARAMETER_LIMIT,
+				batch -> PrefetchedEntities.add(
+					transactionSynchronizationRegistry,
+					entityType.getJavaType(),
+					em.createQuery("SELECT e FROM " + entityType.getName() + " e WHERE e." + AbstractDomainObject.UUID + " IN :uuids")
+						.setParameter("uuids", batch)
+						.getResultList())));
+	}
+
+	private void collectReferences(
+		Object dto,
+		int depth,
+		Map<String, EntityType<?>> entityTypes,
+		Map<EntityType<?>, Set<String>> uuidsByEntityType) {
+
+		for (Method getter : getGetters(REFERENCE_GETTERS, dto.getClass(), ReferenceDto.class)) {
+			ReferenceDto reference = (ReferenceDto) invoke(getter, dto);
+			if (reference != null && reference.getUuid() != null) {
+				addUuid(uuidsByEntityType, entityTypes.get(getEntityName(reference.getClass(), "ReferenceDto")), reference.getUuid());
+			}
+		}
+
+		if (depth < MAX_DEPTH) {
+			for (Method getter : getGetters(EMBEDDED_DTO_GETTERS, dto.getClass(), EntityDto.class)) {
+				Object embedded = invoke(getter, dto);
+				if (embedded != null) {
+					collectReferences(embedded, depth + 1, entityTypes, uuidsByEntityType);
+				}
+			}
+		}
+	}
+
+	private static void addUuid(Map<EntityType<?>, Set<String>> uuidsByEntityType, EntityType<?> entityType, String uuid) {
+
+		// references that do not match an entity by name are not prefetched
+		if (entityType != null) {
+			uuidsByEntityType.computeIfAbsent(entityType, e -> new HashSet<>()).add(uuid);
+		}
+	}
+
+	/**
+	 * CaseDataDto and CaseReferenceDto both belong to Case, RegionReferenceDto belongs to Region.
+	 */
+	private static String getEntityName(Class<?> dtoClass, String suffix) {
+
+		String name = dtoClass.getSimpleName();
+		if (name.endsWith("Data" + suffix)) {
+			suffix = "Data" + suffix;
+		}
+		return name.endsWith(suffix) ? name.substring(0, name.length() - suffix.length()) : name;
+	}
+
+	private static List<Method> getGetters(Map<Class<?>, List<Method>> cache, Class<?> dtoClass, Class<?> propertyType) {
+
+		return cache.computeIfAbsent(dtoClass, c -> {
+			List<Method> getters = new ArrayList<>();
+			try {
+				for (PropertyDescriptor property : Introspector.getBeanInfo(c).getPropertyDescriptors()) {
+					if (property.getReadMethod() != null
+						&& property.getPropertyType() != null
+						&& propertyType.isAssignableFrom(property.getPropertyType())) {
+						getters.add(property.getReadMethod());
+					}
+				}
+			} catch (IntrospectionException e) {
+				throw new RuntimeException(e);
+			}
+			return getters;
+		});
+	}
+
+	private Object invoke(Method getter, Object dto) {
+
+		try {
+			return getter.invoke(dto);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			logger.warn("Could not read {} of {}", getter.getName(), dto.getClass().getSimpleName(), e);
+			return null;
+		}
+	}
+
+	@LocalBean
+	@Stateless
+	public static class ReferencePrefetchFacadeEjbLocal extends ReferencePrefetchFacadeEjb {
+
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.slf4j.Logger;
+
+/**
+ * An immutable in-memory value built from the entities of one class, for singletons that serve frequent reads without querying the
+ * database.
+ * <p>
+ * The version of a value is the number and the latest change date of the entities. To notice changes made on other application
+ * servers, it is compared with the database at most once per poll interval. Changes made on this server are announced with
+ * {@link #invalidate(EntityManager, long)}.
+ */
+public final class VersionedSnapshot<T> {
+
+	private final Class<? extends AbstractDomainObject> entityClass;
+	private final Supplier<T> loader;
+
+	private volatile Snapshot<T> snapshot;
+	/**
+	 * Changes made on this server are only visible to other transactions after the commit, so after an invalidation the version is
+	 * polled on every read until a value of the changed version was built (or the poll interval has passed, e.g. after a rollback).
+	 */
+	private volatile List<Object> pendingVersion;
+	private volatile long pendingUntil;
+
+	private final AtomicLong readCount = new AtomicLong();
+	private final AtomicLong pollCount = new AtomicLong();
+	private final AtomicLong rebuildCount = new AtomicLong();
+	private final AtomicLong queryCount = new AtomicLong();
+
+	/**
+	 * @param loader
+	 *            Builds the value from the current entities with one query; called within the transaction of the read.
+	 */
+	public VersionedSnapshot(Class<? extends AbstractDomainObject> entityClass, Supplier<T> loader) {
+		this.entityClass = entityClass;
+		this.loader = loader;
+	}
+
+	/**
+	 * @return The current value, rebuilt if the entities have changed.
+	 */
+	public T get(EntityManager em, long pollIntervalMillis) {
+
+		readCount.incrementAndGet();
+
+		Snapshot<T> current = snapshot;
+		long now = System.currentTimeMillis();
+		if (current == null) {
+			return rebuild(em, now);
+		}
+
+		if (now - current.checkedAt >= pollIntervalMillis || (pendingVersion != null && now < pendingUntil)) {
+			pollCount.incrementAndGet();
+			if (!current.version.equals(queryVersion(em))) {
+				return rebuild(em, now);
+			}
+			current.checkedAt = now;
+		}
+
+		return current.value;
+	}
+
+	/**
+	 * Called in the transaction that changed entities on this server, after the changes were flushed. Does nothing while the value is
+	 * not used.
+	 */
+	public void invalidate(EntityManager em, long pollIntervalMillis) {
+
+		if (snapshot == null && pendingVersion == null) {
+			return;
+		}
+
+		snapshot = null;
+		pendingVersion = queryVersion(em);
+		pendingUntil = System.currentTimeMillis() + pollIntervalMillis;
+	}
+
+	/**
+	 * Drops the value, so the next read rebuilds it.
+	 */
+	public void clear() {
+
+		snapshot = null;
+		pendingVersion = null;
+	}
+
+	private T rebuild(EntityManager em, long now) {
+
+		rebuildCount.incrementAndGet();
+
+		// the version is read first, so changes made during the rebuild lead to another rebuild
+		List<Object> version = queryVersion(em);
+		Snapshot<T> rebuilt = new Snapshot<>(version, loader.get(), now);
+		queryCount.incrementAndGet();
+		snapshot = rebuilt;
+		if (version.equals(pendingVersion)) {
+			pendingVersion = null;
+		}
+		return rebuilt.value;
+	}
+
+	private List<Object> queryVersion(EntityManager em) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<? extends AbstractDomainObject> root = cq.from(entityClass);
+		cq.multiselect(cb.count(root), cb.greatest(root.<Date> get(AbstractDomainObject.CHANGE_DATE)));
+
+		List<Object> version = Arrays.asList(em.createQuery(cq).getSingleResult());
+		queryCount.incrementAndGet();
+		return version;
+	}
+
+	/**
+	 * @return Number of reads served (including the polls and rebuilds).
+	 */
+	public long getReadCount() {
+		return readCount.get();
+	}
+
+	/**
+	 * @return Number of times the value was compared with the database.
+	 */
+	public long getPollCount() {
+		return pollCount.get();
+	}
+
+	public long getRebuildCount() {
+		return rebuildCount.get();
+	}
+
+	/**
+	 * @return Number of database queries issued for versions and rebuilds, including those of invalidations.
+	 */
+	public long getQueryCount() {
+		return queryCount.get();
+	}
+
+	/**
+	 * Logs the summed up statistics of the snapshots since the server start, if they were read at all. Every read used to be one
+	 * query, so the saved queries are the reads minus the queries actually issued.
+	 */
+	public static void logStatistics(Logger logger, String name, Collection<? extends VersionedSnapshot<?>> snapshots) {
+
+		long reads = snapshots.stream().mapToLong(VersionedSnapshot::getReadCount).sum();
+		if (reads > 0) {
+			long polls = snapshots.stream().mapToLong(VersionedSnapshot::getPollCount).sum();
+			long rebuilds = snapshots.stream().mapToLong(VersionedSnapshot::getRebuildCount).sum();
+			long queries = snapshots.stream().mapToLong(VersionedSnapshot::getQueryCount).sum();
+			logger.info(
+				"{}: {} reads, {} version polls, {} rebuilds, {} database queries; {} database queries saved",
+				name,
+				reads,
+				polls,
+				rebuilds,
+				queries,
+				reads - queries);
+		}
+	}
+
+	private static final class Snapshot<T> {
+
+		private final List<Object> version;
+		private final T value;
+		private volatile long checkedAt;
+
+		private Snapshot(List<Object> version, T value, long checkedAt) {
+			this.version = version;
+			this.value = value;
+			this.checkedAt = checkedAt;
+		}
+	}
+}
@@ -21,6 +21,7 @@ import static de.symeda.sormas.api.utils.FieldConstraints.CHARACTER_LIMIT_BIG;
 import static de.symeda.sormas.api.utils.FieldConstraints.CHARACTER_LIMIT_DEFAULT;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -29,6 +30,7 @@ import java.util.Set;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
@@ -41,6 +43,12 @@ import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Type;
+import org.hibernate.annotations.TypeDef;
+
+import com.vladmihalcea.hibernate.type.array.ListArrayType;
+
 import de.symeda.auditlog.api.Audited;
 import de.symeda.auditlog.api.AuditedIgnore;
 import de.symeda.sormas.api.Disease;
@@ -63,6 +71,10 @@ import de.symeda.sormas.api.utils.YesNoUnknown;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.clinicalcourse.HealthConditions;
 import de.symeda.sormas.backend.common.CoreAdo;
+import de.symeda.sormas.backend.common.HasJurisdictionKeys;
+import de.symeda.sormas.backend.common.InfrastructureAdo;
+import de.symeda.sormas.backend.common.JurisdictionKeysListener;
+import de.symeda.sormas.backend.common.NotExposedToApi;
 import de.symeda.sormas.backend.epidata.EpiData;
 import de.symeda.sormas.backend.infrastructure.community.Community;
 import de.symeda.sormas.backend.infrastructure.district.District;
@@ -78,7 +90,9 @@ import de.symeda.sormas.backend.visit.Visit;
 
 @Entity(name = "contact")
 @Audited
-public class Contact extends CoreAdo implements SormasToSormasShareable, HasExternalData {
+@EntityListeners(JurisdictionKeysListener.class)
+@TypeDef(name = "list-array", typeClass = ListArrayType.class)
+public class Contact extends CoreAdo implements SormasToSormasShareable, HasExternalData, HasJurisdictionKeys {
 
 	private static final long serialVersionUID = -7764607075875188799L;
 
@@ -177,6 +191,8 @@ public class Contact extends CoreAdo implements SormasToSormasShareable, HasExte
 	private Region region;
 	private District district;
 	private Community community;
+	@NotExposedToApi
+	private List<Long> jurisdictionKeys;
 
 	private Person person;
 	private Case caze;
@@ -667,6 +683,24 @@ public class Contact extends CoreAdo implements SormasToSormasShareable, HasExte
 		this.community = community;
 	}
 
+	@Override
+	@AuditedIgnore
+	@Type(type = "list-array", parameters = @Parameter(name = ListArrayType.SQL_ARRAY_TYPE, value = "bigint"))
+	@Column(columnDefinition = "BIGINT ARRAY")
+	public List<Long> getJurisdictionKeys() {
+		return jurisdictionKeys;
+	}
+
+	@Override
+	public void setJurisdictionKeys(List<Long> jurisdictionKeys) {
+		this.jurisdictionKeys = jurisdictionKeys;
+	}
+
+	@Override
+	public List<InfrastructureAdo> jurisdictionUnits() {
+		return Arrays.asList(region, district, community);
+	}
+
 	@Column
 	public boolean isHighPriority() {
 		return highPriority;
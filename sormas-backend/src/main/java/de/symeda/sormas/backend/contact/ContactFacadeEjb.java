@@ -31,6 +31,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -112,6 +114,9 @@ import de.symeda.sormas.api.feature.FeatureTypeProperty;
 import de.symeda.sormas.api.followup.FollowUpDto;
 import de.symeda.sormas.api.followup.FollowUpLogic;
 import de.symeda.sormas.api.followup.FollowUpPeriodDto;
+import de.symeda.sormas.api.geo.GeoBounds;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
 import de.symeda.sormas.api.i18n.Captions;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.i18n.Strings;
@@ -155,7 +160,9 @@ import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.clinicalcourse.HealthConditionsMapper;
 import de.symeda.sormas.backend.common.AbstractCoreFacadeEjb;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
+import de.symeda.sormas.backend.common.CountCache;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
+import de.symeda.sormas.backend.common.InfrastructureAdo;
 import de.symeda.sormas.backend.common.TaskCreationException;
 import de.symeda.sormas.backend.disease.DiseaseConfigurationFacadeEjb.DiseaseConfigurationFacadeEjbLocal;
 import de.symeda.sormas.backend.document.Document;
@@ -223,6 +230,8 @@ public class ContactFacadeEjb
 	extends AbstractCoreFacadeEjb<Contact, ContactDto, ContactIndexDto, ContactReferenceDto, ContactService, ContactCriteria>
 	implements ContactFacade {
 
+	private static final int FOLLOW_UP_TASK_BATCH_SIZE = 1000;
+
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	@EJB
@@ -279,6 +288,8 @@ public class ContactFacadeEjb
 	private ContactService contactService;
 	@EJB
 	private UserRoleFacadeEjb.UserRoleFacadeEjbLocal userRoleFacadeEjb;
+	@EJB
+	private CountCache countCache;
 
 	@Resource
 	private ManagedScheduledExecutorService executorService;
@@ -520,6 +531,25 @@ public class ContactFacadeEjb
 		return service.getContactsForMap(region, district, disease, from, to);
 	}
 
+	@Override
+	@RightsAllowed({
+		UserRight._DASHBOARD_CONTACT_VIEW })
+	public List<MapClusterDto<ContactClassification>> getContactClustersForMap(
+		RegionReferenceDto regionRef,
+		DistrictReferenceDto districtRef,
+		Disease disease,
+		Date from,
+		Date to,
+		GeoBounds bounds,
+		int zoom,
+		MapClusterGrouping grouping) {
+
+		Region region = regionService.getByReferenceDto(regionRef);
+		District district = districtService.getByReferenceDto(districtRef);
+
+		return service.getContactClustersForMap(region, district, disease, from, to, bounds, zoom, grouping);
+	}
+
 	@Override
 	public Page<ContactIndexDto> getIndexPage(ContactCriteria contactCriteria, Integer offset, Integer size, List<SortProperty> sortProperties) {
 		List<ContactIndexDto> contactIndexList = getIndexList(contactCriteria, offset, size, sortProperties);
@@ -616,6 +646,35 @@ public class ContactFacadeEjb
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage) {
 
+		return getExportList(contactCriteria, selectedRows, first, null, max, exportConfiguration, userLanguage);
+	}
+
+	@Override
+	@RightsAllowed(UserRight._CONTACT_EXPORT)
+	public List<ContactExportDto> getExportListAfter(
+		ContactCriteria contactCriteria,
+		Collection<String> selectedRows,
+		Long afterId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
+
+		return getExportList(contactCriteria, selectedRows, null, afterId, max, exportConfiguration, userLanguage);
+	}
+
+	/**
+	 * @param first
+	 *            Offset for offset paging. {@code null} for keyset paging, starting after the contact with the id {@code afterId}.
+	 */
+	private List<ContactExportDto> getExportList(
+		ContactCriteria contactCriteria,
+		Collection<String> selectedRows,
+		Integer first,
+		Long afterId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
+
 		final CriteriaBuilder cb = em.getCriteriaBuilder();
 		final CriteriaQuery<ContactExportDto> cq = cb.createQuery(ContactExportDto.class);
 		final Root<Contact> contact = cq.from(Contact.class);
@@ -721,13 +780,17 @@ public class ContactFacadeEjb
 		Predicate filter = listCriteriaBuilder.buildContactFilter(contactCriteria, contactQueryContext);
 
 		filter = CriteriaBuilderHelper.andInValues(selectedRows, filter, cb, contact.get(Contact.UUID));
+		if (afterId != null) {
+			filter = CriteriaBuilderHelper
+				.and(cb, filter, CriteriaBuilderHelper.afterInDescendingOrder(cb, cq, contact, Contact.REPORT_DATE_TIME, afterId));
+		}
 		if (filter != null) {
 			cq.where(filter);
 		}
 
 		cq.orderBy(cb.desc(contact.get(Contact.REPORT_DATE_TIME)), cb.desc(contact.get(Contact.ID)));
 
-		List<ContactExportDto> exportContacts = QueryHelper.getResultList(em, cq, first, max);
+		List<ContactExportDto> exportContacts = QueryHelper.getResultList(em, cq, first != null ? first : 0, max);
 		List<String> resultContactsUuids = exportContacts.stream().map(ContactExportDto::getUuid).collect(Collectors.toList());
 
 		if (!exportContacts.isEmpty()) {
@@ -1064,6 +1127,23 @@ public class ContactFacadeEjb
 	@Override
 	public long count(ContactCriteria contactCriteria) {
 
+		return countCache.count("contacts", contactCriteria, service::getLatestChangeDate, () -> countExactly(contactCriteria));
+	}
+
+	@Override
+	public Long estimateCount(ContactCriteria contactCriteria) {
+
+		ContactCriteria unfilteredCriteria = new ContactCriteria();
+		if (contactCriteria != null) {
+			unfilteredCriteria.relevanceStatus(contactCriteria.getRelevanceStatus());
+			// only excludes the contacts handed over to other systems
+			unfilteredCriteria.setWithOwnership(contactCriteria.getWithOwnership());
+		}
+		return countCache.estimate(contactCriteria, unfilteredCriteria, () -> service.estimateCount(unfilteredCriteria.getRelevanceStatus()));
+	}
+
+	private long countExactly(ContactCriteria contactCriteria) {
+
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
 		Root<Contact> root = cq.from(Contact.class);
@@ -1871,49 +1951,57 @@ public class ContactFacadeEjb
 		// get all contacts that are followed up
 		LocalDateTime fromDateTime = LocalDate.now().atStartOfDay();
 		LocalDateTime toDateTime = fromDateTime.plusDays(1);
-		List<Contact> contacts = service.getFollowUpBetween(UtilDate.from(fromDateTime), UtilDate.from(toDateTime));
+		Date fromDate = UtilDate.from(fromDateTime);
+		Date toDate = UtilDate.from(toDateTime);
+		List<Long> contactIds = service.getFollowUpIdsBetween(fromDate, toDate);
 
-		for (Contact contact : contacts) {
-			// Only generate tasks for contacts that are under follow-up
-			if (!(contact.getFollowUpStatus().equals(FollowUpStatus.FOLLOW_UP) || contact.getFollowUpStatus().equals(FollowUpStatus.LOST))) {
-				continue;
-			}
+		// the users of each district and region are only looked up once
+		Map<InfrastructureAdo, List<UserReference>> assigneeCandidates = new HashMap<>();
 
-			User assignee;
-			try {
-				assignee = taskService.getTaskAssignee(contact);
-			} catch (TaskCreationException e) {
-				logger.warn(e.getMessage());
-				continue;
-			}
+		IterableHelper.executeBatched(contactIds, FOLLOW_UP_TASK_BATCH_SIZE, batchedIds -> {
 
 			// find already existing tasks
-			List<Task> pendingUserTasks = taskService.findByAssigneeContactTypeAndStatuses(
-				assignee.toReference(),
-				contact.toReference(),
-				TaskType.CONTACT_FOLLOW_UP,
-				TaskStatus.IN_PROGRESS,
-				TaskStatus.PENDING);
-
-			if (!pendingUserTasks.isEmpty()) {
-				// the user still has a pending task for this contact
-				continue;
+			Map<Long, Set<Long>> pendingTaskAssigneeIds = new HashMap<>();
+			Set<Long> dayTaskContactIds = new HashSet<>();
+			for (Object[] taskState : taskService.getContactFollowUpTaskStates(batchedIds, fromDate, toDate)) {
+				Long contactId = (Long) taskState[0];
+				TaskStatus taskStatus = (TaskStatus) taskState[2];
+				Date dueDate = (Date) taskState[3];
+				if (taskStatus == TaskStatus.IN_PROGRESS || taskStatus == TaskStatus.PENDING) {
+					pendingTaskAssigneeIds.computeIfAbsent(contactId, id -> new HashSet<>()).add((Long) taskState[1]);
+				}
+				if (!dueDate.before(fromDate) && dueDate.before(toDate)) {
+					dayTaskContactIds.add(contactId);
+				}
 			}
 
-			TaskCriteria dayTaskCriteria = new TaskCriteria().contact(contact.toReference())
-				.taskType(TaskType.CONTACT_FOLLOW_UP)
-				.dueDateBetween(UtilDate.from(fromDateTime), UtilDate.from(toDateTime));
-			List<Task> dayTasks = taskService.findBy(dayTaskCriteria, true);
+			for (Contact contact : service.getForFollowUpTasks(batchedIds)) {
+				if (dayTaskContactIds.contains(contact.getId())) {
+					// there is already a task for the exact day
+					continue;
+				}
+
+				User assignee;
+				try {
+					assignee = taskService.getTaskAssignee(contact, assigneeCandidates);
+				} catch (TaskCreationException e) {
+					logger.warn(e.getMessage());
+					continue;
+				}
+
+				if (pendingTaskAssigneeIds.getOrDefault(contact.getId(), Collections.emptySet()).contains(assignee.getId())) {
+					// the user still has a pending task for this contact
+					continue;
+				}
 
-			if (!dayTasks.isEmpty()) {
-				// there is already a task for the exact day
-				continue;
+				// none found -> create the task
+				taskService.persist(createContactTask(TaskType.CONTACT_FOLLOW_UP, fromDateTime, toDateTime, contact, assignee));
 			}
 
-			// none found -> create the task
-			Task task = createContactTask(TaskType.CONTACT_FOLLOW_UP, fromDateTime, toDateTime, contact, assignee);
-			taskService.ensurePersisted(task);
-		}
+			// the new tasks are inserted in JDBC batches, then the persistence context is emptied for the next contacts
+			em.flush();
+			em.clear();
+		});
 	}
 
 	private Task createContactTask(TaskType taskType, LocalDateTime fromDateTime, LocalDateTime toDateTime, Contact contact, User assignee) {
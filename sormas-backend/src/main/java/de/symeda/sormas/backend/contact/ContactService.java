@@ -80,6 +80,9 @@ import de.symeda.sormas.api.externaldata.ExternalDataUpdateException;
 import de.symeda.sormas.api.feature.FeatureType;
 import de.symeda.sormas.api.feature.FeatureTypeProperty;
 import de.symeda.sormas.api.followup.FollowUpLogic;
+import de.symeda.sormas.api.geo.GeoBounds;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.i18n.Strings;
 import de.symeda.sormas.api.sormastosormas.SormasToSormasException;
@@ -90,6 +93,7 @@ import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.FieldConstraints;
 import de.symeda.sormas.api.visit.VisitStatus;
+import de.symeda.sormas.backend.ExtendedPostgreSQL94Dialect;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.caze.CaseQueryContext;
 import de.symeda.sormas.backend.caze.CaseService;
@@ -98,8 +102,8 @@ import de.symeda.sormas.backend.clinicalcourse.HealthConditions;
 import de.symeda.sormas.backend.common.AbstractCoreAdoService;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ChangeDateBuilder;
-import de.symeda.sormas.backend.common.ChangeDateFilterBuilder;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
+import de.symeda.sormas.backend.common.CoreAdo;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.DeletableAdo;
 import de.symeda.sormas.backend.common.JurisdictionFlagsService;
@@ -112,6 +116,8 @@ import de.symeda.sormas.backend.event.Event;
 import de.symeda.sormas.backend.event.EventParticipant;
 import de.symeda.sormas.backend.exposure.ExposureService;
 import de.symeda.sormas.backend.externaljournal.ExternalJournalService;
+import de.symeda.sormas.backend.geo.GeoShapeProviderEjb;
+import de.symeda.sormas.backend.geo.MapClusterHelper;
 import de.symeda.sormas.backend.infrastructure.community.Community;
 import de.symeda.sormas.backend.infrastructure.district.District;
 import de.symeda.sormas.backend.infrastructure.region.Region;
@@ -180,6 +186,8 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 	private SormasToSormasFacadeEjb.SormasToSormasFacadeEjbLocal sormasToSormasFacade;
 	@EJB
 	private ContactListCriteriaBuilder listCriteriaBuilder;
+	@EJB
+	private GeoShapeProviderEjb.GeoShapeProviderEjbLocal geoShapeProvider;
 
 	public ContactService() {
 		super(Contact.class);
@@ -225,23 +233,17 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 
 	@Override
 	public Predicate createChangeDateFilter(CriteriaBuilder cb, From<?, Contact> from, Date date) {
-		return createChangeDateFilter(cb, toJoins(from), DateHelper.toTimestampUpper(date), null);
+		return createTreeChangeDateFilter(cb, from, DateHelper.toTimestampUpper(date), null);
 	}
 
 	@Override
 	public Predicate createChangeDateFilter(CriteriaBuilder cb, From<?, Contact> from, Timestamp date) {
-		return createChangeDateFilter(cb, toJoins(from), DateHelper.toTimestampUpper(date), null);
+		return createTreeChangeDateFilter(cb, from, DateHelper.toTimestampUpper(date), null);
 	}
 
 	@Override
 	public Predicate createChangeDateFilter(CriteriaBuilder cb, From<?, Contact> from, Date date, String lastSynchronizedUuid) {
-		return createChangeDateFilter(cb, toJoins(from), DateHelper.toTimestampUpper(date), null);
-	}
-
-	public Predicate createChangeDateFilter(CriteriaBuilder cb, ContactJoins joins, Timestamp date, String lastSynchronizedUuid) {
-
-		ChangeDateFilterBuilder changeDateFilterBuilder = new ChangeDateFilterBuilder(cb, date, joins.getRoot(), lastSynchronizedUuid);
-		return addChangeDates(changeDateFilterBuilder, joins, false).build();
+		return createTreeChangeDateFilter(cb, from, DateHelper.toTimestampUpper(date), null);
 	}
 
 	@Override
@@ -259,15 +261,15 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 			.add(joins.getRoot(), Contact.SORMAS_TO_SORMAS_ORIGIN_INFO)
 			.add(joins.getRoot(), Contact.SORMAS_TO_SORMAS_SHARES);
 
-		builder = epiDataService.addChangeDates(builder, epiData);
+		return epiDataService.addChangeDates(builder, epiData);
+	}
 
-		if (includeExtendedChangeDateFilters) {
-			Join<Contact, Sample> contactSampleJoin = joins.getSamples();
-			Join<Contact, Visit> contactVisitJoin = joins.getVisits();
-			builder.add(contactSampleJoin).add(contactSampleJoin, Sample.PATHOGENTESTS).add(contactVisitJoin);
-		}
+	@Override
+	protected <T extends ChangeDateBuilder<T>> T addExtendedChangeDates(T builder, ContactJoins joins) {
 
-		return builder;
+		Join<Contact, Sample> contactSampleJoin = joins.getSamples();
+		Join<Contact, Visit> contactVisitJoin = joins.getVisits();
+		return builder.add(contactSampleJoin).add(contactSampleJoin, Sample.PATHOGENTESTS).add(contactVisitJoin);
 	}
 
 	public List<String> getAllActiveUuids(User user) {
@@ -344,13 +346,17 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 		return em.createQuery(cq).getResultList();
 	}
 
-	public List<Contact> getFollowUpBetween(@NotNull Date fromDate, @NotNull Date toDate) {
+	/**
+	 * @return The ids of the contacts that are under follow-up between the given dates, ordered by id.
+	 */
+	public List<Long> getFollowUpIdsBetween(@NotNull Date fromDate, @NotNull Date toDate) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Contact> cq = cb.createQuery(getElementClass());
+		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
 		Root<Contact> from = cq.from(getElementClass());
 
 		Predicate filter = createActiveContactsFilter(cb, from);
+		filter = cb.and(filter, from.get(Contact.FOLLOW_UP_STATUS).in(FollowUpStatus.FOLLOW_UP, FollowUpStatus.LOST));
 		filter = cb.and(filter, cb.isNotNull(from.get(Contact.FOLLOW_UP_UNTIL)));
 		filter = cb.and(filter, cb.greaterThanOrEqualTo(from.get(Contact.FOLLOW_UP_UNTIL), fromDate));
 		filter = cb.and(
@@ -359,7 +365,27 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 				cb.and(cb.isNotNull(from.get(Contact.LAST_CONTACT_DATE)), cb.lessThan(from.get(Contact.LAST_CONTACT_DATE), toDate)),
 				cb.lessThan(from.get(Contact.REPORT_DATE_TIME), toDate)));
 
+		cq.select(from.get(Contact.ID));
 		cq.where(filter);
+		cq.orderBy(cb.asc(from.get(Contact.ID)));
+
+		return em.createQuery(cq).getResultList();
+	}
+
+	/**
+	 * Loads the contacts together with the person's address and the case, which are needed to determine the assignee of follow-up
+	 * tasks.
+	 */
+	public List<Contact> getForFollowUpTasks(List<Long> contactIds) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Contact> cq = cb.createQuery(getElementClass());
+		Root<Contact> from = cq.from(getElementClass());
+		from.fetch(Contact.PERSON).fetch(Person.ADDRESS, JoinType.LEFT);
+		from.fetch(Contact.CAZE, JoinType.LEFT);
+
+		cq.where(from.get(Contact.ID).in(contactIds));
+		cq.orderBy(cb.asc(from.get(Contact.ID)));
 
 		return em.createQuery(cq).getResultList();
 	}
@@ -598,6 +624,47 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 		return result;
 	}
 
+	/**
+	 * Clusters the contacts of {@link #getContactsForMap} within the given bounds. The location of a contact is taken from the person's
+	 * address or the report coordinates, in this order.
+	 */
+	public List<MapClusterDto<ContactClassification>> getContactClustersForMap(
+		Region region,
+		District district,
+		Disease disease,
+		Date from,
+		Date to,
+		GeoBounds bounds,
+		int zoom,
+		MapClusterGrouping grouping) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Contact> contact = cq.from(getElementClass());
+		ContactQueryContext cqc = new ContactQueryContext(cb, cq, contact);
+		ContactJoins joins = cqc.getJoins();
+
+		Predicate filter = createMapContactsFilter(cqc, region, district, disease, from, to);
+		if (filter == null) {
+			return Collections.emptyList();
+		}
+
+		MapClusterHelper.Coordinates coordinates = new MapClusterHelper.Coordinates(cb)
+			.or(joins.getAddress().<Double> get(Location.LATITUDE), joins.getAddress().<Double> get(Location.LONGITUDE))
+			.or(contact.<Double> get(Contact.REPORT_LAT), contact.<Double> get(Contact.REPORT_LON));
+		cq.where(CriteriaBuilderHelper.and(cb, filter, coordinates.createBoundsFilter(bounds)));
+
+		return MapClusterHelper.getClusters(
+			em,
+			cq,
+			coordinates,
+			contact.<ContactClassification> get(Contact.CONTACT_CLASSIFICATION),
+			cb.coalesce(joins.getDistrict().<String> get(District.UUID), joins.getCaseResponsibleDistrict().<String> get(District.UUID)),
+			geoShapeProvider::getCenterOfDistrict,
+			zoom,
+			grouping);
+	}
+
 	private Predicate createMapContactsFilter(ContactQueryContext cqc, Region region, District district, Disease disease, Date from, Date to) {
 
 		From<?, Contact> contactRoot = cqc.getRoot();
@@ -863,6 +930,79 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 		return em.createQuery(cq).getSingleResult().intValue();
 	}
 
+	/**
+	 * Like {@link #getNewContactCountPerStatus(ContactCriteria, User)}, but counted per day of the report date, so that all
+	 * intervals of an epi curve can be counted with one query.
+	 *
+	 * @return Arrays of report day, contact status and count.
+	 */
+	public List<Object[]> getNewContactCountPerStatusAndReportDay(ContactCriteria contactCriteria) {
+		return getContactCountPerReportDay(contactCriteria, null, true, Contact.CONTACT_STATUS);
+	}
+
+	/**
+	 * Like {@link #getNewContactCountPerClassification(ContactCriteria)}, but counted per day of the report date, so that all
+	 * intervals of an epi curve can be counted with one query.
+	 *
+	 * @return Arrays of report day, contact classification and count.
+	 */
+	public List<Object[]> getNewContactCountPerClassificationAndReportDay(ContactCriteria contactCriteria) {
+		return getContactCountPerReportDay(contactCriteria, contactCriteria, true, Contact.CONTACT_CLASSIFICATION);
+	}
+
+	/**
+	 * Like {@link #getNewContactCountPerFollowUpStatus(ContactCriteria)}, but counted per day of the report date, so that all
+	 * intervals of an epi curve can be counted with one query.
+	 *
+	 * @return Arrays of report day, follow-up status and count.
+	 */
+	public List<Object[]> getNewContactCountPerFollowUpStatusAndReportDay(ContactCriteria contactCriteria) {
+		return getContactCountPerReportDay(contactCriteria, null, true, Contact.FOLLOW_UP_STATUS);
+	}
+
+	/**
+	 * Like {@link #getFollowUpUntilCount(ContactCriteria, User)}, but counted per day of the report date, so that all intervals of
+	 * an epi curve can be counted with one query.
+	 *
+	 * @return Arrays of report day and count.
+	 */
+	public List<Object[]> getFollowUpUntilCountPerReportDay(ContactCriteria contactCriteria) {
+		return getContactCountPerReportDay(contactCriteria, null, false, null);
+	}
+
+	private List<Object[]> getContactCountPerReportDay(
+		ContactCriteria contactCriteria,
+		ContactCriteria userFilterCriteria,
+		boolean excludeDeleted,
+		String groupingProperty) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Contact> contact = cq.from(getElementClass());
+		final ContactQueryContext contactQueryContext = new ContactQueryContext(cb, cq, contact);
+
+		Predicate filter = CriteriaBuilderHelper
+			.and(cb, createUserFilter(contactQueryContext, userFilterCriteria), buildCriteriaFilter(contactCriteria, contactQueryContext));
+		if (excludeDeleted) {
+			filter = CriteriaBuilderHelper.and(cb, filter, cb.isFalse(contact.get(Contact.DELETED)));
+		}
+
+		if (filter != null) {
+			cq.where(filter);
+		}
+
+		Expression<Date> reportDay = cb.function(ExtendedPostgreSQL94Dialect.DATE, Date.class, contact.get(Contact.REPORT_DATE_TIME));
+		if (groupingProperty != null) {
+			cq.groupBy(reportDay, contact.get(groupingProperty));
+			cq.multiselect(reportDay, contact.get(groupingProperty), cb.count(contact));
+		} else {
+			cq.groupBy(reportDay);
+			cq.multiselect(reportDay, cb.count(contact));
+		}
+
+		return em.createQuery(cq).getResultList();
+	}
+
 	/**
 	 * Calculates resultingCase and contact status based on: - existing disease
 	 * cases (and classification) of the person - the incubation period - the
@@ -1096,19 +1236,19 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 		case REGION:
 			final Region region = currentUser.getRegion();
 			if (region != null) {
-				filter = CriteriaBuilderHelper.or(cb, filter, cb.equal(contactRoot.get(Contact.REGION), currentUser.getRegion()));
+				filter = CriteriaBuilderHelper.or(cb, filter, CriteriaBuilderHelper.jurisdictionKeysContain(cb, contactRoot, region));
 			}
 			break;
 		case DISTRICT:
 			final District district = currentUser.getDistrict();
 			if (district != null) {
-				filter = CriteriaBuilderHelper.or(cb, filter, cb.equal(contactRoot.get(Contact.DISTRICT), currentUser.getDistrict()));
+				filter = CriteriaBuilderHelper.or(cb, filter, CriteriaBuilderHelper.jurisdictionKeysContain(cb, contactRoot, district));
 			}
 			break;
 		case COMMUNITY:
 			final Community community = currentUser.getCommunity();
 			if (community != null) {
-				filter = CriteriaBuilderHelper.or(cb, filter, cb.equal(contactRoot.get(Contact.COMMUNITY), currentUser.getCommunity()));
+				filter = CriteriaBuilderHelper.or(cb, filter, CriteriaBuilderHelper.jurisdictionKeysContain(cb, contactRoot, community));
 			}
 			break;
 		case LABORATORY:
@@ -1909,8 +2049,10 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 		CriteriaUpdate<Contact> cu = cb.createCriteriaUpdate(Contact.class);
 		Root<Contact> root = cu.from(Contact.class);
 
+		Timestamp now = new Timestamp(System.currentTimeMillis());
 		cu.set(root.get(Contact.VACCINATION_STATUS), VaccinationStatus.VACCINATED);
-		cu.set(root.get(AbstractDomainObject.CHANGE_DATE), new Date());
+		cu.set(root.get(AbstractDomainObject.CHANGE_DATE), now);
+		cu.set(root.get(CoreAdo.TREE_CHANGE_DATE), now);
 
 		Predicate datePredicate = vaccinationDate != null
 			? cb.or(
@@ -1923,6 +2065,7 @@ public class ContactService extends AbstractCoreAdoService<Contact, ContactJoins
 				.and(cb, cb.equal(root.get(Contact.PERSON).get(Person.ID), personId), cb.equal(root.get(Contact.DISEASE), disease), datePredicate));
 
 		em.createQuery(cu).executeUpdate();
+		logBulkChanges(now);
 	}
 
 	public List<ContactListEntryDto> getEntriesList(Long personId, Integer first, Integer max) {
@@ -1,6 +1,7 @@
 package de.symeda.sormas.backend.crypt;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.security.PrivateKey;
 import java.security.cert.Certificate;
@@ -18,11 +19,14 @@ import org.bouncycastle.asn1.x500.X500Name;
 import org.bouncycastle.cert.jcajce.JcaCertStore;
 import org.bouncycastle.cms.CMSEnvelopedData;
 import org.bouncycastle.cms.CMSEnvelopedDataGenerator;
+import org.bouncycastle.cms.CMSEnvelopedDataStreamGenerator;
 import org.bouncycastle.cms.CMSException;
 import org.bouncycastle.cms.CMSProcessableByteArray;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.CMSSignedDataStreamGenerator;
 import org.bouncycastle.cms.CMSTypedData;
+import org.bouncycastle.cms.SignerInfoGenerator;
 import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoGeneratorBuilder;
 import org.bouncycastle.cms.jcajce.JceCMSContentEncryptorBuilder;
 import org.bouncycastle.cms.jcajce.JceKeyTransRecipientInfoGenerator;
@@ -34,8 +38,10 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * <a href="https://tools.ietf.org/html/rfc5652">CMS</a>-encodes the payload
@@ -85,6 +91,10 @@ public class CmsCreator {
 	private static final String SIG_ALG = "SHA256WITHRSA";
 
 	private static final ObjectMapper objectMapper = new ObjectMapper();
+	/**
+	 * Writes into the signing stream without closing it, the stream generators finish the structures when closing their streams.
+	 */
+	private static final ObjectWriter streamingWriter;
 
 	static {
 		//make sure BC is initialised
@@ -92,6 +102,7 @@ public class CmsCreator {
 		objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
 		objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
 		objectMapper.setVisibility(PropertyAccessor.CREATOR, JsonAutoDetect.Visibility.ANY);
+		streamingWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 	}
 
 	private static final Logger logger = LoggerFactory.getLogger(CmsCreator.class);
@@ -115,6 +126,41 @@ public class CmsCreator {
 		return encrypt(signedData, certificateConfig.getOtherCertificate());
 	}
 
+	/**
+	 * Streaming variant of {@link #signAndEncrypt(CmsPlaintext, CmsCertificateConfig, boolean)}: the plain text is serialized, signed
+	 * and encrypted in one pass directly into {@code out}, so neither the serialized plain text nor the signed data are held in
+	 * memory. The result is BER encoded with indefinite lengths, which {@link CmsReader} reads the same way.
+	 * <p>
+	 * The created signature is not validated; the key pair is expected to be checked when it is loaded.
+	 */
+	public static void signAndEncrypt(CmsPlaintext plainData, CmsCertificateConfig certificateConfig, OutputStream out)
+		throws CMSException, IOException {
+
+		BouncyCastleProvider provider = CryptInit.getProvider();
+
+		CMSEnvelopedDataStreamGenerator encryptor = new CMSEnvelopedDataStreamGenerator();
+		try {
+			encryptor.addRecipientInfoGenerator(
+				new JceKeyTransRecipientInfoGenerator(certificateConfig.getOtherCertificate()).setProvider(provider));
+		} catch (CertificateEncodingException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+		OutputEncryptor outputEncryptor = new JceCMSContentEncryptorBuilder(SYMMETRIC_CRYPT_ALG).setProvider(provider).build();
+
+		CMSSignedDataStreamGenerator signer = new CMSSignedDataStreamGenerator();
+		try {
+			signer.addSignerInfoGenerator(
+				createSignerInfoGenerator(certificateConfig.getOwnCertificate(), certificateConfig.getOwnPrivateKey(), provider));
+			signer.addCertificates(new JcaCertStore(Collections.singletonList(certificateConfig.getOwnCertificate())));
+		} catch (CertificateEncodingException | OperatorCreationException e) {
+			throw new RuntimeException(e);
+		}
+
+		try (OutputStream encryptedOut = encryptor.open(out, outputEncryptor); OutputStream signedOut = signer.open(encryptedOut, true)) {
+			streamingWriter.writeValue(signedOut, plainData);
+		}
+	}
+
 	static byte[] sign(byte[] plainData, X509Certificate signerCertificate, PrivateKey privateKey, boolean validateSignature) throws CMSException {
 
 		BouncyCastleProvider provider = CryptInit.getProvider();
@@ -143,14 +189,9 @@ public class CmsCreator {
 	private static CMSSignedDataGenerator createSigner(X509Certificate signerCertificate, PrivateKey privateKey, BouncyCastleProvider provider)
 		throws CMSException {
 
-		ASN1EncodableVector attributes = createAttributes(signerCertificate);
-
 		try {
 			CMSSignedDataGenerator generator = new CMSSignedDataGenerator();
-			generator.addSignerInfoGenerator(
-				new JcaSimpleSignerInfoGeneratorBuilder().setProvider(provider)
-					.setSignedAttributeGenerator(new AttributeTable(attributes))
-					.build(SIG_ALG, privateKey, signerCertificate));
+			generator.addSignerInfoGenerator(createSignerInfoGenerator(signerCertificate, privateKey, provider));
 
 			/* Add the list of certs to the generator */
 			JcaCertStore certs = new JcaCertStore(Collections.singletonList(signerCertificate));
@@ -163,6 +204,17 @@ public class CmsCreator {
 		}
 	}
 
+	private static SignerInfoGenerator createSignerInfoGenerator(
+		X509Certificate signerCertificate,
+		PrivateKey privateKey,
+		BouncyCastleProvider provider)
+		throws CertificateEncodingException, OperatorCreationException {
+
+		return new JcaSimpleSignerInfoGeneratorBuilder().setProvider(provider)
+			.setSignedAttributeGenerator(new AttributeTable(createAttributes(signerCertificate)))
+			.build(SIG_ALG, privateKey, signerCertificate);
+	}
+
 	private static ASN1EncodableVector createAttributes(Certificate certificate) {
 		ASN1EncodableVector attributes = new ASN1EncodableVector();
 		attributes.add(
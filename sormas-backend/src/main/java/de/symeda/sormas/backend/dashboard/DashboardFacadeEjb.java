@@ -5,6 +5,8 @@ import static de.symeda.sormas.api.dashboard.DashboardContactStatisticDto.PREVIO
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -60,6 +62,7 @@ import de.symeda.sormas.api.utils.criteria.CriteriaDateType;
 import de.symeda.sormas.api.visit.VisitStatus;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb;
+import de.symeda.sormas.backend.contact.ContactService;
 import de.symeda.sormas.backend.disease.DiseaseConfigurationFacadeEjb;
 import de.symeda.sormas.backend.event.EventFacadeEjb;
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb;
@@ -95,6 +98,12 @@ public class DashboardFacadeEjb implements DashboardFacade {
 	@EJB
 	private DashboardService dashboardService;
 
+	@EJB
+	private ContactService contactService;
+
+	@EJB
+	private DashboardResultCache resultCache;
+
 	@Override
 	@RightsAllowed({
 		UserRight._DASHBOARD_SURVEILLANCE_VIEW,
@@ -108,7 +117,10 @@ public class DashboardFacadeEjb implements DashboardFacade {
 		UserRight._DASHBOARD_SURVEILLANCE_VIEW,
 		UserRight._DASHBOARD_CONTACT_VIEW })
 	public Map<CaseClassification, Integer> getCasesCountByClassification(DashboardCriteria dashboardCriteria) {
-		return dashboardService.getCasesCountByClassification(dashboardCriteria);
+		return resultCache.get(
+			"casesCountByClassification",
+			DashboardResultCache.criteriaKey(dashboardCriteria),
+			() -> Collections.unmodifiableMap(dashboardService.getCasesCountByClassification(dashboardCriteria)));
 	}
 
 	@Override
@@ -116,7 +128,10 @@ public class DashboardFacadeEjb implements DashboardFacade {
 		UserRight._DASHBOARD_SURVEILLANCE_VIEW,
 		UserRight._DASHBOARD_CONTACT_VIEW })
 	public String getLastReportedDistrictName(DashboardCriteria dashboardCriteria) {
-		return dashboardService.getLastReportedDistrictName(dashboardCriteria);
+		return resultCache.get(
+			"lastReportedDistrictName",
+			DashboardResultCache.criteriaKey(dashboardCriteria),
+			() -> dashboardService.getLastReportedDistrictName(dashboardCriteria));
 	}
 
 	@Override
@@ -137,6 +152,21 @@ public class DashboardFacadeEjb implements DashboardFacade {
 			dashboardCriteria.getDateTo(),
 			dashboardCriteria.getEpiCurveGrouping(),
 			dashboardCriteria.isShowMinimumEntries());
+
+		EpiCurveIntervals intervals = EpiCurveIntervals.ofCalendarIntervals(dates, dashboardCriteria.getEpiCurveGrouping());
+		if (intervals.isEmpty()) {
+			return epiCurveSeriesElements;
+		}
+
+		// all intervals with one query
+		dashboardCriteria.dateBetween(intervals.getFrom(), intervals.getTo());
+		Map<Date, Map<CaseClassification, Integer>> intervalCounts =
+			dashboardService.getEpiCurveCasesCountByClassification(dashboardCriteria, intervals);
+		if (intervalCounts != null) {
+			return intervalCounts;
+		}
+
+		// one query per interval for new case dates that can't be grouped by day
 		for (int i = 0; i < dates.size(); i++) {
 			dashboardCriteria = setNewCaseDatesInCaseCriteria(dates.get(i), dashboardCriteria);
 			Map<CaseClassification, Integer> caseCounts = getCasesCountByClassification(dashboardCriteria);
@@ -155,6 +185,21 @@ public class DashboardFacadeEjb implements DashboardFacade {
 			dashboardCriteria.getDateTo(),
 			dashboardCriteria.getEpiCurveGrouping(),
 			dashboardCriteria.isShowMinimumEntries());
+
+		EpiCurveIntervals intervals = EpiCurveIntervals.ofCalendarIntervals(dates, dashboardCriteria.getEpiCurveGrouping());
+		if (intervals.isEmpty()) {
+			return epiCurveSeriesElements;
+		}
+
+		// all intervals with one query
+		dashboardCriteria.dateBetween(intervals.getFrom(), intervals.getTo());
+		Map<Date, Map<PresentCondition, Integer>> intervalCounts =
+			dashboardService.getEpiCurveCasesCountPerPersonCondition(dashboardCriteria, intervals);
+		if (intervalCounts != null) {
+			return intervalCounts;
+		}
+
+		// one query per interval for new case dates that can't be grouped by day
 		for (int i = 0; i < dates.size(); i++) {
 			dashboardCriteria = setNewCaseDatesInCaseCriteria(dates.get(i), dashboardCriteria);
 
@@ -169,47 +214,34 @@ public class DashboardFacadeEjb implements DashboardFacade {
 
 	@RightsAllowed(UserRight._DASHBOARD_SURVEILLANCE_VIEW)
 	public Map<Date, Map<ContactClassification, Long>> getEpiCurveSeriesElementsPerContactClassification(DashboardCriteria dashboardCriteria) {
-		Map<Date, Map<ContactClassification, Long>> epiCurveSeriesElements = new TreeMap<>();
-		List<Date> criteriaIntervalStartDates = buildListOfFilteredDates(
-			dashboardCriteria.getDateFrom(),
-			dashboardCriteria.getDateTo(),
-			dashboardCriteria.getEpiCurveGrouping(),
-			dashboardCriteria.isShowMinimumEntries());
-
-		ContactCriteria contactCriteria = new ContactCriteria().disease(dashboardCriteria.getDisease())
-			.region(dashboardCriteria.getRegion())
-			.district(dashboardCriteria.getDistrict());
-
-		criteriaIntervalStartDates.forEach(intervalStartDate -> {
-			contactCriteria.reportDateBetween(intervalStartDate, getIntervalEndDate(intervalStartDate, dashboardCriteria.getEpiCurveGrouping()));
-			Map<ContactClassification, Long> contactClassifications = contactFacade.getNewContactCountPerClassification(contactCriteria);
-			epiCurveSeriesElements.put(intervalStartDate, contactClassifications);
-		});
-		return epiCurveSeriesElements;
+		EpiCurveIntervals intervals = buildContactEpiCurveIntervals(dashboardCriteria);
+		if (intervals.isEmpty()) {
+			return new TreeMap<>();
+		}
 
+		ContactCriteria contactCriteria = buildContactEpiCurveCriteria(dashboardCriteria, intervals);
+		return intervals
+			.sumPerInterval(contactService.getNewContactCountPerClassificationAndReportDay(contactCriteria), c -> (ContactClassification) c);
 	}
 
 	@RightsAllowed(UserRight._DASHBOARD_SURVEILLANCE_VIEW)
 	public Map<Date, Map<String, Long>> getEpiCurveSeriesElementsPerContactFollowUpStatus(DashboardCriteria dashboardCriteria) {
 		Map<Date, Map<String, Long>> epiCurveSeriesElements = new TreeMap<>();
-		List<Date> criteriaIntervalStartDates = buildListOfFilteredDates(
-			dashboardCriteria.getDateFrom(),
-			dashboardCriteria.getDateTo(),
-			dashboardCriteria.getEpiCurveGrouping(),
-			dashboardCriteria.isShowMinimumEntries());
+		EpiCurveIntervals intervals = buildContactEpiCurveIntervals(dashboardCriteria);
+		if (intervals.isEmpty()) {
+			return epiCurveSeriesElements;
+		}
 
-		ContactCriteria contactCriteria = new ContactCriteria().disease(dashboardCriteria.getDisease())
-			.region(dashboardCriteria.getRegion())
-			.district(dashboardCriteria.getDistrict());
-
-		criteriaIntervalStartDates.forEach(intervalStartDate -> {
-			contactCriteria.reportDateBetween(intervalStartDate, getIntervalEndDate(intervalStartDate, dashboardCriteria.getEpiCurveGrouping()));
-			Map<FollowUpStatus, Long> contactCounts = contactFacade.getNewContactCountPerFollowUpStatus(contactCriteria);
-			Map<String, Long> followUpClassificationMap =
-				contactCounts.entrySet().stream().collect(Collectors.toMap(e -> e.getKey().toShortString(), e -> e.getValue()));
-			Map<ContactStatus, Long> contactStatusCounts = contactFacade.getNewContactCountPerStatus(contactCriteria);
-			followUpClassificationMap.put(ContactStatus.CONVERTED.toString(), contactStatusCounts.get(ContactStatus.CONVERTED));
-			epiCurveSeriesElements.put(intervalStartDate, followUpClassificationMap);
+		ContactCriteria contactCriteria = buildContactEpiCurveCriteria(dashboardCriteria, intervals);
+		Map<Date, Map<String, Long>> followUpStatusCounts = intervals.sumPerInterval(
+			contactService.getNewContactCountPerFollowUpStatusAndReportDay(contactCriteria),
+			s -> ((FollowUpStatus) s).toShortString());
+		Map<Date, Map<ContactStatus, Long>> contactStatusCounts =
+			intervals.sumPerInterval(contactService.getNewContactCountPerStatusAndReportDay(contactCriteria), s -> (ContactStatus) s);
+
+		followUpStatusCounts.forEach((intervalDate, followUpClassificationMap) -> {
+			followUpClassificationMap.put(ContactStatus.CONVERTED.toString(), contactStatusCounts.get(intervalDate).get(ContactStatus.CONVERTED));
+			epiCurveSeriesElements.put(intervalDate, followUpClassificationMap);
 		});
 		return epiCurveSeriesElements;
 
@@ -218,25 +250,46 @@ public class DashboardFacadeEjb implements DashboardFacade {
 	@RightsAllowed(UserRight._DASHBOARD_SURVEILLANCE_VIEW)
 	public Map<Date, Integer> getEpiCurveSeriesElementsPerContactFollowUpUntil(DashboardCriteria dashboardCriteria) {
 		Map<Date, Integer> epiCurveSeriesElements = new TreeMap<>();
+		EpiCurveIntervals intervals = buildContactEpiCurveIntervals(dashboardCriteria);
+		if (intervals.isEmpty()) {
+			return epiCurveSeriesElements;
+		}
+
+		ContactCriteria contactCriteria = buildContactEpiCurveCriteria(dashboardCriteria, intervals);
+		intervals.sumPerInterval(contactService.getFollowUpUntilCountPerReportDay(contactCriteria))
+			.forEach((intervalDate, count) -> epiCurveSeriesElements.put(intervalDate, count.intValue()));
+		return epiCurveSeriesElements;
+	}
+
+	/**
+	 * Contact intervals reach from the interval date to the end of its day, week or month.
+	 */
+	private EpiCurveIntervals buildContactEpiCurveIntervals(DashboardCriteria dashboardCriteria) {
 		List<Date> criteriaIntervalStartDates = buildListOfFilteredDates(
 			dashboardCriteria.getDateFrom(),
 			dashboardCriteria.getDateTo(),
 			dashboardCriteria.getEpiCurveGrouping(),
 			dashboardCriteria.isShowMinimumEntries());
 
-		ContactCriteria contactCriteria = new ContactCriteria().disease(dashboardCriteria.getDisease())
-			.region(dashboardCriteria.getRegion())
-			.district(dashboardCriteria.getDistrict());
+		return EpiCurveIntervals.ofIntervalsStartingAt(criteriaIntervalStartDates, dashboardCriteria.getEpiCurveGrouping());
+	}
 
-		criteriaIntervalStartDates.forEach(intervalStartDate -> {
-			contactCriteria.reportDateBetween(intervalStartDate, getIntervalEndDate(intervalStartDate, dashboardCriteria.getEpiCurveGrouping()));
-			epiCurveSeriesElements.put(intervalStartDate, contactFacade.getFollowUpUntilCount(contactCriteria));
-		});
-		return epiCurveSeriesElements;
+	private ContactCriteria buildContactEpiCurveCriteria(DashboardCriteria dashboardCriteria, EpiCurveIntervals intervals) {
+		return new ContactCriteria().disease(dashboardCriteria.getDisease())
+			.region(dashboardCriteria.getRegion())
+			.district(dashboardCriteria.getDistrict())
+			.reportDateBetween(intervals.getFrom(), intervals.getTo());
 	}
 
 	@RightsAllowed(UserRight._DASHBOARD_SURVEILLANCE_VIEW)
 	public DashboardCaseMeasureDto getCaseMeasurePerDistrict(DashboardCriteria dashboardCriteria) {
+		return resultCache.get(
+			"caseMeasurePerDistrict",
+			DashboardResultCache.criteriaKey(dashboardCriteria),
+			() -> calculateCaseMeasurePerDistrict(dashboardCriteria));
+	}
+
+	private DashboardCaseMeasureDto calculateCaseMeasurePerDistrict(DashboardCriteria dashboardCriteria) {
 		Map<DistrictDto, BigDecimal> caseMeasurePerDistrictMap = new LinkedHashMap<>();
 		BigDecimal districtValuesLowerQuartile;
 		BigDecimal districtValuesMedianQuartile;
@@ -369,17 +422,6 @@ public class DashboardFacadeEjb implements DashboardFacade {
 		return filteredDates;
 	}
 
-	protected Date getIntervalEndDate(Date intervalStartDate, EpiCurveGrouping epiCurveGrouping) {
-		switch (epiCurveGrouping) {
-		case DAY:
-			return DateHelper.getEndOfDay(intervalStartDate);
-		case WEEK:
-			return DateHelper.getEndOfWeek(intervalStartDate);
-		default:
-			return DateHelper.getEndOfMonth(intervalStartDate);
-		}
-	}
-
 	protected DashboardCriteria setNewCaseDatesInCaseCriteria(Date date, DashboardCriteria dashboardCriteria) {
 		EpiCurveGrouping epiCurveGrouping = dashboardCriteria.getEpiCurveGrouping();
 		switch (epiCurveGrouping) {
@@ -739,6 +781,29 @@ public class DashboardFacadeEjb implements DashboardFacade {
 		Date previousToDate,
 		CriteriaDateType newCaseDateType) {
 
+		return resultCache.get(
+			"diseaseBurden",
+			Arrays.asList(
+				DashboardResultCache.getUuid(region),
+				DashboardResultCache.getUuid(district),
+				fromDate,
+				toDate,
+				previousFromDate,
+				previousToDate,
+				newCaseDateType),
+			() -> Collections.unmodifiableList(
+				calculateDiseaseBurden(region, district, fromDate, toDate, previousFromDate, previousToDate, newCaseDateType)));
+	}
+
+	private List<DiseaseBurdenDto> calculateDiseaseBurden(
+		RegionReferenceDto region,
+		DistrictReferenceDto district,
+		Date fromDate,
+		Date toDate,
+		Date previousFromDate,
+		Date previousToDate,
+		CriteriaDateType newCaseDateType) {
+
 		//diseases
 		List<Disease> diseases = diseaseConfigurationFacade.getAllDiseases(true, true, true);
 
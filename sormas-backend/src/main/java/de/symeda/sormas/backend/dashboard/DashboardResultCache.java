@@ -0,0 +1,285 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.dashboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.ReferenceDto;
+import de.symeda.sormas.api.dashboard.DashboardCriteria;
+import de.symeda.sormas.api.user.JurisdictionLevel;
+import de.symeda.sormas.backend.caze.CaseService;
+import de.symeda.sormas.backend.common.AbstractDomainObject;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.contact.ContactService;
+import de.symeda.sormas.backend.event.EventService;
+import de.symeda.sormas.backend.user.User;
+import de.symeda.sormas.backend.user.UserService;
+
+/**
+ * Caches dashboard widget results for users with the same jurisdiction and the same filters.
+ * <p>
+ * The results are computed for the latest change dates of cases, contacts and events. As soon as one of them advances, all cached
+ * results are discarded. Changes of other data (e.g. outbreaks or population data) only become visible when the cached results
+ * expire after {@code dashboard.cache.ttlSeconds}.
+ */
+@Singleton
+@LocalBean
+@Lock(LockType.READ)
+public class DashboardResultCache {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Latest change dates of cases, contacts and events the cached results were computed for.
+	 */
+	private volatile List<Date> dataVersion;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+	private final AtomicLong invalidationCount = new AtomicLong();
+
+	@EJB
+	private CaseService caseService;
+	@EJB
+	private ContactService contactService;
+	@EJB
+	private EventService eventService;
+	@EJB
+	private UserService userService;
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	/**
+	 * @param widget
+	 *            Name of the cached widget.
+	 * @param keyParts
+	 *            Everything the result depends on besides the jurisdiction of the current user; see {@link #criteriaKey(DashboardCriteria)}.
+	 * @param loader
+	 *            Computes the result when it is not cached. The result must not be changed afterwards.
+	 */
+	public <T> T get(String widget, List<Object> keyParts, Supplier<T> loader) {
+
+		if (!configFacade.isDashboardCacheEnabled()) {
+			return loader.get();
+		}
+
+		List<Date> currentDataVersion = getCurrentDataVersion();
+		List<Object> key = Arrays.asList(widget, keyParts, getUserScope(userService.getCurrentUser()));
+		long now = System.currentTimeMillis();
+
+		Entry entry = entries.get(key);
+		if (entry != null && entry.dataVersion.equals(currentDataVersion) && !isExpired(entry, now)) {
+			hitCount.incrementAndGet();
+			@SuppressWarnings("unchecked")
+			T value = (T) entry.value;
+			return value;
+		}
+
+		missCount.incrementAndGet();
+		T value = loader.get();
+		entries.put(key, new Entry(value, currentDataVersion, now));
+		evictIfFull(now);
+		return value;
+	}
+
+	/**
+	 * Discards all cached results when cases, contacts or events have changed since the cached results were computed.
+	 */
+	private List<Date> getCurrentDataVersion() {
+
+		List<Date> currentDataVersion =
+			Arrays.asList(caseService.getLatestChangeDate(), contactService.getLatestChangeDate(), eventService.getLatestChangeDate());
+		if (!currentDataVersion.equals(dataVersion)) {
+			if (dataVersion != null && !entries.isEmpty()) {
+				invalidationCount.incrementAndGet();
+			}
+			dataVersion = currentDataVersion;
+			entries.clear();
+		}
+		return currentDataVersion;
+	}
+
+	private boolean isExpired(Entry entry, long now) {
+		return now - entry.createdAt >= TimeUnit.SECONDS.toMillis(configFacade.getDashboardCacheTtlSeconds());
+	}
+
+	private void evictIfFull(long now) {
+
+		int maxEntries = configFacade.getDashboardCacheMaxEntries();
+		if (entries.size() <= maxEntries) {
+			return;
+		}
+
+		entries.entrySet().removeIf(e -> {
+			boolean expired = isExpired(e.getValue(), now);
+			if (expired) {
+				evictionCount.incrementAndGet();
+			}
+			return expired;
+		});
+
+		int excessEntries = entries.size() - maxEntries;
+		if (excessEntries > 0) {
+			List<List<Object>> oldestKeys = entries.entrySet()
+				.stream()
+				.sorted(Comparator.comparingLong(e -> e.getValue().createdAt))
+				.limit(excessEntries)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+			oldestKeys.forEach(k -> {
+				if (entries.remove(k) != null) {
+					evictionCount.incrementAndGet();
+				}
+			});
+		}
+	}
+
+	/**
+	 * The user filters of users below the national level also include the entities they reported or are responsible for, so their
+	 * results are only shared with themselves.
+	 */
+	public static List<Object> getUserScope(User user) {
+
+		if (user == null) {
+			return Collections.emptyList();
+		}
+
+		List<Object> scope = new ArrayList<>();
+		scope.add(user.getJurisdictionLevel());
+		scope.add(getUuid(user.getRegion()));
+		scope.add(getUuid(user.getDistrict()));
+		scope.add(getUuid(user.getCommunity()));
+		scope.add(getUuid(user.getHealthFacility()));
+		scope.add(getUuid(user.getLaboratory()));
+		scope.add(getUuid(user.getPointOfEntry()));
+		scope.add(user.getLimitedDisease());
+		scope.add(user.getUserRoles().stream().map(AbstractDomainObject::getUuid).sorted().collect(Collectors.toList()));
+		if (user.getJurisdictionLevel() != JurisdictionLevel.NATION) {
+			scope.add(user.getUuid());
+		}
+		return scope;
+	}
+
+	/**
+	 * @return All filters of the dashboard criteria; infrastructure is identified by its uuid.
+	 */
+	static List<Object> criteriaKey(DashboardCriteria criteria) {
+
+		return Arrays.asList(
+			getUuid(criteria.getRegion()),
+			getUuid(criteria.getDistrict()),
+			criteria.getDisease(),
+			criteria.getDateFrom(),
+			criteria.getDateTo(),
+			criteria.getPreviousDateFrom(),
+			criteria.getPreviousDateTo(),
+			criteria.getNewCaseDateType(),
+			criteria.getEpiCurveGrouping(),
+			criteria.isShowMinimumEntries(),
+			criteria.getCaseMeasure(),
+			criteria.isIncludeNotACaseClassification());
+	}
+
+	public static String getUuid(ReferenceDto reference) {
+		return reference != null ? reference.getUuid() : null;
+	}
+
+	private static String getUuid(AbstractDomainObject ado) {
+		return ado != null ? ado.getUuid() : null;
+	}
+
+	public void clear() {
+		entries.clear();
+		dataVersion = null;
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return Number of results discarded because the cache was full.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * @return How often all results were discarded because cases, contacts or events have changed.
+	 */
+	public long getInvalidationCount() {
+		return invalidationCount.get();
+	}
+
+	public int getSize() {
+		return entries.size();
+	}
+
+	@Schedule(hour = "*", minute = "30", second = "0", persistent = false)
+	public void logStatistics() {
+
+		if (configFacade.isDashboardCacheEnabled()) {
+			logger.info(
+				"Dashboard result cache: {} hits, {} misses, {} evictions, {} invalidations, {} entries",
+				getHitCount(),
+				getMissCount(),
+				getEvictionCount(),
+				getInvalidationCount(),
+				getSize());
+		}
+	}
+
+	private static final class Entry {
+
+		private final Object value;
+		private final List<Date> dataVersion;
+		private final long createdAt;
+
+		private Entry(Object value, List<Date> dataVersion, long createdAt) {
+			this.value = value;
+			this.dataVersion = dataVersion;
+			this.createdAt = createdAt;
+		}
+	}
+}
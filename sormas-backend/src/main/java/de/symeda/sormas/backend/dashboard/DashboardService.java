@@ -6,6 +6,8 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -37,6 +39,7 @@ import de.symeda.sormas.api.person.PresentCondition;
 import de.symeda.sormas.api.sample.PathogenTestResultType;
 import de.symeda.sormas.api.sample.SpecimenCondition;
 import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.backend.ExtendedPostgreSQL94Dialect;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.caze.CaseJoins;
 import de.symeda.sormas.backend.caze.CaseQueryContext;
@@ -381,6 +384,96 @@ public class DashboardService {
 		return resultMap;
 	}
 
+	/**
+	 * Counts the cases of all epi curve intervals with one query. The date filter of the criteria has to span all intervals.
+	 *
+	 * @return interval date -> case classification -> count, or {@code null} if the new case date type of the criteria does not allow
+	 *         to group by day.
+	 */
+	public Map<Date, Map<CaseClassification, Integer>> getEpiCurveCasesCountByClassification(
+		DashboardCriteria dashboardCriteria,
+		EpiCurveIntervals intervals) {
+
+		List<Object[]> dayClassificationCounts =
+			getNewCasesCountPerDay(dashboardCriteria, caseQueryContext -> caseQueryContext.getRoot().get(Case.CASE_CLASSIFICATION));
+		if (dayClassificationCounts == null) {
+			return null;
+		}
+
+		boolean aggregateConfirmed = !configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY);
+		Map<Date, Map<CaseClassification, Integer>> result = new TreeMap<>();
+		intervals.sumPerInterval(dayClassificationCounts, c -> (CaseClassification) c).forEach((intervalDate, classificationCounts) -> {
+			List<Object[]> classificationCountList =
+				classificationCounts.entrySet().stream().map(e -> new Object[] {
+					e.getKey(),
+					e.getValue() }).collect(Collectors.toList());
+			result.put(intervalDate, getCasesCountByClassification(classificationCountList, aggregateConfirmed));
+		});
+
+		return result;
+	}
+
+	/**
+	 * Counts the cases of all epi curve intervals with one query. The date filter of the criteria has to span all intervals.
+	 *
+	 * @return interval date -> present condition -> count, or {@code null} if the new case date type of the criteria does not allow
+	 *         to group by day.
+	 */
+	public Map<Date, Map<PresentCondition, Integer>> getEpiCurveCasesCountPerPersonCondition(
+		DashboardCriteria dashboardCriteria,
+		EpiCurveIntervals intervals) {
+
+		List<Object[]> dayConditionCounts = getNewCasesCountPerDay(
+			dashboardCriteria,
+			caseQueryContext -> caseQueryContext.getJoins().getPerson().get(Person.PRESENT_CONDITION));
+		if (dayConditionCounts == null) {
+			return null;
+		}
+
+		Map<Date, Map<PresentCondition, Integer>> result = new TreeMap<>();
+		intervals.sumPerInterval(dayConditionCounts, c -> c != null ? (PresentCondition) c : PresentCondition.UNKNOWN)
+			.forEach(
+				(intervalDate, conditionCounts) -> result.put(
+					intervalDate,
+					conditionCounts.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().intValue()))));
+
+		return result;
+	}
+
+	/**
+	 * @return Arrays of day of the new case date, grouping value and count, or {@code null} if
+	 *         the new case date type of the criteria does not allow to group by day.
+	 */
+	private List<Object[]> getNewCasesCountPerDay(
+		DashboardCriteria dashboardCriteria,
+		Function<CaseQueryContext, Expression<?>> groupingExpression) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Case> caze = cq.from(Case.class);
+		final CaseQueryContext caseQueryContext = new CaseQueryContext(cb, cq, caze);
+
+		Expression<Date> newCaseDate = caseService.getNewCaseDateExpression(caseQueryContext, dashboardCriteria.getNewCaseDateType());
+		if (newCaseDate == null) {
+			return null;
+		}
+
+		Predicate filter = caseService.createUserFilter(caseQueryContext, new CaseUserFilterCriteria().excludeCasesFromContacts(true));
+		Predicate criteriaFilter = createCaseCriteriaFilter(dashboardCriteria, caseQueryContext);
+		filter = CriteriaBuilderHelper.and(cb, filter, criteriaFilter);
+
+		if (filter != null) {
+			cq.where(filter);
+		}
+
+		Expression<Date> newCaseDay = cb.function(ExtendedPostgreSQL94Dialect.DATE, Date.class, newCaseDate);
+		Expression<?> grouping = groupingExpression.apply(caseQueryContext);
+		cq.groupBy(newCaseDay, grouping);
+		cq.multiselect(newCaseDay, grouping, cb.count(caze));
+
+		return em.createQuery(cq).getResultList();
+	}
+
 	public List<DashboardEventDto> getNewEvents(DashboardCriteria dashboardCriteria) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -0,0 +1,176 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.dashboard;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import de.symeda.sormas.api.dashboard.EpiCurveGrouping;
+import de.symeda.sormas.api.utils.DateHelper;
+
+/**
+ * The intervals of an epi curve. Used to sum up counts that have been queried per day for all intervals at once.
+ */
+public final class EpiCurveIntervals {
+
+	/**
+	 * interval start (start of day) -> interval
+	 */
+	private final TreeMap<Date, Interval> intervals = new TreeMap<>();
+
+	private EpiCurveIntervals(List<Date> intervalDates, EpiCurveGrouping epiCurveGrouping, boolean calendarIntervals) {
+
+		for (Date intervalDate : intervalDates) {
+			Date start = calendarIntervals ? getStartOfInterval(intervalDate, epiCurveGrouping) : DateHelper.getStartOfDay(intervalDate);
+			intervals.put(start, new Interval(intervalDate, getEndOfInterval(intervalDate, epiCurveGrouping)));
+		}
+	}
+
+	/**
+	 * Each interval is the whole day, week or month the interval date lies in.
+	 */
+	static EpiCurveIntervals ofCalendarIntervals(List<Date> intervalDates, EpiCurveGrouping epiCurveGrouping) {
+		return new EpiCurveIntervals(intervalDates, epiCurveGrouping, true);
+	}
+
+	/**
+	 * Each interval reaches from the interval date to the end of its day, week or month.
+	 */
+	static EpiCurveIntervals ofIntervalsStartingAt(List<Date> intervalDates, EpiCurveGrouping epiCurveGrouping) {
+		return new EpiCurveIntervals(intervalDates, epiCurveGrouping, false);
+	}
+
+	private static Date getStartOfInterval(Date date, EpiCurveGrouping epiCurveGrouping) {
+		switch (epiCurveGrouping) {
+		case DAY:
+			return DateHelper.getStartOfDay(date);
+		case WEEK:
+			return DateHelper.getStartOfWeek(date);
+		default:
+			return DateHelper.getStartOfMonth(date);
+		}
+	}
+
+	private static Date getEndOfInterval(Date date, EpiCurveGrouping epiCurveGrouping) {
+		switch (epiCurveGrouping) {
+		case DAY:
+			return DateHelper.getEndOfDay(date);
+		case WEEK:
+			return DateHelper.getEndOfWeek(date);
+		default:
+			return DateHelper.getEndOfMonth(date);
+		}
+	}
+
+	boolean isEmpty() {
+		return intervals.isEmpty();
+	}
+
+	/**
+	 * @return Start of the first interval.
+	 */
+	Date getFrom() {
+		return intervals.firstKey();
+	}
+
+	/**
+	 * @return End of the last interval.
+	 */
+	Date getTo() {
+		return intervals.lastEntry().getValue().end;
+	}
+
+	/**
+	 * @return The date the interval containing {@code date} has been created for, {@code null} if {@code date} is not part of any
+	 *         interval.
+	 */
+	Date getIntervalDate(Date date) {
+
+		Map.Entry<Date, Interval> entry = intervals.floorEntry(date);
+		if (entry == null || date.after(entry.getValue().end)) {
+			return null;
+		}
+		return entry.getValue().intervalDate;
+	}
+
+	/**
+	 * Sums up counts per day and value to counts per interval and value.
+	 *
+	 * @param dayValueCounts
+	 *            Arrays of day, value and count, as returned by a query grouped by day and value.
+	 * @param valueMapper
+	 *            Maps the queried value to the key of the resulting map, e.g. to replace {@code null}.
+	 * @return interval date -> value -> count; contains all intervals, also those without counts.
+	 */
+	<K> Map<Date, Map<K, Long>> sumPerInterval(List<Object[]> dayValueCounts, Function<Object, K> valueMapper) {
+
+		Map<Date, Map<K, Long>> result = new TreeMap<>();
+		intervals.values().forEach(interval -> result.put(interval.intervalDate, new HashMap<>()));
+
+		for (Object[] dayValueCount : dayValueCounts) {
+			Date intervalDate = getIntervalDate(toUtilDate(dayValueCount[0]));
+			if (intervalDate != null) {
+				result.get(intervalDate).merge(valueMapper.apply(dayValueCount[1]), ((Number) dayValueCount[2]).longValue(), Long::sum);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Sums up counts per day to counts per interval.
+	 *
+	 * @param dayCounts
+	 *            Arrays of day and count, as returned by a query grouped by day.
+	 * @return interval date -> count; contains all intervals, also those without counts.
+	 */
+	Map<Date, Long> sumPerInterval(List<Object[]> dayCounts) {
+
+		Map<Date, Long> result = new TreeMap<>();
+		intervals.values().forEach(interval -> result.put(interval.intervalDate, 0L));
+
+		for (Object[] dayCount : dayCounts) {
+			Date intervalDate = getIntervalDate(toUtilDate(dayCount[0]));
+			if (intervalDate != null) {
+				result.merge(intervalDate, ((Number) dayCount[1]).longValue(), Long::sum);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * The queries return a {@link java.sql.Date}, which does not support {@link Date#toInstant()}.
+	 */
+	private static Date toUtilDate(Object day) {
+		return new Date(((Date) day).getTime());
+	}
+
+	private static final class Interval {
+
+		private final Date intervalDate;
+		private final Date end;
+
+		private Interval(Date intervalDate, Date end) {
+			this.intervalDate = intervalDate;
+			this.end = end;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.docgeneration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Keeps what was compiled from a template file until the file is changed, so documents can be generated without reading and
+ * parsing the template again.
+ * <p>
+ * Templates are identified by their path; a different modification time or size means that the template has to be compiled again.
+ */
+final class CompiledTemplateCache<T> {
+
+	/**
+	 * The number of templates is limited by the files in the template directories, this only prevents unlimited growth.
+	 */
+	private static final int MAX_ENTRIES = 200;
+
+	private final Map<Path, Entry<T>> entries = new ConcurrentHashMap<>();
+	private final Consumer<T> onEvict;
+
+	private final AtomicLong compileCount = new AtomicLong();
+
+	/**
+	 * @param onEvict
+	 *            Releases resources held by a compiled template that is no longer used.
+	 */
+	CompiledTemplateCache(Consumer<T> onEvict) {
+		this.onEvict = onEvict;
+	}
+
+	<E extends Exception> T get(File templateFile, Compiler<T, E> compiler) throws E {
+
+		Path path = templateFile.toPath().toAbsolutePath().normalize();
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		} catch (IOException e) {
+			// let the compiler report the missing or unreadable file as before
+			evict(templateFile);
+			return compiler.compile(templateFile);
+		}
+
+		Entry<T> entry = entries.get(path);
+		if (entry != null && entry.lastModified.equals(attributes.lastModifiedTime()) && entry.size == attributes.size()) {
+			return entry.compiled;
+		}
+
+		T compiled = compiler.compile(templateFile);
+		compileCount.incrementAndGet();
+		if (entries.size() >= MAX_ENTRIES) {
+			clear();
+		}
+		Entry<T> replaced = entries.put(path, new Entry<>(compiled, attributes.lastModifiedTime(), attributes.size()));
+		if (replaced != null) {
+			onEvict.accept(replaced.compiled);
+		}
+		return compiled;
+	}
+
+	void evict(File templateFile) {
+
+		Entry<T> removed = entries.remove(templateFile.toPath().toAbsolutePath().normalize());
+		if (removed != null) {
+			onEvict.accept(removed.compiled);
+		}
+	}
+
+	void clear() {
+		entries.keySet().forEach(path -> evict(path.toFile()));
+	}
+
+	/**
+	 * @return How often a template was compiled because it was not cached or had changed.
+	 */
+	long getCompileCount() {
+		return compileCount.get();
+	}
+
+	interface Compiler<T, E extends Exception> {
+
+		T compile(File templateFile) throws E;
+	}
+
+	private static final class Entry<T> {
+
+		private final T compiled;
+		private final FileTime lastModified;
+		private final long size;
+
+		private Entry(T compiled, FileTime lastModified, long size) {
+			this.compiled = compiled;
+			this.lastModified = lastModified;
+			this.size = size;
+		}
+	}
+}
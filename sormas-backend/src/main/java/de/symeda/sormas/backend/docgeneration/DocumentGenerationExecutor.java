@@ -0,0 +1,100 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.docgeneration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Singleton;
+
+import de.symeda.sormas.api.Language;
+import de.symeda.sormas.api.i18n.I18nProperties;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+
+/**
+ * Renders documents of bulk document generation in parallel.
+ * <p>
+ * Only the rendering of already prepared properties must be done here: the tasks run outside of the EJB container, so they can't
+ * access the database or other beans.
+ */
+@Singleton
+@LocalBean
+@Lock(LockType.READ)
+public class DocumentGenerationExecutor {
+
+	private static final int QUEUE_CAPACITY = 100;
+
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	private ThreadPoolExecutor executor;
+
+	@PostConstruct
+	public void init() {
+
+		int threads = Math.max(1, configFacade.getDocgenerationBulkThreads());
+		AtomicInteger threadNumber = new AtomicInteger();
+		executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+			Thread thread = new Thread(r, "docgeneration-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * @return How many documents should be rendered ahead of the ones being processed by the caller.
+	 */
+	public int getParallelism() {
+		return executor.getMaximumPoolSize();
+	}
+
+	/**
+	 * The language of the current user is used for the task as well, because values are formatted while rendering.
+	 */
+	public <T> Future<T> submit(Callable<T> task) {
+
+		Language language = I18nProperties.getUserLanguage();
+		Thread caller = Thread.currentThread();
+		return executor.submit(() -> {
+			// when the queue is full, the caller runs the task itself and keeps its language
+			if (Thread.currentThread() == caller) {
+				return task.call();
+			}
+			I18nProperties.setUserLanguage(language);
+			try {
+				return task.call();
+			} finally {
+				I18nProperties.removeUserLanguage();
+			}
+		});
+	}
+}
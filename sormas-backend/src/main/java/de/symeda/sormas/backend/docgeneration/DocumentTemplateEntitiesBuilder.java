@@ -23,6 +23,7 @@ import static de.symeda.sormas.api.docgeneneration.RootEntityType.ROOT_TRAVEL_EN
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +49,7 @@ import de.symeda.sormas.api.feature.FeatureType;
 import de.symeda.sormas.api.feature.FeatureTypeProperty;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.i18n.Strings;
+import de.symeda.sormas.api.person.PersonDto;
 import de.symeda.sormas.api.person.PersonReferenceDto;
 import de.symeda.sormas.api.sample.PathogenTestDto;
 import de.symeda.sormas.api.sample.PathogenTestReferenceDto;
@@ -56,6 +58,7 @@ import de.symeda.sormas.api.sample.SampleDto;
 import de.symeda.sormas.api.sample.SampleReferenceDto;
 import de.symeda.sormas.api.travelentry.TravelEntryDto;
 import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.uuid.HasUuid;
 import de.symeda.sormas.api.vaccination.VaccinationDto;
 import de.symeda.sormas.api.vaccination.VaccinationReferenceDto;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
@@ -63,6 +66,7 @@ import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb.ContactFacadeEjbLocal;
 import de.symeda.sormas.backend.event.EventParticipantFacadeEjb.EventParticipantFacadeEjbLocal;
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb.FeatureConfigurationFacadeEjbLocal;
+import de.symeda.sormas.backend.person.PersonFacadeEjb.PersonFacadeEjbLocal;
 import de.symeda.sormas.backend.sample.PathogenTestFacadeEjb;
 import de.symeda.sormas.backend.sample.Sample;
 import de.symeda.sormas.backend.sample.SampleFacadeEjb;
@@ -92,6 +96,8 @@ public class DocumentTemplateEntitiesBuilder {
 	private VaccinationFacadeEjbLocal vaccinationFacade;
 	@EJB
 	private FeatureConfigurationFacadeEjbLocal featureConfigurationFacade;
+	@EJB
+	private PersonFacadeEjbLocal personFacade;
 
 	public DocumentTemplateEntities getQuarantineOrderEntities(
 		DocumentWorkflow workflow,
@@ -117,17 +123,18 @@ public class DocumentTemplateEntitiesBuilder {
 		}
 
 		String rootEntityUuid = rootEntityRef.getUuid();
+		UserDto currentUser = userFacade.getCurrentUser();
 
 		switch (workflow) {
 		case QUARANTINE_ORDER_CASE:
 			CaseDataDto caseDataDto = caseFacade.getCaseDataByUuid(rootEntityUuid);
 
-			return buildEntities(RootEntityType.ROOT_CASE, caseDataDto, caseDataDto.getPerson(), sample, pathogenTest, vaccination);
+			return buildEntities(RootEntityType.ROOT_CASE, caseDataDto, caseDataDto.getPerson(), sample, pathogenTest, vaccination, currentUser);
 
 		case QUARANTINE_ORDER_CONTACT:
 			ContactDto contactDto = contactFacade.getByUuid(rootEntityUuid);
 
-			return buildEntities(ROOT_CONTACT, contactDto, contactDto.getPerson(), sample, pathogenTest, vaccination);
+			return buildEntities(ROOT_CONTACT, contactDto, contactDto.getPerson(), sample, pathogenTest, vaccination, currentUser);
 
 		case QUARANTINE_ORDER_EVENT_PARTICIPANT:
 			EventParticipantDto eventParticipantDto = eventParticipantFacade.getByUuid(rootEntityUuid);
@@ -138,12 +145,13 @@ public class DocumentTemplateEntitiesBuilder {
 				eventParticipantDto.getPerson().toReference(),
 				sample,
 				pathogenTest,
-				vaccination);
+				vaccination,
+				currentUser);
 
 		case QUARANTINE_ORDER_TRAVEL_ENTRY:
 			TravelEntryDto travelEntryDto = travelEntryFacade.getByUuid(rootEntityUuid);
 
-			return buildEntities(ROOT_TRAVEL_ENTRY, travelEntryDto, travelEntryDto.getPerson(), null, null, null);
+			return buildEntities(ROOT_TRAVEL_ENTRY, travelEntryDto, travelEntryDto.getPerson(), null, null, null, currentUser);
 
 		default:
 			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorQuarantineOnlySupportedEntities));
@@ -279,15 +287,24 @@ public class DocumentTemplateEntitiesBuilder {
 				vaccinations = Collections.emptyMap();
 			}
 
+			// loaded at once instead of being resolved one by one while preparing the documents
+			Map<String, PersonDto> persons = personFacade
+				.getByUuids(mainRootEntities.stream().map(e -> getEntityPerson.apply(e).getUuid()).distinct().collect(Collectors.toList()))
+				.stream()
+				.collect(Collectors.toMap(PersonDto::getUuid, Function.identity()));
+			UserDto currentUser = userFacade.getCurrentUser();
+
 			return mainRootEntities.stream().map(e -> {
 				SampleDto sample = samples.get(e.getUuid());
 				PathogenTestDto pathogenTest = sample != null ? pathogenTests.get(sample.getUuid()) : null;
-				VaccinationDto vaccination = vaccinations.get(getEntityPerson.apply(e).getUuid());
+				PersonReferenceDto personRef = getEntityPerson.apply(e);
+				VaccinationDto vaccination = vaccinations.get(personRef.getUuid());
+				HasUuid person = persons.containsKey(personRef.getUuid()) ? persons.get(personRef.getUuid()) : personRef;
 
 				return new AbstractMap.SimpleEntry<>(
 					createReference.apply(e),
-					buildEntities(mainRootEntityType, e, getEntityPerson.apply(e), sample, pathogenTest, vaccination));
-			}).collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
+					buildEntities(mainRootEntityType, e, person, sample, pathogenTest, vaccination, currentUser));
+			}).collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue, (a, b) -> a, LinkedHashMap::new));
 		}
 
 	}
@@ -295,10 +312,11 @@ public class DocumentTemplateEntitiesBuilder {
 	private DocumentTemplateEntities buildEntities(
 		RootEntityType mainRootEntityType,
 		EntityDto mainRootEntity,
-		PersonReferenceDto person,
+		HasUuid person,
 		SampleDto sample,
 		PathogenTestDto pathogenTest,
-		VaccinationDto vaccination) {
+		VaccinationDto vaccination,
+		UserDto currentUser) {
 		DocumentTemplateEntities entities = new DocumentTemplateEntities();
 
 		entities.addEntity(mainRootEntityType, mainRootEntity);
@@ -316,7 +334,6 @@ public class DocumentTemplateEntitiesBuilder {
 			entities.addEntity(RootEntityType.ROOT_VACCINATION, vaccination);
 		}
 
-		final UserDto currentUser = userFacade.getCurrentUser();
 		entities.addEntity(RootEntityType.ROOT_USER, currentUser);
 
 		return entities;
@@ -22,11 +22,17 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -128,6 +134,9 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 	@EJB
 	private TravelEntryFacadeEjbLocal travelEntryFacade;
 
+	@EJB
+	private DocumentGenerationExecutor documentGenerationExecutor;
+
 	private TemplateEngine templateEngine = new TemplateEngine();
 
 	@Override
@@ -150,12 +159,73 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		DocumentVariables documentVariables = getTemplateVariablesDocx(templateFile);
 
 		// 3. prepare properties
-		Properties properties = prepareProperties(documentWorkflow, entities, extraProperties, documentVariables);
+		Properties properties = prepareProperties(documentWorkflow, entities, extraProperties, documentVariables, getReferenceDtoResolver());
 
 		// 4. generate document
 		return generateDocumentDocx(templateFile, properties);
 	}
 
+	/**
+	 * Generates a DOCX document for each of the entities. The template is only read once and the documents are rendered in parallel.
+	 * The documents are passed to the consumer in the order of the entities and in the calling thread; only the documents rendered
+	 * ahead are held in memory.
+	 */
+	public <K> void generateDocumentsDocxFromEntities(
+		DocumentWorkflow documentWorkflow,
+		String templateName,
+		Map<K, DocumentTemplateEntities> entities,
+		Properties extraProperties,
+		DocumentConsumer<K> consumer)
+		throws DocumentTemplateException {
+		if (!documentWorkflow.isDocx()) {
+			throw new DocumentTemplateException(
+				String.format(I18nProperties.getString(Strings.messageWrongTemplateFileType), documentWorkflow, documentWorkflow.getFileExtension()));
+		}
+
+		File templateFile = getTemplateFile(documentWorkflow, templateName);
+		DocumentVariables documentVariables = getTemplateVariablesDocx(templateFile);
+		// shared by all documents, so referenced entities like users and infrastructure are only loaded once
+		EntityDtoAccessHelper.IReferenceDtoResolver referenceDtoResolver = getReferenceDtoResolver();
+
+		// the properties have to be prepared here because they are loaded from the database, only the rendering is done in parallel
+		Deque<Map.Entry<K, Future<byte[]>>> pendingDocuments = new ArrayDeque<>();
+		int maxPendingDocuments = documentGenerationExecutor.getParallelism() * 2;
+		try {
+			for (Map.Entry<K, DocumentTemplateEntities> entry : entities.entrySet()) {
+				Properties properties = prepareProperties(documentWorkflow, entry.getValue(), extraProperties, documentVariables, referenceDtoResolver);
+				Future<byte[]> document = documentGenerationExecutor.submit(() -> generateDocumentDocx(templateFile, properties));
+				pendingDocuments.add(new AbstractMap.SimpleEntry<>(entry.getKey(), document));
+
+				if (pendingDocuments.size() >= maxPendingDocuments) {
+					acceptGeneratedDocument(pendingDocuments.poll(), consumer);
+				}
+			}
+			while (!pendingDocuments.isEmpty()) {
+				acceptGeneratedDocument(pendingDocuments.poll(), consumer);
+			}
+		} finally {
+			pendingDocuments.forEach(d -> d.getValue().cancel(true));
+		}
+	}
+
+	private <K> void acceptGeneratedDocument(Map.Entry<K, Future<byte[]>> pendingDocument, DocumentConsumer<K> consumer)
+		throws DocumentTemplateException {
+
+		byte[] document;
+		try {
+			document = pendingDocument.getValue().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorDocumentGeneration));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DocumentTemplateException) {
+				throw (DocumentTemplateException) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		}
+		consumer.accept(pendingDocument.getKey(), document);
+	}
+
 	@Override
 	@PermitAll
 	public String generateDocumentTxtFromEntities(
@@ -176,7 +246,7 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		DocumentVariables documentVariables = getTemplateVariablesTxt(templateFile);
 
 		// 3. prepare properties
-		Properties properties = prepareProperties(documentWorkflow, entities, extraProperties, documentVariables);
+		Properties properties = prepareProperties(documentWorkflow, entities, extraProperties, documentVariables, getReferenceDtoResolver());
 
 		// 4. generate document
 		return generateDocumentTxt(templateFile, properties);
@@ -186,7 +256,8 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		DocumentWorkflow documentWorkflow,
 		DocumentTemplateEntities entities,
 		Properties extraProperties,
-		DocumentVariables documentVariables) {
+		DocumentVariables documentVariables,
+		EntityDtoAccessHelper.IReferenceDtoResolver referenceDtoResolver) {
 		Properties properties = new Properties();
 
 		// 1. Map template variables to entity data if possible
@@ -195,8 +266,6 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		// <CaseDataDto>.quarantineFrom
 		// Generic access as implemented in DataDictionaryGenerator.java
 
-		EntityDtoAccessHelper.IReferenceDtoResolver referenceDtoResolver = getReferenceDtoResolver();
-
 		String propertySeparator = documentWorkflow.isDocx() ? "." : "_";
 		for (String propertyKey : documentVariables.getVariables()) {
 			if (isEntityVariable(documentWorkflow, propertyKey)) {
@@ -331,8 +400,9 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		} catch (IOException e) {
 			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorCreatingTemplateDirectory));
 		}
-		try (FileOutputStream fileOutputStream =
-			new FileOutputStream(new File(workflowTemplateDirPath.resolve(FilenameUtils.getName(templateName)).toUri()))) {
+		File templateFile = new File(workflowTemplateDirPath.resolve(FilenameUtils.getName(templateName)).toUri());
+		templateEngine.evictCompiledTemplate(templateFile);
+		try (FileOutputStream fileOutputStream = new FileOutputStream(templateFile)) {
 			fileOutputStream.write(document);
 		} catch (IOException e) {
 			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorWritingTemplate));
@@ -344,6 +414,7 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 	public boolean deleteDocumentTemplate(DocumentWorkflow documentWorkflow, String fileName) throws DocumentTemplateException {
 		File templateFile = new File(getWorkflowTemplateDirPath(documentWorkflow).resolve(fileName).toUri());
 		if (templateFile.exists() && templateFile.isFile()) {
+			templateEngine.evictCompiledTemplate(templateFile);
 			return templateFile.delete();
 		} else {
 			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorFileNotFound), fileName));
@@ -434,6 +505,11 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		return new EntityDtoAccessHelper.CachedReferenceDtoResolver(referenceDtoResolver);
 	}
 
+	public interface DocumentConsumer<K> {
+
+		void accept(K key, byte[] document) throws DocumentTemplateException;
+	}
+
 	public class ObjectFormatter {
 
 		public Object format(Object value) {
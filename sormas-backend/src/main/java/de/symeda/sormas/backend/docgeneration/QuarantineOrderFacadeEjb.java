@@ -15,10 +15,21 @@
 
 package de.symeda.sormas.backend.docgeneration;
 
-import java.util.HashMap;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import javax.ejb.EJB;
 import javax.ejb.Stateless;
@@ -29,13 +40,17 @@ import de.symeda.sormas.api.docgeneneration.DocumentTemplateEntities;
 import de.symeda.sormas.api.docgeneneration.DocumentTemplateException;
 import de.symeda.sormas.api.docgeneneration.DocumentVariables;
 import de.symeda.sormas.api.docgeneneration.DocumentWorkflow;
+import de.symeda.sormas.api.docgeneneration.GeneratedDocumentsArchive;
 import de.symeda.sormas.api.docgeneneration.QuarantineOrderFacade;
 import de.symeda.sormas.api.document.DocumentDto;
 import de.symeda.sormas.api.event.EventParticipantReferenceDto;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.i18n.Strings;
+import de.symeda.sormas.api.importexport.ImportExportUtils;
 import de.symeda.sormas.api.sample.PathogenTestReferenceDto;
 import de.symeda.sormas.api.sample.SampleReferenceDto;
+import de.symeda.sormas.api.utils.DataHelper;
+import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.vaccination.VaccinationReferenceDto;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.backend.docgeneration.DocumentTemplateFacadeEjb.DocumentTemplateFacadeEjbLocal;
@@ -138,21 +153,117 @@ public class QuarantineOrderFacadeEjb implements QuarantineOrderFacade {
 		Boolean shouldUploadGeneratedDoc)
 		throws DocumentTemplateException {
 
-		Map<ReferenceDto, byte[]> documents = new HashMap<>(quarantineOrderEntities.size());
+		Map<ReferenceDto, byte[]> documents = new LinkedHashMap<>(quarantineOrderEntities.size());
 
-		for (Map.Entry<ReferenceDto, DocumentTemplateEntities> entities : quarantineOrderEntities.entrySet()) {
-			byte[] documentContent = documentTemplateFacade.generateDocumentDocxFromEntities(
-				workflow,
-				templateName,
-				entities.getValue(),
-				extraProperties);
-			if (shouldUploadGeneratedDoc) {
-				uploadDocument(templateName, entities.getKey(), documentContent);
+		documentTemplateFacade
+			.generateDocumentsDocxFromEntities(workflow, templateName, quarantineOrderEntities, extraProperties, (rootEntityReference, document) -> {
+				if (shouldUploadGeneratedDoc) {
+					uploadDocument(templateName, rootEntityReference, document);
+				}
+				documents.put(rootEntityReference, document);
+			});
+
+		return documents;
+	}
+
+	@Override
+	public GeneratedDocumentsArchive getGeneratedDocumentsArchive(
+		String templateName,
+		DocumentWorkflow workflow,
+		List<ReferenceDto> rootEntityReferences,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException {
+
+		Map<ReferenceDto, DocumentTemplateEntities> quarantineOrderEntities =
+			entitiesBuilder.getQuarantineOrderEntities(workflow, rootEntityReferences);
+
+		return getGeneratedDocumentsArchive(templateName, workflow, quarantineOrderEntities, extraProperties, shouldUploadGeneratedDoc);
+	}
+
+	@Override
+	public GeneratedDocumentsArchive getGeneratedDocumentsArchiveForEventParticipants(
+		String templateName,
+		List<EventParticipantReferenceDto> rootEntityReferences,
+		Disease eventDisease,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException {
+
+		Map<ReferenceDto, DocumentTemplateEntities> quarantineOrderEntities =
+			entitiesBuilder.getEventParticipantQuarantineOrderEntities(rootEntityReferences, eventDisease);
+
+		return getGeneratedDocumentsArchive(
+			templateName,
+			DocumentWorkflow.QUARANTINE_ORDER_EVENT_PARTICIPANT,
+			quarantineOrderEntities,
+			extraProperties,
+			shouldUploadGeneratedDoc);
+	}
+
+	/**
+	 * Writes each document to the archive as soon as it is generated, so only the documents rendered ahead are held in memory.
+	 */
+	private GeneratedDocumentsArchive getGeneratedDocumentsArchive(
+		String templateName,
+		DocumentWorkflow workflow,
+		Map<ReferenceDto, DocumentTemplateEntities> quarantineOrderEntities,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException {
+
+		List<String> notUploadedUuids = new ArrayList<>();
+		Path archivePath = null;
+		boolean success = false;
+		try {
+			Path tempFilesPath = Paths.get(configFacade.getTempFilesPath());
+			Files.createDirectories(tempFilesPath);
+			archivePath = tempFilesPath.resolve(
+				ImportExportUtils.TEMP_FILE_PREFIX + "_documents_" + DateHelper.formatDateForExport(new Date()) + "_"
+					+ new Random().nextInt(Integer.MAX_VALUE) + ".zip");
+
+			try (ZipOutputStream zos =
+				new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archivePath, StandardOpenOption.CREATE_NEW)))) {
+				documentTemplateFacade
+					.generateDocumentsDocxFromEntities(workflow, templateName, quarantineOrderEntities, extraProperties, (rootEntityReference, document) -> {
+						addArchiveEntry(zos, DataHelper.getShortUuid(rootEntityReference) + '-' + templateName, document);
+						if (shouldUploadGeneratedDoc) {
+							if (isFileSizeLimitExceeded(document.length)) {
+								notUploadedUuids.add(rootEntityReference.getUuid());
+							} else {
+								uploadDocument(templateName, rootEntityReference, document);
+							}
+						}
+					});
+			}
+			success = true;
+		} catch (IOException e) {
+			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorProcessingTemplate));
+		} finally {
+			if (!success && archivePath != null) {
+				deleteArchive(archivePath);
 			}
-			documents.put(entities.getKey(), documentContent);
 		}
 
-		return documents;
+		return new GeneratedDocumentsArchive(archivePath.toString(), notUploadedUuids);
+	}
+
+	private static void addArchiveEntry(ZipOutputStream zos, String fileName, byte[] document) throws DocumentTemplateException {
+		try {
+			zos.putNextEntry(new ZipEntry(fileName));
+			zos.write(document);
+			zos.closeEntry();
+		} catch (IOException e) {
+			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorProcessingTemplate));
+		}
+	}
+
+	private static void deleteArchive(Path archivePath) {
+		try {
+			Files.deleteIfExists(archivePath);
+		} catch (IOException e) {
+			// left for the temp file cleanup
+		}
 	}
 
 	@Override
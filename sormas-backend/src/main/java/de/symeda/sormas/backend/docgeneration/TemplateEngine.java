@@ -72,6 +72,17 @@ public class TemplateEngine {
 		HtmlHelper.EVENTACTION_WHITELIST.addAttributes("div", "class").addAttributes("span", "class").addAttributes("table", "class");
 	private static final Logger logger = LoggerFactory.getLogger(TemplateEngine.class);
 
+	/**
+	 * Compiled templates are shared by all instances; compiled reports and templates are only read while generating documents and
+	 * can be used by several threads at once.
+	 */
+	private static final CompiledTemplateCache<CompiledDocxTemplate> DOCX_TEMPLATES =
+		new CompiledTemplateCache<>(t -> XDocReportRegistry.getRegistry().unregisterReport(t.report));
+	private static final CompiledTemplateCache<Template> TXT_TEMPLATES = new CompiledTemplateCache<>(t -> {
+	});
+	private static final CompiledTemplateCache<DocumentVariables> TXT_TEMPLATE_VARIABLES = new CompiledTemplateCache<>(v -> {
+	});
+
 	private final Properties xdocVelocityProperties;
 
 	public TemplateEngine() {
@@ -89,22 +100,28 @@ public class TemplateEngine {
 	}
 
 	public DocumentVariables extractTemplateVariablesDocx(File templateFile) throws DocumentTemplateException {
-		try {
-			FileInputStream templateInputStream = new FileInputStream(templateFile);
+		return copy(DOCX_TEMPLATES.get(templateFile, this::compileDocx).variables);
+	}
+
+	private CompiledDocxTemplate compileDocx(File templateFile) throws DocumentTemplateException {
+		try (FileInputStream templateInputStream = new FileInputStream(templateFile)) {
 			IXDocReport report = readXDocReport(templateInputStream);
 
 			FieldsExtractor<FieldExtractor> extractor = FieldsExtractor.create();
 			report.extractFields(extractor);
 
-			return filterExtractedVariables(extractor);
+			return new CompiledDocxTemplate(report, filterExtractedVariables(extractor));
 		} catch (XDocReportException | IOException e) {
 			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorReadingTemplate), templateFile.getName()));
 		}
 	}
 
 	public DocumentVariables extractTemplateVariablesTxt(File templateFile) throws DocumentTemplateException {
-		try {
-			FileReader templateFileReader = new FileReader(templateFile);
+		return copy(TXT_TEMPLATE_VARIABLES.get(templateFile, this::compileTemplateVariablesTxt));
+	}
+
+	private DocumentVariables compileTemplateVariablesTxt(File templateFile) throws DocumentTemplateException {
+		try (FileReader templateFileReader = new FileReader(templateFile)) {
 			String templateName = templateFile.getName();
 
 			FieldsExtractor<FieldExtractor> extractor = getFieldExtractorTxt(templateFileReader, templateName);
@@ -115,10 +132,32 @@ public class TemplateEngine {
 		}
 	}
 
+	/**
+	 * The cached variables must not be changed by the callers.
+	 */
+	private static DocumentVariables copy(DocumentVariables variables) {
+		return new DocumentVariables(new HashSet<>(variables.getVariables()), new HashSet<>(variables.getNullableVariables()));
+	}
+
+	/**
+	 * Removes the compiled template, e.g. because the template file is about to be replaced or deleted.
+	 */
+	public void evictCompiledTemplate(File templateFile) {
+		DOCX_TEMPLATES.evict(templateFile);
+		TXT_TEMPLATES.evict(templateFile);
+		TXT_TEMPLATE_VARIABLES.evict(templateFile);
+	}
+
+	/**
+	 * @return How often templates were read and compiled.
+	 */
+	static long getTemplateCompileCount() {
+		return DOCX_TEMPLATES.getCompileCount() + TXT_TEMPLATES.getCompileCount() + TXT_TEMPLATE_VARIABLES.getCompileCount();
+	}
+
 	public byte[] generateDocumentDocx(Properties properties, File templateFile) throws DocumentTemplateException {
 		try {
-			FileInputStream templateInputStream = new FileInputStream(templateFile);
-			IXDocReport report = readXDocReport(templateInputStream);
+			IXDocReport report = DOCX_TEMPLATES.get(templateFile, this::compileDocx).report;
 			IContext context = report.createContext();
 
 			for (Object key : properties.keySet()) {
@@ -151,17 +190,7 @@ public class TemplateEngine {
 	}
 
 	public String generateDocumentTxt(Properties properties, File templateFile) {
-		VelocityEngine velocityEngine = new VelocityEngine();
-		// Disable Reflection and Classloader related methods
-		velocityEngine.setProperty(RuntimeConstants.UBERSPECT_CLASSNAME, SecureUberspector.class.getCanonicalName());
-		// Disable Includes
-		velocityEngine.setProperty(RuntimeConstants.EVENTHANDLER_INCLUDE, NoIncludesEventHandler.class.getCanonicalName());
-		// Clean Html
-		velocityEngine.setProperty(RuntimeConstants.EVENTHANDLER_REFERENCEINSERTION, CleanHtmlReference.class.getCanonicalName());
-
-		velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, "file");
-		velocityEngine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, FilenameUtils.getFullPathNoEndSeparator(templateFile.getPath()));
-		Template template = velocityEngine.getTemplate(templateFile.getName());
+		Template template = TXT_TEMPLATES.get(templateFile, this::compileTxt);
 		VelocityContext velocityContext = new VelocityContext();
 
 		for (Object key : properties.keySet()) {
@@ -181,11 +210,27 @@ public class TemplateEngine {
 		return Jsoup.clean(stringWriter.toString(), "", HTML_TEMPLATE_WHITELIST, outputSettings);
 	}
 
+	private Template compileTxt(File templateFile) {
+		VelocityEngine velocityEngine = new VelocityEngine();
+		// Disable Reflection and Classloader related methods
+		velocityEngine.setProperty(RuntimeConstants.UBERSPECT_CLASSNAME, SecureUberspector.class.getCanonicalName());
+		// Disable Includes
+		velocityEngine.setProperty(RuntimeConstants.EVENTHANDLER_INCLUDE, NoIncludesEventHandler.class.getCanonicalName());
+		// Clean Html
+		velocityEngine.setProperty(RuntimeConstants.EVENTHANDLER_REFERENCEINSERTION, CleanHtmlReference.class.getCanonicalName());
+
+		velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, "file");
+		velocityEngine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, FilenameUtils.getFullPathNoEndSeparator(templateFile.getPath()));
+		return velocityEngine.getTemplate(templateFile.getName());
+	}
+
 	public void validateTemplateDocx(InputStream templateInputStream) throws DocumentTemplateException {
 		try {
 			IXDocReport report = readXDocReport(templateInputStream);
 			FieldsExtractor<FieldExtractor> extractor = FieldsExtractor.create();
 			report.extractFields(extractor);
+			// only validated, don't keep the report in the registry
+			XDocReportRegistry.getRegistry().unregisterReport(report);
 		} catch (XDocReportException | IOException e) {
 			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorProcessingTemplate));
 		}
@@ -254,4 +299,15 @@ public class TemplateEngine {
 		}
 		return new DocumentVariables(variables, nullableVariables);
 	}
+
+	private static final class CompiledDocxTemplate {
+
+		private final IXDocReport report;
+		private final DocumentVariables variables;
+
+		private CompiledDocxTemplate(IXDocReport report, DocumentVariables variables) {
+			this.report = report;
+			this.variables = variables;
+		}
+	}
 }
@@ -101,6 +101,7 @@ import de.symeda.sormas.backend.FacadeHelper;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.common.AbstractCoreFacadeEjb;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
+import de.symeda.sormas.backend.common.CountCache;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.externalsurveillancetool.ExternalSurveillanceToolGatewayFacadeEjb.ExternalSurveillanceToolGatewayFacadeEjbLocal;
@@ -174,6 +175,8 @@ public class EventFacadeEjb extends AbstractCoreFacadeEjb<Event, EventDto, Event
 	private EventParticipantService eventParticipantService;
 	@EJB
 	private ExternalSurveillanceToolGatewayFacadeEjbLocal externalSurveillanceToolGatewayFacade;
+	@EJB
+	private CountCache countCache;
 	@Resource
 	private ManagedScheduledExecutorService executorService;
 
@@ -388,6 +391,21 @@ public class EventFacadeEjb extends AbstractCoreFacadeEjb<Event, EventDto, Event
 	@Override
 	public long count(EventCriteria eventCriteria) {
 
+		return countCache.count("events", eventCriteria, service::getLatestChangeDate, () -> countExactly(eventCriteria));
+	}
+
+	@Override
+	public Long estimateCount(EventCriteria eventCriteria) {
+
+		EventCriteria unfilteredCriteria = new EventCriteria();
+		if (eventCriteria != null) {
+			unfilteredCriteria.relevanceStatus(eventCriteria.getRelevanceStatus());
+		}
+		return countCache.estimate(eventCriteria, unfilteredCriteria, () -> service.estimateCount(unfilteredCriteria.getRelevanceStatus()));
+	}
+
+	private long countExactly(EventCriteria eventCriteria) {
+
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
 		Root<Event> event = cq.from(Event.class);
@@ -1015,7 +1033,7 @@ public class EventFacadeEjb extends AbstractCoreFacadeEjb<Event, EventDto, Event
 	public void archive(List<String> eventUuids) {
 		super.archive(eventUuids);
 		List<String> eventParticipantList = eventParticipantService.getAllUuidsByEventUuids(eventUuids);
-		eventParticipantService.archive(eventParticipantList);
+		archiveInChunks(eventParticipantService, eventParticipantList, CoreEntityType.EVENT_PARTICIPANT);
 	}
 
 	@Override
@@ -750,6 +750,34 @@ public class EventParticipantFacadeEjb
 		Language userLanguage,
 		ExportConfigurationDto exportConfiguration) {
 
+		return getExportList(eventParticipantCriteria, selectedRows, first, null, max, userLanguage, exportConfiguration);
+	}
+
+	@Override
+	public List<EventParticipantExportDto> getExportListAfter(
+		EventParticipantCriteria eventParticipantCriteria,
+		Collection<String> selectedRows,
+		Long afterId,
+		int max,
+		Language userLanguage,
+		ExportConfigurationDto exportConfiguration) {
+
+		return getExportList(eventParticipantCriteria, selectedRows, null, afterId, max, userLanguage, exportConfiguration);
+	}
+
+	/**
+	 * @param first
+	 *            Offset for offset paging. {@code null} for keyset paging by descending id, starting after {@code afterId}.
+	 */
+	private List<EventParticipantExportDto> getExportList(
+		EventParticipantCriteria eventParticipantCriteria,
+		Collection<String> selectedRows,
+		Integer first,
+		Long afterId,
+		int max,
+		Language userLanguage,
+		ExportConfigurationDto exportConfiguration) {
+
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<EventParticipantExportDto> cq = cb.createQuery(EventParticipantExportDto.class);
 		Root<EventParticipant> eventParticipant = cq.from(EventParticipant.class);
@@ -835,9 +863,19 @@ public class EventParticipantFacadeEjb
 
 		Predicate filter = service.buildCriteriaFilter(eventParticipantCriteria, eventParticipantQueryContext);
 		filter = CriteriaBuilderHelper.andInValues(selectedRows, filter, cb, eventParticipant.get(EventParticipant.UUID));
+		if (afterId != null) {
+			filter = CriteriaBuilderHelper.and(cb, filter, cb.lessThan(eventParticipant.get(EventParticipant.ID), afterId));
+		}
 		cq.where(filter);
 
-		List<EventParticipantExportDto> eventParticipantResultList = QueryHelper.getResultList(em, cq, first, max);
+		List<EventParticipantExportDto> eventParticipantResultList;
+		if (first != null) {
+			eventParticipantResultList = QueryHelper.getResultList(em, cq, first, max);
+		} else {
+			// keyset paging: the primary key index serves both the filter and the order
+			cq.orderBy(cb.desc(eventParticipant.get(EventParticipant.ID)));
+			eventParticipantResultList = QueryHelper.getResultList(em, cq, 0, max);
+		}
 
 		if (!eventParticipantResultList.isEmpty()) {
 			Map<String, Long> eventParticipantContactCount = getContactCountPerEventParticipant(
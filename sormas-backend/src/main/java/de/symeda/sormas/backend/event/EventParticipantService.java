@@ -50,7 +50,7 @@ import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.backend.common.AbstractCoreAdoService;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ChangeDateBuilder;
-import de.symeda.sormas.backend.common.ChangeDateFilterBuilder;
+import de.symeda.sormas.backend.common.CoreAdo;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.person.Person;
@@ -495,9 +495,7 @@ public class EventParticipantService extends AbstractCoreAdoService<EventPartici
 
 	@Override
 	public Predicate createChangeDateFilter(CriteriaBuilder cb, From<?, EventParticipant> from, Timestamp date) {
-		ChangeDateFilterBuilder changeDateFilterBuilder = new ChangeDateFilterBuilder(cb, date, from, null);
-
-		return addChangeDates(changeDateFilterBuilder, toJoins(from), false).build();
+		return createTreeChangeDateFilter(cb, from, date, null);
 	}
 
 	@Override
@@ -505,16 +503,16 @@ public class EventParticipantService extends AbstractCoreAdoService<EventPartici
 
 		From<?, EventParticipant> eventParticipantFrom = joins.getRoot();
 
-		builder = super.addChangeDates(builder, joins, includeExtendedChangeDateFilters)
+		return super.addChangeDates(builder, joins, includeExtendedChangeDateFilters)
 			.add(eventParticipantFrom, EventParticipant.SORMAS_TO_SORMAS_ORIGIN_INFO)
 			.add(eventParticipantFrom, EventParticipant.SORMAS_TO_SORMAS_SHARES);
+	}
 
-		if (includeExtendedChangeDateFilters) {
-			Join<EventParticipant, Sample> eventParticipantSampleJoin = joins.getSamples();
-			builder.add(eventParticipantSampleJoin).add(eventParticipantSampleJoin, Sample.PATHOGENTESTS);
-		}
+	@Override
+	protected <T extends ChangeDateBuilder<T>> T addExtendedChangeDates(T builder, EventParticipantJoins joins) {
 
-		return builder;
+		Join<EventParticipant, Sample> eventParticipantSampleJoin = joins.getSamples();
+		return builder.add(eventParticipantSampleJoin).add(eventParticipantSampleJoin, Sample.PATHOGENTESTS);
 	}
 
 	@Override
@@ -618,12 +616,15 @@ public class EventParticipantService extends AbstractCoreAdoService<EventPartici
 			CriteriaBuilderHelper
 				.and(cb, cb.equal(eventSqRoot, root.get(EventParticipant.EVENT)), cb.equal(eventSqRoot.get(Event.DISEASE), disease), datePredicate));
 
+		Timestamp now = new Timestamp(System.currentTimeMillis());
 		cu.set(root.get(EventParticipant.VACCINATION_STATUS), VaccinationStatus.VACCINATED);
-		cu.set(root.get(AbstractDomainObject.CHANGE_DATE), new Date());
+		cu.set(root.get(AbstractDomainObject.CHANGE_DATE), now);
+		cu.set(root.get(CoreAdo.TREE_CHANGE_DATE), now);
 
 		cu.where(cb.and(cb.equal(root.get(EventParticipant.PERSON).get(Person.ID), personId), cb.isNotNull(eventSq.getSelection())));
 
 		em.createQuery(cu).executeUpdate();
+		logBulkChanges(now);
 	}
 
 	public Predicate createOwnershipPredicate(boolean withOwnership, From<?, ?> from, CriteriaBuilder cb, CriteriaQuery<?> cq) {
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -549,22 +550,22 @@ public class EventService extends AbstractCoreAdoService<Event, EventJoins> {
 	@Override
 	protected <T extends ChangeDateBuilder<T>> T addChangeDates(T builder, EventJoins joins, boolean includeExtendedChangeDateFilters) {
 
+		return super.addChangeDates(builder, joins, includeExtendedChangeDateFilters).add(joins.getRoot(), Event.EVENT_LOCATION);
+	}
+
+	@Override
+	protected <T extends ChangeDateBuilder<T>> T addExtendedChangeDates(T builder, EventJoins joins) {
+
 		final From<?, Event> eventFrom = joins.getRoot();
 		final Join<Event, Action> eventActionJoin = joins.getEventActions();
 		final From<?, EventParticipant> eventParticipants = joins.getEventParticipants();
 		final Join<EventParticipant, Sample> eventParticipantSampleJoin = joins.getEventParticipantJoins().getSamples();
 
-		builder = super.addChangeDates(builder, joins, includeExtendedChangeDateFilters).add(eventFrom, Event.EVENT_LOCATION);
-
-		if (includeExtendedChangeDateFilters) {
-			builder.add(eventFrom, Event.SORMAS_TO_SORMAS_ORIGIN_INFO)
-				.add(eventFrom, Event.SORMAS_TO_SORMAS_SHARES)
-				.add(eventActionJoin)
-				.add(eventParticipants)
-				.add(eventParticipantSampleJoin);
-		}
-
-		return builder;
+		return builder.add(eventFrom, Event.SORMAS_TO_SORMAS_ORIGIN_INFO)
+			.add(eventFrom, Event.SORMAS_TO_SORMAS_SHARES)
+			.add(eventActionJoin)
+			.add(eventParticipants)
+			.add(eventParticipantSampleJoin);
 	}
 
 	@Override
@@ -1089,6 +1090,43 @@ public class EventService extends AbstractCoreAdoService<Event, EventJoins> {
 		return em.createQuery(cq).getResultList();
 	}
 
+	/**
+	 * Fetches the events of several cases at once, with the same filters as {@link #getAllByCase(String)}.
+	 *
+	 * @return The events by case uuid; cases without events are not contained.
+	 */
+	public Map<String, List<Event>> getAllByCaseUuids(List<String> caseUuids) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Event> from = cq.from(getElementClass());
+		from.fetch(Event.EVENT_LOCATION);
+
+		EventQueryContext eventQueryContext = new EventQueryContext(cb, cq, from);
+		EventJoins joins = eventQueryContext.getJoins();
+		Path<String> caseUuid = joins.getEventParticipantCases().get(Case.UUID);
+
+		Predicate filter = createActiveEventsFilter(cb, from);
+
+		User user = getCurrentUser();
+		if (user != null) {
+			Predicate userFilter = createUserFilter(eventQueryContext);
+			filter = CriteriaBuilderHelper.and(cb, filter, userFilter);
+		}
+
+		filter = CriteriaBuilderHelper.and(cb, filter, caseUuid.in(caseUuids));
+
+		cq.multiselect(caseUuid, from);
+		cq.where(filter);
+		cq.distinct(true);
+
+		Map<String, List<Event>> eventsByCase = new HashMap<>();
+		for (Object[] result : em.createQuery(cq).getResultList()) {
+			eventsByCase.computeIfAbsent((String) result[0], k -> new ArrayList<>()).add((Event) result[1]);
+		}
+		return eventsByCase;
+	}
+
 	public boolean hasRegionAndDistrict(String eventUuid) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
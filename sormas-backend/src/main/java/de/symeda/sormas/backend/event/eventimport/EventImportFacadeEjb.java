@@ -65,9 +65,7 @@ import de.symeda.sormas.backend.event.EventGroupFacadeEjb.EventGroupFacadeEjbLoc
 import de.symeda.sormas.backend.event.EventParticipantFacadeEjb.EventParticipantFacadeEjbLocal;
 import de.symeda.sormas.backend.importexport.ImportFacadeEjb.ImportFacadeEjbLocal;
 import de.symeda.sormas.backend.importexport.ImportHelper;
-import de.symeda.sormas.backend.infrastructure.community.CommunityFacadeEjb.CommunityFacadeEjbLocal;
-import de.symeda.sormas.backend.infrastructure.district.DistrictFacadeEjb.DistrictFacadeEjbLocal;
-import de.symeda.sormas.backend.infrastructure.facility.FacilityFacadeEjb.FacilityFacadeEjbLocal;
+import de.symeda.sormas.backend.importexport.InfrastructureNameResolver;
 import de.symeda.sormas.backend.person.PersonFacadeEjb.PersonFacadeEjbLocal;
 import de.symeda.sormas.backend.user.UserService;
 import de.symeda.sormas.backend.util.RightsAllowed;
@@ -91,13 +89,9 @@ public class EventImportFacadeEjb implements EventImportFacade {
 	@EJB
 	private EventGroupFacadeEjbLocal eventGroupFacade;
 	@EJB
-	private DistrictFacadeEjbLocal districtFacade;
-	@EJB
-	private CommunityFacadeEjbLocal communityFacade;
-	@EJB
-	private FacilityFacadeEjbLocal facilityFacade;
-	@EJB
 	private ImportFacadeEjbLocal importFacade;
+	@EJB
+	private InfrastructureNameResolver infrastructureNameResolver;
 
 	@Override
 	@Transactional
@@ -334,8 +328,8 @@ public class EventImportFacadeEjb implements EventImportFacade {
 							pd.getWriteMethod().invoke(currentElement, referencedDto.toReference());
 						}
 					} else if (propertyType.isAssignableFrom(DistrictReferenceDto.class)) {
-						List<DistrictReferenceDto> district =
-							districtFacade.getByName(entry, ImportHelper.getRegionBasedOnDistrict(pd.getName(), event, currentElement), false);
+						List<DistrictReferenceDto> district = infrastructureNameResolver
+							.getDistrictsByName(entry, ImportHelper.getRegionBasedOnDistrict(pd.getName(), event, currentElement), false);
 						if (district.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties.getValidationError(
@@ -352,8 +346,10 @@ public class EventImportFacadeEjb implements EventImportFacade {
 							pd.getWriteMethod().invoke(currentElement, district.get(0));
 						}
 					} else if (propertyType.isAssignableFrom(CommunityReferenceDto.class)) {
-						List<CommunityReferenceDto> community =
-							communityFacade.getByName(entry, ImportHelper.getDistrictBasedOnCommunity(pd.getName(), event, currentElement), false);
+						List<CommunityReferenceDto> community = infrastructureNameResolver.getCommunitiesByName(
+							entry,
+							ImportHelper.getDistrictBasedOnCommunity(pd.getName(), event, currentElement),
+							false);
 						if (community.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties.getValidationError(
@@ -372,7 +368,7 @@ public class EventImportFacadeEjb implements EventImportFacade {
 					} else if (propertyType.isAssignableFrom(FacilityReferenceDto.class)) {
 						DataHelper.Pair<DistrictReferenceDto, CommunityReferenceDto> infrastructureData =
 							ImportHelper.getDistrictAndCommunityBasedOnFacility(pd.getName(), event, currentElement);
-						List<FacilityReferenceDto> facilities = facilityFacade.getByNameAndType(
+						List<FacilityReferenceDto> facilities = infrastructureNameResolver.getFacilitiesByNameAndType(
 							entry,
 							infrastructureData.getElement0(),
 							infrastructureData.getElement1(),
@@ -456,7 +452,7 @@ public class EventImportFacadeEjb implements EventImportFacade {
 					if (importFacade.executeDefaultInvoke(pd, currentElement, entry, entryHeaderPath, true)) {
 						continue;
 					} else if (propertyType.isAssignableFrom(DistrictReferenceDto.class)) {
-						List<DistrictReferenceDto> district = districtFacade.getByName(
+						List<DistrictReferenceDto> district = infrastructureNameResolver.getDistrictsByName(
 							entry,
 							ImportHelper.getRegionBasedOnDistrict(pd.getName(), eventParticipant, eventParticipant.getPerson(), currentElement),
 							false);
@@ -476,7 +472,7 @@ public class EventImportFacadeEjb implements EventImportFacade {
 							pd.getWriteMethod().invoke(currentElement, district.get(0));
 						}
 					} else if (propertyType.isAssignableFrom(CommunityReferenceDto.class)) {
-						List<CommunityReferenceDto> community = communityFacade.getByName(
+						List<CommunityReferenceDto> community = infrastructureNameResolver.getCommunitiesByName(
 							entry,
 							ImportHelper.getDistrictBasedOnCommunity(pd.getName(), eventParticipant, eventParticipant.getPerson(), currentElement),
 							false);
@@ -498,7 +494,7 @@ public class EventImportFacadeEjb implements EventImportFacade {
 					} else if (propertyType.isAssignableFrom(FacilityReferenceDto.class)) {
 						DataHelper.Pair<DistrictReferenceDto, CommunityReferenceDto> infrastructureData = ImportHelper
 							.getDistrictAndCommunityBasedOnFacility(pd.getName(), eventParticipant, eventParticipant.getPerson(), currentElement);
-						List<FacilityReferenceDto> facilities = facilityFacade.getByNameAndType(
+						List<FacilityReferenceDto> facilities = infrastructureNameResolver.getFacilitiesByNameAndType(
 							entry,
 							infrastructureData.getElement0(),
 							infrastructureData.getElement1(),
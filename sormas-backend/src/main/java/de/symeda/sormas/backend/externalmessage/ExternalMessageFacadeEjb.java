@@ -52,6 +52,7 @@ import de.symeda.sormas.api.externalmessage.ExternalMessageDto;
 import de.symeda.sormas.api.externalmessage.ExternalMessageFacade;
 import de.symeda.sormas.api.externalmessage.ExternalMessageFetchResult;
 import de.symeda.sormas.api.externalmessage.ExternalMessageIndexDto;
+import de.symeda.sormas.api.externalmessage.ExternalMessagePage;
 import de.symeda.sormas.api.externalmessage.ExternalMessageReferenceDto;
 import de.symeda.sormas.api.externalmessage.ExternalMessageResult;
 import de.symeda.sormas.api.externalmessage.ExternalMessageStatus;
@@ -201,12 +202,41 @@ public class ExternalMessageFacadeEjb implements ExternalMessageFacade {
 		}
 	}
 
+	/**
+	 * Saves the messages with their sample and test reports in one transaction. If this fails, they are saved one by one so that only
+	 * the faulty messages fall back to their minimal version.
+	 */
+	private void saveChunkWithFallback(List<ExternalMessageDto> dtos) {
+		try {
+			List<ExternalMessage> externalMessages = dtos.stream().map(dto -> buildEntity(dto, true)).collect(toList());
+			externalMessageService.ensurePersistedInNewTransaction(externalMessages);
+		} catch (Exception e) {
+			logger.warn(
+				String.format(
+					"Could not save %d external messages in one transaction, saving them one by one. Underlying error: %s",
+					dtos.size(),
+					e.getMessage()));
+			dtos.forEach(this::saveWithFallback);
+		}
+	}
+
 	@Override
 	public ExternalMessageDto save(@Valid ExternalMessageDto dto) {
 		return save(dto, true, false);
 	}
 
 	public ExternalMessageDto save(@Valid ExternalMessageDto dto, boolean checkChangeDate, boolean newTransaction) {
+		ExternalMessage externalMessage = buildEntity(dto, checkChangeDate);
+
+		if (newTransaction) {
+			externalMessageService.ensurePersistedInNewTransaction(externalMessage);
+		} else {
+			externalMessageService.ensurePersisted(externalMessage);
+		}
+		return toDto(externalMessage);
+	}
+
+	private ExternalMessage buildEntity(ExternalMessageDto dto, boolean checkChangeDate) {
 		ExternalMessage externalMessage = externalMessageService.getByUuid(dto.getUuid());
 
 		validate(dto);
@@ -246,12 +276,7 @@ public class ExternalMessageFacadeEjb implements ExternalMessageFacade {
 			}
 		}
 
-		if (newTransaction) {
-			externalMessageService.ensurePersistedInNewTransaction(externalMessage);
-		} else {
-			externalMessageService.ensurePersisted(externalMessage);
-		}
-		return toDto(externalMessage);
+		return externalMessage;
 	}
 
 	@Override
@@ -504,6 +529,8 @@ public class ExternalMessageFacadeEjb implements ExternalMessageFacade {
 
 	/**
 	 * This method marks the previously unfinished system events as UNCLEAR(if any exists) and creates a new event with status STARTED.
+	 * The messages are fetched page by page and saved in chunks. After each page a checkpoint is stored, so that an interrupted
+	 * fetching continues after the page saved last.
 	 * If the fetching succeeds, the status of the currentSync is changed to SUCCESS.
 	 * In case of any Exception, the status of the currentSync is changed to ERROR.
 	 *
@@ -535,21 +562,40 @@ public class ExternalMessageFacadeEjb implements ExternalMessageFacade {
 		if (since == null) {
 			since = syncFacadeEjb.findLastSyncDateFor(SystemEventType.FETCH_EXTERNAL_MESSAGES);
 		}
-		ExternalMessageResult<List<ExternalMessageDto>> externalMessageResult = fetchExternalMessages(since);
-		if (externalMessageResult.isSuccess()) {
-			externalMessageResult.getValue().forEach(this::saveWithFallback);
-			// we have successfully completed our synchronization
-			syncFacadeEjb.reportSuccessfulSyncWithTimestamp(currentSync, externalMessageResult.getSynchronizationDate());
+		int chunkSize = configFacade.getDemisChunkSize();
+		boolean newMessages = false;
+		while (true) {
+			ExternalMessageResult<ExternalMessagePage> externalMessageResult = fetchExternalMessages(since, chunkSize);
+			if (!externalMessageResult.isSuccess()) {
+				throw new CannotProceedException(externalMessageResult.getError());
+			}
 
-			return getSuccessfulFetchResult(externalMessageResult);
-		} else {
-			throw new CannotProceedException(externalMessageResult.getError());
+			ExternalMessagePage page = externalMessageResult.getValue();
+			List<ExternalMessageDto> messages = page != null && page.getMessages() != null ? page.getMessages() : Collections.emptyList();
+			// adapters without paging deliver everything at once, which is still saved in chunks
+			IterableHelper.executeBatched(messages, chunkSize, this::saveChunkWithFallback);
+			newMessages |= !messages.isEmpty();
+
+			Date synchronizationDate = externalMessageResult.getSynchronizationDate();
+			// a page that does not advance the synchronization date would be fetched again and again
+			if (page == null || page.isLastPage() || messages.isEmpty() || !synchronizationDate.after(since)) {
+				// we have successfully completed our synchronization
+				syncFacadeEjb.reportSuccessfulSyncWithTimestamp(currentSync, synchronizationDate);
+				return new ExternalMessageFetchResult(
+					true,
+					newMessages ? NewMessagesState.NEW_MESSAGES : NewMessagesState.NO_NEW_MESSAGES,
+					null);
+			}
+
+			// an interrupted synchronization continues after the page saved last
+			syncFacadeEjb.reportSyncCheckpoint(currentSync, synchronizationDate);
+			since = synchronizationDate;
 		}
 	}
 
-	protected ExternalMessageResult<List<ExternalMessageDto>> fetchExternalMessages(Date since) throws NamingException {
+	protected ExternalMessageResult<ExternalMessagePage> fetchExternalMessages(Date since, int maxMessages) throws NamingException {
 		ExternalMessageAdapterFacade labResultsFacade = getExternalLabResultsFacade();
-		return labResultsFacade.getExternalMessages(since);
+		return labResultsFacade.getExternalMessagePage(since, maxMessages);
 	}
 
 	private ExternalMessageAdapterFacade getExternalLabResultsFacade() throws NamingException {
@@ -575,18 +621,6 @@ public class ExternalMessageFacadeEjb implements ExternalMessageFacade {
 		return version;
 	}
 
-	private ExternalMessageFetchResult getSuccessfulFetchResult(ExternalMessageResult<List<ExternalMessageDto>> externalMessageResult) {
-		if (isEmptyResult(externalMessageResult)) {
-			return new ExternalMessageFetchResult(true, NewMessagesState.NO_NEW_MESSAGES, null);
-		} else {
-			return new ExternalMessageFetchResult(true, NewMessagesState.NEW_MESSAGES, null);
-		}
-	}
-
-	private boolean isEmptyResult(ExternalMessageResult<List<ExternalMessageDto>> externalMessageResult) {
-		return externalMessageResult.getValue() == null || externalMessageResult.getValue().isEmpty();
-	}
-
 	@Override
 	public boolean exists(String uuid) {
 		return externalMessageService.exists(uuid);
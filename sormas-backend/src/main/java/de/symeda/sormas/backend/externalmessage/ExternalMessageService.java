@@ -1,6 +1,7 @@
 package de.symeda.sormas.backend.externalmessage;
 
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -60,6 +61,22 @@ public class ExternalMessageService extends AdoServiceWithUserFilterAndJurisdict
 		ensurePersisted(externalMessage);
 	}
 
+	/**
+	 * Saves the external messages together with their sample and test reports in one transaction. Messages that already exist are
+	 * merged into it.
+	 */
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public void ensurePersistedInNewTransaction(Collection<ExternalMessage> externalMessages) {
+		for (ExternalMessage externalMessage : externalMessages) {
+			if (externalMessage.getId() == null) {
+				em.persist(externalMessage);
+			} else {
+				em.merge(externalMessage);
+			}
+		}
+		em.flush();
+	}
+
 	@Override
 	public Predicate createUserFilter(CriteriaBuilder cb, CriteriaQuery cq, From<?, ExternalMessage> from) {
 		return null;
@@ -0,0 +1,211 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.feature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.persistence.EntityManager;
+import javax.persistence.NonUniqueResultException;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.common.CoreEntityType;
+import de.symeda.sormas.api.feature.FeatureType;
+import de.symeda.sormas.api.feature.FeatureTypeProperty;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.common.VersionedSnapshot;
+import de.symeda.sormas.backend.util.ModelConstants;
+
+/**
+ * Provides an immutable snapshot of the feature configurations, so the feature checks done by almost every request do not query the
+ * database.
+ * <p>
+ * The snapshot is rebuilt when feature configurations are changed through the {@link FeatureConfigurationService}. To notice changes
+ * made on other application servers, the number and the latest change date of the configurations are compared with those of the
+ * snapshot at most every {@code feature.cache.pollIntervalSeconds}.
+ */
+@Singleton
+@LocalBean
+@Lock(LockType.READ)
+public class FeatureConfigurationCache {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	private final VersionedSnapshot<Snapshot> snapshot = new VersionedSnapshot<>(FeatureConfiguration.class, this::load);
+
+	/**
+	 * @return The current snapshot, rebuilt if the feature configurations have changed.
+	 */
+	public Snapshot get() {
+		return snapshot.get(em, getPollIntervalMillis());
+	}
+
+	/**
+	 * Called in the transaction that changed feature configurations on this server, after the changes were flushed.
+	 */
+	public void invalidate() {
+		snapshot.invalidate(em, getPollIntervalMillis());
+	}
+
+	private long getPollIntervalMillis() {
+		return TimeUnit.SECONDS.toMillis(configFacade.getFeatureCachePollIntervalSeconds());
+	}
+
+	private Snapshot load() {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
+		cq.multiselect(
+			root.get(FeatureConfiguration.FEATURE_TYPE),
+			root.get(FeatureConfiguration.ENTITY_TYPE),
+			root.get(FeatureConfiguration.ENABLED),
+			root.get(FeatureConfiguration.PROPERTIES));
+
+		Map<FeatureType, List<Configuration>> configurations = new EnumMap<>(FeatureType.class);
+		for (Object[] row : em.createQuery(cq).getResultList()) {
+			@SuppressWarnings("unchecked")
+			Map<FeatureTypeProperty, Object> properties = (Map<FeatureTypeProperty, Object>) row[3];
+			configurations.computeIfAbsent((FeatureType) row[0], t -> new ArrayList<>())
+				.add(new Configuration((CoreEntityType) row[1], (Boolean) row[2], properties));
+		}
+
+		return new Snapshot(configurations);
+	}
+
+	/**
+	 * @return Number of feature checks served by a snapshot (including the polls and rebuilds).
+	 */
+	public long getReadCount() {
+		return snapshot.getReadCount();
+	}
+
+	/**
+	 * @return Number of times the snapshot was compared with the database.
+	 */
+	public long getPollCount() {
+		return snapshot.getPollCount();
+	}
+
+	public long getRebuildCount() {
+		return snapshot.getRebuildCount();
+	}
+
+	/**
+	 * @return Number of database queries issued instead of the former query per feature check.
+	 */
+	public long getQueryCount() {
+		return snapshot.getQueryCount();
+	}
+
+	@Schedule(hour = "*", minute = "40", second = "0", persistent = false)
+	public void logStatistics() {
+		VersionedSnapshot.logStatistics(logger, "Feature configuration cache", Collections.singleton(snapshot));
+	}
+
+	/**
+	 * The feature configurations at one point in time; the checks have the same results as the former queries of the
+	 * {@link FeatureConfigurationFacadeEjb}.
+	 */
+	public static final class Snapshot {
+
+		private final Map<FeatureType, List<Configuration>> configurations;
+
+		private Snapshot(Map<FeatureType, List<Configuration>> configurations) {
+
+			Map<FeatureType, List<Configuration>> copy = new EnumMap<>(FeatureType.class);
+			configurations.forEach((type, list) -> copy.put(type, Collections.unmodifiableList(new ArrayList<>(list))));
+			this.configurations = Collections.unmodifiableMap(copy);
+		}
+
+		private List<Configuration> getConfigurations(FeatureType featureType) {
+			return configurations.getOrDefault(featureType, Collections.emptyList());
+		}
+
+		/**
+		 * @return Whether a configuration of the feature type is disabled.
+		 */
+		public boolean isDisabled(FeatureType featureType) {
+			return getConfigurations(featureType).stream().anyMatch(c -> !c.enabled);
+		}
+
+		/**
+		 * @return Whether a configuration of the feature type for the entity type is enabled.
+		 */
+		public boolean isEnabled(FeatureType featureType, CoreEntityType entityType) {
+			return getConfigurations(featureType).stream().anyMatch(c -> c.enabled && entityType == c.entityType);
+		}
+
+		/**
+		 * @param entityType
+		 *            The entity type of the configuration; {@code null} to consider all configurations of the feature type.
+		 * @return The properties of the only matching configuration or {@code null} if there is none.
+		 * @throws NonUniqueResultException
+		 *             if more than one configuration matches.
+		 */
+		public Map<FeatureTypeProperty, Object> getProperties(FeatureType featureType, CoreEntityType entityType) {
+
+			List<Configuration> matches = new ArrayList<>();
+			for (Configuration configuration : getConfigurations(featureType)) {
+				if (entityType == null || entityType == configuration.entityType) {
+					matches.add(configuration);
+				}
+			}
+
+			if (matches.size() > 1) {
+				throw new NonUniqueResultException(
+					"Feature type " + featureType + " has " + matches.size() + " configurations for entity type " + entityType);
+			}
+			return matches.isEmpty() ? null : matches.get(0).properties;
+		}
+	}
+
+	private static final class Configuration {
+
+		private final CoreEntityType entityType;
+		private final boolean enabled;
+		private final Map<FeatureTypeProperty, Object> properties;
+
+		private Configuration(CoreEntityType entityType, Boolean enabled, Map<FeatureTypeProperty, Object> properties) {
+			this.entityType = entityType;
+			this.enabled = Boolean.TRUE.equals(enabled);
+			this.properties = properties != null ? Collections.unmodifiableMap(new HashMap<>(properties)) : null;
+		}
+	}
+}
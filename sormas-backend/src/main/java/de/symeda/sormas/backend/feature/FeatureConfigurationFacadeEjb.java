@@ -32,7 +32,6 @@ import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
 import javax.persistence.EntityManager;
-import javax.persistence.NoResultException;
 import javax.persistence.PersistenceContext;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -92,6 +91,8 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 	@EJB
 	private FeatureConfigurationService service;
 	@EJB
+	private FeatureConfigurationCache featureConfigurationCache;
+	@EJB
 	private RegionService regionService;
 	@EJB
 	private DistrictService districtService;
@@ -380,15 +381,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 
 	@Override
 	public boolean isFeatureDisabled(FeatureType featureType) {
-
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
-		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		cq.where(cb.and(cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType), cb.isFalse(root.get(FeatureConfiguration.ENABLED))));
-		cq.select(cb.count(root));
-
-		return em.createQuery(cq).getSingleResult() > 0;
+		return featureConfigurationCache.get().isDisabled(featureType);
 	}
 
 	@Override
@@ -398,18 +391,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 			throw new IllegalArgumentException("Entity type must be specified!");
 		}
 
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
-		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		cq.where(
-			cb.and(
-				cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType),
-				cb.and(cb.isNotNull(root.get(FeatureConfiguration.ENTITY_TYPE)), cb.equal(root.get(FeatureConfiguration.ENTITY_TYPE), entityType)),
-				cb.isTrue(root.get(FeatureConfiguration.ENABLED))));
-		cq.select(cb.count(root));
-
-		return em.createQuery(cq).getSingleResult() > 0;
+		return featureConfigurationCache.get().isEnabled(featureType, entityType);
 	}
 
 	public <T extends Object> T getProperty(FeatureType featureType, CoreEntityType entityType, FeatureTypeProperty property, Class<T> returnType) {
@@ -423,24 +405,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 				"Feature type property " + property + " does not have specified return type " + returnType.getSimpleName() + ".");
 		}
 
-		final CriteriaBuilder cb = em.getCriteriaBuilder();
-		final CriteriaQuery<T> cq = cb.createQuery(returnType);
-		final Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		Predicate predicate = cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType);
-		if (entityType != null) {
-			predicate = cb.and(predicate, cb.equal(root.get(FeatureConfiguration.ENTITY_TYPE), entityType));
-		}
-		cq.where(predicate);
-		cq.select(root.get(FeatureConfiguration.PROPERTIES));
-
-		Map<FeatureTypeProperty, Object> properties = null;
-		try {
-			properties = (Map<FeatureTypeProperty, Object>) em.createQuery(cq).getSingleResult();
-		} catch (NoResultException e) {
-			// NOOP
-		}
-
+		Map<FeatureTypeProperty, Object> properties = featureConfigurationCache.get().getProperties(featureType, entityType);
 		if (properties != null && properties.containsKey(property)) {
 			return (T) properties.get(property);
 		} else {
@@ -461,19 +426,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 				"Feature type property " + property + " does not have specified return type " + Boolean.class.getSimpleName() + ".");
 		}
 
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Object> cq = cb.createQuery(Object.class);
-		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		cq.where(cb.and(cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType)));
-		cq.select(root.get(FeatureConfiguration.PROPERTIES));
-
-		Map<FeatureTypeProperty, Object> properties = null;
-		try {
-			properties = (Map<FeatureTypeProperty, Object>) em.createQuery(cq).getSingleResult();
-		} catch (NoResultException e) {
-			// NOOP
-		}
+		Map<FeatureTypeProperty, Object> properties = featureConfigurationCache.get().getProperties(featureType, null);
 
 		boolean result;
 		if (properties != null && properties.containsKey(property)) {
@@ -6,8 +6,10 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.persistence.EntityExistsException;
 import javax.persistence.Query;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -31,10 +33,34 @@ import de.symeda.sormas.backend.user.User;
 @LocalBean
 public class FeatureConfigurationService extends AdoServiceWithUserFilterAndJurisdiction<FeatureConfiguration> {
 
+	@EJB
+	private FeatureConfigurationCache featureConfigurationCache;
+
 	public FeatureConfigurationService() {
 		super(FeatureConfiguration.class);
 	}
 
+	@Override
+	public void ensurePersisted(FeatureConfiguration ado) throws EntityExistsException {
+
+		super.ensurePersisted(ado);
+		featureConfigurationCache.invalidate();
+	}
+
+	@Override
+	public void persist(FeatureConfiguration persistme) {
+
+		super.persist(persistme);
+		featureConfigurationCache.invalidate();
+	}
+
+	@Override
+	public void deletePermanent(FeatureConfiguration ado) {
+
+		super.deletePermanent(ado);
+		featureConfigurationCache.invalidate();
+	}
+
 	public List<String> getDeletedUuids(Date since, User user) {
 
 		StringBuilder queryBuilder = new StringBuilder();
@@ -0,0 +1,196 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.geo;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+
+import de.symeda.sormas.api.geo.GeoBounds;
+import de.symeda.sormas.api.geo.GeoLatLon;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
+import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
+import de.symeda.sormas.api.utils.pseudonymization.valuepseudonymizers.LatitudePseudonymizer;
+import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
+
+/**
+ * Aggregates the entities shown on a map into {@link MapClusterDto clusters} in the database, so maps with many entities only have to
+ * transfer and render one marker per cluster.
+ */
+public final class MapClusterHelper {
+
+	/**
+	 * A grid cell is a quarter of a map tile, i.e. 64 pixels wide.
+	 */
+	private static final int CELLS_PER_TILE = 4;
+	private static final int MAX_ZOOM = 30;
+	/**
+	 * Cells are never smaller than the distance by which pseudonymized coordinates are randomized, so the center of a cell with one
+	 * entity doesn't give away its location.
+	 */
+	private static final double MIN_CELL_SIZE = LatitudePseudonymizer.RANDOMIZATION_DISTANCE_RAD;
+
+	private MapClusterHelper() {
+		// Hide Utility Class Constructor
+	}
+
+	/**
+	 * @return The width and height of a grid cell in degrees.
+	 */
+	public static double getCellSize(int zoom) {
+		return Math.max(360D / (1L << Math.max(0, Math.min(zoom, MAX_ZOOM))) / CELLS_PER_TILE, MIN_CELL_SIZE);
+	}
+
+	/**
+	 * Aggregates the rows selected by the query, which needs to have its filter already set.
+	 * <p>
+	 * Grid cells only contain entities with a location. Districts contain all their entities; a district cluster is placed at the average
+	 * location of the entities that have one, or at the center of the district if none of them has.
+	 *
+	 * @param coordinates
+	 *            The location of each entity.
+	 * @param districtUuid
+	 *            The district of each entity, used when grouping by {@link MapClusterGrouping#DISTRICT}.
+	 * @param districtCenter
+	 *            Returns the center of a district or {@code null} if it is unknown; clusters without any location are left out.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <C extends Enum<C>> List<MapClusterDto<C>> getClusters(
+		EntityManager em,
+		CriteriaQuery<Object[]> cq,
+		Coordinates coordinates,
+		Expression<C> classification,
+		Expression<String> districtUuid,
+		Function<DistrictReferenceDto, GeoLatLon> districtCenter,
+		int zoom,
+		MapClusterGrouping grouping) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		double cellSize = getCellSize(zoom);
+
+		if (grouping == MapClusterGrouping.DISTRICT) {
+			Expression<Long> count = cb.count(cq.getRoots().iterator().next());
+			Predicate complete = coordinates.createCompleteFilter();
+			Expression<Double> latitude =
+				cb.<Double> selectCase().when(complete, coordinates.getLatitude()).otherwise(cb.nullLiteral(Double.class));
+			Expression<Double> longitude =
+				cb.<Double> selectCase().when(complete, coordinates.getLongitude()).otherwise(cb.nullLiteral(Double.class));
+			cq.multiselect(districtUuid, classification, count, cb.avg(latitude), cb.avg(longitude));
+			cq.groupBy(districtUuid, classification);
+
+			return em.createQuery(cq).getResultList().stream().map(row -> {
+				DistrictReferenceDto district = row[0] != null ? new DistrictReferenceDto((String) row[0]) : null;
+				if (row[3] != null) {
+					// the cluster is placed at the center of the cell that contains the average location of its entities
+					return new MapClusterDto<>(
+						getCellCenter(Math.floor(((Number) row[3]).doubleValue() / cellSize), cellSize),
+						getCellCenter(Math.floor(((Number) row[4]).doubleValue() / cellSize), cellSize),
+						(C) row[1],
+						(Long) row[2],
+						district);
+				}
+
+				GeoLatLon center = district != null ? districtCenter.apply(district) : null;
+				return center != null ? new MapClusterDto<>(center.getLat(), center.getLon(), (C) row[1], (Long) row[2], district) : null;
+			}).filter(Objects::nonNull).collect(Collectors.toList());
+		}
+
+		Expression<Double> latitudeCell = cb.function("floor", Double.class, cb.quot(coordinates.getLatitude(), cellSize));
+		Expression<Double> longitudeCell = cb.function("floor", Double.class, cb.quot(coordinates.getLongitude(), cellSize));
+		cq.multiselect(latitudeCell, longitudeCell, classification, cb.count(coordinates.getLatitude()));
+		cq.where(CriteriaBuilderHelper.and(cb, cq.getRestriction(), coordinates.createCompleteFilter()));
+		cq.groupBy(latitudeCell, longitudeCell, classification);
+
+		return em.createQuery(cq)
+			.getResultList()
+			.stream()
+			.map(
+				row -> new MapClusterDto<>(
+					getCellCenter(((Number) row[0]).doubleValue(), cellSize),
+					getCellCenter(((Number) row[1]).doubleValue(), cellSize),
+					(C) row[2],
+					(Long) row[3],
+					null))
+			.collect(Collectors.toList());
+	}
+
+	private static double getCellCenter(double cellIndex, double cellSize) {
+		return (cellIndex + 0.5) * cellSize;
+	}
+
+	/**
+	 * The location of an entity, taken from the first of several pairs of coordinates that is complete.
+	 */
+	public static class Coordinates {
+
+		private final CriteriaBuilder cb;
+		private CriteriaBuilder.Case<Double> latitude;
+		private CriteriaBuilder.Case<Double> longitude;
+		private Expression<Double> lastLatitude;
+		private Expression<Double> lastLongitude;
+
+		public Coordinates(CriteriaBuilder cb) {
+			this.cb = cb;
+		}
+
+		public Coordinates or(Expression<Double> latitude, Expression<Double> longitude) {
+
+			Predicate complete = cb.and(cb.isNotNull(latitude), cb.isNotNull(longitude));
+			this.latitude = (this.latitude != null ? this.latitude : cb.<Double> selectCase()).when(complete, latitude);
+			this.longitude = (this.longitude != null ? this.longitude : cb.<Double> selectCase()).when(complete, longitude);
+			lastLatitude = latitude;
+			lastLongitude = longitude;
+			return this;
+		}
+
+		public Expression<Double> getLatitude() {
+			return latitude.otherwise(lastLatitude);
+		}
+
+		public Expression<Double> getLongitude() {
+			return longitude.otherwise(lastLongitude);
+		}
+
+		/**
+		 * @return Whether the entity has a location.
+		 */
+		public Predicate createCompleteFilter() {
+			return cb.and(cb.isNotNull(getLatitude()), cb.isNotNull(getLongitude()));
+		}
+
+		/**
+		 * @return {@code null} if no bounds are given.
+		 */
+		public Predicate createBoundsFilter(GeoBounds bounds) {
+
+			if (bounds == null) {
+				return null;
+			}
+
+			return cb.and(
+				cb.between(getLatitude(), bounds.getSouth(), bounds.getNorth()),
+				cb.between(getLongitude(), bounds.getWest(), bounds.getEast()));
+		}
+	}
+}
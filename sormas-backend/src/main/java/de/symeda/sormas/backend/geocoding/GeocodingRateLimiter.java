@@ -0,0 +1,52 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.geocoding;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces the requests to the geocoding service evenly, also when they are sent from several threads.
+ */
+final class GeocodingRateLimiter {
+
+	private long nextPermitNanos = System.nanoTime();
+
+	/**
+	 * Waits until the next request may be sent.
+	 *
+	 * @param permitsPerSecond
+	 *            Maximum number of requests per second; no limit if {@code <= 0}.
+	 */
+	void acquire(double permitsPerSecond) throws InterruptedException {
+
+		if (permitsPerSecond <= 0) {
+			return;
+		}
+
+		long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			long permitNanos = Math.max(now, nextPermitNanos);
+			nextPermitNanos = permitNanos + intervalNanos;
+			waitNanos = permitNanos - now;
+		}
+
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.geocoding;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import de.symeda.sormas.api.geo.GeoLatLon;
+
+/**
+ * Caches the results of the geocoding service by normalized address. Addresses the service did not find coordinates for are cached
+ * as well (negative caching), usually with a shorter time to live.
+ */
+final class GeocodingResultCache {
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * Addresses that only differ in case or whitespace share one entry.
+	 */
+	static String getKey(LocationQuery query) {
+
+		return Arrays.asList(query.getStreet(), query.getHouseNumber(), query.getPostalCode(), query.getCity())
+			.stream()
+			.map(GeocodingResultCache::normalize)
+			.collect(Collectors.joining("|"));
+	}
+
+	private static String normalize(String value) {
+		return StringUtils.normalizeSpace(StringUtils.defaultString(value)).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * @return {@code null} if the address is not cached or the cached result is expired.
+	 */
+	Entry get(String key, long now) {
+
+		Entry entry = entries.get(key);
+		if (entry != null && entry.expiresAt <= now) {
+			entries.remove(key, entry);
+			entry = null;
+		}
+
+		if (entry != null) {
+			hitCount.incrementAndGet();
+		} else {
+			missCount.incrementAndGet();
+		}
+		return entry;
+	}
+
+	/**
+	 * @param latLon
+	 *            {@code null} if the geocoding service did not find coordinates for the address.
+	 */
+	void put(String key, GeoLatLon latLon, long ttlMillis, int maxEntries, long now) {
+
+		if (ttlMillis <= 0 || maxEntries <= 0) {
+			return;
+		}
+
+		entries.put(key, new Entry(latLon, now + ttlMillis));
+		if (entries.size() > maxEntries) {
+			evict(maxEntries, now);
+		}
+	}
+
+	private void evict(int maxEntries, long now) {
+
+		entries.values().removeIf(e -> e.expiresAt <= now);
+
+		int excessEntries = entries.size() - maxEntries;
+		if (excessEntries > 0) {
+			List<String> keysToEvict = entries.entrySet()
+				.stream()
+				.sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+				.limit(excessEntries)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+			keysToEvict.forEach(entries::remove);
+		}
+	}
+
+	void clear() {
+		entries.clear();
+	}
+
+	long getHitCount() {
+		return hitCount.get();
+	}
+
+	long getMissCount() {
+		return missCount.get();
+	}
+
+	int getSize() {
+		return entries.size();
+	}
+
+	static final class Entry {
+
+		private final GeoLatLon latLon;
+		private final long expiresAt;
+
+		private Entry(GeoLatLon latLon, long expiresAt) {
+			this.latLon = latLon;
+			this.expiresAt = expiresAt;
+		}
+
+		/**
+		 * @return {@code null} if the geocoding service did not find coordinates for the address.
+		 */
+		GeoLatLon getLatLon() {
+			return latLon;
+		}
+	}
+}
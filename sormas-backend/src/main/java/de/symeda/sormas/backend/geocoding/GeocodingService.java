@@ -22,14 +22,26 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
-import javax.ejb.Stateless;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Singleton;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.WebTarget;
@@ -52,8 +64,16 @@ import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.location.Location;
 import de.symeda.sormas.backend.util.ClientHelper;
 
-@Stateless
+/**
+ * Looks up geo coordinates of addresses with the configured geocoding service.
+ * <p>
+ * One client is reused for all requests, the requests are limited to {@code geocoding.maxRequestsPerSecond} and the results are
+ * cached by normalized address. Many addresses can be looked up in parallel with {@link #getLatLons(List)}; the threads doing so are
+ * not managed by the container because they only call the geocoding service.
+ */
+@Singleton
 @LocalBean
+@Lock(LockType.READ)
 public class GeocodingService {
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -63,39 +83,160 @@ public class GeocodingService {
 	private static final String POSTAL_CODE_PLACEHOLDER = "postalCode";
 	private static final String CITY_PLACEHOLDER = "city";
 
+	private static final int BULK_QUEUE_CAPACITY = 1000;
+
 	@EJB
 	private ConfigFacadeEjbLocal configFacade;
 
+	private final GeocodingResultCache resultCache = new GeocodingResultCache();
+	private final GeocodingRateLimiter rateLimiter = new GeocodingRateLimiter();
+
+	private Client client;
+	private ExecutorService bulkExecutor;
+
+	@PostConstruct
+	public void init() {
+
+		client = ClientHelper.newBuilderWithProxy().connectTimeout(10, TimeUnit.SECONDS).readTimeout(10, TimeUnit.SECONDS).build();
+
+		// the threads are only started when addresses are looked up and stopped again when idle
+		int threads = Math.max(1, configFacade.getGeocodingBulkThreads());
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			threads,
+			threads,
+			60,
+			TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(BULK_QUEUE_CAPACITY),
+			r -> {
+				Thread thread = new Thread(r, "geocoding-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		bulkExecutor = executor;
+	}
+
+	@PreDestroy
+	public void destroy() {
+
+		bulkExecutor.shutdownNow();
+		client.close();
+	}
+
 	public boolean isEnabled() {
 		return configFacade.getGeocodingServiceUrlTemplate() != null;
 	}
 
 	public GeoLatLon getLatLon(Location location) {
 
+		LocationQuery query = toLocationQuery(location);
+		return query != null ? getLatLon(query) : null;
+	}
+
+	/**
+	 * @return {@code null} if the address is not complete enough to look up its coordinates.
+	 */
+	public static LocationQuery toLocationQuery(Location location) {
+
 		String street = Objects.toString(location.getStreet(), "");
 		String houseNumber = Objects.toString(location.getHouseNumber(), "");
 		String city = Objects.toString(location.getCity(), "");
 		String postalCode = Objects.toString(location.getPostalCode(), "");
 		if (StringUtils.isNotBlank(street) && (StringUtils.isNotBlank(city) || StringUtils.isNotBlank(postalCode))) {
-			return getLatLon(new LocationQuery(houseNumber, street, postalCode, city));
+			return new LocationQuery(houseNumber, street, postalCode, city);
 		}
 		return null;
 	}
 
 	public GeoLatLon getLatLon(LocationQuery query) {
 
+		String urlTemplate = getUrlTemplate();
+		if (urlTemplate == null) {
+			return null;
+		}
+
+		return getLatLon(query, urlTemplate);
+	}
+
+	/**
+	 * Looks up the coordinates of several addresses in parallel; every distinct address is only looked up once.
+	 *
+	 * @param queries
+	 *            May contain {@code null} for addresses that can't be looked up.
+	 * @return The coordinates in the order of the queries, {@code null} for addresses without coordinates.
+	 */
+	public List<GeoLatLon> getLatLons(List<LocationQuery> queries) {
+
+		List<GeoLatLon> latLons = new ArrayList<>(queries.size());
+		String urlTemplate = getUrlTemplate();
+		if (urlTemplate == null) {
+			queries.forEach(q -> latLons.add(null));
+			return latLons;
+		}
+
+		Map<String, Future<GeoLatLon>> lookups = new HashMap<>();
+		List<String> keys = new ArrayList<>(queries.size());
+		for (LocationQuery query : queries) {
+			String key = query != null ? GeocodingResultCache.getKey(query) : null;
+			keys.add(key);
+			if (key != null && !lookups.containsKey(key)) {
+				lookups.put(key, bulkExecutor.submit(() -> getLatLon(query, urlTemplate)));
+			}
+		}
+
+		for (String key : keys) {
+			latLons.add(key != null ? getLookupResult(lookups.get(key)) : null);
+		}
+		return latLons;
+	}
+
+	private GeoLatLon getLookupResult(Future<GeoLatLon> lookup) {
+
+		try {
+			return lookup.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			lookup.cancel(true);
+			return null;
+		} catch (ExecutionException e) {
+			logger.warn("geosearch query failed", e.getCause());
+			return null;
+		}
+	}
+
+	private String getUrlTemplate() {
+
 		String urlTemplate = configFacade.getGeocodingServiceUrlTemplate();
 		if (DataHelper.isNullOrEmpty(urlTemplate)
 			|| DataHelper.isNullOrEmpty(configFacade.getGeocodingLatitudeJsonPath())
 			|| DataHelper.isNullOrEmpty(configFacade.getGeocodingLongitudeJsonPath())) {
 			return null;
 		}
-
-		return getLatLon(query, urlTemplate);
+		return urlTemplate;
 	}
 
 	private GeoLatLon getLatLon(LocationQuery query, String urlTemplate) {
 
+		String key = GeocodingResultCache.getKey(query);
+		GeocodingResultCache.Entry cachedResult = resultCache.get(key, System.currentTimeMillis());
+		if (cachedResult != null) {
+			return cachedResult.getLatLon();
+		}
+
+		Lookup lookup = requestLatLon(query, urlTemplate);
+		if (lookup.cacheable) {
+			int ttlSeconds =
+				lookup.latLon != null ? configFacade.getGeocodingCacheTtlSeconds() : configFacade.getGeocodingCacheNegativeTtlSeconds();
+			long ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+			resultCache.put(key, lookup.latLon, ttlMillis, configFacade.getGeocodingCacheMaxEntries(), System.currentTimeMillis());
+		}
+		return lookup.latLon;
+	}
+
+	private Lookup requestLatLon(LocationQuery query, String urlTemplate) {
+
 		StringSubstitutor substitutor = new StringSubstitutor(buildQuerySubstitutions(query));
 		String url = substitutor.replace(urlTemplate);
 
@@ -106,7 +247,13 @@ public class GeocodingService {
 			throw new IllegalArgumentException(e);
 		}
 
-		Client client = ClientHelper.newBuilderWithProxy().connectTimeout(10, TimeUnit.SECONDS).readTimeout(10, TimeUnit.SECONDS).build();
+		try {
+			rateLimiter.acquire(configFacade.getGeocodingMaxRequestsPerSecond());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Lookup.FAILED;
+		}
+
 		WebTarget target = client.target(targetUrl);
 		Response response = null;
 
@@ -115,9 +262,9 @@ public class GeocodingService {
 			response = target.request(MediaType.APPLICATION_JSON_TYPE).get();
 		} catch (ProcessingException exception) {
 			if (logger.isWarnEnabled()) {
-				logger.warn("geosearch query '{}' threw Exception with cause {}", query, exception.getCause().toString());
+				logger.warn("geosearch query '{}' threw Exception with cause {}", query, String.valueOf(exception.getCause()));
 			}
-			return null;
+			return Lookup.FAILED;
 		}
 
 		String responseText = readResponseAsText(response);
@@ -125,7 +272,7 @@ public class GeocodingService {
 			if (logger.isErrorEnabled()) {
 				logger.error("geosearch query '{}' returned {} - {}:\n{}", query, response.getStatus(), response.getStatusInfo(), responseText);
 			}
-			return null;
+			return Lookup.FAILED;
 		}
 
 		Object jsonLatitude = null;
@@ -138,19 +285,19 @@ public class GeocodingService {
 			jsonLongitude = JsonPath.read(responseText, configFacade.getGeocodingLongitudeJsonPath());
 			Double longitude = jsonLongitude != null ? Double.parseDouble(jsonLongitude.toString()) : null;
 
-			return new GeoLatLon(latitude, longitude);
+			return new Lookup(new GeoLatLon(latitude, longitude), true);
 		} catch (PathNotFoundException e) {
 			if (logger.isDebugEnabled()) {
-				logger.debug("geosearch coordinates not found in '{}'" + responseText);
+				logger.debug("geosearch coordinates not found in '{}'", responseText);
 			}
 
-			return null;
+			return Lookup.NOT_FOUND;
 		} catch (NumberFormatException e) {
 			if (logger.isDebugEnabled()) {
 				logger.debug("geosearch coordinates can't be parsed: lat: {}, lon: {}", jsonLatitude, jsonLongitude);
 			}
 
-			return null;
+			return Lookup.NOT_FOUND;
 		}
 	}
 
@@ -179,4 +326,33 @@ public class GeocodingService {
 			throw new RuntimeException("Can't encode parameter value [" + value + "]", e);
 		}
 	}
+
+	void clearCache() {
+		resultCache.clear();
+	}
+
+	long getCacheHitCount() {
+		return resultCache.getHitCount();
+	}
+
+	long getCacheMissCount() {
+		return resultCache.getMissCount();
+	}
+
+	/**
+	 * Result of a request to the geocoding service. Failed requests are not cached so they are retried with the next lookup.
+	 */
+	private static final class Lookup {
+
+		private static final Lookup NOT_FOUND = new Lookup(null, true);
+		private static final Lookup FAILED = new Lookup(null, false);
+
+		private final GeoLatLon latLon;
+		private final boolean cacheable;
+
+		private Lookup(GeoLatLon latLon, boolean cacheable) {
+			this.latLon = latLon;
+			this.cacheable = cacheable;
+		}
+	}
 }
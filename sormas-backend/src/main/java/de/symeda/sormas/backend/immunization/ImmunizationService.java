@@ -51,7 +51,6 @@ import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.common.AbstractCoreAdoService;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ChangeDateBuilder;
-import de.symeda.sormas.backend.common.ChangeDateFilterBuilder;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.immunization.entity.DirectoryImmunization;
@@ -194,7 +193,7 @@ public class ImmunizationService extends AbstractCoreAdoService<Immunization, Im
 
 	@Override
 	public Predicate createChangeDateFilter(CriteriaBuilder cb, From<?, Immunization> immunization, Timestamp date) {
-		return createChangeDateFilter(cb, toJoins(immunization), date, null);
+		return createTreeChangeDateFilter(cb, immunization, date, null);
 	}
 
 	@Override
@@ -211,16 +210,6 @@ public class ImmunizationService extends AbstractCoreAdoService<Immunization, Im
 		return builder;
 	}
 
-	private Predicate createChangeDateFilter(CriteriaBuilder cb, ImmunizationJoins joins, Timestamp date, String lastSynchronizedUuid) {
-
-		From<?, Immunization> immunization = joins.getRoot();
-		ChangeDateFilterBuilder changeDateFilterBuilder = lastSynchronizedUuid == null
-			? new ChangeDateFilterBuilder(cb, date)
-			: new ChangeDateFilterBuilder(cb, date, immunization, lastSynchronizedUuid);
-
-		return addChangeDates(changeDateFilterBuilder, joins, false).build();
-	}
-
 	@Override
 	@SuppressWarnings("rawtypes")
 	protected Predicate createRelevantDataFilter(CriteriaBuilder cb, CriteriaQuery cq, From<?, Immunization> from) {
@@ -414,7 +403,9 @@ public class ImmunizationService extends AbstractCoreAdoService<Immunization, Im
 		CriteriaUpdate<Immunization> cu = cb.createCriteriaUpdate(Immunization.class);
 		Root<Immunization> root = cu.from(Immunization.class);
 
-		cu.set(Immunization.CHANGE_DATE, Timestamp.from(Instant.now()));
+		Timestamp now = Timestamp.from(Instant.now());
+		cu.set(Immunization.CHANGE_DATE, now);
+		cu.set(root.get(Immunization.TREE_CHANGE_DATE), now);
 		cu.set(root.get(Immunization.IMMUNIZATION_STATUS), ImmunizationStatus.EXPIRED);
 
 		cu.where(
@@ -423,6 +414,7 @@ public class ImmunizationService extends AbstractCoreAdoService<Immunization, Im
 				cb.lessThanOrEqualTo(root.get(Immunization.VALID_UNTIL), new Date())));
 
 		em.createQuery(cu).executeUpdate();
+		logBulkChanges(now);
 	}
 
 	public List<Immunization> getByPersonIds(List<Long> personIds) {
@@ -147,10 +147,7 @@ import de.symeda.sormas.backend.disease.DiseaseConfigurationFacadeEjb.DiseaseCon
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb.FeatureConfigurationFacadeEjbLocal;
 import de.symeda.sormas.backend.importexport.parser.ImportParserService;
 import de.symeda.sormas.backend.infrastructure.area.AreaFacadeEjb.AreaFacadeEjbLocal;
-import de.symeda.sormas.backend.infrastructure.country.CountryFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.country.CountryFacadeEjb.CountryFacadeEjbLocal;
-import de.symeda.sormas.backend.infrastructure.region.Region;
-import de.symeda.sormas.backend.infrastructure.region.RegionService;
 import de.symeda.sormas.backend.user.UserFacadeEjb.UserFacadeEjbLocal;
 
 @Stateless(name = "ImportFacade")
@@ -200,7 +197,7 @@ public class ImportFacadeEjb implements ImportFacade {
 	@EJB
 	private EnumService enumService;
 	@EJB
-	private RegionService regionService;
+	private InfrastructureNameResolver infrastructureNameResolver;
 	@EJB
 	private CountryFacadeEjbLocal countryFacade;
 	@EJB
@@ -902,10 +899,9 @@ public class ImportFacadeEjb implements ImportFacade {
 
 			if (propertyType.isAssignableFrom(RegionReferenceDto.class) && !allowForeignRegions && parsedValue != null) {
 
-				Region region = regionService.getByUuid(((RegionReferenceDto) parsedValue).getUuid());
 				CountryReferenceDto serverCountry = countryFacade.getServerCountry();
 
-				if (region.getCountry() != null && !CountryFacadeEjb.toReferenceDto(region.getCountry()).equals(serverCountry)) {
+				if (!infrastructureNameResolver.isRegionInCountry((RegionReferenceDto) parsedValue, serverCountry)) {
 					throw new ImportErrorException(
 						I18nProperties.getValidationError(Validations.importRegionNotInServerCountry, entry, buildEntityProperty(entryHeaderPath)));
 				}
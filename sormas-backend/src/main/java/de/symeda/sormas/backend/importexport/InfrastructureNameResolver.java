@@ -0,0 +1,384 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.importexport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.ejb.LocalBean;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.ReferenceDto;
+import de.symeda.sormas.api.infrastructure.InfrastructureHelper;
+import de.symeda.sormas.api.infrastructure.community.CommunityReferenceDto;
+import de.symeda.sormas.api.infrastructure.country.CountryReferenceDto;
+import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityHelper;
+import de.symeda.sormas.api.infrastructure.facility.FacilityReferenceDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityType;
+import de.symeda.sormas.api.infrastructure.pointofentry.PointOfEntryDto;
+import de.symeda.sormas.api.infrastructure.pointofentry.PointOfEntryReferenceDto;
+import de.symeda.sormas.api.infrastructure.pointofentry.PointOfEntryType;
+import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
+import de.symeda.sormas.api.person.PersonHelper;
+import de.symeda.sormas.backend.common.AbstractDomainObject;
+import de.symeda.sormas.backend.common.InfrastructureAdo;
+import de.symeda.sormas.backend.common.VersionedSnapshot;
+import de.symeda.sormas.backend.infrastructure.community.Community;
+import de.symeda.sormas.backend.infrastructure.district.District;
+import de.symeda.sormas.backend.infrastructure.facility.Facility;
+import de.symeda.sormas.backend.infrastructure.pointofentry.PointOfEntry;
+import de.symeda.sormas.backend.infrastructure.region.Region;
+import de.symeda.sormas.backend.util.ModelConstants;
+
+/**
+ * Resolves the infrastructure names of imported files, which otherwise cost one query per line and column.
+ * <p>
+ * The names of each infrastructure type are loaded into an index the first time the type is looked up. Names are normalized (trimmed,
+ * lower case, without accents) and every entry keeps the UUIDs of its parents, so the lookups within a region, district or community
+ * are done in memory. An index is rebuilt when infrastructure of its type is saved through the infrastructure services on this server,
+ * or when the number or the latest change date of its entities differ after another server changed them. The indexes are dropped when
+ * no import has used them for a while.
+ */
+@Singleton
+@LocalBean
+@Lock(LockType.READ)
+public class InfrastructureNameResolver {
+
+	private static final long VERSION_POLL_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+	private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
+	private final Map<IndexedType, VersionedSnapshot<Snapshot>> indexes = new EnumMap<>(IndexedType.class);
+	private volatile long lastLookupAt;
+
+	public InfrastructureNameResolver() {
+		for (IndexedType indexedType : IndexedType.values()) {
+			indexes.put(indexedType, new VersionedSnapshot<>(indexedType.infrastructureClass, () -> load(indexedType)));
+		}
+	}
+
+	public List<RegionReferenceDto> getRegionsByName(String name, boolean includeArchivedEntities) {
+
+		return find(IndexedType.REGION, name, includeArchivedEntities, e -> true).stream()
+			.map(e -> new RegionReferenceDto(e.uuid, e.name, e.externalId))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return Whether the region belongs to the country or to no country at all.
+	 */
+	public boolean isRegionInCountry(RegionReferenceDto region, CountryReferenceDto country) {
+
+		Entry entry = getSnapshot(IndexedType.REGION).entriesByUuid.get(region.getUuid());
+		return entry == null || entry.parentUuid == null || (country != null && entry.parentUuid.equals(country.getUuid()));
+	}
+
+	public List<DistrictReferenceDto> getDistrictsByName(String name, RegionReferenceDto regionRef, boolean includeArchivedEntities) {
+
+		String regionUuid = getUuid(regionRef);
+		return find(IndexedType.DISTRICT, name, includeArchivedEntities, e -> regionUuid == null || regionUuid.equals(e.parentUuid))
+			.stream()
+			.map(e -> new DistrictReferenceDto(e.uuid, e.name, e.externalId))
+			.collect(Collectors.toList());
+	}
+
+	public List<CommunityReferenceDto> getCommunitiesByName(
+		String name,
+		DistrictReferenceDto districtRef,
+		boolean includeArchivedEntities) {
+
+		String districtUuid = getUuid(districtRef);
+		return find(IndexedType.COMMUNITY, name, includeArchivedEntities, e -> districtUuid == null || districtUuid.equals(e.parentUuid))
+			.stream()
+			.map(e -> new CommunityReferenceDto(e.uuid, e.name, e.externalId))
+			.collect(Collectors.toList());
+	}
+
+	public List<FacilityReferenceDto> getFacilitiesByNameAndType(
+		String name,
+		DistrictReferenceDto districtRef,
+		CommunityReferenceDto communityRef,
+		FacilityType type,
+		boolean includeArchivedEntities) {
+
+		// Don't check for district and community equality or type equality when searching for constant facilities
+		boolean constantFacility = FacilityDto.OTHER_FACILITY.equals(name.trim()) || FacilityDto.NO_FACILITY.equals(name.trim());
+		String districtUuid = getUuid(districtRef);
+		String communityUuid = getUuid(communityRef);
+
+		return find(IndexedType.FACILITY, name, includeArchivedEntities, e -> {
+			if (constantFacility) {
+				return true;
+			}
+			boolean inJurisdiction = communityUuid != null
+				? communityUuid.equals(e.communityUuid)
+				: districtUuid == null || districtUuid.equals(e.parentUuid);
+			return inJurisdiction && (type == null || type == e.type);
+		}).stream()
+			.map(e -> new FacilityReferenceDto(e.uuid, FacilityHelper.buildFacilityString(e.uuid, e.name), e.externalId))
+			.collect(Collectors.toList());
+	}
+
+	public List<FacilityReferenceDto> getLaboratoriesByName(String name, boolean includeArchivedEntities) {
+		return getFacilitiesByNameAndType(name, null, null, FacilityType.LABORATORY, includeArchivedEntities);
+	}
+
+	public List<PointOfEntryReferenceDto> getPointsOfEntryByName(
+		String name,
+		DistrictReferenceDto districtRef,
+		boolean includeArchivedEntities) {
+
+		boolean otherPointOfEntry = PointOfEntryDto.isNameOtherPointOfEntry(name.trim());
+		String districtUuid = getUuid(districtRef);
+
+		return find(
+			IndexedType.POINT_OF_ENTRY,
+			name,
+			includeArchivedEntities,
+			e -> districtUuid == null || otherPointOfEntry || districtUuid.equals(e.parentUuid)).stream()
+				.map(
+					e -> new PointOfEntryReferenceDto(
+						e.uuid,
+						InfrastructureHelper.buildPointOfEntryString(e.uuid, e.name),
+						(PointOfEntryType) e.type,
+						e.externalId))
+				.collect(Collectors.toList());
+	}
+
+	private List<Entry> find(IndexedType indexedType, String name, boolean includeArchivedEntities, Predicate<Entry> filter) {
+
+		return getSnapshot(indexedType).entriesByName.getOrDefault(normalize(name), Collections.emptyList())
+			.stream()
+			.filter(e -> includeArchivedEntities || !e.archived)
+			.filter(filter)
+			.collect(Collectors.toList());
+	}
+
+	private static String normalize(String name) {
+		return PersonHelper.normalizeString(name.trim());
+	}
+
+	private static String getUuid(ReferenceDto reference) {
+		return reference != null ? reference.getUuid() : null;
+	}
+
+	private Snapshot getSnapshot(IndexedType indexedType) {
+
+		lastLookupAt = System.currentTimeMillis();
+		return indexes.get(indexedType).get(em, VERSION_POLL_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * Called in the transaction that saved infrastructure on this server, after the changes were flushed.
+	 */
+	public void invalidate(Class<? extends InfrastructureAdo> infrastructureClass) {
+
+		IndexedType indexedType = IndexedType.of(infrastructureClass);
+		if (indexedType != null) {
+			indexes.get(indexedType).invalidate(em, VERSION_POLL_INTERVAL_MILLIS);
+		}
+	}
+
+	private Snapshot load(IndexedType indexedType) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<? extends InfrastructureAdo> root = cq.from(indexedType.infrastructureClass);
+
+		List<Selection<?>> selections = new ArrayList<>();
+		selections.add(root.get(AbstractDomainObject.UUID));
+		selections.add(root.get(indexedType.nameAttribute));
+		selections.add(root.get(indexedType.externalIdAttribute));
+		selections.add(root.get(InfrastructureAdo.ARCHIVED));
+		selections.add(root.join(indexedType.parentAttribute, JoinType.LEFT).get(AbstractDomainObject.UUID));
+		if (indexedType.communityAttribute != null) {
+			selections.add(root.join(indexedType.communityAttribute, JoinType.LEFT).get(AbstractDomainObject.UUID));
+		}
+		if (indexedType.typeAttribute != null) {
+			selections.add(root.get(indexedType.typeAttribute));
+		}
+		cq.multiselect(selections);
+
+		Map<String, List<Entry>> entriesByName = new HashMap<>();
+		Map<String, Entry> entriesByUuid = new HashMap<>();
+		for (Object[] row : em.createQuery(cq).getResultList()) {
+			int column = 5;
+			String communityUuid = indexedType.communityAttribute != null ? (String) row[column++] : null;
+			Enum<?> type = indexedType.typeAttribute != null ? (Enum<?>) row[column] : null;
+			Entry entry =
+				new Entry((String) row[0], (String) row[1], (String) row[2], (Boolean) row[3], (String) row[4], communityUuid, type);
+
+			if (entry.name != null) {
+				entriesByName.computeIfAbsent(normalize(entry.name), n -> new ArrayList<>(1)).add(entry);
+			}
+			entriesByUuid.put(entry.uuid, entry);
+		}
+
+		return new Snapshot(entriesByName, entriesByUuid);
+	}
+
+	public long getLookupCount() {
+		return indexes.values().stream().mapToLong(VersionedSnapshot::getReadCount).sum();
+	}
+
+	/**
+	 * @return Number of times an index was compared with the database.
+	 */
+	public long getPollCount() {
+		return indexes.values().stream().mapToLong(VersionedSnapshot::getPollCount).sum();
+	}
+
+	public long getRebuildCount() {
+		return indexes.values().stream().mapToLong(VersionedSnapshot::getRebuildCount).sum();
+	}
+
+	@Schedule(hour = "*", minute = "*/5", second = "0", persistent = false)
+	public void dropIdleIndexes() {
+
+		if (System.currentTimeMillis() - lastLookupAt >= IDLE_TIMEOUT_MILLIS) {
+			clear();
+		}
+	}
+
+	public void clear() {
+
+		indexes.values().forEach(VersionedSnapshot::clear);
+	}
+
+	@Schedule(hour = "*", minute = "45", second = "0", persistent = false)
+	public void logStatistics() {
+		VersionedSnapshot.logStatistics(logger, "Infrastructure name resolver", indexes.values());
+	}
+
+	private enum IndexedType {
+
+		REGION(Region.class, Region.NAME, Region.EXTERNAL_ID, Region.COUNTRY, null, null),
+		DISTRICT(District.class, District.NAME, District.EXTERNAL_ID, District.REGION, null, null),
+		COMMUNITY(Community.class, Community.NAME, Community.EXTERNAL_ID, Community.DISTRICT, null, null),
+		FACILITY(Facility.class, Facility.NAME, Facility.EXTERNAL_ID, Facility.DISTRICT, Facility.COMMUNITY, Facility.TYPE),
+		POINT_OF_ENTRY(PointOfEntry.class,
+			PointOfEntry.NAME,
+			PointOfEntry.EXTERNAL_ID,
+			PointOfEntry.DISTRICT,
+			null,
+			PointOfEntry.POINT_OF_ENTRY_TYPE);
+
+		private final Class<? extends InfrastructureAdo> infrastructureClass;
+		private final String nameAttribute;
+		private final String externalIdAttribute;
+		/**
+		 * Country of a region, region of a district, district of a community, facility or point of entry.
+		 */
+		private final String parentAttribute;
+		private final String communityAttribute;
+		private final String typeAttribute;
+
+		IndexedType(
+			Class<? extends InfrastructureAdo> infrastructureClass,
+			String nameAttribute,
+			String externalIdAttribute,
+			String parentAttribute,
+			String communityAttribute,
+			String typeAttribute) {
+
+			this.infrastructureClass = infrastructureClass;
+			this.nameAttribute = nameAttribute;
+			this.externalIdAttribute = externalIdAttribute;
+			this.parentAttribute = parentAttribute;
+			this.communityAttribute = communityAttribute;
+			this.typeAttribute = typeAttribute;
+		}
+
+		private static IndexedType of(Class<? extends InfrastructureAdo> infrastructureClass) {
+
+			for (IndexedType indexedType : values()) {
+				if (indexedType.infrastructureClass == infrastructureClass) {
+					return indexedType;
+				}
+			}
+			return null;
+		}
+	}
+
+	private static final class Snapshot {
+
+		private final Map<String, List<Entry>> entriesByName;
+		private final Map<String, Entry> entriesByUuid;
+
+		private Snapshot(Map<String, List<Entry>> entriesByName, Map<String, Entry> entriesByUuid) {
+			this.entriesByName = entriesByName;
+			this.entriesByUuid = entriesByUuid;
+		}
+	}
+
+	private static final class Entry {
+
+		private final String uuid;
+		private final String name;
+		private final String externalId;
+		private final boolean archived;
+		private final String parentUuid;
+		private final String communityUuid;
+		/**
+		 * Type of a facility or point of entry.
+		 */
+		private final Enum<?> type;
+
+		private Entry(
+			String uuid,
+			String name,
+			String externalId,
+			Boolean archived,
+			String parentUuid,
+			String communityUuid,
+			Enum<?> type) {
+
+			this.uuid = uuid;
+			this.name = name;
+			this.externalId = externalId;
+			this.archived = Boolean.TRUE.equals(archived);
+			this.parentUuid = parentUuid;
+			this.communityUuid = communityUuid;
+			this.type = type;
+		}
+	}
+}
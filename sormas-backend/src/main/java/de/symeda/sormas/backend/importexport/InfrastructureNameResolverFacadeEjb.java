@@ -0,0 +1,100 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.importexport;
+
+import java.util.List;
+
+import javax.annotation.security.PermitAll;
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Stateless;
+
+import de.symeda.sormas.api.audit.AuditIgnore;
+import de.symeda.sormas.api.importexport.InfrastructureNameResolverFacade;
+import de.symeda.sormas.api.infrastructure.community.CommunityReferenceDto;
+import de.symeda.sormas.api.infrastructure.country.CountryReferenceDto;
+import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityReferenceDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityType;
+import de.symeda.sormas.api.infrastructure.pointofentry.PointOfEntryReferenceDto;
+import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
+
+@AuditIgnore
+@Stateless(name = "InfrastructureNameResolverFacade")
+public class InfrastructureNameResolverFacadeEjb implements InfrastructureNameResolverFacade {
+
+	@EJB
+	private InfrastructureNameResolver infrastructureNameResolver;
+
+	@Override
+	@PermitAll
+	public List<RegionReferenceDto> getRegionsByName(String name, boolean includeArchivedEntities) {
+		return infrastructureNameResolver.getRegionsByName(name, includeArchivedEntities);
+	}
+
+	@Override
+	@PermitAll
+	public boolean isRegionInCountry(RegionReferenceDto region, CountryReferenceDto country) {
+		return infrastructureNameResolver.isRegionInCountry(region, country);
+	}
+
+	@Override
+	@PermitAll
+	public List<DistrictReferenceDto> getDistrictsByName(String name, RegionReferenceDto regionRef, boolean includeArchivedEntities) {
+		return infrastructureNameResolver.getDistrictsByName(name, regionRef, includeArchivedEntities);
+	}
+
+	@Override
+	@PermitAll
+	public List<CommunityReferenceDto> getCommunitiesByName(
+		String name,
+		DistrictReferenceDto districtRef,
+		boolean includeArchivedEntities) {
+		return infrastructureNameResolver.getCommunitiesByName(name, districtRef, includeArchivedEntities);
+	}
+
+	@Override
+	@PermitAll
+	public List<FacilityReferenceDto> getFacilitiesByNameAndType(
+		String name,
+		DistrictReferenceDto districtRef,
+		CommunityReferenceDto communityRef,
+		FacilityType type,
+		boolean includeArchivedEntities) {
+		return infrastructureNameResolver.getFacilitiesByNameAndType(name, districtRef, communityRef, type, includeArchivedEntities);
+	}
+
+	@Override
+	@PermitAll
+	public List<FacilityReferenceDto> getLaboratoriesByName(String name, boolean includeArchivedEntities) {
+		return infrastructureNameResolver.getLaboratoriesByName(name, includeArchivedEntities);
+	}
+
+	@Override
+	@PermitAll
+	public List<PointOfEntryReferenceDto> getPointsOfEntryByName(
+		String name,
+		DistrictReferenceDto districtRef,
+		boolean includeArchivedEntities) {
+		return infrastructureNameResolver.getPointsOfEntryByName(name, districtRef, includeArchivedEntities);
+	}
+
+	@LocalBean
+	@Stateless
+	public static class InfrastructureNameResolverFacadeEjbLocal extends InfrastructureNameResolverFacadeEjb {
+
+	}
+}
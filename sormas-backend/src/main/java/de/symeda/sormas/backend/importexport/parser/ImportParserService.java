@@ -38,11 +38,9 @@ import de.symeda.sormas.api.user.UserReferenceDto;
 import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.backend.common.EnumService;
+import de.symeda.sormas.backend.importexport.InfrastructureNameResolver;
 import de.symeda.sormas.backend.infrastructure.area.AreaFacadeEjb.AreaFacadeEjbLocal;
 import de.symeda.sormas.backend.infrastructure.country.CountryFacadeEjb.CountryFacadeEjbLocal;
-import de.symeda.sormas.backend.infrastructure.region.Region;
-import de.symeda.sormas.backend.infrastructure.region.RegionFacadeEjb;
-import de.symeda.sormas.backend.infrastructure.region.RegionService;
 import de.symeda.sormas.backend.user.UserFacadeEjb.UserFacadeEjbLocal;
 
 @Stateless
@@ -55,7 +53,7 @@ public class ImportParserService {
 	@EJB
 	private AreaFacadeEjbLocal areaFacade;
 	@EJB
-	private RegionService regionService;
+	private InfrastructureNameResolver infrastructureNameResolver;
 	@EJB
 	private UserFacadeEjbLocal userFacade;
 
@@ -213,13 +211,13 @@ public class ImportParserService {
 	}
 
 	private RegionReferenceDto parseRegion(String v, Class<RegionReferenceDto> clazz, String path) throws ImportErrorException {
-		List<Region> regions = regionService.getByName(v, false);
+		List<RegionReferenceDto> regions = infrastructureNameResolver.getRegionsByName(v, false);
 		if (regions.isEmpty()) {
 			throw new ImportErrorException(I18nProperties.getValidationError(Validations.importEntryDoesNotExist, v, path));
 		} else if (regions.size() > 1) {
 			throw new ImportErrorException(I18nProperties.getValidationError(Validations.importRegionNotUnique, v, path));
 		} else {
-			return RegionFacadeEjb.toReferenceDto(regions.get(0));
+			return regions.get(0);
 		}
 	}
 
@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -132,6 +133,7 @@ import de.symeda.sormas.backend.caze.CaseQueryContext;
 import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.AbstractBaseEjb;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
+import de.symeda.sormas.backend.common.CountCache;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb;
@@ -253,6 +255,8 @@ public class PersonFacadeEjb extends AbstractBaseEjb<Person, PersonDto, PersonIn
 	private EventService eventService;
 	@EJB
 	private SampleService sampleService;
+	@EJB
+	private CountCache countCache;
 
 	public PersonFacadeEjb() {
 	}
@@ -1024,6 +1028,32 @@ public class PersonFacadeEjb extends AbstractBaseEjb<Person, PersonDto, PersonIn
 	@Override
 	public long count(PersonCriteria criteria) {
 
+		// the associations of persons change with their cases, contacts, event participants, immunizations and travel entries
+		return countCache.count(
+			"persons",
+			criteria,
+			() -> Arrays.asList(
+				service.getLatestChangeDate(),
+				caseService.getLatestChangeDate(),
+				contactService.getLatestChangeDate(),
+				eventParticipantService.getLatestChangeDate(),
+				immunizationService.getLatestChangeDate(),
+				travelEntryService.getLatestChangeDate()),
+			() -> countExactly(criteria));
+	}
+
+	@Override
+	public Long estimateCount(PersonCriteria criteria) {
+
+		PersonCriteria unfilteredCriteria = new PersonCriteria();
+		if (criteria != null && criteria.getPersonAssociation() != null) {
+			unfilteredCriteria.personAssociation(criteria.getPersonAssociation());
+		}
+		return countCache.estimate(criteria, unfilteredCriteria, () -> service.estimateCount(unfilteredCriteria.getPersonAssociation()));
+	}
+
+	private long countExactly(PersonCriteria criteria) {
+
 		long startTime = DateHelper.startTime();
 		final PersonCriteria nullSafeCriteria = Optional.ofNullable(criteria).orElse(new PersonCriteria());
 		final long count;
@@ -1082,17 +1112,24 @@ public class PersonFacadeEjb extends AbstractBaseEjb<Person, PersonDto, PersonIn
 
 	@Override
 	@RightsAllowed(UserRight._PERSON_EDIT)
+	@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
 	public long setMissingGeoCoordinates(boolean overwriteExistingCoordinates) {
 
 		// The uuid-list is filtered by the users jurisdiction and retrieved in batches to avoid timeouts
 		List<String> personUuidList = getAllUuidsBatched(2500, overwriteExistingCoordinates);
 
-		// Run updates in batches to avoid large JPA cache
-		List<Long> batchResults = new ArrayList<>();
+		// Run updates in batches with their own transaction to avoid large JPA cache and transaction timeouts
+		AtomicLong processedCount = new AtomicLong();
+		AtomicLong updatedCount = new AtomicLong();
 		IterableHelper.executeBatched(personUuidList, 100, batchedUuids -> {
-			batchResults.add(service.updateGeoLocation(batchedUuids, overwriteExistingCoordinates));
+			updatedCount.addAndGet(service.updateGeoLocation(batchedUuids, overwriteExistingCoordinates));
+			logger.info(
+				"Set geo coordinates of {} persons, {} of {} processed",
+				updatedCount.get(),
+				processedCount.addAndGet(batchedUuids.size()),
+				personUuidList.size());
 		});
-		return batchResults.stream().reduce(0L, Long::sum);
+		return updatedCount.get();
 	}
 
 	@Override
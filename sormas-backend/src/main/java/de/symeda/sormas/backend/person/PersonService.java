@@ -189,6 +189,39 @@ public class PersonService extends AdoServiceWithUserFilterAndJurisdiction<Perso
 		return allowed;
 	}
 
+	/**
+	 * @return The number of persons with the given association estimated by the database, see {@link #estimateCount(String)}. For
+	 *         {@link PersonAssociation#ALL} all persons are estimated.
+	 */
+	public Long estimateCount(PersonAssociation association) {
+
+		final String associationTable;
+		switch (association) {
+		case ALL:
+			return estimateCount("SELECT 1 FROM " + Person.TABLE_NAME);
+		case CASE:
+			associationTable = Case.TABLE_NAME;
+			break;
+		case CONTACT:
+			associationTable = Contact.TABLE_NAME;
+			break;
+		case EVENT_PARTICIPANT:
+			associationTable = EventParticipant.TABLE_NAME;
+			break;
+		case IMMUNIZATION:
+			associationTable = Immunization.TABLE_NAME;
+			break;
+		case TRAVEL_ENTRY:
+			associationTable = TravelEntry.TABLE_NAME;
+			break;
+		default:
+			throw new IllegalArgumentException("Unexpected association: " + association.name());
+		}
+
+		// the planner estimates the distinct persons from the column statistics
+		return estimateCount("SELECT DISTINCT person_id FROM " + associationTable + " WHERE deleted = false");
+	}
+
 	private boolean isPermitted(FeatureType featureType, UserRight userRight) {
 
 		return getCurrentUser().hasUserRight(userRight) && featureConfigurationFacade.isFeatureEnabled(featureType);
@@ -942,13 +975,22 @@ public class PersonService extends AdoServiceWithUserFilterAndJurisdiction<Perso
 		return changeDateFilterBuilder.add(persons).add(address).build();
 	}
 
+	/**
+	 * Looks up the coordinates of the persons' addresses in parallel and stores them in a new transaction, so each batch of persons
+	 * is committed on its own.
+	 */
 	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
 	public long updateGeoLocation(List<String> personUuids, boolean overwriteExistingCoordinates) {
 
+		List<Person> persons = getByUuids(personUuids).stream()
+			.filter(p -> needsGeoLocation(p, overwriteExistingCoordinates))
+			.collect(Collectors.toList());
+		List<GeoLatLon> latLons =
+			geocodingService.getLatLons(persons.stream().map(p -> GeocodingService.toLocationQuery(p.getAddress())).collect(Collectors.toList()));
+
 		long updatedCount = 0;
-		List<Person> persons = getByUuids(personUuids);
-		for (Person person : persons) {
-			if (updateGeoLocation(person, overwriteExistingCoordinates)) {
+		for (int i = 0; i < persons.size(); i++) {
+			if (setGeoLocation(persons.get(i), latLons.get(i))) {
 				updatedCount++;
 			}
 		}
@@ -956,19 +998,24 @@ public class PersonService extends AdoServiceWithUserFilterAndJurisdiction<Perso
 	}
 
 	public boolean updateGeoLocation(Person person, boolean overwriteExistingCoordinates) {
+		return needsGeoLocation(person, overwriteExistingCoordinates) && setGeoLocation(person, geocodingService.getLatLon(person.getAddress()));
+	}
 
-		boolean geoLocationUpdated = false;
-		if (person.getAddress() != null
-			&& (overwriteExistingCoordinates || (person.getAddress().getLatitude() == null || person.getAddress().getLongitude() == null))) {
-			GeoLatLon latLon = geocodingService.getLatLon(person.getAddress());
-			if (latLon != null) {
-				person.getAddress().setLatitude(latLon.getLat());
-				person.getAddress().setLongitude(latLon.getLon());
-				ensurePersisted(person);
-				geoLocationUpdated = true;
-			}
+	private boolean needsGeoLocation(Person person, boolean overwriteExistingCoordinates) {
+		return person.getAddress() != null
+			&& (overwriteExistingCoordinates || (person.getAddress().getLatitude() == null || person.getAddress().getLongitude() == null));
+	}
+
+	private boolean setGeoLocation(Person person, GeoLatLon latLon) {
+
+		if (latLon == null) {
+			return false;
 		}
-		return geoLocationUpdated;
+
+		person.getAddress().setLatitude(latLon.getLat());
+		person.getAddress().setLongitude(latLon.getLon());
+		ensurePersisted(person);
+		return true;
 	}
 
 	@Transactional(rollbackOn = Exception.class)
@@ -22,6 +22,7 @@ import javax.persistence.criteria.Root;
 import de.symeda.sormas.api.sample.AdditionalTestCriteria;
 import de.symeda.sormas.api.utils.SortProperty;
 import de.symeda.sormas.backend.caze.Case;
+import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.AdoServiceWithUserFilterAndJurisdiction;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.DeletableAdo;
@@ -161,6 +162,21 @@ public class AdditionalTestService extends AdoServiceWithUserFilterAndJurisdicti
 		return resultList;
 	}
 
+	/**
+	 * Fetches the additional tests of several samples at once, ordered by test date descending.
+	 */
+	public List<AdditionalTest> getAllBySampleIds(List<Long> sampleIds) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<AdditionalTest> cq = cb.createQuery(getElementClass());
+		Root<AdditionalTest> from = cq.from(getElementClass());
+
+		cq.where(from.get(AdditionalTest.SAMPLE).get(AbstractDomainObject.ID).in(sampleIds));
+		cq.orderBy(cb.desc(from.get(AdditionalTest.TEST_DATE_TIME)));
+
+		return em.createQuery(cq).getResultList();
+	}
+
 	/**
 	 * Creates a filter that excludes all samples that are {@link DeletableAdo#deleted} or associated with
 	 * cases that are {@link Case#archived}, contacts that are {@link Contact#deleted}. or event participants that are
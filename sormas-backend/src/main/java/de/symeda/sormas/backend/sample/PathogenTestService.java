@@ -22,7 +22,9 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
@@ -152,6 +154,23 @@ public class PathogenTestService extends AbstractDeletableAdoService<PathogenTes
 		return em.createQuery(cq).getResultList();
 	}
 
+	/**
+	 * Fetches the pathogen tests of several samples at once, including deleted ones like {@link Sample#getPathogenTests()}.
+	 * The tests are ordered by sample and creation (id).
+	 */
+	public List<PathogenTest> getAllBySampleIds(List<Long> sampleIds) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<PathogenTest> cq = cb.createQuery(getElementClass());
+		Root<PathogenTest> from = cq.from(getElementClass());
+		from.fetch(PathogenTest.LAB, JoinType.LEFT);
+
+		cq.where(from.get(PathogenTest.SAMPLE).get(AbstractDomainObject.ID).in(sampleIds));
+		cq.orderBy(cb.asc(from.get(PathogenTest.SAMPLE).get(AbstractDomainObject.ID)), cb.asc(from.get(AbstractDomainObject.ID)));
+
+		return em.createQuery(cq).getResultList();
+	}
+
 	public boolean hasPathogenTest(Sample sample) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -179,6 +198,31 @@ public class PathogenTestService extends AbstractDeletableAdoService<PathogenTes
 		return em.createQuery(cq).getResultList();
 	}
 
+	/**
+	 * Fetches the pathogen tests of several cases at once, ordered like {@link #getAllByCase(String)}.
+	 *
+	 * @return The pathogen tests by case uuid; cases without pathogen tests are not contained.
+	 */
+	public Map<String, List<PathogenTest>> getAllByCaseUuids(List<String> caseUuids) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<PathogenTest> from = cq.from(getElementClass());
+
+		Join<PathogenTest, Sample> sampleJoin = from.join(PathogenTest.SAMPLE);
+		Join<Sample, Case> caseJoin = sampleJoin.join(Sample.ASSOCIATED_CASE);
+
+		cq.multiselect(caseJoin.get(Case.UUID), from);
+		cq.where(createDefaultFilter(cb, from), caseJoin.get(Case.UUID).in(caseUuids));
+		cq.orderBy(cb.desc(from.get(PathogenTest.TEST_DATE_TIME)));
+
+		Map<String, List<PathogenTest>> pathogenTestsByCase = new HashMap<>();
+		for (Object[] result : em.createQuery(cq).getResultList()) {
+			pathogenTestsByCase.computeIfAbsent((String) result[0], k -> new ArrayList<>()).add((PathogenTest) result[1]);
+		}
+		return pathogenTestsByCase;
+	}
+
 	public Long countByCase(Case caze) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -84,6 +84,7 @@ import de.symeda.sormas.backend.caze.CaseQueryContext;
 import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.CoreAdo;
+import de.symeda.sormas.backend.common.CountCache;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.NotificationService;
 import de.symeda.sormas.backend.common.messaging.MessageContents;
@@ -171,7 +172,11 @@ public class SampleFacadeEjb implements SampleFacade {
 	@EJB
 	private PathogenTestFacadeEjbLocal pathogenTestFacade;
 	@EJB
+	private PathogenTestService pathogenTestService;
+	@EJB
 	private SormasToSormasOriginInfoService originInfoService;
+	@EJB
+	private CountCache countCache;
 
 	@Override
 	public List<String> getAllActiveUuids() {
@@ -510,11 +515,16 @@ public class SampleFacadeEjb implements SampleFacade {
 		}
 	}
 
+	/**
+	 * @param first
+	 *            Offset for offset paging. {@code null} for keyset paging, starting after the sample with the id {@code afterId}.
+	 */
 	private List<SampleExportDto> getExportList(
 		SampleCriteria sampleCriteria,
 		CaseCriteria caseCriteria,
 		Collection<String> selectedRows,
-		int first,
+		Integer first,
+		Long afterId,
 		int max) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -642,6 +652,10 @@ public class SampleFacadeEjb implements SampleFacade {
 			filter = CriteriaBuilderHelper.and(cb, filter, cb.isFalse(sampleRoot.get(CoreAdo.DELETED)));
 			filter = CriteriaBuilderHelper.andInValues(selectedRows, filter, cb, joins.getCaze().get(AbstractDomainObject.UUID));
 		}
+		if (afterId != null) {
+			filter = CriteriaBuilderHelper
+				.and(cb, filter, CriteriaBuilderHelper.afterInDescendingOrder(cb, cq, sampleRoot, Sample.REPORT_DATE_TIME, afterId));
+		}
 
 		if (filter != null) {
 			cq.where(filter);
@@ -649,11 +663,28 @@ public class SampleFacadeEjb implements SampleFacade {
 
 		cq.orderBy(cb.desc(sampleRoot.get(Sample.REPORT_DATE_TIME)), cb.desc(sampleRoot.get(AbstractDomainObject.ID)));
 
-		List<SampleExportDto> resultList = QueryHelper.getResultList(em, cq, first, max);
+		List<SampleExportDto> resultList = QueryHelper.getResultList(em, cq, first != null ? first : 0, max);
 
+		if (resultList.isEmpty()) {
+			return resultList;
+		}
+
+		// load the tests of all samples of this batch at once instead of per sample
+		Map<Long, List<PathogenTest>> pathogenTestsBySample = pathogenTestService
+			.getAllBySampleIds(resultList.stream().map(SampleExportDto::getId).collect(Collectors.toList()))
+			.stream()
+			.collect(Collectors.groupingBy(t -> t.getSample().getId()));
+		List<Long> additionalTestingSampleIds =
+			resultList.stream().filter(SampleExportDto::getAdditionalTestingRequested).map(SampleExportDto::getId).collect(Collectors.toList());
+		Map<Long, List<AdditionalTest>> additionalTestsBySample = additionalTestingSampleIds.isEmpty()
+			? Collections.emptyMap()
+			: additionalTestService.getAllBySampleIds(additionalTestingSampleIds)
+				.stream()
+				.collect(Collectors.groupingBy(t -> t.getSample().getId()));
+
+		Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight, I18nProperties.getCaption(Captions.inaccessibleValue));
 		for (SampleExportDto exportDto : resultList) {
-			Sample sampleFromExportDto = sampleService.getById(exportDto.getId());
-			List<PathogenTest> pathogenTests = sampleFromExportDto.getPathogenTests();
+			List<PathogenTest> pathogenTests = pathogenTestsBySample.getOrDefault(exportDto.getId(), Collections.emptyList());
 			int count = 0;
 			for (PathogenTest pathogenTest : pathogenTests) {
 				String lab = pathogenTest.getLab() != null
@@ -686,7 +717,7 @@ public class SampleFacadeEjb implements SampleFacade {
 			}
 
 			if (exportDto.getAdditionalTestingRequested()) {
-				List<AdditionalTest> additionalTests = additionalTestService.getAllBySample(sampleFromExportDto);
+				List<AdditionalTest> additionalTests = additionalTestsBySample.getOrDefault(exportDto.getId(), Collections.emptyList());
 				if (!additionalTests.isEmpty()) {
 					exportDto.setAdditionalTest(AdditionalTestFacadeEjb.toDto(additionalTests.get(0)));
 				}
@@ -699,7 +730,6 @@ public class SampleFacadeEjb implements SampleFacade {
 				exportDto.setOtherAdditionalTestsDetails(I18nProperties.getString(Strings.no));
 			}
 
-			Pseudonymizer pseudonymizer = Pseudonymizer.getDefault(userService::hasRight, I18nProperties.getCaption(Captions.inaccessibleValue));
 			boolean isInJurisdiction = exportDto.getSampleJurisdictionFlagsDto().getInJurisdiction();
 			pseudonymizer.pseudonymizeDto(
 				SampleExportDto.class,
@@ -718,18 +748,46 @@ public class SampleFacadeEjb implements SampleFacade {
 	@Override
 	@RightsAllowed(UserRight._SAMPLE_EXPORT)
 	public List<SampleExportDto> getExportList(SampleCriteria criteria, Collection<String> selectedRows, int first, int max) {
-		return getExportList(criteria, null, selectedRows, first, max);
+		return getExportList(criteria, null, selectedRows, first, null, max);
 	}
 
 	@Override
 	@RightsAllowed(UserRight._SAMPLE_EXPORT)
 	public List<SampleExportDto> getExportList(CaseCriteria criteria, Collection<String> selectedRows, int first, int max) {
-		return getExportList(null, criteria, selectedRows, first, max);
+		return getExportList(null, criteria, selectedRows, first, null, max);
+	}
+
+	@Override
+	@RightsAllowed(UserRight._SAMPLE_EXPORT)
+	public List<SampleExportDto> getExportListAfter(SampleCriteria criteria, Collection<String> selectedRows, Long afterId, int max) {
+		return getExportList(criteria, null, selectedRows, null, afterId, max);
+	}
+
+	@Override
+	@RightsAllowed(UserRight._SAMPLE_EXPORT)
+	public List<SampleExportDto> getExportListAfter(CaseCriteria criteria, Collection<String> selectedRows, Long afterId, int max) {
+		return getExportList(null, criteria, selectedRows, null, afterId, max);
 	}
 
 	@Override
 	public long count(SampleCriteria sampleCriteria) {
 
+		return countCache.count("samples", sampleCriteria, sampleService::getLatestChangeDate, () -> countExactly(sampleCriteria));
+	}
+
+	@Override
+	public Long estimateCount(SampleCriteria sampleCriteria) {
+
+		SampleCriteria unfilteredCriteria = new SampleCriteria();
+		if (sampleCriteria != null) {
+			unfilteredCriteria.relevanceStatus(sampleCriteria.getRelevanceStatus());
+		}
+		return countCache
+			.estimate(sampleCriteria, unfilteredCriteria, () -> sampleService.estimateCount(unfilteredCriteria.getRelevanceStatus()));
+	}
+
+	private long countExactly(SampleCriteria sampleCriteria) {
+
 		final CriteriaBuilder cb = em.getCriteriaBuilder();
 		final CriteriaQuery<Long> cq = cb.createQuery(Long.class);
 		final Root<Sample> root = cq.from(Sample.class);
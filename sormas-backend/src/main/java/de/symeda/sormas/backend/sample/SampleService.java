@@ -486,6 +486,14 @@ public class SampleService extends AbstractDeletableAdoService<Sample>
 		return filter;
 	}
 
+	/**
+	 * @return The number of samples that are (not) deleted estimated by the database, see {@link #estimateCount(String)}. Whether the
+	 *         associated cases, contacts or event participants are archived is not considered.
+	 */
+	public Long estimateCount(EntityRelevanceStatus relevanceStatus) {
+		return estimateCount("SELECT 1 FROM " + Sample.TABLE_NAME + " WHERE deleted = " + (relevanceStatus == EntityRelevanceStatus.DELETED));
+	}
+
 	public List<String> getAllActiveUuids(User user) {
 
 		final CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -14,21 +14,16 @@
  */
 package de.symeda.sormas.backend.sormastosormas.crypto;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
-import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
-import java.security.PrivateKey;
 import java.security.SignatureException;
-import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
@@ -64,16 +59,23 @@ import de.symeda.sormas.backend.crypt.CmsCreator;
 import de.symeda.sormas.backend.crypt.CmsPlaintext;
 import de.symeda.sormas.backend.crypt.CmsReader;
 import de.symeda.sormas.backend.sormastosormas.access.SormasToSormasDiscoveryService;
+import de.symeda.sormas.backend.sormastosormas.crypto.SormasToSormasKeyMaterialCache.OwnKeyMaterial;
 import de.symeda.sormas.backend.sormastosormas.rest.SormasToSormasRestClient;
 
 @Stateless(name = "SormasToSormasEncryptionFacade")
 public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncryptionFacade {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SormasToSormasEncryptionFacadeEjb.class);
+	/**
+	 * Rough size of the JSON envelope, base64 encoding, signature and certificates around the message; only used to size the buffer.
+	 */
+	private static final int ENCRYPTION_OVERHEAD = 8192;
 	private final ObjectMapper objectMapper;
 
 	@EJB
 	private ConfigFacadeEjb.ConfigFacadeEjbLocal configFacadeEjb;
+	@EJB
+	private SormasToSormasKeyMaterialCache keyMaterialCache;
 
 	@Inject
 	private SormasToSormasRestClient restClient;
@@ -88,51 +90,37 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 		objectMapper.setVisibility(PropertyAccessor.CREATOR, JsonAutoDetect.Visibility.ANY);
 	}
 
-	private KeyStore getKeystore() throws CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException {
-		SormasToSormasConfig sormasToSormasConfig = configFacadeEjb.getS2SConfig();
-		return loadStore(sormasToSormasConfig.getKeystoreName(), sormasToSormasConfig.getKeystorePass());
-	}
-
-	private KeyStore getTruststore() throws CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException {
-		SormasToSormasConfig sormasToSormasConfig = configFacadeEjb.getS2SConfig();
-		return loadStore(sormasToSormasConfig.getTruststoreName(), sormasToSormasConfig.getTruststorePass());
-	}
-
-	private KeyStore loadStore(String name, String password) throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
-		String filePath = configFacadeEjb.getS2SConfig().getPath();
-		Path storePath = Paths.get(filePath, name);
-		KeyStore store = KeyStore.getInstance("pkcs12");
-		try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(storePath))) {
-			store.load(in, password.toCharArray());
-		}
-		return store;
-	}
-
 	@Override
 	public X509Certificate loadOwnCertificate()
 		throws SormasToSormasException, CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException {
-		String ownId = configFacadeEjb.getS2SConfig().getId();
-		KeyStore keystore = getKeystore();
-		X509Certificate cert = (X509Certificate) keystore.getCertificate(ownId);
-		if (cert == null) {
-			LOGGER.error("The own certificate is not contained in the provided keystore.");
-			throw new CertificateException("Unable to load own certificate.");
+		return getOwnKeyMaterial().getCertificate();
+	}
+
+	private OwnKeyMaterial getOwnKeyMaterial() throws CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException {
+		try {
+			return keyMaterialCache.getOwnKeyMaterial();
+		} catch (CertificateException | KeyStoreException | NoSuchAlgorithmException e) {
+			throw e;
+		} catch (GeneralSecurityException e) {
+			throw new KeyStoreException(e.getMessage(), e);
 		}
-		LOGGER.info("Successfully loaded own certificate.");
-		return cert;
 	}
 
-	private PrivateKey loadOwnPrivateKey()
-		throws CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException, UnrecoverableKeyException {
-		KeyStore keystore = getKeystore();
-		SormasToSormasConfig sormasToSormasConfig = configFacadeEjb.getS2SConfig();
-		PrivateKey privKey = (PrivateKey) keystore.getKey(sormasToSormasConfig.getId(), sormasToSormasConfig.getKeystorePass().toCharArray());
-		if (privKey == null) {
-			LOGGER.error("Could not load private key.");
-			throw new KeyStoreException("Unable to load private key.");
+	private X509Certificate getVerifiedOtherCertificate(String otherId)
+		throws CertificateException, SormasToSormasException, KeyStoreException, IOException, NoSuchAlgorithmException {
+
+		try {
+			X509Certificate otherCertificate = keyMaterialCache.getOtherCertificate(otherId);
+			if (otherCertificate == null) {
+				otherCertificate = loadOtherCertificate(otherId);
+				keyMaterialCache.putOtherCertificate(otherId, otherCertificate);
+			}
+			return otherCertificate;
+		} catch (CertificateException | KeyStoreException | NoSuchAlgorithmException e) {
+			throw e;
+		} catch (GeneralSecurityException e) {
+			throw new KeyStoreException(e.getMessage(), e);
 		}
-		LOGGER.info("Successfully loaded private key.");
-		return privKey;
 	}
 
 	private X509Certificate loadOtherCertificate(String otherId)
@@ -149,11 +137,10 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 			throw SormasToSormasException.fromStringProperty(Strings.errorSormasToSormasCertNotGenerated);
 		}
 
-		final String rootCaAlias = configFacadeEjb.getS2SConfig().getRootCaAlias();
-		X509Certificate rootCA = (X509Certificate) getTruststore().getCertificate(rootCaAlias);
-
-		if (rootCA == null) {
-			LOGGER.error("Unable to load CA root certificate for alias {}", rootCaAlias);
+		X509Certificate rootCA;
+		try {
+			rootCA = keyMaterialCache.getRootCaCertificate();
+		} catch (GeneralSecurityException e) {
 			throw SormasToSormasException.fromStringProperty(Strings.errorSormasToSormasCertNotGenerated);
 		}
 
@@ -196,15 +183,11 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 			this.otherId = otherId;
 
 			try {
-				this.ownCertificate = loadOwnCertificate();
-				this.ownPrivateKey = loadOwnPrivateKey();
-				this.otherCertificate = loadOtherCertificate(otherId);
-			} catch (SormasToSormasException
-				| CertificateException
-				| KeyStoreException
-				| IOException
-				| NoSuchAlgorithmException
-				| UnrecoverableKeyException e) {
+				OwnKeyMaterial ownKeyMaterial = getOwnKeyMaterial();
+				this.ownCertificate = ownKeyMaterial.getCertificate();
+				this.ownPrivateKey = ownKeyMaterial.getPrivateKey();
+				this.otherCertificate = getVerifiedOtherCertificate(otherId);
+			} catch (SormasToSormasException | CertificateException | KeyStoreException | IOException | NoSuchAlgorithmException e) {
 				LOGGER.error("Could not create the S2S certificate config for this instance: %s", e);
 				throw SormasToSormasException.fromStringProperty(Strings.errorSormasToSormasCertNotGenerated);
 			}
@@ -219,9 +202,10 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 			final String ownId = configFacadeEjb.getS2SConfig().getId();
 			CmsPlaintext plaintext = new CmsPlaintext(ownId, recipientId, entities);
 			S2SCertificateConfig config = new S2SCertificateConfig(recipientId);
-			byte[] encryptedData = CmsCreator.signAndEncrypt(plaintext, config, true);
+			ByteArrayOutputStream encryptedData = new ByteArrayOutputStream(plaintext.getMessage().length / 3 * 4 + ENCRYPTION_OVERHEAD);
+			CmsCreator.signAndEncrypt(plaintext, config, encryptedData);
 
-			return new SormasToSormasEncryptedDataDto(ownId, encryptedData);
+			return new SormasToSormasEncryptedDataDto(ownId, encryptedData.toByteArray());
 		} catch (Exception e) {
 			LOGGER.error("Could not sign and encrypt data", e);
 			throw SormasToSormasException.fromStringProperty(Strings.errorSormasToSormasEncrypt);
@@ -0,0 +1,260 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.sormastosormas.crypto;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Lock;
+import javax.ejb.LockType;
+import javax.ejb.Singleton;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.sormastosormas.SormasToSormasConfig;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+
+/**
+ * Keeps the S2S key material in memory, so the PKCS12 stores don't have to be read, parsed and decrypted for every message.
+ * <p>
+ * The own certificate and private key as well as the root CA certificate are reloaded as soon as the configuration or the
+ * modification time or size of the store files change. Verified certificates of other instances are kept until
+ * {@code sormas2sormas.certificateCacheTtlSeconds} have passed, they expire or the trust store changes.
+ */
+@Singleton
+@LocalBean
+@Lock(LockType.READ)
+public class SormasToSormasKeyMaterialCache {
+
+	private static final String PROBE_SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private volatile OwnKeyMaterial ownKeyMaterial;
+	private volatile LoadedRootCa rootCa;
+	private final Map<String, OtherCertificate> otherCertificates = new ConcurrentHashMap<>();
+
+	private final AtomicLong storeLoadCount = new AtomicLong();
+
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	public OwnKeyMaterial getOwnKeyMaterial() throws IOException, GeneralSecurityException {
+
+		SormasToSormasConfig config = configFacade.getS2SConfig();
+		Path keystorePath = Paths.get(config.getPath(), config.getKeystoreName());
+		List<Object> version = getStoreVersion(keystorePath, config.getKeystorePass(), config.getId());
+
+		OwnKeyMaterial current = ownKeyMaterial;
+		if (current != null && current.version.equals(version)) {
+			return current;
+		}
+
+		KeyStore keystore = loadStore(keystorePath, config.getKeystorePass());
+		X509Certificate certificate = (X509Certificate) keystore.getCertificate(config.getId());
+		if (certificate == null) {
+			logger.error("The own certificate is not contained in the provided keystore.");
+			throw new GeneralSecurityException("Unable to load own certificate.");
+		}
+		PrivateKey privateKey = (PrivateKey) keystore.getKey(config.getId(), config.getKeystorePass().toCharArray());
+		if (privateKey == null) {
+			logger.error("Could not load private key.");
+			throw new GeneralSecurityException("Unable to load private key.");
+		}
+		checkKeyPair(certificate, privateKey);
+
+		current = new OwnKeyMaterial(version, certificate, privateKey);
+		ownKeyMaterial = current;
+		logger.info("Successfully loaded own certificate and private key from {}", keystorePath);
+		return current;
+	}
+
+	public X509Certificate getRootCaCertificate() throws IOException, GeneralSecurityException {
+		return getRootCa().certificate;
+	}
+
+	private LoadedRootCa getRootCa() throws IOException, GeneralSecurityException {
+
+		SormasToSormasConfig config = configFacade.getS2SConfig();
+		Path truststorePath = Paths.get(config.getPath(), config.getTruststoreName());
+		List<Object> version = getStoreVersion(truststorePath, config.getTruststorePass(), config.getRootCaAlias());
+
+		LoadedRootCa current = rootCa;
+		if (current != null && current.version.equals(version)) {
+			return current;
+		}
+
+		KeyStore truststore = loadStore(truststorePath, config.getTruststorePass());
+		X509Certificate certificate = (X509Certificate) truststore.getCertificate(config.getRootCaAlias());
+		if (certificate == null) {
+			logger.error("Unable to load CA root certificate for alias {}", config.getRootCaAlias());
+			throw new GeneralSecurityException("Unable to load CA root certificate.");
+		}
+
+		current = new LoadedRootCa(version, certificate);
+		rootCa = current;
+		// certificates of other instances have to be verified against the new root CA
+		otherCertificates.clear();
+		return current;
+	}
+
+	/**
+	 * @return The cached certificate of the other instance, {@code null} if it has to be requested and verified again.
+	 */
+	public X509Certificate getOtherCertificate(String otherId) throws IOException, GeneralSecurityException {
+
+		OtherCertificate otherCertificate = otherCertificates.get(otherId);
+		if (otherCertificate == null) {
+			return null;
+		}
+
+		if (otherCertificate.rootCa != getRootCa()
+			|| otherCertificate.expiresAt <= System.currentTimeMillis()
+			|| otherCertificate.certificate.getNotAfter().before(new Date())) {
+			otherCertificates.remove(otherId, otherCertificate);
+			return null;
+		}
+
+		return otherCertificate.certificate;
+	}
+
+	/**
+	 * @param certificate
+	 *            The certificate of the other instance, already verified against {@link #getRootCaCertificate()}.
+	 */
+	public void putOtherCertificate(String otherId, X509Certificate certificate) throws IOException, GeneralSecurityException {
+
+		long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(configFacade.getS2SCertificateCacheTtlSeconds());
+		otherCertificates.put(otherId, new OtherCertificate(certificate, getRootCa(), expiresAt));
+	}
+
+	public void clear() {
+		ownKeyMaterial = null;
+		rootCa = null;
+		otherCertificates.clear();
+	}
+
+	/**
+	 * @return How often a key store or trust store was read from disk.
+	 */
+	public long getStoreLoadCount() {
+		return storeLoadCount.get();
+	}
+
+	private KeyStore loadStore(Path storePath, String password) throws IOException, GeneralSecurityException {
+
+		KeyStore store = KeyStore.getInstance("pkcs12");
+		try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(storePath))) {
+			store.load(in, password.toCharArray());
+		}
+		storeLoadCount.incrementAndGet();
+		return store;
+	}
+
+	/**
+	 * Everything the content loaded from a store depends on; a different version means that the store has to be loaded again.
+	 */
+	private static List<Object> getStoreVersion(Path storePath, String password, String alias) throws IOException {
+
+		BasicFileAttributes attributes = Files.readAttributes(storePath, BasicFileAttributes.class);
+		return Arrays.asList(storePath.toAbsolutePath(), attributes.lastModifiedTime(), attributes.size(), password, alias);
+	}
+
+	/**
+	 * Makes sure the private key belongs to the own certificate, so messages are not signed with a signature nobody can verify.
+	 * Done once per load instead of verifying the signature of every message created.
+	 */
+	private static void checkKeyPair(X509Certificate certificate, PrivateKey privateKey) throws GeneralSecurityException {
+
+		byte[] probe = certificate.getEncoded();
+
+		Signature signer = Signature.getInstance(PROBE_SIGNATURE_ALGORITHM);
+		signer.initSign(privateKey);
+		signer.update(probe);
+		byte[] signature = signer.sign();
+
+		Signature verifier = Signature.getInstance(PROBE_SIGNATURE_ALGORITHM);
+		verifier.initVerify(certificate.getPublicKey());
+		verifier.update(probe);
+		if (!verifier.verify(signature)) {
+			throw new GeneralSecurityException("The private key does not belong to the own certificate.");
+		}
+	}
+
+	public static final class OwnKeyMaterial {
+
+		private final List<Object> version;
+		private final X509Certificate certificate;
+		private final PrivateKey privateKey;
+
+		private OwnKeyMaterial(List<Object> version, X509Certificate certificate, PrivateKey privateKey) {
+			this.version = version;
+			this.certificate = certificate;
+			this.privateKey = privateKey;
+		}
+
+		public X509Certificate getCertificate() {
+			return certificate;
+		}
+
+		public PrivateKey getPrivateKey() {
+			return privateKey;
+		}
+	}
+
+	private static final class LoadedRootCa {
+
+		private final List<Object> version;
+		private final X509Certificate certificate;
+
+		private LoadedRootCa(List<Object> version, X509Certificate certificate) {
+			this.version = version;
+			this.certificate = certificate;
+		}
+	}
+
+	private static final class OtherCertificate {
+
+		private final X509Certificate certificate;
+		private final LoadedRootCa rootCa;
+		private final long expiresAt;
+
+		private OtherCertificate(X509Certificate certificate, LoadedRootCa rootCa, long expiresAt) {
+			this.certificate = certificate;
+			this.rootCa = rootCa;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -15,8 +15,10 @@
 
 package de.symeda.sormas.backend.sormastosormas.origin;
 
+import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.persistence.EntityExistsException;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -26,19 +28,50 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import de.symeda.sormas.backend.caze.Case;
+import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.AdoServiceWithUserFilterAndJurisdiction;
 import de.symeda.sormas.backend.contact.Contact;
+import de.symeda.sormas.backend.contact.ContactService;
 import de.symeda.sormas.backend.event.EventParticipant;
+import de.symeda.sormas.backend.event.EventParticipantService;
+import de.symeda.sormas.backend.immunization.ImmunizationService;
+import de.symeda.sormas.backend.immunization.entity.Immunization;
 import de.symeda.sormas.backend.person.Person;
 
 @Stateless
 @LocalBean
 public class SormasToSormasOriginInfoService extends AdoServiceWithUserFilterAndJurisdiction<SormasToSormasOriginInfo> {
 
+	@EJB
+	private CaseService caseService;
+	@EJB
+	private ContactService contactService;
+	@EJB
+	private EventParticipantService eventParticipantService;
+	@EJB
+	private ImmunizationService immunizationService;
+
 	public SormasToSormasOriginInfoService() {
 		super(SormasToSormasOriginInfo.class);
 	}
 
+	@Override
+	public void ensurePersisted(SormasToSormasOriginInfo originInfo) throws EntityExistsException {
+
+		boolean isNew = originInfo.getId() == null;
+		super.ensurePersisted(originInfo);
+
+		// a new origin info is not referenced yet, the entities it is attached to update their tree change date when persisted
+		if (!isNew) {
+			caseService.updateTreeChangeDates((cb, cq, from) -> cb.equal(from.get(Case.SORMAS_TO_SORMAS_ORIGIN_INFO), originInfo));
+			contactService.updateTreeChangeDates((cb, cq, from) -> cb.equal(from.get(Contact.SORMAS_TO_SORMAS_ORIGIN_INFO), originInfo));
+			eventParticipantService
+				.updateTreeChangeDates((cb, cq, from) -> cb.equal(from.get(EventParticipant.SORMAS_TO_SORMAS_ORIGIN_INFO), originInfo));
+			immunizationService
+				.updateTreeChangeDates((cb, cq, from) -> cb.equal(from.get(Immunization.SORMAS_TO_SORMAS_ORIGIN_INFO), originInfo));
+		}
+	}
+
 	@Override
 	public Predicate createUserFilter(CriteriaBuilder cb, CriteriaQuery cq, From<?, SormasToSormasOriginInfo> from) {
 		// no user filter needed right now
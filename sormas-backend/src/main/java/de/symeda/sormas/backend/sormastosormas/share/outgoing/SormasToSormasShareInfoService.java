@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.persistence.EntityExistsException;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -37,15 +38,19 @@ import de.symeda.sormas.api.sormastosormas.share.incoming.ShareRequestStatus;
 import de.symeda.sormas.api.sormastosormas.share.outgoing.SormasToSormasShareInfoCriteria;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb;
+import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.caze.surveillancereport.SurveillanceReport;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.AdoServiceWithUserFilterAndJurisdiction;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.contact.Contact;
+import de.symeda.sormas.backend.contact.ContactService;
 import de.symeda.sormas.backend.event.Event;
 import de.symeda.sormas.backend.event.EventFacadeEjb;
 import de.symeda.sormas.backend.event.EventParticipant;
+import de.symeda.sormas.backend.event.EventParticipantService;
 import de.symeda.sormas.backend.externalsurveillancetool.ExternalSurveillanceToolGatewayFacadeEjb.ExternalSurveillanceToolGatewayFacadeEjbLocal;
+import de.symeda.sormas.backend.immunization.ImmunizationService;
 import de.symeda.sormas.backend.immunization.entity.Immunization;
 import de.symeda.sormas.backend.sample.Sample;
 import de.symeda.sormas.backend.util.IterableHelper;
@@ -61,11 +66,31 @@ public class SormasToSormasShareInfoService extends AdoServiceWithUserFilterAndJ
 	private EventFacadeEjb.EventFacadeEjbLocal eventFacade;
 	@EJB
 	private CaseFacadeEjb.CaseFacadeEjbLocal caseFacade;
+	@EJB
+	private CaseService caseService;
+	@EJB
+	private ContactService contactService;
+	@EJB
+	private EventParticipantService eventParticipantService;
+	@EJB
+	private ImmunizationService immunizationService;
 
 	public SormasToSormasShareInfoService() {
 		super(SormasToSormasShareInfo.class);
 	}
 
+	@Override
+	public void ensurePersisted(SormasToSormasShareInfo shareInfo) throws EntityExistsException {
+
+		super.ensurePersisted(shareInfo);
+
+		// the shares are synchronized together with the shared entities
+		caseService.updateTreeChangeDate(shareInfo.getCaze());
+		contactService.updateTreeChangeDate(shareInfo.getContact());
+		eventParticipantService.updateTreeChangeDate(shareInfo.getEventParticipant());
+		immunizationService.updateTreeChangeDate(shareInfo.getImmunization());
+	}
+
 	@Override
 	public Predicate createUserFilter(CriteriaBuilder cb, CriteriaQuery cq, From<?, SormasToSormasShareInfo> from) {
 		// no user filter needed right now
@@ -5,6 +5,8 @@ import java.util.Date;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +59,25 @@ public class SyncFacadeEjb implements SyncFacade {
 		systemEventFacade.reportSuccess(sync, message, new Date());
 	}
 
+	/**
+	 * Stores the progress of a synchronization that is still running: The part synchronized so far is saved as a successful event
+	 * that ends now, and the running event continues from now on. If the synchronization is interrupted, the next one starts from
+	 * the given date instead of the one of the last completed synchronization.
+	 */
+	@Override
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public void reportSyncCheckpoint(SystemEventDto sync, Date syncDate) {
+		Date checkpointDate = new Date();
+		SystemEventDto checkpoint = SystemEventDto.build();
+		checkpoint.setType(sync.getType());
+		checkpoint.setStartDate(sync.getStartDate());
+		systemEventFacade.reportSuccess(checkpoint, LAST_SYNCHRONIZATION_DATE + syncDate.getTime(), checkpointDate);
+
+		sync.setStartDate(checkpointDate);
+		sync.setChangeDate(new Date());
+		systemEventFacade.saveSystemEvent(sync);
+	}
+
 	@Override
 	public void reportSyncErrorWithTimestamp(SystemEventDto sync, String errorMessage) {
 		logger.error("Synchronization for event {} failed with error: {}", sync, errorMessage);
@@ -83,6 +83,7 @@ import de.symeda.sormas.backend.caze.CaseQueryContext;
 import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.common.CountCache;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.common.CronService;
 import de.symeda.sormas.backend.common.NotificationService;
@@ -151,6 +152,8 @@ public class TaskFacadeEjb implements TaskFacade {
 	private TravelEntryFacadeEjb.TravelEntryFacadeEjbLocal travelEntryFacade;
 	@EJB
 	private NotificationService notificationService;
+	@EJB
+	private CountCache countCache;
 
 	public Task fillOrBuildEntity(TaskDto source, Task target, boolean checkChangeDate) {
 		if (source == null) {
@@ -472,6 +475,24 @@ public class TaskFacadeEjb implements TaskFacade {
 	@Override
 	public long count(TaskCriteria taskCriteria) {
 
+		return countCache.count("tasks", taskCriteria, taskService::getLatestChangeDate, () -> countExactly(taskCriteria));
+	}
+
+	@Override
+	public Long estimateCount(TaskCriteria taskCriteria) {
+
+		TaskCriteria unfilteredCriteria = new TaskCriteria();
+		if (taskCriteria != null) {
+			unfilteredCriteria.taskStatus(taskCriteria.getTaskStatus()).relevanceStatus(taskCriteria.getRelevanceStatus());
+		}
+		return countCache.estimate(
+			taskCriteria,
+			unfilteredCriteria,
+			() -> taskService.estimateCount(unfilteredCriteria.getTaskStatus(), unfilteredCriteria.getRelevanceStatus()));
+	}
+
+	private long countExactly(TaskCriteria taskCriteria) {
+
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
 		Root<Task> task = cq.from(Task.class);
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
 import javax.ejb.EJB;
@@ -67,6 +68,7 @@ import de.symeda.sormas.backend.caze.CaseUserFilterCriteria;
 import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.AdoServiceWithUserFilterAndJurisdiction;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
+import de.symeda.sormas.backend.common.InfrastructureAdo;
 import de.symeda.sormas.backend.common.JurisdictionFlagsService;
 import de.symeda.sormas.backend.common.TaskCreationException;
 import de.symeda.sormas.backend.contact.Contact;
@@ -83,6 +85,7 @@ import de.symeda.sormas.backend.travelentry.TravelEntry;
 import de.symeda.sormas.backend.travelentry.TravelEntryQueryContext;
 import de.symeda.sormas.backend.travelentry.services.TravelEntryService;
 import de.symeda.sormas.backend.user.User;
+import de.symeda.sormas.backend.user.UserReference;
 import de.symeda.sormas.backend.user.UserRole;
 import de.symeda.sormas.backend.user.UserService;
 import de.symeda.sormas.backend.util.JurisdictionHelper;
@@ -328,6 +331,25 @@ public class TaskService extends AdoServiceWithUserFilterAndJurisdiction<Task>
 		return em.createQuery(cq).getSingleResult();
 	}
 
+	/**
+	 * @return The number of tasks with the given status estimated by the database, see {@link #estimateCount(String)}. Tasks of archived
+	 *         cases, contacts or events are not considered, only the archived flag of the task itself.
+	 */
+	public Long estimateCount(TaskStatus taskStatus, EntityRelevanceStatus relevanceStatus) {
+
+		List<String> filters = new ArrayList<>();
+		if (taskStatus != null) {
+			filters.add("taskstatus = '" + taskStatus.name() + "'");
+		}
+		if (relevanceStatus == EntityRelevanceStatus.ACTIVE) {
+			filters.add("archived = false");
+		} else if (relevanceStatus == EntityRelevanceStatus.ARCHIVED) {
+			filters.add("archived = true");
+		}
+
+		return estimateCount("SELECT 1 FROM " + Task.TABLE_NAME + (filters.isEmpty() ? "" : " WHERE " + String.join(" AND ", filters)));
+	}
+
 	public List<Task> findBy(TaskCriteria taskCriteria, boolean ignoreUserFilter) {
 
 		final CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -643,13 +665,45 @@ public class TaskService extends AdoServiceWithUserFilterAndJurisdiction<Task>
 
 	public User getTaskAssignee(Contact contact) throws TaskCreationException {
 
+		return getTaskAssignee(
+			contact,
+			district -> userService.getRandomDistrictUser(district, UserRight.CONTACT_RESPONSIBLE),
+			region -> userService.getRandomRegionUser(region, UserRight.CONTACT_RESPONSIBLE));
+	}
+
+	/**
+	 * Like {@link #getTaskAssignee(Contact)}, but the users of a district or region are only looked up once per
+	 * {@code candidatesCache} and the chosen user is not loaded. Meant for assigning the tasks of many contacts at once.
+	 */
+	public User getTaskAssignee(Contact contact, Map<InfrastructureAdo, List<UserReference>> candidatesCache) throws TaskCreationException {
+
+		return getTaskAssignee(
+			contact,
+			district -> getRandomCandidate(
+				candidatesCache.computeIfAbsent(district, d -> userService.getDistrictUserReferences(district, UserRight.CONTACT_RESPONSIBLE))),
+			region -> getRandomCandidate(
+				candidatesCache.computeIfAbsent(region, r -> userService.getRegionUserReferences(region, UserRight.CONTACT_RESPONSIBLE))));
+	}
+
+	private User getRandomCandidate(List<UserReference> candidates) {
+
+		if (candidates.isEmpty()) {
+			return null;
+		}
+
+		UserReference chosenUser = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+		return em.getReference(User.class, chosenUser.getId());
+	}
+
+	private User getTaskAssignee(Contact contact, Function<District, User> lookupByDistrict, Function<Region, User> lookupByRegion)
+		throws TaskCreationException {
+
 		User assignee = null;
 		if (contact.getContactOfficer() != null) {
 			// 1) The contact officer that is responsible for the contact
 			assignee = contact.getContactOfficer();
 		} else {
 			// 2) A random user with user right CONTACT_RESPONSIBLE from the contact's, contact person's or contact case's district
-			Function<District, User> lookupByDistrict = district -> userService.getRandomDistrictUser(district, UserRight.CONTACT_RESPONSIBLE);
 			if (contact.getDistrict() != null) {
 				assignee = lookupByDistrict.apply(contact.getDistrict());
 			}
@@ -668,7 +722,6 @@ public class TaskService extends AdoServiceWithUserFilterAndJurisdiction<Task>
 
 		if (assignee == null) {
 			// 3) Assign a random user with user right CONTACT_RESPONSIBLE from the contact's, contact person's or contact case's region
-			Function<Region, User> lookupByRegion = region -> userService.getRandomRegionUser(region, UserRight.CONTACT_RESPONSIBLE);
 			if (contact.getRegion() != null) {
 				assignee = lookupByRegion.apply(contact.getRegion());
 			}
@@ -692,6 +745,31 @@ public class TaskService extends AdoServiceWithUserFilterAndJurisdiction<Task>
 		return assignee;
 	}
 
+	/**
+	 * @return The contact id, assignee id, status and due date of the follow-up tasks of the given contacts that are pending, in
+	 *         progress or due between the given dates.
+	 */
+	public List<Object[]> getContactFollowUpTaskStates(List<Long> contactIds, Date dueDateFrom, Date dueDateTo) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Task> from = cq.from(getElementClass());
+
+		cq.multiselect(
+			from.get(Task.CONTACT).get(Contact.ID),
+			from.get(Task.ASSIGNEE_USER).get(User.ID),
+			from.get(Task.TASK_STATUS),
+			from.get(Task.DUE_DATE));
+		cq.where(
+			cb.equal(from.get(Task.TASK_TYPE), TaskType.CONTACT_FOLLOW_UP),
+			from.get(Task.CONTACT).get(Contact.ID).in(contactIds),
+			cb.or(
+				from.get(Task.TASK_STATUS).in(TaskStatus.IN_PROGRESS, TaskStatus.PENDING),
+				cb.and(cb.greaterThanOrEqualTo(from.get(Task.DUE_DATE), dueDateFrom), cb.lessThan(from.get(Task.DUE_DATE), dueDateTo))));
+
+		return em.createQuery(cq).getResultList();
+	}
+
 	public List<Task> findByAssigneeContactTypeAndStatuses(
 		UserReferenceDto assignee,
 		ContactReferenceDto contact,
@@ -1,5 +1,7 @@
 package de.symeda.sormas.backend.travelentry.services;
 
+import java.sql.Timestamp;
+
 import javax.ejb.EJB;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -86,6 +88,11 @@ public abstract class BaseTravelEntryService extends AbstractCoreAdoService<Trav
 		return filter;
 	}
 
+	@Override
+	public Predicate createChangeDateFilter(CriteriaBuilder cb, From<?, TravelEntry> from, Timestamp date) {
+		return createTreeChangeDateFilter(cb, from, date, null);
+	}
+
 	@Override
 	protected <T extends ChangeDateBuilder<T>> T addChangeDates(T builder, TravelEntryJoins joins, boolean includeExtendedChangeDateFilters) {
 
@@ -66,10 +66,9 @@ import de.symeda.sormas.backend.common.EnumService;
 import de.symeda.sormas.backend.disease.DiseaseConfigurationFacadeEjb.DiseaseConfigurationFacadeEjbLocal;
 import de.symeda.sormas.backend.importexport.ImportFacadeEjb.ImportFacadeEjbLocal;
 import de.symeda.sormas.backend.importexport.ImportHelper;
+import de.symeda.sormas.backend.importexport.InfrastructureNameResolver;
 import de.symeda.sormas.backend.infrastructure.community.Community;
-import de.symeda.sormas.backend.infrastructure.community.CommunityFacadeEjb.CommunityFacadeEjbLocal;
 import de.symeda.sormas.backend.infrastructure.district.District;
-import de.symeda.sormas.backend.infrastructure.district.DistrictFacadeEjb.DistrictFacadeEjbLocal;
 import de.symeda.sormas.backend.infrastructure.pointofentry.PointOfEntry;
 import de.symeda.sormas.backend.infrastructure.pointofentry.PointOfEntryFacadeEjb.PointOfEntryFacadeEjbLocal;
 import de.symeda.sormas.backend.infrastructure.region.Region;
@@ -97,9 +96,7 @@ public class TravelEntryImportFacadeEjb implements TravelEntryImportFacade {
 	@EJB
 	private ImportFacadeEjbLocal importFacade;
 	@EJB
-	private DistrictFacadeEjbLocal districtFacade;
-	@EJB
-	private CommunityFacadeEjbLocal communityFacade;
+	private InfrastructureNameResolver infrastructureNameResolver;
 	@EJB
 	private PointOfEntryFacadeEjbLocal pointOfEntryFacade;
 	@EJB
@@ -357,8 +354,10 @@ public class TravelEntryImportFacadeEjb implements TravelEntryImportFacade {
 			if (importFacade.executeDefaultInvoke(pd, currentElement, entry, entryHeaderPath, false)) {
 				// No action needed
 			} else if (propertyType.isAssignableFrom(DistrictReferenceDto.class)) {
-				List<DistrictReferenceDto> district = districtFacade
-					.getByName(entry, ImportHelper.getRegionBasedOnDistrict(pd.getName(), null, null, travelEntry, person, currentElement), false);
+				List<DistrictReferenceDto> district = infrastructureNameResolver.getDistrictsByName(
+					entry,
+					ImportHelper.getRegionBasedOnDistrict(pd.getName(), null, null, travelEntry, person, currentElement),
+					false);
 				if (district.isEmpty()) {
 					throw new ImportErrorException(
 						I18nProperties
@@ -370,7 +369,8 @@ public class TravelEntryImportFacadeEjb implements TravelEntryImportFacade {
 					pd.getWriteMethod().invoke(currentElement, district.get(0));
 				}
 			} else if (propertyType.isAssignableFrom(CommunityReferenceDto.class)) {
-				List<CommunityReferenceDto> community = communityFacade.getByName(entry, travelEntry.getResponsibleDistrict(), false);
+				List<CommunityReferenceDto> community =
+					infrastructureNameResolver.getCommunitiesByName(entry, travelEntry.getResponsibleDistrict(), false);
 				if (community.isEmpty()) {
 					throw new ImportErrorException(
 						I18nProperties
@@ -385,7 +385,8 @@ public class TravelEntryImportFacadeEjb implements TravelEntryImportFacade {
 				PointOfEntryReferenceDto pointOfEntryReference;
 				DistrictReferenceDto pointOfEntryDistrict =
 					travelEntry.getPointOfEntryDistrict() != null ? travelEntry.getPointOfEntryDistrict() : travelEntry.getResponsibleDistrict();
-				List<PointOfEntryReferenceDto> customPointsOfEntry = pointOfEntryFacade.getByName(entry, pointOfEntryDistrict, false);
+				List<PointOfEntryReferenceDto> customPointsOfEntry =
+					infrastructureNameResolver.getPointsOfEntryByName(entry, pointOfEntryDistrict, false);
 				if (customPointsOfEntry.isEmpty()) {
 					final String poeName = entry;
 					List<PointOfEntryDto> defaultPointOfEntries = pointOfEntryFacade.getByUuids(PointOfEntryDto.CONSTANT_POE_UUIDS);
@@ -529,25 +529,31 @@ public class UserService extends AdoServiceWithUserFilterAndJurisdiction<User> {
 	}
 
 	public User getRandomDistrictUser(District district, UserRight... userRights) {
-
-		return getRandomUser(
-			getUserReferencesByJurisdictions(
-				null,
-				Collections.singletonList(district.getUuid()),
-				null,
-				Collections.singletonList(JurisdictionLevel.DISTRICT),
-				Arrays.asList(userRights)));
+		return getRandomUser(getDistrictUserReferences(district, userRights));
 	}
 
 	public User getRandomRegionUser(Region region, UserRight... userRights) {
+		return getRandomUser(getRegionUserReferences(region, userRights));
+	}
+
+	public List<UserReference> getDistrictUserReferences(District district, UserRight... userRights) {
+
+		return getUserReferencesByJurisdictions(
+			null,
+			Collections.singletonList(district.getUuid()),
+			null,
+			Collections.singletonList(JurisdictionLevel.DISTRICT),
+			Arrays.asList(userRights));
+	}
 
-		return getRandomUser(
-			getUserReferencesByJurisdictions(
-				Collections.singletonList(region.getUuid()),
-				null,
-				null,
-				Collections.singletonList(JurisdictionLevel.REGION),
-				Arrays.asList(userRights)));
+	public List<UserReference> getRegionUserReferences(Region region, UserRight... userRights) {
+
+		return getUserReferencesByJurisdictions(
+			Collections.singletonList(region.getUuid()),
+			null,
+			null,
+			Collections.singletonList(JurisdictionLevel.REGION),
+			Arrays.asList(userRights));
 	}
 
 	public User getRandomUser(List<UserReference> candidates) {
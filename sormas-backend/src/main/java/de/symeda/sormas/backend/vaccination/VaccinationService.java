@@ -30,6 +30,7 @@ import java.util.stream.Stream;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.persistence.EntityExistsException;
 import javax.persistence.Query;
 import javax.persistence.criteria.CommonAbstractCriteria;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -79,6 +80,13 @@ public class VaccinationService extends AdoServiceWithUserFilterAndJurisdiction<
 		super(Vaccination.class);
 	}
 
+	@Override
+	public void ensurePersisted(Vaccination vaccination) throws EntityExistsException {
+
+		super.ensurePersisted(vaccination);
+		immunizationService.updateTreeChangeDate(vaccination.getImmunization());
+	}
+
 	public Map<String, String> getLastVaccinationType() {
 		Map<String, String> result = new HashMap<>();
 		String queryString =
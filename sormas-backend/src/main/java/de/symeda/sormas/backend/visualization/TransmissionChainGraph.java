@@ -0,0 +1,651 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.visualization;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import de.symeda.sormas.api.Language;
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.contact.ContactProximity;
+import de.symeda.sormas.api.i18n.I18nProperties;
+
+/**
+ * The transmission chains between persons: every contact of a case is an edge from the person of the case to the contact person.
+ * <p>
+ * The persons are mapped to dense indices and the edges are kept as adjacency lists in compressed sparse row form, so graphs with
+ * hundreds of thousands of contacts only need a few primitive arrays. {@link #toJson(Language)} emits the data of the visNetwork widget
+ * that is rendered by the disease network diagram.
+ */
+final class TransmissionChainGraph {
+
+	/**
+	 * The classifications shown in the diagram, persons without a (relevant) case are shown as healthy.
+	 */
+	private static final CaseClassification[] CLASSIFICATIONS = {
+		null,
+		CaseClassification.NOT_CLASSIFIED,
+		CaseClassification.SUSPECT,
+		CaseClassification.PROBABLE,
+		CaseClassification.CONFIRMED,
+		CaseClassification.CONFIRMED_NO_SYMPTOMS,
+		CaseClassification.CONFIRMED_UNKNOWN_SYMPTOMS };
+
+	/**
+	 * See CountElementStyle and the count-element styles: positive (healthy), minor, relevant, important, critical and critical with
+	 * transparency.
+	 */
+	private static final String[] CLASSIFICATION_COLORS = {
+		"#32CD32",
+		"#808080",
+		"#c8aa00",
+		"#be6900",
+		"#c80000",
+		"#C80000B2",
+		"#C800007F" };
+
+	static final Set<ContactProximity> HIGH_RISK_PROXIMITIES = EnumSet.of(
+		ContactProximity.FACE_TO_FACE_LONG,
+		ContactProximity.TOUCHED_FLUID,
+		ContactProximity.MEDICAL_UNSAFE,
+		ContactProximity.CLOTHES_OR_OTHER,
+		ContactProximity.PHYSICAL_CONTACT);
+
+	private static final String DISEASE_NETWORK_DIAGRAM_PREFIX = "DiseaseNetworkDiagram.";
+	private static final String PERSON_ICON = "f007";
+	private static final String ARROW_ICON = "f178";
+	private static final String DEFAULT_FONT = "font-family:'Open Sans', sans-serif, 'Source Sans Pro'";
+	private static final String MAIN_STYLE = DEFAULT_FONT + "; color: #6591C4; ;font-weight: 600; font-size: 1.6em; text-align:center;";
+	private static final String SUBMAIN_STYLE = DEFAULT_FONT + "; text-align:center;";
+	private static final String LEGEND_MAIN_STYLE = "font-family:Georgia, Times New Roman, Times, serif;font-weight:bold;font-size:14px;text-align:center;";
+	private static final String HIDE_COLOR = "rgba(200,200,200,0.5)";
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	/**
+	 * Person ids, ascending; the index of a person is its node index.
+	 */
+	private final long[] personIds;
+	/**
+	 * Uuid and classification of the earliest relevant case of each person, {@code null} for persons without a case.
+	 */
+	private final String[] caseUuids;
+	private final CaseClassification[] caseClassifications;
+
+	/**
+	 * The edges of node {@code i} are {@code edgeOffsets[i]} (inclusive) to {@code edgeOffsets[i + 1]} (exclusive).
+	 */
+	private final int[] edgeOffsets;
+	private final int[] edgeTargets;
+	private final boolean[] highRiskEdges;
+
+	private final int[] chainIndices;
+	private final int chainCount;
+	private final int largestChainSize;
+	private final int maxGeneration;
+
+	private TransmissionChainGraph(
+		long[] personIds,
+		String[] caseUuids,
+		CaseClassification[] caseClassifications,
+		int[] edgeOffsets,
+		int[] edgeTargets,
+		boolean[] highRiskEdges) {
+
+		this.personIds = personIds;
+		this.caseUuids = caseUuids;
+		this.caseClassifications = caseClassifications;
+		this.edgeOffsets = edgeOffsets;
+		this.edgeTargets = edgeTargets;
+		this.highRiskEdges = highRiskEdges;
+
+		int nodeCount = personIds.length;
+
+		// connected components, ignoring the direction of the transmissions
+		int[] parents = new int[nodeCount];
+		int[] sizes = new int[nodeCount];
+		for (int i = 0; i < nodeCount; i++) {
+			parents[i] = i;
+			sizes[i] = 1;
+		}
+		for (int source = 0; source < nodeCount; source++) {
+			for (int e = edgeOffsets[source]; e < edgeOffsets[source + 1]; e++) {
+				int a = findRoot(parents, source);
+				int b = findRoot(parents, edgeTargets[e]);
+				if (a != b) {
+					if (sizes[a] < sizes[b]) {
+						int swap = a;
+						a = b;
+						b = swap;
+					}
+					parents[b] = a;
+					sizes[a] += sizes[b];
+				}
+			}
+		}
+
+		chainIndices = new int[nodeCount];
+		int[] chainIndexByRoot = new int[nodeCount];
+		Arrays.fill(chainIndexByRoot, -1);
+		int chains = 0;
+		int largestChain = 0;
+		for (int i = 0; i < nodeCount; i++) {
+			int root = findRoot(parents, i);
+			if (chainIndexByRoot[root] < 0) {
+				chainIndexByRoot[root] = chains++;
+				largestChain = Math.max(largestChain, sizes[root]);
+			}
+			chainIndices[i] = chainIndexByRoot[root];
+		}
+		chainCount = chains;
+		largestChainSize = largestChain;
+		maxGeneration = computeMaxGeneration();
+	}
+
+	private static int findRoot(int[] parents, int node) {
+
+		while (parents[node] != node) {
+			parents[node] = parents[parents[node]];
+			node = parents[node];
+		}
+		return node;
+	}
+
+	/**
+	 * Breadth first search starting at all persons without a source at once; persons that are only part of cycles start another search.
+	 */
+	private int computeMaxGeneration() {
+
+		int nodeCount = personIds.length;
+		int[] inDegrees = new int[nodeCount];
+		for (int target : edgeTargets) {
+			inDegrees[target]++;
+		}
+
+		int[] generations = new int[nodeCount];
+		Arrays.fill(generations, -1);
+		// every person is queued once, so the queue is never reset
+		int[] queue = new int[nodeCount];
+		int head = 0;
+		int tail = 0;
+		for (int i = 0; i < nodeCount; i++) {
+			if (inDegrees[i] == 0) {
+				generations[i] = 0;
+				queue[tail++] = i;
+			}
+		}
+
+		int max = 0;
+		int next = 0;
+		while (head < tail || next < nodeCount) {
+			if (head == tail) {
+				if (generations[next] < 0) {
+					generations[next] = 0;
+					queue[tail++] = next;
+				}
+				next++;
+				continue;
+			}
+			int node = queue[head++];
+			max = Math.max(max, generations[node]);
+			for (int e = edgeOffsets[node]; e < edgeOffsets[node + 1]; e++) {
+				int target = edgeTargets[e];
+				if (generations[target] < 0) {
+					generations[target] = generations[node] + 1;
+					queue[tail++] = target;
+				}
+			}
+		}
+		return max;
+	}
+
+	public int getPersonCount() {
+		return personIds.length;
+	}
+
+	/**
+	 * @return Number of distinct transmissions between two different persons.
+	 */
+	public int getTransmissionCount() {
+		return edgeTargets.length;
+	}
+
+	/**
+	 * @return Number of connected groups of persons, including single persons without transmissions.
+	 */
+	public int getChainCount() {
+		return chainCount;
+	}
+
+	public int getLargestChainSize() {
+		return largestChainSize;
+	}
+
+	/**
+	 * @return The largest number of transmissions from a person without a source to any person in the same chain.
+	 */
+	public int getMaxGeneration() {
+		return maxGeneration;
+	}
+
+	/**
+	 * @return Index of the chain the person belongs to, or -1 if the person is not part of the graph.
+	 */
+	public int getChainIndex(long personId) {
+
+		int node = Arrays.binarySearch(personIds, personId);
+		return node >= 0 ? chainIndices[node] : -1;
+	}
+
+	public String toJson(Language language) {
+
+		String[] classificationCaptions = new String[CLASSIFICATIONS.length];
+		for (int i = 0; i < CLASSIFICATIONS.length; i++) {
+			classificationCaptions[i] = CLASSIFICATIONS[i] == null
+				? getString(language, "Classification.HEALTHY")
+				: I18nProperties.getEnumCaption(language, CLASSIFICATIONS[i]);
+		}
+
+		StringWriter writer = new StringWriter(128 + personIds.length * 48 + edgeTargets.length * 24);
+		try (JsonGenerator json = JSON_FACTORY.createGenerator(writer)) {
+			json.writeStartObject();
+			json.writeObjectFieldStart("x");
+
+			writeNodes(json, classificationCaptions);
+			writeEdges(json);
+			json.writeBooleanField("nodesToDataframe", true);
+			json.writeBooleanField("edgesToDataframe", true);
+
+			json.writeObjectFieldStart("options");
+			json.writeStringField("width", "100%");
+			json.writeStringField("height", "100%");
+			json.writeObjectFieldStart("nodes");
+			json.writeStringField("shape", "dot");
+			json.writeEndObject();
+			json.writeObjectFieldStart("manipulation");
+			json.writeBooleanField("enabled", false);
+			json.writeEndObject();
+			json.writeObjectFieldStart("groups");
+			for (int i = 0; i < classificationCaptions.length; i++) {
+				json.writeObjectFieldStart(classificationCaptions[i]);
+				json.writeNumberField("size", 10);
+				json.writeStringField("shape", "icon");
+				json.writeObjectFieldStart("icon");
+				json.writeStringField("face", "FontAwesome");
+				json.writeStringField("code", PERSON_ICON);
+				json.writeStringField("color", CLASSIFICATION_COLORS[i]);
+				json.writeEndObject();
+				json.writeEndObject();
+			}
+			json.writeBooleanField("useDefaultGroups", true);
+			json.writeEndObject();
+			json.writeObjectFieldStart("edges");
+			json.writeStringField("arrows", "to");
+			json.writeStringField("color", "black");
+			json.writeObjectFieldStart("smooth");
+			json.writeStringField("type", "continuous");
+			json.writeEndObject();
+			json.writeEndObject();
+			json.writeObjectFieldStart("physics");
+			json.writeStringField("solver", "barnesHut");
+			json.writeObjectFieldStart("barnesHut");
+			json.writeNumberField("damping", 0.26);
+			json.writeNumberField("avoidOverlap", 0.2);
+			json.writeEndObject();
+			json.writeEndObject();
+			json.writeObjectFieldStart("interaction");
+			json.writeBooleanField("dragNodes", true);
+			json.writeBooleanField("dragView", true);
+			json.writeBooleanField("zoomView", true);
+			json.writeEndObject();
+			json.writeEndObject();
+
+			json.writeArrayFieldStart("groups");
+			for (String caption : classificationCaptions) {
+				json.writeString(caption);
+			}
+			json.writeEndArray();
+			json.writeStringField("width", "100%");
+			json.writeNullField("height");
+			json.writeObjectFieldStart("idselection");
+			json.writeBooleanField("enabled", false);
+			json.writeEndObject();
+			json.writeObjectFieldStart("byselection");
+			json.writeBooleanField("enabled", true);
+			json.writeStringField("style", "width: auto; height: auto;");
+			json.writeBooleanField("multiple", false);
+			json.writeStringField("hideColor", HIDE_COLOR);
+			json.writeBooleanField("highlight", false);
+			json.writeStringField("variable", "Classification");
+			json.writeStringField("main", getString(language, "selectByClassification"));
+			json.writeArrayFieldStart("values");
+			for (String caption : classificationCaptions) {
+				json.writeString(caption);
+			}
+			json.writeEndArray();
+			json.writeEndObject();
+			writeTitle(json, "main", getString(language, "heading"), MAIN_STYLE);
+			writeTitle(json, "submain", getString(language, "subheading"), SUBMAIN_STYLE);
+			json.writeNullField("footer");
+			json.writeStringField("background", "white");
+			json.writeObjectFieldStart("highlight");
+			json.writeBooleanField("enabled", true);
+			json.writeBooleanField("hoverNearest", false);
+			json.writeNumberField("degree", 1);
+			json.writeStringField("algorithm", "all");
+			json.writeStringField("hideColor", HIDE_COLOR);
+			json.writeBooleanField("labelOnly", true);
+			json.writeEndObject();
+			json.writeObjectFieldStart("collapse");
+			json.writeBooleanField("enabled", false);
+			json.writeBooleanField("fit", false);
+			json.writeBooleanField("resetHighlight", true);
+			json.writeNullField("clusterOptions");
+			json.writeBooleanField("keepCoord", true);
+			json.writeStringField("labelSuffix", "(cluster)");
+			json.writeEndObject();
+			writeLegend(json, language, classificationCaptions);
+			json.writeBooleanField("iconsRedraw", true);
+
+			json.writeEndObject();
+			json.writeArrayFieldStart("evals");
+			json.writeEndArray();
+			json.writeArrayFieldStart("jsHooks");
+			json.writeEndArray();
+			json.writeEndObject();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return writer.toString();
+	}
+
+	private void writeNodes(JsonGenerator json, String[] classificationCaptions) throws IOException {
+
+		String[] nodeCaptions = new String[personIds.length];
+		for (int i = 0; i < personIds.length; i++) {
+			nodeCaptions[i] = classificationCaptions[getClassificationIndex(caseClassifications[i])];
+		}
+
+		json.writeObjectFieldStart("nodes");
+		json.writeArrayFieldStart("id");
+		for (long personId : personIds) {
+			json.writeNumber(personId);
+		}
+		json.writeEndArray();
+		json.writeArrayFieldStart("uuid");
+		for (String uuid : caseUuids) {
+			json.writeString(uuid);
+		}
+		json.writeEndArray();
+		json.writeArrayFieldStart("label");
+		for (String uuid : caseUuids) {
+			json.writeString(uuid != null ? uuid.substring(0, Math.min(6, uuid.length())).toUpperCase() : null);
+		}
+		json.writeEndArray();
+		// the classification is used to select the persons, the group to style them
+		for (String column : new String[] {
+			"Classification",
+			"group" }) {
+			json.writeArrayFieldStart(column);
+			for (String caption : nodeCaptions) {
+				json.writeString(caption);
+			}
+			json.writeEndArray();
+		}
+		json.writeEndObject();
+	}
+
+	/**
+	 * @return The index in {@link #CLASSIFICATIONS}; persons without a case or with a case that is not shown are healthy.
+	 */
+	private static int getClassificationIndex(CaseClassification classification) {
+
+		for (int i = 1; i < CLASSIFICATIONS.length; i++) {
+			if (CLASSIFICATIONS[i] == classification) {
+				return i;
+			}
+		}
+		return 0;
+	}
+
+	private void writeEdges(JsonGenerator json) throws IOException {
+
+		json.writeObjectFieldStart("edges");
+		json.writeArrayFieldStart("from");
+		for (int source = 0; source < personIds.length; source++) {
+			for (int e = edgeOffsets[source]; e < edgeOffsets[source + 1]; e++) {
+				json.writeNumber(personIds[source]);
+			}
+		}
+		json.writeEndArray();
+		json.writeArrayFieldStart("to");
+		for (int target : edgeTargets) {
+			json.writeNumber(personIds[target]);
+		}
+		json.writeEndArray();
+		json.writeArrayFieldStart("label");
+		for (boolean highRisk : highRiskEdges) {
+			json.writeString(highRisk ? "1" : "2");
+		}
+		json.writeEndArray();
+		// broken lines for low risk contacts
+		json.writeArrayFieldStart("dashes");
+		for (boolean highRisk : highRiskEdges) {
+			json.writeBoolean(!highRisk);
+		}
+		json.writeEndArray();
+		json.writeEndObject();
+	}
+
+	private static void writeTitle(JsonGenerator json, String fieldName, String text, String style) throws IOException {
+
+		json.writeObjectFieldStart(fieldName);
+		json.writeStringField("text", text);
+		json.writeStringField("style", style);
+		json.writeEndObject();
+	}
+
+	private static void writeLegend(JsonGenerator json, Language language, String[] classificationCaptions) throws IOException {
+
+		int legendSize = classificationCaptions.length + 2;
+		String[] labels = Arrays.copyOf(classificationCaptions, legendSize);
+		labels[legendSize - 2] = "1 = " + getString(language, "highRisk");
+		labels[legendSize - 1] = "2 = " + getString(language, "lowRisk");
+
+		json.writeObjectFieldStart("legend");
+		json.writeNumberField("width", 0.2);
+		json.writeBooleanField("useGroups", false);
+		json.writeStringField("position", "left");
+		json.writeNumberField("ncol", 1);
+		json.writeNumberField("stepX", 100);
+		json.writeNumberField("stepY", 100);
+		json.writeBooleanField("zoom", true);
+		json.writeObjectFieldStart("nodes");
+		json.writeArrayFieldStart("label");
+		for (String label : labels) {
+			json.writeString(label);
+		}
+		json.writeEndArray();
+		json.writeArrayFieldStart("shape");
+		for (int i = 0; i < legendSize; i++) {
+			json.writeString("icon");
+		}
+		json.writeEndArray();
+		json.writeArrayFieldStart("icon.code");
+		for (int i = 0; i < legendSize; i++) {
+			json.writeString(i < classificationCaptions.length ? PERSON_ICON : ARROW_ICON);
+		}
+		json.writeEndArray();
+		json.writeArrayFieldStart("icon.size");
+		for (int i = 0; i < legendSize; i++) {
+			json.writeNumber(25);
+		}
+		json.writeEndArray();
+		json.writeArrayFieldStart("icon.color");
+		for (int i = 0; i < legendSize; i++) {
+			json.writeString(i < CLASSIFICATION_COLORS.length ? CLASSIFICATION_COLORS[i] : "#0d0c0c");
+		}
+		json.writeEndArray();
+		json.writeEndObject();
+		json.writeBooleanField("nodesToDataframe", true);
+		writeTitle(json, "main", getString(language, "legend"), LEGEND_MAIN_STYLE);
+		json.writeEndObject();
+	}
+
+	private static String getString(Language language, String key) {
+		return I18nProperties.getString(language, DISEASE_NETWORK_DIAGRAM_PREFIX + key);
+	}
+
+	/**
+	 * Collects the persons and transmissions. Persons and transmissions may be added several times; of each person the earliest case
+	 * is kept, of each transmission the high risk one.
+	 */
+	static final class Builder {
+
+		private long[] personIds = new long[64];
+		private String[] caseUuids = new String[64];
+		private long[] caseReportDates = new long[64];
+		private CaseClassification[] caseClassifications = new CaseClassification[64];
+		private int personCount;
+
+		private long[] sourcePersonIds = new long[64];
+		private long[] targetPersonIds = new long[64];
+		private boolean[] highRisk = new boolean[64];
+		private int transmissionCount;
+
+		/**
+		 * @param caseUuid
+		 *            The uuid of a relevant case of the person or {@code null}.
+		 */
+		Builder addPerson(long personId, String caseUuid, Date caseReportDate, CaseClassification caseClassification) {
+
+			if (personCount == personIds.length) {
+				int capacity = personCount * 2;
+				personIds = Arrays.copyOf(personIds, capacity);
+				caseUuids = Arrays.copyOf(caseUuids, capacity);
+				caseReportDates = Arrays.copyOf(caseReportDates, capacity);
+				caseClassifications = Arrays.copyOf(caseClassifications, capacity);
+			}
+			personIds[personCount] = personId;
+			caseUuids[personCount] = caseUuid;
+			caseReportDates[personCount] = caseReportDate != null ? caseReportDate.getTime() : Long.MAX_VALUE;
+			caseClassifications[personCount] = caseUuid != null ? caseClassification : null;
+			personCount++;
+			return this;
+		}
+
+		/**
+		 * Both persons also have to be added with {@link #addPerson(long, String, Date, CaseClassification)}.
+		 */
+		Builder addTransmission(long sourcePersonId, long targetPersonId, boolean highRiskTransmission) {
+
+			if (transmissionCount == sourcePersonIds.length) {
+				int capacity = transmissionCount * 2;
+				sourcePersonIds = Arrays.copyOf(sourcePersonIds, capacity);
+				targetPersonIds = Arrays.copyOf(targetPersonIds, capacity);
+				highRisk = Arrays.copyOf(highRisk, capacity);
+			}
+			sourcePersonIds[transmissionCount] = sourcePersonId;
+			targetPersonIds[transmissionCount] = targetPersonId;
+			highRisk[transmissionCount] = highRiskTransmission;
+			transmissionCount++;
+			return this;
+		}
+
+		TransmissionChainGraph build() {
+
+			long[] nodes = Arrays.copyOf(personIds, personCount);
+			Arrays.sort(nodes);
+			int nodeCount = 0;
+			for (int i = 0; i < nodes.length; i++) {
+				if (nodeCount == 0 || nodes[nodeCount - 1] != nodes[i]) {
+					nodes[nodeCount++] = nodes[i];
+				}
+			}
+			nodes = Arrays.copyOf(nodes, nodeCount);
+
+			// the earliest case of each person; cases come before persons without a case
+			String[] nodeUuids = new String[nodeCount];
+			long[] nodeReportDates = new long[nodeCount];
+			CaseClassification[] nodeClassifications = new CaseClassification[nodeCount];
+			for (int i = 0; i < personCount; i++) {
+				String uuid = caseUuids[i];
+				if (uuid == null) {
+					continue;
+				}
+				int node = Arrays.binarySearch(nodes, personIds[i]);
+				if (nodeUuids[node] == null
+					|| caseReportDates[i] < nodeReportDates[node]
+					|| (caseReportDates[i] == nodeReportDates[node] && uuid.compareTo(nodeUuids[node]) < 0)) {
+					nodeUuids[node] = uuid;
+					nodeReportDates[node] = caseReportDates[i];
+					nodeClassifications[node] = caseClassifications[i];
+				}
+			}
+
+			// source, target and risk encoded in one sortable number: duplicates are adjacent and the high risk one comes first
+			long[] keys = new long[transmissionCount];
+			int keyCount = 0;
+			for (int i = 0; i < transmissionCount; i++) {
+				int source = Arrays.binarySearch(nodes, sourcePersonIds[i]);
+				int target = Arrays.binarySearch(nodes, targetPersonIds[i]);
+				if (source < 0 || target < 0) {
+					throw new IllegalStateException("Transmission between persons that were not added");
+				}
+				if (source != target) {
+					keys[keyCount++] = (((long) source * nodeCount + target) << 1) | (highRisk[i] ? 0 : 1);
+				}
+			}
+			Arrays.sort(keys, 0, keyCount);
+
+			int[] edgeOffsets = new int[nodeCount + 1];
+			int[] edgeTargets = new int[keyCount];
+			boolean[] highRiskEdges = new boolean[keyCount];
+			int edgeCount = 0;
+			long previousEdge = -1;
+			for (int i = 0; i < keyCount; i++) {
+				long edge = keys[i] >>> 1;
+				if (edge == previousEdge) {
+					continue;
+				}
+				previousEdge = edge;
+				edgeOffsets[(int) (edge / nodeCount) + 1]++;
+				edgeTargets[edgeCount] = (int) (edge % nodeCount);
+				highRiskEdges[edgeCount] = (keys[i] & 1) == 0;
+				edgeCount++;
+			}
+			for (int i = 0; i < nodeCount; i++) {
+				edgeOffsets[i + 1] += edgeOffsets[i];
+			}
+
+			return new TransmissionChainGraph(
+				nodes,
+				nodeUuids,
+				nodeClassifications,
+				edgeOffsets,
+				Arrays.copyOf(edgeTargets, edgeCount),
+				Arrays.copyOf(highRiskEdges, edgeCount));
+		}
+	}
+}
@@ -12345,4 +12345,187 @@ CREATE TRIGGER externalmessage_tsv_update BEFORE INSERT OR UPDATE OF externalmes
 
 INSERT INTO schema_version (version_number, comment) VALUES (513, '[DEMIS2SORMAS] Introduce a messages content search field #7647');
 
+-- 2023-04-03 Denormalized change date of core entities and their embedded entities for index-driven synchronization
+ALTER TABLE cases ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE cases_history ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE contact ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE contact_history ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE eventparticipant ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE eventparticipant_history ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE immunization ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE immunization_history ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE travelentry ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE travelentry_history ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE events ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE events_history ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE campaigns ADD COLUMN treechangedate timestamp(3);
+ALTER TABLE campaigns_history ADD COLUMN treechangedate timestamp(3);
+
+ALTER TABLE cases DISABLE TRIGGER versioning_trigger;
+ALTER TABLE contact DISABLE TRIGGER versioning_trigger;
+ALTER TABLE eventparticipant DISABLE TRIGGER versioning_trigger;
+ALTER TABLE immunization DISABLE TRIGGER versioning_trigger;
+ALTER TABLE travelentry DISABLE TRIGGER versioning_trigger;
+ALTER TABLE events DISABLE TRIGGER versioning_trigger;
+ALTER TABLE campaigns DISABLE TRIGGER versioning_trigger;
+
+UPDATE cases SET treechangedate = GREATEST(
+    cases.changedate,
+    (SELECT changedate FROM symptoms WHERE symptoms.id = cases.symptoms_id),
+    (SELECT changedate FROM hospitalization WHERE hospitalization.id = cases.hospitalization_id),
+    (SELECT max(changedate) FROM previoushospitalization WHERE previoushospitalization.hospitalization_id = cases.hospitalization_id),
+    (SELECT changedate FROM therapy WHERE therapy.id = cases.therapy_id),
+    (SELECT changedate FROM clinicalcourse WHERE clinicalcourse.id = cases.clinicalcourse_id),
+    (SELECT changedate FROM healthconditions WHERE healthconditions.id = cases.healthconditions_id),
+    (SELECT changedate FROM maternalhistory WHERE maternalhistory.id = cases.maternalhistory_id),
+    (SELECT changedate FROM porthealthinfo WHERE porthealthinfo.id = cases.porthealthinfo_id),
+    (SELECT changedate FROM sormastosormasorigininfo WHERE sormastosormasorigininfo.id = cases.sormastosormasorigininfo_id),
+    (SELECT max(changedate) FROM sormastosormasshareinfo WHERE sormastosormasshareinfo.caze_id = cases.id),
+    (SELECT changedate FROM epidata WHERE epidata.id = cases.epidata_id),
+    (SELECT max(GREATEST(exposures.changedate, location.changedate)) FROM exposures LEFT JOIN location ON location.id = exposures.location_id WHERE exposures.epidata_id = cases.epidata_id),
+    (SELECT max(GREATEST(activityascase.changedate, location.changedate)) FROM activityascase LEFT JOIN location ON location.id = activityascase.location_id WHERE activityascase.epidata_id = cases.epidata_id));
+
+UPDATE contact SET treechangedate = GREATEST(
+    contact.changedate,
+    (SELECT changedate FROM healthconditions WHERE healthconditions.id = contact.healthconditions_id),
+    (SELECT changedate FROM sormastosormasorigininfo WHERE sormastosormasorigininfo.id = contact.sormastosormasorigininfo_id),
+    (SELECT max(changedate) FROM sormastosormasshareinfo WHERE sormastosormasshareinfo.contact_id = contact.id),
+    (SELECT changedate FROM epidata WHERE epidata.id = contact.epidata_id),
+    (SELECT max(GREATEST(exposures.changedate, location.changedate)) FROM exposures LEFT JOIN location ON location.id = exposures.location_id WHERE exposures.epidata_id = contact.epidata_id),
+    (SELECT max(GREATEST(activityascase.changedate, location.changedate)) FROM activityascase LEFT JOIN location ON location.id = activityascase.location_id WHERE activityascase.epidata_id = contact.epidata_id));
+
+UPDATE eventparticipant SET treechangedate = GREATEST(
+    eventparticipant.changedate,
+    (SELECT changedate FROM sormastosormasorigininfo WHERE sormastosormasorigininfo.id = eventparticipant.sormastosormasorigininfo_id),
+    (SELECT max(changedate) FROM sormastosormasshareinfo WHERE sormastosormasshareinfo.eventparticipant_id = eventparticipant.id));
+
+UPDATE immunization SET treechangedate = GREATEST(
+    immunization.changedate,
+    (SELECT max(changedate) FROM vaccination WHERE vaccination.immunization_id = immunization.id),
+    (SELECT changedate FROM sormastosormasorigininfo WHERE sormastosormasorigininfo.id = immunization.sormastosormasorigininfo_id),
+    (SELECT max(changedate) FROM sormastosormasshareinfo WHERE sormastosormasshareinfo.immunization_id = immunization.id));
+
+UPDATE travelentry SET treechangedate = changedate;
+
+UPDATE events SET treechangedate = GREATEST(events.changedate, (SELECT changedate FROM location WHERE location.id = events.eventlocation_id));
+
+UPDATE campaigns SET treechangedate = changedate;
+
+ALTER TABLE cases ENABLE TRIGGER versioning_trigger;
+ALTER TABLE contact ENABLE TRIGGER versioning_trigger;
+ALTER TABLE eventparticipant ENABLE TRIGGER versioning_trigger;
+ALTER TABLE immunization ENABLE TRIGGER versioning_trigger;
+ALTER TABLE travelentry ENABLE TRIGGER versioning_trigger;
+ALTER TABLE events ENABLE TRIGGER versioning_trigger;
+ALTER TABLE campaigns ENABLE TRIGGER versioning_trigger;
+
+CREATE INDEX IF NOT EXISTS idx_cases_treechangedate_uuid ON cases (treechangedate, uuid);
+CREATE INDEX IF NOT EXISTS idx_contact_treechangedate_uuid ON contact (treechangedate, uuid);
+CREATE INDEX IF NOT EXISTS idx_eventparticipant_treechangedate_uuid ON eventparticipant (treechangedate, uuid);
+CREATE INDEX IF NOT EXISTS idx_immunization_treechangedate_uuid ON immunization (treechangedate, uuid);
+CREATE INDEX IF NOT EXISTS idx_travelentry_treechangedate_uuid ON travelentry (treechangedate, uuid);
+
+INSERT INTO schema_version (version_number, comment) VALUES (514, 'Denormalized tree change date for index-driven synchronization');
+
+-- 2023-04-04 Change log of core entities to narrow down synchronization queries
+CREATE SEQUENCE changelog_seq
+    START WITH 1
+    INCREMENT BY 1
+    NO MINVALUE
+    NO MAXVALUE
+    CACHE 1;
+ALTER TABLE changelog_seq OWNER TO sormas_user;
+
+CREATE TABLE changelog (
+    id bigint not null,
+    entitytype varchar(255) not null,
+    entityid bigint not null,
+    entityuuid varchar(36) not null,
+    changedate timestamp(3) not null,
+    changekind varchar(255) not null,
+    primary key(id)
+);
+ALTER TABLE changelog OWNER TO sormas_user;
+
+CREATE INDEX IF NOT EXISTS idx_changelog_entitytype_changedate ON changelog (entitytype, changedate);
+CREATE INDEX IF NOT EXISTS idx_changelog_entitytype_entityid_id ON changelog (entitytype, entityid, id);
+
+INSERT INTO schema_version (version_number, comment) VALUES (515, 'Change log of core entities to narrow down synchronization queries');
+
+-- 2023-04-05 Projection of campaign form values for campaign statistics and diagrams
+CREATE TABLE campaignformdatavalue (
+    campaignformdata_id bigint not null,
+    elementid varchar(255) not null,
+    numericvalue integer,
+    textvalue text,
+    campaign_id bigint not null,
+    campaignformmeta_id bigint not null,
+    region_id bigint,
+    district_id bigint,
+    community_id bigint,
+    primary key(campaignformdata_id, elementid)
+);
+ALTER TABLE campaignformdatavalue OWNER TO sormas_user;
+
+ALTER TABLE campaignformdatavalue ADD CONSTRAINT fk_campaignformdatavalue_campaignformdata_id FOREIGN KEY (campaignformdata_id) REFERENCES campaignformdata(id) ON DELETE CASCADE;
+ALTER TABLE campaignformdatavalue ADD CONSTRAINT fk_campaignformdatavalue_campaign_id FOREIGN KEY (campaign_id) REFERENCES campaigns(id);
+ALTER TABLE campaignformdatavalue ADD CONSTRAINT fk_campaignformdatavalue_campaignformmeta_id FOREIGN KEY (campaignformmeta_id) REFERENCES campaignformmeta(id);
+ALTER TABLE campaignformdatavalue ADD CONSTRAINT fk_campaignformdatavalue_region_id FOREIGN KEY (region_id) REFERENCES region(id);
+ALTER TABLE campaignformdatavalue ADD CONSTRAINT fk_campaignformdatavalue_district_id FOREIGN KEY (district_id) REFERENCES district(id);
+ALTER TABLE campaignformdatavalue ADD CONSTRAINT fk_campaignformdatavalue_community_id FOREIGN KEY (community_id) REFERENCES community(id);
+
+-- the first value of duplicate element ids is used, values out of the integer range are not numeric
+INSERT INTO campaignformdatavalue (campaignformdata_id, elementid, numericvalue, textvalue, campaign_id, campaignformmeta_id, region_id, district_id, community_id)
+SELECT DISTINCT ON (campaignformdata.id, jsonData.element->>'id')
+    campaignformdata.id,
+    jsonData.element->>'id',
+    CASE WHEN jsonData.element->>'value' ~ '^\s*[+-]?[0-9]+\s*$' THEN
+        CASE WHEN cast(jsonData.element->>'value' AS numeric) BETWEEN -2147483648 AND 2147483647 THEN cast(jsonData.element->>'value' AS integer) END
+    END,
+    jsonData.element->>'value',
+    campaignformdata.campaign_id,
+    campaignformdata.campaignformmeta_id,
+    campaignformdata.region_id,
+    campaignformdata.district_id,
+    campaignformdata.community_id
+FROM campaignformdata, json_array_elements(campaignformdata.formvalues) WITH ORDINALITY AS jsonData(element, elementindex)
+WHERE jsonData.element->>'id' IS NOT NULL AND jsonData.element->>'value' IS NOT NULL
+ORDER BY campaignformdata.id, jsonData.element->>'id', jsonData.elementindex;
+
+CREATE INDEX IF NOT EXISTS idx_campaignformdatavalue_campaign_id ON campaignformdatavalue (campaign_id);
+CREATE INDEX IF NOT EXISTS idx_campaignformdatavalue_campaignformmeta_id_elementid ON campaignformdatavalue (campaignformmeta_id, elementid);
+CREATE INDEX IF NOT EXISTS idx_campaignformdatavalue_region_id ON campaignformdatavalue (region_id);
+CREATE INDEX IF NOT EXISTS idx_campaignformdatavalue_district_id ON campaignformdatavalue (district_id);
+CREATE INDEX IF NOT EXISTS idx_campaignformdatavalue_community_id ON campaignformdatavalue (community_id);
+
+INSERT INTO schema_version (version_number, comment) VALUES (516, 'Projection of campaign form values for campaign statistics and diagrams');
+
+-- 2023-04-06 Jurisdiction keys of cases and contacts for index-backed user filters
+ALTER TABLE cases ADD COLUMN jurisdictionkeys bigint[];
+ALTER TABLE cases_history ADD COLUMN jurisdictionkeys bigint[];
+ALTER TABLE contact ADD COLUMN jurisdictionkeys bigint[];
+ALTER TABLE contact_history ADD COLUMN jurisdictionkeys bigint[];
+
+ALTER TABLE cases DISABLE TRIGGER versioning_trigger;
+ALTER TABLE contact DISABLE TRIGGER versioning_trigger;
+
+UPDATE cases SET jurisdictionkeys = ARRAY(
+    SELECT DISTINCT jurisdictionkey FROM unnest(ARRAY[
+        cases.region_id, cases.district_id, cases.community_id,
+        cases.responsibleregion_id, cases.responsibledistrict_id, cases.responsiblecommunity_id,
+        cases.healthfacility_id, cases.pointofentry_id]) AS jurisdictionkey
+    WHERE jurisdictionkey IS NOT NULL ORDER BY jurisdictionkey);
+
+UPDATE contact SET jurisdictionkeys = ARRAY(
+    SELECT DISTINCT jurisdictionkey FROM unnest(ARRAY[contact.region_id, contact.district_id, contact.community_id]) AS jurisdictionkey
+    WHERE jurisdictionkey IS NOT NULL ORDER BY jurisdictionkey);
+
+ALTER TABLE cases ENABLE TRIGGER versioning_trigger;
+ALTER TABLE contact ENABLE TRIGGER versioning_trigger;
+
+CREATE INDEX IF NOT EXISTS idx_cases_jurisdictionkeys ON cases USING gin (jurisdictionkeys);
+CREATE INDEX IF NOT EXISTS idx_contact_jurisdictionkeys ON contact USING gin (jurisdictionkeys);
+
+INSERT INTO schema_version (version_number, comment) VALUES (517, 'Jurisdiction keys of cases and contacts for index-backed user filters');
+
 -- *** Insert new sql commands BEFORE this line. Remember to always consider _history tables. ***
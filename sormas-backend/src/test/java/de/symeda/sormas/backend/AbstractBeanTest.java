@@ -126,6 +126,7 @@ import de.symeda.sormas.backend.caze.CaseStatisticsFacadeEjb.CaseStatisticsFacad
 import de.symeda.sormas.backend.caze.porthealthinfo.PortHealthInfoFacadeEjb.PortHealthInfoFacadeEjbLocal;
 import de.symeda.sormas.backend.caze.surveillancereport.SurveillanceReportFacadeEjb;
 import de.symeda.sormas.backend.caze.surveillancereport.SurveillanceReportService;
+import de.symeda.sormas.backend.changelog.ChangeLogService;
 import de.symeda.sormas.backend.clinicalcourse.ClinicalCourseFacadeEjb.ClinicalCourseFacadeEjbLocal;
 import de.symeda.sormas.backend.clinicalcourse.ClinicalVisitFacadeEjb.ClinicalVisitFacadeEjbLocal;
 import de.symeda.sormas.backend.clinicalcourse.ClinicalVisitService;
@@ -162,6 +163,7 @@ import de.symeda.sormas.backend.externalmessage.labmessage.SampleReportService;
 import de.symeda.sormas.backend.externalmessage.labmessage.TestReportFacadeEjb;
 import de.symeda.sormas.backend.externalmessage.labmessage.TestReportService;
 import de.symeda.sormas.backend.externalsurveillancetool.ExternalSurveillanceToolGatewayFacadeEjb.ExternalSurveillanceToolGatewayFacadeEjbLocal;
+import de.symeda.sormas.backend.feature.FeatureConfigurationCache;
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb.FeatureConfigurationFacadeEjbLocal;
 import de.symeda.sormas.backend.geo.GeoShapeProviderEjb.GeoShapeProviderEjbLocal;
 import de.symeda.sormas.backend.geocoding.GeocodingService;
@@ -169,6 +171,7 @@ import de.symeda.sormas.backend.immunization.ImmunizationFacadeEjb.ImmunizationF
 import de.symeda.sormas.backend.immunization.ImmunizationService;
 import de.symeda.sormas.backend.importexport.ExportFacadeEjb;
 import de.symeda.sormas.backend.importexport.ImportFacadeEjb.ImportFacadeEjbLocal;
+import de.symeda.sormas.backend.importexport.InfrastructureNameResolver;
 import de.symeda.sormas.backend.importexport.parser.ImportParserService;
 import de.symeda.sormas.backend.info.InfoFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.PopulationDataFacadeEjb.PopulationDataFacadeEjbLocal;
@@ -307,6 +310,10 @@ public abstract class AbstractBeanTest {
 
 		I18nProperties.setUserLanguage(Language.EN);
 
+		// the database is emptied before every test
+		getBean(FeatureConfigurationCache.class).invalidate();
+		getBean(InfrastructureNameResolver.class).clear();
+
 		createDiseaseConfigurations();
 	}
 
@@ -434,6 +441,10 @@ public abstract class AbstractBeanTest {
 		return getBean(CaseService.class);
 	}
 
+	public ChangeLogService getChangeLogService() {
+		return getBean(ChangeLogService.class);
+	}
+
 	public ImmunizationFacadeEjbLocal getImmunizationFacade() {
 		return getBean(ImmunizationFacadeEjbLocal.class);
 	}
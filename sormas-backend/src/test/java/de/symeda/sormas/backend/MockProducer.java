@@ -17,6 +17,8 @@
  *******************************************************************************/
 package de.symeda.sormas.backend;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
@@ -26,7 +28,9 @@ import static org.mockito.Mockito.withSettings;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.security.Principal;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.Map;
 import java.util.Properties;
 
 import javax.ejb.SessionContext;
@@ -41,6 +45,8 @@ import javax.naming.Context;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
 import javax.naming.spi.InitialContextFactory;
+import javax.transaction.Status;
+import javax.transaction.TransactionSynchronizationRegistry;
 import javax.transaction.UserTransaction;
 
 import de.symeda.sormas.api.RequestContextHolder;
@@ -74,6 +80,10 @@ public class MockProducer implements InitialContextFactory {
 	private static TimerService timerService = mock(TimerService.class);
 	private static Properties properties = new Properties();
 	private static UserTransaction userTransaction = mock(UserTransaction.class);
+	private static TransactionSynchronizationRegistry transactionSynchronizationRegistry =
+		mock(TransactionSynchronizationRegistry.class, withSettings().lenient());
+	// a bean test runs in one transaction
+	private static final Map<Object, Object> transactionResources = new HashMap<>();
 	private static RequestContextTO requestContextTO = new RequestContextTO(false);
 	private static SormasToSormasRestClient s2sRestClient = mock(SormasToSormasRestClient.class);
 	private static final EtcdCentralClient etcdCentralClient = mock(EtcdCentralClient.class);
@@ -122,8 +132,10 @@ public class MockProducer implements InitialContextFactory {
 			connectionFactory,
 			timerService,
 			userTransaction,
+			transactionSynchronizationRegistry,
 			s2sRestClient,
 			managedScheduledExecutorService);
+		transactionResources.clear();
 		wireMocks();
 		resetProperties();
 		requestContextTO.setMobileSync(false);
@@ -140,6 +152,12 @@ public class MockProducer implements InitialContextFactory {
 	public static void wireMocks() {
 
 		when(sessionContext.getCallerPrincipal()).thenReturn(getPrincipal());
+		when(transactionSynchronizationRegistry.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+		when(transactionSynchronizationRegistry.getResource(any()))
+			.thenAnswer(invocation -> transactionResources.get(invocation.getArgument(0)));
+		doAnswer(invocation -> transactionResources.put(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(transactionSynchronizationRegistry)
+			.putResource(any(), any());
 		RequestContextHolder.setRequestContext(requestContextTO);
 	}
 
@@ -182,6 +200,11 @@ public class MockProducer implements InitialContextFactory {
 		return userTransaction;
 	}
 
+	@Produces
+	public static TransactionSynchronizationRegistry getTransactionSynchronizationRegistry() {
+		return transactionSynchronizationRegistry;
+	}
+
 	@Produces
 	public static Principal getPrincipal() {
 		return principal;
@@ -0,0 +1,107 @@
+package de.symeda.sormas.backend.audit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncAuditQueueTest {
+
+	@Test
+	public void testWritesAllEntriesInOrder() {
+
+		List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+		AsyncAuditQueue<Integer> queue = new AsyncAuditQueue<>("test-writer", 10, 3, AsyncAuditQueue.OverflowPolicy.BLOCK, written::addAll);
+		queue.start();
+
+		for (int i = 0; i < 100; i++) {
+			assertTrue(queue.offer(i));
+		}
+		queue.stop(5000);
+
+		assertThat(written.size(), equalTo(100));
+		for (int i = 0; i < 100; i++) {
+			assertThat(written.get(i), equalTo(i));
+		}
+		assertThat(queue.getWrittenCount(), equalTo(100L));
+		assertThat(queue.getDroppedCount(), equalTo(0L));
+		assertThat(queue.getQueueDepth(), equalTo(0));
+	}
+
+	@Test
+	public void testDropPolicy() throws InterruptedException {
+
+		CountDownLatch writerBlocked = new CountDownLatch(1);
+		CountDownLatch releaseWriter = new CountDownLatch(1);
+		List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+		AsyncAuditQueue<Integer> queue = new AsyncAuditQueue<>("test-writer", 2, 1, AsyncAuditQueue.OverflowPolicy.DROP, batch -> {
+			writerBlocked.countDown();
+			try {
+				releaseWriter.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			written.addAll(batch);
+		});
+		queue.start();
+
+		// the first entry keeps the writer busy
+		queue.offer(0);
+		assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+
+		// two entries fit into the queue, the others are dropped
+		for (int i = 1; i <= 5; i++) {
+			assertTrue(queue.offer(i));
+		}
+		assertThat(queue.getQueueDepth(), equalTo(2));
+		assertThat(queue.getDroppedCount(), equalTo(3L));
+
+		releaseWriter.countDown();
+		queue.stop(5000);
+
+		assertThat(written, contains(0, 1, 2));
+	}
+
+	@Test
+	public void testFailingWriterDoesNotStopQueue() {
+
+		List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+		AsyncAuditQueue<Integer> queue = new AsyncAuditQueue<>("test-writer", 10, 1, AsyncAuditQueue.OverflowPolicy.BLOCK, batch -> {
+			if (batch.contains(1)) {
+				throw new IllegalStateException("write failed");
+			}
+			written.addAll(batch);
+		});
+		queue.start();
+
+		queue.offer(0);
+		queue.offer(1);
+		queue.offer(2);
+		queue.stop(5000);
+
+		assertThat(written, contains(0, 2));
+		assertThat(queue.getFailedCount(), equalTo(1L));
+	}
+
+	@Test
+	public void testOfferAfterStop() {
+
+		AsyncAuditQueue<Integer> queue = new AsyncAuditQueue<>("test-writer", 10, 1, AsyncAuditQueue.OverflowPolicy.BLOCK, batch -> {
+		});
+		queue.start();
+		queue.stop(5000);
+
+		// the caller has to write the entry itself
+		assertFalse(queue.offer(0));
+	}
+}
@@ -25,6 +25,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -77,6 +81,56 @@ public class CampaignFormMetaDataFacadeEjbTest extends AbstractBeanTest {
 			updatedCampaignFormData.getFormValues());
 	}
 
+	@Test
+	public void testSaveCampaignFormDataValues() throws Exception {
+
+		final TestDataCreator.RDCF rdcf = creator.createRDCF("Region", "District", "Community", "Facility");
+		final UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		ObjectMapper mapper = new ObjectMapper();
+
+		final CampaignDto campaign = creator.createCampaign(user);
+		final CampaignFormMetaDto campaignForm = creator.createCampaignForm(campaign);
+
+		CampaignFormDataDto campaignFormData =
+			creator.buildCampaignFormDataDto(campaign, campaignForm, rdcf, creator.getCampaignFormData());
+		campaignFormData = getCampaignFormDataFacade().saveCampaignFormData(campaignFormData);
+
+		Map<String, CampaignFormDataValue> values = getValues(campaignFormData);
+		assertEquals(12, values.size());
+		assertEquals(Integer.valueOf(12), values.get("teamNumber").getNumericValue());
+		assertEquals("12", values.get("teamNumber").getTextValue());
+		assertNull(values.get("oneMemberResident").getNumericValue());
+		assertEquals("yes", values.get("oneMemberResident").getTextValue());
+		assertEquals(rdcf.district.getUuid(), values.get("teamNumber").getDistrict().getUuid());
+
+		campaignFormData.setFormValues(
+			Arrays.asList(
+				mapper.readValue(
+					"[{\"id\":\"teamNumber\",\"value\":\"13\"},{\"id\":\"monitorName\",\"value\":null},{\"id\":\"numberOfChw\",\"value\":\"7\"}]",
+					CampaignFormDataEntry[].class)));
+		campaignFormData = getCampaignFormDataFacade().saveCampaignFormData(campaignFormData);
+
+		values = getValues(campaignFormData);
+		assertEquals(2, values.size());
+		assertEquals(Integer.valueOf(13), values.get("teamNumber").getNumericValue());
+		assertEquals(Integer.valueOf(7), values.get("numberOfChw").getNumericValue());
+
+		getCampaignFormDataFacade().deleteCampaignFormData(campaignFormData.getUuid());
+		assertEquals(0, getValues(campaignFormData).size());
+	}
+
+	private Map<String, CampaignFormDataValue> getValues(CampaignFormDataDto campaignFormData) {
+
+		CampaignFormDataService campaignFormDataService = getBean(CampaignFormDataService.class);
+		CampaignFormData entity = campaignFormDataService.getByUuid(campaignFormData.getUuid());
+		if (entity == null) {
+			return Collections.emptyMap();
+		}
+		return campaignFormDataService.getValues(entity)
+			.stream()
+			.collect(Collectors.toMap(CampaignFormDataValue::getElementId, Function.identity()));
+	}
+
 	@Test
 	public void testGetCampaignFormDataByUuid() throws Exception {
 		final TestDataCreator.RDCF rdcf = creator.createRDCF("Region", "District", "Community", "Facility");
@@ -18,11 +18,14 @@
 package de.symeda.sormas.backend.caze;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.weld.exceptions.UnsupportedOperationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,12 +54,15 @@ import de.symeda.sormas.api.sample.PathogenTestResultType;
 import de.symeda.sormas.api.sample.PathogenTestType;
 import de.symeda.sormas.api.symptoms.SymptomState;
 import de.symeda.sormas.api.symptoms.SymptomsDto;
+import de.symeda.sormas.api.systemevents.SystemEventStatus;
+import de.symeda.sormas.api.systemevents.SystemEventType;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.YesNoUnknown;
 import de.symeda.sormas.api.vaccination.VaccinationDto;
 import de.symeda.sormas.backend.AbstractBeanTest;
 import de.symeda.sormas.backend.MockProducer;
 import de.symeda.sormas.backend.TestDataCreator;
+import de.symeda.sormas.backend.caze.classification.CaseClassificationFacadeEjb.CaseClassificationFacadeEjbLocal;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 
 public class CaseClassificationLogicTest extends AbstractBeanTest {
@@ -1149,6 +1155,72 @@ public class CaseClassificationLogicTest extends AbstractBeanTest {
 		assertEquals(null, caze.getCaseReferenceDefinition());
 	}
 
+	@Test
+	public void testReclassifyCases() {
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "false");
+		CaseDataDto suspectCase = getCaseFacade().save(buildSuspectCase(Disease.EVD));
+		CaseDataDto confirmedCase = getCaseFacade().save(buildSuspectCase(Disease.EVD));
+		creator.createPathogenTest(confirmedCase, Disease.EVD, PathogenTestType.PCR_RT_PCR, PathogenTestResultType.POSITIVE);
+		CaseDataDto unclassifiedCase = getCaseFacade().save(buildSuspectCaseBasis(Disease.CSM));
+		assertEquals(CaseClassification.NOT_CLASSIFIED, getCaseFacade().getCaseDataByUuid(confirmedCase.getUuid()).getCaseClassification());
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "true");
+		List<CaseDataDto> cases = Arrays.asList(suspectCase, confirmedCase, unclassifiedCase);
+		CaseClassificationFacadeEjbLocal caseClassificationFacade = getBean(CaseClassificationFacadeEjbLocal.class);
+		Map<String, CaseClassification> classifications = caseClassificationFacade.getClassifications(cases);
+		for (CaseDataDto caze : cases) {
+			assertEquals(caseClassificationFacade.getClassification(caze), classifications.get(caze.getUuid()));
+		}
+
+		// changed classifications are handled like saving the case does, e.g. the reference definition is calculated on German systems
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.COUNTRY_LOCALE, "de");
+		assertEquals(2, getCaseFacade().reclassifyCases(Arrays.asList(suspectCase.getUuid(), confirmedCase.getUuid(), unclassifiedCase.getUuid())));
+		assertEquals(CaseClassification.SUSPECT, getCaseFacade().getCaseDataByUuid(suspectCase.getUuid()).getCaseClassification());
+		CaseDataDto reclassifiedCase = getCaseFacade().getCaseDataByUuid(confirmedCase.getUuid());
+		assertEquals(CaseClassification.CONFIRMED, reclassifiedCase.getCaseClassification());
+		assertEquals(CaseReferenceDefinition.FULFILLED, reclassifiedCase.getCaseReferenceDefinition());
+		assertNull(reclassifiedCase.getClassificationUser());
+		assertEquals(CaseClassification.NOT_CLASSIFIED, getCaseFacade().getCaseDataByUuid(unclassifiedCase.getUuid()).getCaseClassification());
+	}
+
+	@Test
+	public void testReclassifyCasesWithChangedCriteria() {
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "false");
+		CaseDataDto confirmedCase = getCaseFacade().save(buildSuspectCase(Disease.EVD));
+		creator.createPathogenTest(confirmedCase, Disease.EVD, PathogenTestType.PCR_RT_PCR, PathogenTestResultType.POSITIVE);
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "true");
+
+		// the last reclassification was before the EVD criteria changed
+		getSystemEventFacade().saveSystemEvent(
+			creator.createSystemEvent(SystemEventType.CASE_RECLASSIFICATION, DateHelper.getDateZero(2020, 0, 1), SystemEventStatus.SUCCESS));
+		getCaseFacade().reclassifyCasesWithChangedCriteria();
+		assertEquals(CaseClassification.CONFIRMED, getCaseFacade().getCaseDataByUuid(confirmedCase.getUuid()).getCaseClassification());
+
+		// unchanged criteria are not applied again
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "false");
+		CaseDataDto unclassifiedCase = getCaseFacade().save(buildSuspectCase(Disease.EVD));
+		creator.createPathogenTest(unclassifiedCase, Disease.EVD, PathogenTestType.PCR_RT_PCR, PathogenTestResultType.POSITIVE);
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "true");
+		getCaseFacade().reclassifyCasesWithChangedCriteria();
+		assertEquals(CaseClassification.NOT_CLASSIFIED, getCaseFacade().getCaseDataByUuid(unclassifiedCase.getUuid()).getCaseClassification());
+	}
+
+	@Test
+	public void testReclassifyCasesWithChangedCriteriaFirstRun() {
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "false");
+		CaseDataDto suspectCase = getCaseFacade().save(buildSuspectCase(Disease.EVD));
+		creator.createPathogenTest(suspectCase, Disease.EVD, PathogenTestType.PCR_RT_PCR, PathogenTestResultType.POSITIVE);
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_AUTOMATIC_CASE_CLASSIFICATION, "true");
+
+		// the first run only records the change date of the current criteria
+		getCaseFacade().reclassifyCasesWithChangedCriteria();
+		assertEquals(CaseClassification.NOT_CLASSIFIED, getCaseFacade().getCaseDataByUuid(suspectCase.getUuid()).getCaseClassification());
+		assertNotNull(getSystemEventFacade().getLatestSuccessByType(SystemEventType.CASE_RECLASSIFICATION));
+	}
+
 	/**
 	 * Sets all symptoms with the SymptomState type to YES.
 	 */
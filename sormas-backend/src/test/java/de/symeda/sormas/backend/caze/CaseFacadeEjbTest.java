@@ -45,10 +45,15 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.persistence.Query;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.Validator;
@@ -106,6 +111,10 @@ import de.symeda.sormas.api.event.EventStatus;
 import de.symeda.sormas.api.exposure.ExposureDto;
 import de.symeda.sormas.api.exposure.ExposureType;
 import de.symeda.sormas.api.externalsurveillancetool.ExternalSurveillanceToolRuntimeException;
+import de.symeda.sormas.api.geo.GeoBounds;
+import de.symeda.sormas.api.geo.GeoLatLon;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
 import de.symeda.sormas.api.hospitalization.PreviousHospitalizationDto;
 import de.symeda.sormas.api.i18n.Captions;
 import de.symeda.sormas.api.i18n.I18nProperties;
@@ -173,6 +182,8 @@ import de.symeda.sormas.api.visit.VisitStatus;
 import de.symeda.sormas.backend.AbstractBeanTest;
 import de.symeda.sormas.backend.TestDataCreator;
 import de.symeda.sormas.backend.TestDataCreator.RDCF;
+import de.symeda.sormas.backend.geo.GeoShapeProviderEjb.GeoShapeProviderEjbLocal;
+import de.symeda.sormas.backend.geo.MapClusterHelper;
 import de.symeda.sormas.backend.infrastructure.district.District;
 import de.symeda.sormas.backend.infrastructure.region.Region;
 import de.symeda.sormas.backend.share.ExternalShareInfo;
@@ -648,6 +659,102 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(1, mapCaseDtos.size());
 	}
 
+	@Test
+	public void testMapCaseClusters() {
+
+		Consumer<Double> createCase = coordinate -> creator.createCase(
+			surveillanceSupervisor.toReference(),
+			creator.createPerson("Case", "Person", p -> {
+				p.getAddress().setLatitude(coordinate);
+				p.getAddress().setLongitude(coordinate);
+			}).toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		createCase.accept(10.0);
+		createCase.accept(10.001);
+		createCase.accept(50.0);
+
+		GeoBounds bounds = new GeoBounds(9, 9, 11, 11);
+		Date from = DateHelper.subtractDays(new Date(), 1);
+		Date to = DateHelper.addDays(new Date(), 1);
+
+		List<MapClusterDto<CaseClassification>> clusters =
+			getCaseFacade().getCaseClustersForMap(null, null, Disease.EVD, from, to, null, bounds, 5, MapClusterGrouping.GRID);
+		assertEquals(1, clusters.size());
+		assertEquals(2, clusters.get(0).getCount());
+		assertEquals(CaseClassification.PROBABLE, clusters.get(0).getClassification());
+		assertEquals(10.0, clusters.get(0).getLatitude(), MapClusterHelper.getCellSize(5));
+
+		clusters = getCaseFacade().getCaseClustersForMap(null, null, Disease.EVD, from, to, null, null, 5, MapClusterGrouping.DISTRICT);
+		assertEquals(1, clusters.size());
+		assertEquals(3, clusters.get(0).getCount());
+		assertEquals(rdcf.district.getUuid(), clusters.get(0).getDistrict().getUuid());
+	}
+
+	@Test
+	public void testMapCaseClustersWithoutCoordinates() {
+
+		creator.createCase(
+			surveillanceSupervisor.toReference(),
+			creator.createPerson("Case", "Person", p -> {
+				p.getAddress().setLatitude(10.0);
+				p.getAddress().setLongitude(10.0);
+			}).toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		creator.createCase(
+			surveillanceSupervisor.toReference(),
+			creator.createPerson("Case", "Person").toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		creator.createCase(
+			surveillanceSupervisor.toReference(),
+			creator.createPerson("Case", "Person").toReference(),
+			Disease.EVD,
+			CaseClassification.CONFIRMED,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+
+		Date from = DateHelper.subtractDays(new Date(), 1);
+		Date to = DateHelper.addDays(new Date(), 1);
+
+		// the map does not pass bounds before it is rendered the first time
+		List<MapClusterDto<CaseClassification>> clusters =
+			getCaseFacade().getCaseClustersForMap(null, null, Disease.EVD, from, to, null, null, 5, MapClusterGrouping.GRID);
+		assertEquals(1, clusters.size());
+		assertEquals(1, clusters.get(0).getCount());
+		assertEquals(CaseClassification.PROBABLE, clusters.get(0).getClassification());
+
+		// districts count all their cases and place clusters without any location at the center of the district
+		clusters = getCaseFacade().getCaseClustersForMap(null, null, Disease.EVD, from, to, null, null, 5, MapClusterGrouping.DISTRICT);
+		MapClusterDto<CaseClassification> probable =
+			clusters.stream().filter(c -> c.getClassification() == CaseClassification.PROBABLE).findFirst().get();
+		assertEquals(2, probable.getCount());
+		assertEquals(10.0, probable.getLatitude(), MapClusterHelper.getCellSize(5));
+
+		GeoLatLon districtCenter = getBean(GeoShapeProviderEjbLocal.class).getCenterOfDistrict(rdcf.district);
+		Optional<MapClusterDto<CaseClassification>> confirmed =
+			clusters.stream().filter(c -> c.getClassification() == CaseClassification.CONFIRMED).findFirst();
+		if (districtCenter != null) {
+			assertEquals(1, confirmed.get().getCount());
+			assertEquals(districtCenter.getLat(), confirmed.get().getLatitude());
+			assertEquals(districtCenter.getLon(), confirmed.get().getLongitude());
+		} else {
+			assertFalse(confirmed.isPresent());
+			assertEquals(1, clusters.size());
+		}
+	}
+
 	@Test
 	public void testGetIndexList() {
 
@@ -1236,6 +1343,54 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		return config;
 	}
 
+	@Test
+	public void testGetExportListAfter() {
+
+		// equal report dates across page borders, so the pages have to be continued by id
+		Date reportDate = new Date();
+		int[] daysBefore = {
+			0,
+			0,
+			1,
+			1,
+			1,
+			2 };
+		for (int days : daysBefore) {
+			creator.createCase(
+				surveillanceSupervisor.toReference(),
+				creator.createPerson().toReference(),
+				Disease.EVD,
+				CaseClassification.PROBABLE,
+				InvestigationStatus.PENDING,
+				DateHelper.subtractDays(reportDate, days),
+				rdcf);
+		}
+
+		List<Long> expectedIds =
+			getCaseFacade().getExportList(new CaseCriteria(), Collections.emptySet(), CaseExportType.CASE_SURVEILLANCE, 0, 100, null, Language.EN)
+				.stream()
+				.map(CaseExportDto::getId)
+				.collect(Collectors.toList());
+		assertEquals(daysBefore.length, expectedIds.size());
+
+		List<Long> pagedIds = new ArrayList<>();
+		Long afterId = null;
+		List<CaseExportDto> page;
+		do {
+			page = getCaseFacade()
+				.getExportListAfter(new CaseCriteria(), Collections.emptySet(), CaseExportType.CASE_SURVEILLANCE, afterId, 3, null, Language.EN);
+			if (!page.isEmpty()) {
+				afterId = page.get(page.size() - 1).getId();
+			}
+			page.forEach(c -> pagedIds.add(c.getId()));
+		}
+		while (page.size() == 3);
+
+		// same order as the offset paged export, without gaps or duplicates, and the page after the last full page is empty
+		assertEquals(expectedIds, pagedIds);
+		assertTrue(page.isEmpty());
+	}
+
 	@Test
 	public void testGetExportListWithoutDeletedSamples() {
 
@@ -1487,6 +1642,34 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(0, getCaseFacade().getAllAfter(date).size());
 	}
 
+	@Test
+	public void testGetAllActiveCasesIncludesChangedEmbeddedEntities() throws InterruptedException {
+
+		PersonDto cazePerson = creator.createPerson("Case", "Person");
+		CaseDataDto caze = creator.createCase(
+			surveillanceSupervisor.toReference(),
+			cazePerson.toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+
+		Date date = new Date();
+		//the delay is needed in order to ensure the time difference between the date and the case dependent objects update
+		Thread.sleep(10L);
+		assertEquals(0, getCaseFacade().getAllAfter(date).size());
+
+		Case caseEntity = getCaseService().getByUuid(caze.getUuid());
+		caseEntity.getHealthConditions().setOtherConditions("Other conditions");
+		getCaseService().ensurePersisted(caseEntity);
+
+		caseEntity = getCaseService().getByUuid(caze.getUuid());
+		assertTrue(caseEntity.getChangeDate().before(date));
+		assertTrue(caseEntity.getTreeChangeDate().after(date));
+		assertEquals(1, getCaseFacade().getAllAfter(date).size());
+	}
+
 	@Test
 	public void testGenerateEpidNumber() throws ExternalSurveillanceToolRuntimeException {
 
@@ -1907,6 +2090,48 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		assertEquals("abc", mergedDuplciateVacc2.getVaccineAtcCode());
 	}
 
+	@Test
+	public void testMergeCaseUpdatesTreeChangeDate() throws InterruptedException {
+
+		CaseDataDto leadCase = creator.createCase(
+			surveillanceSupervisor.toReference(),
+			creator.createPerson("Lead", "Person").toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		leadCase.getEpiData().setActivityAsCaseDetailsKnown(YesNoUnknown.NO);
+		getCaseFacade().save(leadCase);
+
+		CaseDataDto otherCase = creator.createCase(
+			surveillanceSupervisor.toReference(),
+			creator.createPerson("Other", "Person").toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		otherCase.getEpiData().setActivityAsCaseDetailsKnown(YesNoUnknown.YES);
+		List<ActivityAsCaseDto> otherActivitiesAsCase = new ArrayList<>();
+		otherActivitiesAsCase.add(ActivityAsCaseDto.build(ActivityAsCaseType.GATHERING));
+		otherCase.getEpiData().setActivitiesAsCase(otherActivitiesAsCase);
+		getCaseFacade().save(otherCase);
+
+		Date date = new Date();
+		//the delay is needed in order to ensure the time difference between the date and the merge
+		Thread.sleep(10L);
+
+		getCaseFacade().mergeCase(leadCase.getUuid(), otherCase.getUuid());
+
+		// the epi data of the lead case is changed after the case itself was saved
+		Case leadCaseEntity = getCaseService().getByUuid(leadCase.getUuid());
+		assertEquals(YesNoUnknown.YES, leadCaseEntity.getEpiData().getActivityAsCaseDetailsKnown());
+		assertTrue(leadCaseEntity.getTreeChangeDate().after(date));
+		assertFalse(leadCaseEntity.getTreeChangeDate().before(leadCaseEntity.getEpiData().getChangeDate()));
+		assertEquals(1, getCaseFacade().getAllAfter(date).stream().filter(c -> c.getUuid().equals(leadCase.getUuid())).count());
+	}
+
 	@Test
 	public void testCloneCaseActivityAsCaseIsCloned() {
 
@@ -2992,6 +3217,39 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		assertTrue(cut.isArchived(case2.getUuid()));
 	}
 
+	@Test
+	public void testArchiveSetsEndOfProcessingDatePerCase() throws InterruptedException {
+
+		PersonReferenceDto person = creator.createPerson("Walter", "Schuster").toReference();
+		CaseDataDto case1 = creator.createCase(surveillanceSupervisor.toReference(), person, rdcf);
+		//the delay is needed in order to ensure that the cases have different change dates
+		Thread.sleep(10L);
+		CaseDataDto case2 = creator.createCase(surveillanceSupervisor.toReference(), person, rdcf);
+
+		Date changeDate1 = getCaseService().getByUuid(case1.getUuid()).getTreeChangeDate();
+		Date changeDate2 = getCaseService().getByUuid(case2.getUuid()).getTreeChangeDate();
+		assertNotEquals(changeDate1.getTime(), changeDate2.getTime());
+
+		getCaseFacade().archive(Arrays.asList(case1.getUuid(), case2.getUuid()), false);
+
+		assertTrue(getCaseFacade().isArchived(case1.getUuid()));
+		assertTrue(getCaseFacade().isArchived(case2.getUuid()));
+		assertEquals(changeDate1.getTime(), getEndOfProcessingDate(case1.getUuid()).getTime());
+		assertEquals(changeDate2.getTime(), getEndOfProcessingDate(case2.getUuid()).getTime());
+	}
+
+	private Date getEndOfProcessingDate(String caseUuid) {
+
+		return executeInTransaction(em -> {
+			CriteriaBuilder cb = em.getCriteriaBuilder();
+			CriteriaQuery<Date> cq = cb.createQuery(Date.class);
+			Root<Case> from = cq.from(Case.class);
+			cq.select(from.<Date> get(Case.END_OF_PROCESSING_DATE));
+			cq.where(cb.equal(from.get(Case.UUID), caseUuid));
+			return em.createQuery(cq).getSingleResult();
+		});
+	}
+
 	@Test
 	public void testArchiveAndDearchiveCase() {
 		PersonDto cazePerson = creator.createPerson("Case", "Person");
@@ -295,6 +295,35 @@ public class CaseFacadeEjbUserFilterTest extends AbstractBeanTest {
 		assertThat(indexList, hasSize(2));
 	}
 
+	@Test
+	public void testGetCasesAfterChangeOfPlaceOfStay() {
+		loginWith(nationalUser);
+
+		CaseDataDto placeOfStayCase = createCase(rdcf1, districtUser1, rdcf2);
+		CaseDataDto movedCase = createCase(rdcf1, districtUser1);
+
+		loginWith(districtUser2);
+		List<CaseIndexDto> indexList = getCaseFacade().getIndexList(new CaseCriteria(), 0, 100, null);
+		assertThat(indexList, hasSize(1));
+		assertThat(indexList.get(0).getUuid(), is(placeOfStayCase.getUuid()));
+
+		loginWith(nationalUser);
+		movedCase = getCaseFacade().getCaseDataByUuid(movedCase.getUuid());
+		movedCase.setRegion(rdcf2.region);
+		movedCase.setDistrict(rdcf2.district);
+		movedCase.setCommunity(rdcf2.community);
+		movedCase.setHealthFacility(rdcf2.facility);
+		getCaseFacade().save(movedCase);
+
+		List<Long> jurisdictionKeys = getCaseService().getByUuid(movedCase.getUuid()).getJurisdictionKeys();
+		assertTrue(jurisdictionKeys.contains(getDistrictService().getByUuid(rdcf1.district.getUuid()).getId()));
+		assertTrue(jurisdictionKeys.contains(getDistrictService().getByUuid(rdcf2.district.getUuid()).getId()));
+		assertFalse(jurisdictionKeys.contains(getFacilityService().getByUuid(rdcf1.facility.getUuid()).getId()));
+
+		loginWith(districtUser2);
+		assertThat(getCaseFacade().getIndexList(new CaseCriteria(), 0, 100, null), hasSize(2));
+	}
+
 	@Test
 	public void testGetCasesOnLaboratoryLevel() {
 		loginWith(nationalUser);
@@ -0,0 +1,80 @@
+package de.symeda.sormas.backend.changelog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.user.DefaultUserRole;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator;
+import de.symeda.sormas.backend.caze.Case;
+
+public class ChangeLogServiceTest extends AbstractBeanTest {
+
+	@Test
+	public void testChangesAreLogged() {
+
+		TestDataCreator.RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createUser(rdcf, creator.getUserRoleReference(DefaultUserRole.NATIONAL_USER));
+		loginWith(user);
+		PersonDto person = creator.createPerson();
+		CaseDataDto caze = creator.createCase(user.toReference(), person.toReference(), rdcf);
+
+		List<ChangeLogEntry> entries = getEntries(caze.getUuid());
+		assertFalse(entries.isEmpty());
+		assertEquals(ChangeLogService.getEntityType(Case.class), entries.get(0).getEntityType());
+		assertEquals(ChangeKind.UPSERT, entries.get(entries.size() - 1).getChangeKind());
+
+		getCaseFacade().archive(caze.getUuid(), null);
+		entries = getEntries(caze.getUuid());
+		assertEquals(ChangeKind.ARCHIVE, entries.get(entries.size() - 1).getChangeKind());
+
+		getChangeLogService().compact();
+		entries = getEntries(caze.getUuid());
+		assertEquals(1, entries.size());
+		assertEquals(ChangeKind.ARCHIVE, entries.get(0).getChangeKind());
+	}
+
+	@Test
+	public void testGetAllAfterWithAndWithoutChangeLog() throws InterruptedException {
+
+		TestDataCreator.RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createUser(rdcf, creator.getUserRoleReference(DefaultUserRole.NATIONAL_USER));
+		loginWith(user);
+		PersonDto person = creator.createPerson();
+		CaseDataDto caze = creator.createCase(user.toReference(), person.toReference(), rdcf);
+		creator.createCase(user.toReference(), creator.createPerson().toReference(), rdcf);
+
+		Date date = new Date();
+		Thread.sleep(10L);
+		assertTrue(getChangeLogService().isLoggedSince(Case.class, date));
+		assertEquals(0, getCaseFacade().getAllAfter(date).size());
+
+		caze = getCaseFacade().getCaseDataByUuid(caze.getUuid());
+		caze.setAdditionalDetails("Changed");
+		getCaseFacade().save(caze);
+		assertEquals(1, getCaseFacade().getAllAfter(date).size());
+
+		// without the change log, the changes are determined from the change dates
+		getChangeLogService().deleteOlderThan(new Date(System.currentTimeMillis() + 1000L));
+		assertFalse(getChangeLogService().isLoggedSince(Case.class, date));
+		assertEquals(1, getCaseFacade().getAllAfter(date).size());
+	}
+
+	private List<ChangeLogEntry> getEntries(String entityUuid) {
+
+		return executeInTransaction(em -> {
+			String query =
+				"SELECT e FROM " + ChangeLogEntry.TABLE_NAME + " e WHERE e." + ChangeLogEntry.ENTITY_UUID + " = :uuid ORDER BY e." + ChangeLogEntry.ID;
+			return em.createQuery(query, ChangeLogEntry.class).setParameter("uuid", entityUuid).getResultList();
+		});
+	}
+}
@@ -0,0 +1,97 @@
+package de.symeda.sormas.backend.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.EntityRelevanceStatus;
+import de.symeda.sormas.api.caze.CaseCriteria;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.user.DefaultUserRole;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.MockProducer;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+
+public class CountCacheTest extends AbstractBeanTest {
+
+	private RDCF rdcf;
+	private UserDto user;
+
+	@Override
+	public void init() {
+
+		super.init();
+
+		MockProducer.mockProperty(ConfigFacadeEjb.COUNT_CACHE_ENABLED, Boolean.TRUE.toString());
+		getBean(CountCache.class).clear();
+
+		rdcf = creator.createRDCF();
+		user = creator.createUser(rdcf, creator.getUserRoleReference(DefaultUserRole.NATIONAL_USER));
+		loginWith(user);
+		createCase();
+	}
+
+	@Test
+	public void testCachedUntilCasesChange() {
+
+		CountCache countCache = getBean(CountCache.class);
+		long hits = countCache.getHitCount();
+		long misses = countCache.getMissCount();
+
+		assertEquals(1, getCaseFacade().count(createCriteria()));
+		assertEquals(1, getCaseFacade().count(createCriteria()));
+		assertEquals(hits + 1, countCache.getHitCount());
+		assertEquals(misses + 1, countCache.getMissCount());
+
+		// different filters
+		assertEquals(0, getCaseFacade().count(createCriteria().disease(Disease.CHOLERA)));
+		assertEquals(misses + 2, countCache.getMissCount());
+
+		createCase();
+		assertEquals(2, getCaseFacade().count(createCriteria()));
+		assertEquals(misses + 3, countCache.getMissCount());
+	}
+
+	@Test
+	public void testEviction() {
+
+		CountCache countCache = getBean(CountCache.class);
+
+		MockProducer.mockProperty(ConfigFacadeEjb.COUNT_CACHE_MAX_ENTRIES, "1");
+		long evictions = countCache.getEvictionCount();
+		getCaseFacade().count(createCriteria());
+		getCaseFacade().count(createCriteria().disease(Disease.CHOLERA));
+		assertEquals(1, countCache.getSize());
+		assertEquals(evictions + 1, countCache.getEvictionCount());
+
+		MockProducer.mockProperty(ConfigFacadeEjb.COUNT_CACHE_TTL_SECONDS, "0");
+		long misses = countCache.getMissCount();
+		getCaseFacade().count(createCriteria().disease(Disease.CHOLERA));
+		assertEquals(misses + 1, countCache.getMissCount());
+	}
+
+	@Test
+	public void testEstimateCount() {
+
+		// disabled by default
+		assertNull(getCaseFacade().estimateCount(createCriteria()));
+
+		// the estimate is made by the PostgreSQL planner, the tests run on H2
+		MockProducer.mockProperty(ConfigFacadeEjb.COUNT_ESTIMATE_THRESHOLD, "1");
+		assertNull(getCaseFacade().estimateCount(createCriteria()));
+		assertNull(getCaseFacade().estimateCount(createCriteria().disease(Disease.EVD)));
+	}
+
+	private CaseCriteria createCriteria() {
+		return new CaseCriteria().relevanceStatus(EntityRelevanceStatus.ACTIVE);
+	}
+
+	private void createCase() {
+
+		PersonDto person = creator.createPerson();
+		creator.createCase(user.toReference(), person.toReference(), rdcf);
+	}
+}
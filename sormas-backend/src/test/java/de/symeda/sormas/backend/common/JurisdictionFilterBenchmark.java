@@ -0,0 +1,171 @@
+package de.symeda.sormas.backend.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.caze.CaseCriteria;
+import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.contact.ContactCriteria;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.sample.SampleCriteria;
+import de.symeda.sormas.api.user.DefaultUserRole;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+import de.symeda.sormas.backend.caze.Case;
+import de.symeda.sormas.backend.contact.Contact;
+import de.symeda.sormas.backend.infrastructure.district.District;
+import de.symeda.sormas.backend.sample.Sample;
+
+/**
+ * Compares the jurisdiction part of the user filters of cases, contacts and samples for a district user: the former comparison of
+ * every infrastructure column with the containment check on the jurisdiction keys. Both filters must find the same entities. The
+ * number of cases (each with a contact and a sample) defaults to 10,000 and can be changed with the system property
+ * {@code benchmark.cases}.
+ * <p>
+ * Not part of the test suite (the class name does not end with "Test"), run it manually. H2 has no GIN index, so here the latencies
+ * of both filters are similar; on PostgreSQL the jurisdiction keys are looked up through the GIN index instead of combining the
+ * indexes of all infrastructure columns.
+ */
+public class JurisdictionFilterBenchmark extends AbstractBeanTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(JurisdictionFilterBenchmark.class);
+
+	private static final int CASES = Integer.getInteger("benchmark.cases", 10_000);
+	private static final int DISTRICTS = 10;
+	private static final int RUNS = 5;
+
+	@Test
+	public void benchmarkJurisdictionFilters() {
+
+		List<RDCF> rdcfs = new ArrayList<>();
+		for (int i = 0; i < DISTRICTS; i++) {
+			rdcfs.add(creator.createRDCF("Region " + i, "District " + i, "Community " + i, "Facility " + i));
+		}
+		UserDto reportingUser = creator.createSurveillanceSupervisor(rdcfs.get(0));
+		PersonDto person = creator.createPerson();
+
+		for (int i = 0; i < CASES; i++) {
+			RDCF responsibleRdcf = rdcfs.get(i % DISTRICTS);
+			RDCF placeOfStayRdcf = rdcfs.get((i / DISTRICTS) % DISTRICTS);
+			CaseDataDto caze = creator.createCase(reportingUser.toReference(), person.toReference(), responsibleRdcf, c -> {
+				c.setRegion(placeOfStayRdcf.region);
+				c.setDistrict(placeOfStayRdcf.district);
+				c.setCommunity(placeOfStayRdcf.community);
+				c.setHealthFacility(placeOfStayRdcf.facility);
+			});
+			creator.createContact(
+				reportingUser.toReference(),
+				null,
+				person.toReference(),
+				null,
+				new Date(),
+				null,
+				Disease.EVD,
+				rdcfs.get((i + 1) % DISTRICTS));
+			creator.createSample(caze.toReference(), reportingUser.toReference(), responsibleRdcf.facility);
+		}
+
+		District district = getDistrictService().getByUuid(rdcfs.get(0).district.getUuid());
+
+		compare(
+			"Cases",
+			Case.class,
+			(cb, caze) -> cb.or(cb.equal(caze.get(Case.DISTRICT), district), cb.equal(caze.get(Case.RESPONSIBLE_DISTRICT), district)),
+			(cb, caze) -> CriteriaBuilderHelper.jurisdictionKeysContain(cb, caze, district));
+		compare(
+			"Contacts",
+			Contact.class,
+			(cb, contact) -> cb.equal(contact.get(Contact.DISTRICT), district),
+			(cb, contact) -> CriteriaBuilderHelper.jurisdictionKeysContain(cb, contact, district));
+		compare("Samples", Sample.class, (cb, sample) -> {
+			Join<Sample, Case> caze = sample.join(Sample.ASSOCIATED_CASE, JoinType.LEFT);
+			Join<Sample, Contact> contact = sample.join(Sample.ASSOCIATED_CONTACT, JoinType.LEFT);
+			return cb.or(
+				cb.equal(caze.get(Case.DISTRICT), district),
+				cb.equal(caze.get(Case.RESPONSIBLE_DISTRICT), district),
+				cb.equal(contact.get(Contact.DISTRICT), district));
+		}, (cb, sample) -> {
+			Join<Sample, Case> caze = sample.join(Sample.ASSOCIATED_CASE, JoinType.LEFT);
+			Join<Sample, Contact> contact = sample.join(Sample.ASSOCIATED_CONTACT, JoinType.LEFT);
+			return cb.or(
+				CriteriaBuilderHelper.jurisdictionKeysContain(cb, caze, district),
+				CriteriaBuilderHelper.jurisdictionKeysContain(cb, contact, district));
+		});
+
+		// the complete user filters, which use the jurisdiction keys
+		UserDto districtUser = creator.createUser(rdcfs.get(0), creator.getUserRoleReference(DefaultUserRole.SURVEILLANCE_OFFICER));
+		loginWith(districtUser);
+		long start = System.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			getCaseFacade().count(new CaseCriteria());
+			getContactFacade().count(new ContactCriteria());
+			getSampleFacade().count(new SampleCriteria());
+		}
+		logger.info(
+			"User filters of a district user: {} cases, {} contacts, {} samples, {} ms for the three counts",
+			getCaseFacade().count(new CaseCriteria()),
+			getContactFacade().count(new ContactCriteria()),
+			getSampleFacade().count(new SampleCriteria()),
+			(System.nanoTime() - start) / 1_000_000 / RUNS);
+	}
+
+	private <T> void compare(
+		String entities,
+		Class<T> entityClass,
+		BiFunction<CriteriaBuilder, Root<T>, Predicate> columnFilter,
+		BiFunction<CriteriaBuilder, Root<T>, Predicate> jurisdictionKeysFilter) {
+
+		// warm up
+		long columnCount = count(entityClass, columnFilter);
+		long jurisdictionKeysCount = count(entityClass, jurisdictionKeysFilter);
+		assertEquals(columnCount, jurisdictionKeysCount);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			count(entityClass, columnFilter);
+		}
+		long columnMillis = (System.nanoTime() - start) / 1_000_000 / RUNS;
+
+		start = System.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			count(entityClass, jurisdictionKeysFilter);
+		}
+		long jurisdictionKeysMillis = (System.nanoTime() - start) / 1_000_000 / RUNS;
+
+		logger.info(
+			"{} in the district: {}, infrastructure columns {} ms, jurisdiction keys {} ms",
+			entities,
+			jurisdictionKeysCount,
+			columnMillis,
+			jurisdictionKeysMillis);
+	}
+
+	private <T> long count(Class<T> entityClass, BiFunction<CriteriaBuilder, Root<T>, Predicate> filter) {
+
+		EntityManager em = getBean(EntityManager.class);
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+		Root<T> root = cq.from(entityClass);
+		cq.select(cb.countDistinct(root));
+		cq.where(filter.apply(cb, root));
+		return em.createQuery(cq).getSingleResult();
+	}
+}
@@ -0,0 +1,90 @@
+package de.symeda.sormas.backend.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+import de.symeda.sormas.backend.caze.Case;
+import de.symeda.sormas.backend.common.ReferencePrefetchFacadeEjb.ReferencePrefetchFacadeEjbLocal;
+import de.symeda.sormas.backend.infrastructure.district.District;
+import de.symeda.sormas.backend.infrastructure.region.Region;
+import de.symeda.sormas.backend.person.Person;
+import de.symeda.sormas.backend.user.User;
+
+public class ReferencePrefetchFacadeEjbTest extends AbstractBeanTest {
+
+	@Test
+	public void testPrefetch() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		PersonDto person = creator.createPerson();
+		CaseDataDto caze = creator.createCase(user.toReference(), person.toReference(), rdcf);
+
+		Set<String> loadedEntities = executeInTransaction(em -> {
+			Session session = em.unwrap(Session.class);
+			session.clear();
+			getBean(ReferencePrefetchFacadeEjbLocal.class).prefetch(Collections.singletonList(caze));
+			return session.getStatistics().getEntityKeys().stream().map(k -> ((EntityKey) k).getEntityName()).collect(Collectors.toSet());
+		});
+
+		assertThat(
+			loadedEntities,
+			hasItems(
+				Case.class.getName(),
+				Person.class.getName(),
+				User.class.getName(),
+				Region.class.getName(),
+				District.class.getName()));
+	}
+
+	@Test
+	public void testGetByUuidUsesPrefetchedEntities() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		PersonDto person = creator.createPerson();
+		CaseDataDto caze = creator.createCase(user.toReference(), person.toReference(), rdcf);
+
+		Statistics statistics = getBean(EntityManager.class).getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+
+		executeInTransaction(em -> {
+			em.clear();
+			getBean(ReferencePrefetchFacadeEjbLocal.class).prefetch(Collections.singletonList(caze));
+
+			statistics.clear();
+			Case caseEntity = getCaseService().getByUuid(caze.getUuid());
+			assertThat(caseEntity.getUuid(), is(caze.getUuid()));
+			assertThat(getPersonService().getByReferenceDto(person.toReference()), is(sameInstance(caseEntity.getPerson())));
+			assertThat(getRegionService().getByReferenceDto(rdcf.region), is(sameInstance(caseEntity.getResponsibleRegion())));
+			assertThat(statistics.getQueryExecutionCount(), is(0L));
+
+			// entities that are no longer managed are queried again
+			em.clear();
+			assertThat(getCaseService().getByUuid(caze.getUuid()), is(not(sameInstance(caseEntity))));
+			assertThat(statistics.getQueryExecutionCount(), is(1L));
+		});
+
+		statistics.setStatisticsEnabled(false);
+	}
+}
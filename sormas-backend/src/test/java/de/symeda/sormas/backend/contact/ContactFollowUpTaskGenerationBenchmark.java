@@ -0,0 +1,78 @@
+package de.symeda.sormas.backend.contact;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.Date;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+
+/**
+ * Shows the number of queries and the latency of the daily contact follow-up task generation. The number of contacts defaults to
+ * 100,000 and can be changed with the system property {@code benchmark.contacts}.
+ * <p>
+ * Not part of the test suite (the class name does not end with "Test"), run it manually. The number of queries must only grow with
+ * the number of batches of contacts; before the tasks were generated with several queries and a flush per contact.
+ */
+public class ContactFollowUpTaskGenerationBenchmark extends AbstractBeanTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ContactFollowUpTaskGenerationBenchmark.class);
+
+	private static final int CONTACTS = Integer.getInteger("benchmark.contacts", 100_000);
+	private static final int BATCH_SIZE = 1000;
+
+	@Test
+	public void benchmarkFollowUpTaskGeneration() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		// no contact officer is set on the contacts, so the assignees are chosen from the users of the district
+		creator.createContactOfficer(rdcf);
+		creator.createContactOfficer(rdcf);
+		PersonDto person = creator.createPerson();
+
+		Date today = new Date();
+		for (int i = 0; i < CONTACTS; i++) {
+			creator.createContact(user.toReference(), null, person.toReference(), null, today, today, Disease.EVD, rdcf);
+		}
+
+		Statistics statistics = getBean(EntityManager.class).getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		long batches = (CONTACTS + BATCH_SIZE - 1) / BATCH_SIZE;
+
+		statistics.clear();
+		long start = System.nanoTime();
+		getContactFacade().generateContactFollowUpTasks();
+		long millis = (System.nanoTime() - start) / 1_000_000;
+		long queries = statistics.getQueryExecutionCount();
+		logger.info(
+			"Generated follow-up tasks for {} contacts: {} queries, {} inserts, {} ms",
+			CONTACTS,
+			queries,
+			statistics.getEntityInsertCount(),
+			millis);
+
+		// contact ids, per batch the existing tasks and the contacts, the users of the district
+		assertThat(queries, lessThanOrEqualTo(1 + 2 * batches + 1));
+
+		statistics.clear();
+		start = System.nanoTime();
+		getContactFacade().generateContactFollowUpTasks();
+		millis = (System.nanoTime() - start) / 1_000_000;
+		logger.info("Second run without new tasks: {} queries, {} ms", statistics.getQueryExecutionCount(), millis);
+
+		assertThat(statistics.getEntityInsertCount(), lessThanOrEqualTo(0L));
+	}
+}
@@ -4,6 +4,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayOutputStream;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -166,6 +167,22 @@ public class CmsReaderTest {
 
 	}
 
+	@Test
+	public void testDecryptAndVerifyStreamed() throws Exception {
+
+		final String helloWorld = "Hello World!";
+
+		CmsPlaintext plaintext = new CmsPlaintext(ALICE_ALIAS, BOB_ALIAS, helloWorld);
+
+		ByteArrayOutputStream signedAndEncrypted = new ByteArrayOutputStream();
+		CmsCreator.signAndEncrypt(plaintext, aliceCertificateConfig, signedAndEncrypted);
+
+		byte[] plain = CmsReader.decryptAndVerify(signedAndEncrypted.toByteArray(), bobCertificateConfig);
+
+		ObjectMapper mapper = new ObjectMapper();
+		assertEquals(mapper.readValue(plain, String.class), helloWorld);
+	}
+
 	@Test
 	public void testSurreptitiousForwarding() throws Exception {
 		final String love = "I love you!";
@@ -0,0 +1,109 @@
+package de.symeda.sormas.backend.dashboard;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.caze.InvestigationStatus;
+import de.symeda.sormas.api.caze.NewCaseDateType;
+import de.symeda.sormas.api.dashboard.DashboardCriteria;
+import de.symeda.sormas.api.dashboard.DashboardFacade;
+import de.symeda.sormas.api.dashboard.EpiCurveGrouping;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+
+/**
+ * Shows the number of queries and the latency of the dashboard epi curves for a one year period grouped by day, week and month.
+ * <p>
+ * Not part of the test suite (the class name does not end with "Test"), run it manually. The number of queries must not depend on
+ * the number of intervals of the epi curve; before the epi curves were counted with one query per interval (365 for a daily curve).
+ */
+public class DashboardEpiCurveBenchmark extends AbstractBeanTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(DashboardEpiCurveBenchmark.class);
+
+	private static final int CASES_AND_CONTACTS = 500;
+	private static final int RUNS = 5;
+
+	@Test
+	public void benchmarkEpiCurves() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		PersonDto person = creator.createPerson();
+
+		Date to = DateHelper.getEndOfDay(new Date());
+		Date from = DateHelper.getStartOfDay(DateHelper.subtractDays(to, 364));
+		for (int i = 0; i < CASES_AND_CONTACTS; i++) {
+			Date reportDate = DateHelper.addDays(from, i % 365);
+			creator.createCase(
+				user.toReference(),
+				person.toReference(),
+				Disease.EVD,
+				CaseClassification.values()[i % CaseClassification.values().length],
+				InvestigationStatus.PENDING,
+				reportDate,
+				rdcf);
+			creator.createContact(user.toReference(), null, person.toReference(), null, reportDate, null, Disease.EVD, rdcf);
+		}
+
+		Statistics statistics = getBean(EntityManager.class).getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+
+		DashboardFacade dashboardFacade = getDashboardFacade();
+		Map<EpiCurveGrouping, Long> queriesPerGrouping = new EnumMap<>(EpiCurveGrouping.class);
+		for (EpiCurveGrouping grouping : EpiCurveGrouping.values()) {
+			DashboardCriteria dashboardCriteria = new DashboardCriteria().disease(Disease.EVD).newCaseDateType(NewCaseDateType.MOST_RELEVANT);
+
+			// warm up
+			runEpiCurves(dashboardFacade, dashboardCriteria, from, to, grouping);
+
+			statistics.clear();
+			long start = System.nanoTime();
+			for (int i = 0; i < RUNS; i++) {
+				runEpiCurves(dashboardFacade, dashboardCriteria, from, to, grouping);
+			}
+			long millisPerRun = (System.nanoTime() - start) / 1_000_000 / RUNS;
+			long queriesPerRun = statistics.getQueryExecutionCount() / RUNS;
+
+			queriesPerGrouping.put(grouping, queriesPerRun);
+			logger.info("Epi curves grouped by {}: {} queries, {} ms for all five series", grouping, queriesPerRun, millisPerRun);
+		}
+
+		assertThat(queriesPerGrouping.get(EpiCurveGrouping.DAY), lessThanOrEqualTo(queriesPerGrouping.get(EpiCurveGrouping.MONTH)));
+		assertThat(queriesPerGrouping.get(EpiCurveGrouping.WEEK), lessThanOrEqualTo(queriesPerGrouping.get(EpiCurveGrouping.MONTH)));
+	}
+
+	private static void runEpiCurves(DashboardFacade dashboardFacade, DashboardCriteria dashboardCriteria, Date from, Date to, EpiCurveGrouping grouping) {
+
+		Consumer<DashboardCriteria> resetDates = c -> c.dateBetween(from, to).epiCurveGrouping(grouping);
+
+		resetDates.accept(dashboardCriteria);
+		dashboardFacade.getEpiCurveSeriesElementsPerCaseClassification(dashboardCriteria);
+		resetDates.accept(dashboardCriteria);
+		dashboardFacade.getEpiCurveSeriesElementsPerPresentCondition(dashboardCriteria);
+		resetDates.accept(dashboardCriteria);
+		dashboardFacade.getEpiCurveSeriesElementsPerContactClassification(dashboardCriteria);
+		resetDates.accept(dashboardCriteria);
+		dashboardFacade.getEpiCurveSeriesElementsPerContactFollowUpStatus(dashboardCriteria);
+		resetDates.accept(dashboardCriteria);
+		dashboardFacade.getEpiCurveSeriesElementsPerContactFollowUpUntil(dashboardCriteria);
+	}
+}
@@ -2,6 +2,7 @@ package de.symeda.sormas.backend.dashboard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Date;
 import java.util.List;
@@ -15,10 +16,12 @@ import de.symeda.sormas.api.caze.CaseClassification;
 import de.symeda.sormas.api.caze.CaseDataDto;
 import de.symeda.sormas.api.caze.InvestigationStatus;
 import de.symeda.sormas.api.caze.NewCaseDateType;
+import de.symeda.sormas.api.contact.ContactClassification;
 import de.symeda.sormas.api.dashboard.DashboardCaseDto;
 import de.symeda.sormas.api.dashboard.DashboardCriteria;
 import de.symeda.sormas.api.dashboard.DashboardEventDto;
 import de.symeda.sormas.api.dashboard.DashboardFacade;
+import de.symeda.sormas.api.dashboard.EpiCurveGrouping;
 import de.symeda.sormas.api.disease.DiseaseBurdenDto;
 import de.symeda.sormas.api.event.EventDto;
 import de.symeda.sormas.api.event.EventInvestigationStatus;
@@ -293,6 +296,90 @@ public class DashboardFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(6, dashboardCaseDtos.get(PresentCondition.UNKNOWN).intValue());
 	}
 
+	@Test
+	public void testGetEpiCurveSeriesElementsPerCaseClassification() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		PersonDto person = creator.createPerson();
+
+		Date monday = DateHelper.getStartOfWeek(DateHelper.subtractWeeks(new Date(), 3));
+		Date tuesday = DateHelper.addDays(monday, 1);
+		Date nextWeek = DateHelper.addWeeks(monday, 1);
+		creator.createCase(
+			user.toReference(),
+			person.toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			monday,
+			rdcf);
+		creator.createCase(
+			user.toReference(),
+			person.toReference(),
+			Disease.EVD,
+			CaseClassification.SUSPECT,
+			InvestigationStatus.PENDING,
+			tuesday,
+			rdcf);
+		creator.createCase(
+			user.toReference(),
+			person.toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			DateHelper.addDays(nextWeek, 2),
+			rdcf);
+
+		DashboardCriteria dashboardCriteria = new DashboardCriteria().disease(Disease.EVD)
+			.newCaseDateType(NewCaseDateType.REPORT)
+			.dateBetween(monday, DateHelper.addDays(monday, 13))
+			.epiCurveGrouping(EpiCurveGrouping.DAY);
+
+		Map<Date, Map<CaseClassification, Integer>> perDay = getDashboardFacade().getEpiCurveSeriesElementsPerCaseClassification(dashboardCriteria);
+		assertEquals(14, perDay.size());
+		assertEquals(1, perDay.get(monday).get(CaseClassification.PROBABLE).intValue());
+		assertEquals(1, perDay.get(tuesday).get(CaseClassification.SUSPECT).intValue());
+		assertTrue(perDay.get(nextWeek).isEmpty());
+		assertEquals(1, perDay.get(DateHelper.addDays(nextWeek, 2)).get(CaseClassification.PROBABLE).intValue());
+
+		dashboardCriteria.dateBetween(monday, DateHelper.addDays(monday, 13)).epiCurveGrouping(EpiCurveGrouping.WEEK);
+		Map<Date, Map<CaseClassification, Integer>> perWeek = getDashboardFacade().getEpiCurveSeriesElementsPerCaseClassification(dashboardCriteria);
+		assertEquals(2, perWeek.size());
+		assertEquals(1, perWeek.get(monday).get(CaseClassification.PROBABLE).intValue());
+		assertEquals(1, perWeek.get(monday).get(CaseClassification.SUSPECT).intValue());
+		assertEquals(1, perWeek.get(nextWeek).get(CaseClassification.PROBABLE).intValue());
+		assertNull(perWeek.get(nextWeek).get(CaseClassification.SUSPECT));
+	}
+
+	@Test
+	public void testGetEpiCurveSeriesElementsPerContactClassification() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		PersonDto person = creator.createPerson();
+
+		Date monday = DateHelper.getStartOfWeek(DateHelper.subtractWeeks(new Date(), 3));
+		Date nextWeek = DateHelper.addWeeks(monday, 1);
+		creator.createContact(user.toReference(), null, person.toReference(), null, monday, null, Disease.EVD, rdcf);
+		creator.createContact(user.toReference(), null, person.toReference(), null, DateHelper.addDays(monday, 6), null, Disease.EVD, rdcf);
+		creator.createContact(user.toReference(), null, person.toReference(), null, nextWeek, null, Disease.EVD, rdcf);
+
+		DashboardCriteria dashboardCriteria = new DashboardCriteria().disease(Disease.EVD)
+			.dateBetween(monday, DateHelper.addDays(monday, 13))
+			.epiCurveGrouping(EpiCurveGrouping.WEEK);
+
+		Map<Date, Map<ContactClassification, Long>> perWeek =
+			getDashboardFacade().getEpiCurveSeriesElementsPerContactClassification(dashboardCriteria);
+		assertEquals(2, perWeek.size());
+		assertEquals(2, perWeek.get(monday).get(ContactClassification.UNCONFIRMED).intValue());
+		assertEquals(1, perWeek.get(nextWeek).get(ContactClassification.UNCONFIRMED).intValue());
+
+		Map<Date, Integer> followUpUntilPerWeek = getDashboardFacade().getEpiCurveSeriesElementsPerContactFollowUpUntil(dashboardCriteria);
+		assertEquals(2, followUpUntilPerWeek.get(monday).intValue());
+		assertEquals(1, followUpUntilPerWeek.get(nextWeek).intValue());
+	}
+
 	private void createCasesForPersonWithCondition(PresentCondition presentCondition, UserReferenceDto userReferenceDto, RDCF rdcf, int nrOfCases) {
 		PersonDto personDto = creator.createPerson("James Smith", presentCondition.name(), p -> {
 			p.setPresentCondition(presentCondition);
@@ -0,0 +1,104 @@
+package de.symeda.sormas.backend.dashboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Date;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.caze.InvestigationStatus;
+import de.symeda.sormas.api.caze.NewCaseDateType;
+import de.symeda.sormas.api.dashboard.DashboardCriteria;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.MockProducer;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
+
+public class DashboardResultCacheTest extends AbstractBeanTest {
+
+	private RDCF rdcf;
+	private UserDto user;
+
+	@Override
+	public void init() {
+
+		super.init();
+
+		MockProducer.mockProperty(ConfigFacadeEjb.DASHBOARD_CACHE_ENABLED, Boolean.TRUE.toString());
+		getBean(DashboardResultCache.class).clear();
+
+		rdcf = creator.createRDCF();
+		user = creator.createSurveillanceSupervisor(rdcf);
+		createCase();
+	}
+
+	@Test
+	public void testCachedUntilCasesChange() {
+
+		DashboardResultCache resultCache = getBean(DashboardResultCache.class);
+		long hits = resultCache.getHitCount();
+		long misses = resultCache.getMissCount();
+
+		Map<CaseClassification, Integer> counts = getDashboardFacade().getCasesCountByClassification(createCriteria());
+		assertEquals(1, (int) counts.get(CaseClassification.PROBABLE));
+		assertSame(counts, getDashboardFacade().getCasesCountByClassification(createCriteria()));
+		assertEquals(hits + 1, resultCache.getHitCount());
+		assertEquals(misses + 1, resultCache.getMissCount());
+
+		// different filters
+		getDashboardFacade().getCasesCountByClassification(createCriteria().disease(Disease.CHOLERA));
+		assertEquals(misses + 2, resultCache.getMissCount());
+
+		createCase();
+		counts = getDashboardFacade().getCasesCountByClassification(createCriteria());
+		assertEquals(2, (int) counts.get(CaseClassification.PROBABLE));
+		assertEquals(misses + 3, resultCache.getMissCount());
+		assertEquals(1, resultCache.getSize());
+	}
+
+	@Test
+	public void testEviction() {
+
+		DashboardResultCache resultCache = getBean(DashboardResultCache.class);
+
+		MockProducer.mockProperty(ConfigFacadeEjb.DASHBOARD_CACHE_MAX_ENTRIES, "1");
+		long evictions = resultCache.getEvictionCount();
+		getDashboardFacade().getCasesCountByClassification(createCriteria());
+		getDashboardFacade().getLastReportedDistrictName(createCriteria());
+		assertEquals(1, resultCache.getSize());
+		assertEquals(evictions + 1, resultCache.getEvictionCount());
+
+		MockProducer.mockProperty(ConfigFacadeEjb.DASHBOARD_CACHE_TTL_SECONDS, "0");
+		long misses = resultCache.getMissCount();
+		getDashboardFacade().getLastReportedDistrictName(createCriteria());
+		assertEquals(misses + 1, resultCache.getMissCount());
+	}
+
+	private DashboardCriteria createCriteria() {
+
+		Date now = new Date();
+		return new DashboardCriteria().disease(Disease.EVD)
+			.newCaseDateType(NewCaseDateType.REPORT)
+			.dateBetween(DateHelper.getStartOfDay(DateHelper.subtractDays(now, 1)), DateHelper.getEndOfDay(now));
+	}
+
+	private void createCase() {
+
+		PersonDto person = creator.createPerson();
+		creator.createCase(
+			user.toReference(),
+			person.toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+	}
+}
@@ -23,6 +23,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,6 +33,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
@@ -47,6 +51,7 @@ import de.symeda.sormas.api.contact.ContactReferenceDto;
 import de.symeda.sormas.api.docgeneneration.DocumentTemplateException;
 import de.symeda.sormas.api.docgeneneration.DocumentVariables;
 import de.symeda.sormas.api.docgeneneration.DocumentWorkflow;
+import de.symeda.sormas.api.docgeneneration.GeneratedDocumentsArchive;
 import de.symeda.sormas.api.docgeneneration.QuarantineOrderFacade;
 import de.symeda.sormas.api.event.EventDto;
 import de.symeda.sormas.api.event.EventParticipantDto;
@@ -68,6 +73,7 @@ import de.symeda.sormas.api.travelentry.TravelEntryDto;
 import de.symeda.sormas.api.travelentry.TravelEntryReferenceDto;
 import de.symeda.sormas.api.user.DefaultUserRole;
 import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.backend.MockProducer;
 import de.symeda.sormas.backend.TestDataCreator;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
@@ -280,6 +286,35 @@ public class QuarantineOrderFacadeEjbTest extends AbstractDocGenerationTest {
 		verifyGeneratedDocument(rootEntityReference, workflow, "QuarantineEvent.cmp", documentContents.get(rootEntityReference));
 	}
 
+	@Test
+	public void testBulkCaseDocumentArchiveCreation() throws DocumentTemplateException, IOException {
+		ReferenceDto rootEntityReference = caseDataDto.toReference();
+
+		Properties properties = new Properties();
+		properties.setProperty("extraremark1", "the first remark");
+		properties.setProperty("extra.remark.no3", "the third remark");
+
+		DocumentWorkflow workflow = DocumentWorkflow.QUARANTINE_ORDER_CASE;
+		GeneratedDocumentsArchive archive = quarantineOrderFacadeEjb
+			.getGeneratedDocumentsArchive("Quarantine.docx", workflow, Collections.singletonList(rootEntityReference), properties, false);
+		long templateCompileCount = TemplateEngine.getTemplateCompileCount();
+
+		assertTrue(archive.getNotUploadedUuids().isEmpty());
+		try (ZipFile zipFile = new ZipFile(archive.getArchivePath())) {
+			assertEquals(1, zipFile.size());
+			ZipEntry entry = zipFile.getEntry(DataHelper.getShortUuid(rootEntityReference) + "-Quarantine.docx");
+			verifyGeneratedDocument(rootEntityReference, workflow, "QuarantineCase.cmp", IOUtils.toByteArray(zipFile.getInputStream(entry)));
+		} finally {
+			Files.delete(Paths.get(archive.getArchivePath()));
+		}
+
+		// the template is only compiled again when it is changed
+		archive = quarantineOrderFacadeEjb
+			.getGeneratedDocumentsArchive("Quarantine.docx", workflow, Collections.singletonList(rootEntityReference), properties, false);
+		Files.delete(Paths.get(archive.getArchivePath()));
+		assertEquals(templateCompileCount, TemplateEngine.getTemplateCompileCount());
+	}
+
 	private void generateQuarantineOrderTest(
 		ReferenceDto rootEntityReference,
 		DocumentWorkflow documentWorkflow,
@@ -1,9 +1,20 @@
 package de.symeda.sormas.backend.externalmessage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,7 +22,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import javax.naming.CannotProceedException;
+import javax.naming.NamingException;
 import javax.persistence.EntityManager;
 import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
@@ -34,12 +48,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import de.symeda.sormas.api.externalmessage.ExternalMessageCriteria;
 import de.symeda.sormas.api.externalmessage.ExternalMessageDto;
+import de.symeda.sormas.api.externalmessage.ExternalMessageFetchResult;
 import de.symeda.sormas.api.externalmessage.ExternalMessageIndexDto;
+import de.symeda.sormas.api.externalmessage.ExternalMessagePage;
+import de.symeda.sormas.api.externalmessage.ExternalMessageResult;
+import de.symeda.sormas.api.externalmessage.NewMessagesState;
 import de.symeda.sormas.api.systemevents.SystemEventDto;
 import de.symeda.sormas.api.systemevents.SystemEventStatus;
 import de.symeda.sormas.api.systemevents.SystemEventType;
 import de.symeda.sormas.api.utils.SortProperty;
 import de.symeda.sormas.backend.caze.surveillancereport.SurveillanceReportService;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.backend.systemevent.SystemEventFacadeEjb;
 import de.symeda.sormas.backend.systemevent.sync.SyncFacadeEjb;
 
@@ -54,6 +73,10 @@ public class ExternalMessageFacadeEjbUnitTest {
 	private SurveillanceReportService surveillanceReportService;
 	@Mock
 	private SystemEventFacadeEjb.SystemEventFacadeEjbLocal systemEventFacade;
+	@Mock
+	private ConfigFacadeEjb.ConfigFacadeEjbLocal configFacade;
+	@Mock
+	private SyncFacadeEjb.SyncFacadeEjbLocal syncFacade;
 
 	@InjectMocks
 	private ExternalMessageFacadeEjb sut;
@@ -190,6 +213,31 @@ public class ExternalMessageFacadeEjbUnitTest {
 		assertEquals(syncFacadeEjb.findLastSyncDateFor(SystemEventType.FETCH_EXTERNAL_MESSAGES), date);
 	}
 
+	@Test
+	public void testSyncCheckpoint() {
+
+		Date start = new Date(100, 0, 1);
+		Date syncDate = new Date(100, 0, 2);
+		SystemEventDto currentSync = SystemEventDto.build();
+		currentSync.setType(SystemEventType.FETCH_EXTERNAL_MESSAGES);
+		currentSync.setStatus(SystemEventStatus.STARTED);
+		currentSync.setStartDate(start);
+
+		syncFacadeEjb.reportSyncCheckpoint(currentSync, syncDate);
+
+		ArgumentCaptor<SystemEventDto> checkpointCaptor = ArgumentCaptor.forClass(SystemEventDto.class);
+		verify(systemEventFacade).reportSuccess(checkpointCaptor.capture(), eq("Last synchronization date: " + syncDate.getTime()), any());
+		SystemEventDto checkpoint = checkpointCaptor.getValue();
+		assertEquals(SystemEventType.FETCH_EXTERNAL_MESSAGES, checkpoint.getType());
+		assertEquals(start, checkpoint.getStartDate());
+		assertNotEquals(currentSync.getUuid(), checkpoint.getUuid());
+
+		// the running synchronization continues after the checkpoint
+		verify(systemEventFacade).saveSystemEvent(currentSync);
+		assertEquals(SystemEventStatus.STARTED, currentSync.getStatus());
+		assertTrue(currentSync.getStartDate().after(start));
+	}
+
 	@Test
 	public void testInitializeFetchEventTest() {
 		SystemEventDto systemEventDto = syncFacadeEjb.startSyncFor(SystemEventType.FETCH_EXTERNAL_MESSAGES);
@@ -198,4 +246,116 @@ public class ExternalMessageFacadeEjbUnitTest {
 		assertEquals(systemEventDto.getStatus(), SystemEventStatus.STARTED);
 		assertEquals(systemEventDto.getType(), SystemEventType.FETCH_EXTERNAL_MESSAGES);
 	}
+
+	@Test
+	public void testFetchAndSaveExternalMessagesPageByPage() throws NamingException {
+
+		Date since = new Date(100, 0, 1);
+		Date firstPageDate = new Date(100, 0, 2);
+		Date secondPageDate = new Date(100, 0, 3);
+		Date lastPageDate = new Date(100, 0, 4);
+		SystemEventDto currentSync = SystemEventDto.build();
+		when(configFacade.getDemisChunkSize()).thenReturn(2);
+
+		ExternalMessageFacadeEjb facade = spy(sut);
+		doReturn(buildPage(2, false, firstPageDate), buildPage(2, false, secondPageDate), buildPage(1, true, lastPageDate)).when(facade)
+			.fetchExternalMessages(any(), anyInt());
+
+		ExternalMessageFetchResult result = facade.fetchAndSaveExternalMessages(currentSync, since);
+
+		assertTrue(result.isSuccess());
+		assertEquals(NewMessagesState.NEW_MESSAGES, result.getNewMessagesState());
+		// every page is fetched after the synchronization date of the previous one
+		verify(facade).fetchExternalMessages(since, 2);
+		verify(facade).fetchExternalMessages(firstPageDate, 2);
+		verify(facade).fetchExternalMessages(secondPageDate, 2);
+		verify(externalMessageService, times(3)).ensurePersistedInNewTransaction(anyCollection());
+		// a checkpoint after each page but the last one, which completes the synchronization
+		verify(syncFacade).reportSyncCheckpoint(currentSync, firstPageDate);
+		verify(syncFacade).reportSyncCheckpoint(currentSync, secondPageDate);
+		verify(syncFacade, never()).reportSyncCheckpoint(currentSync, lastPageDate);
+		verify(syncFacade).reportSuccessfulSyncWithTimestamp(currentSync, lastPageDate);
+	}
+
+	@Test
+	public void testFetchAndSaveExternalMessagesStopsWithoutProgress() throws NamingException {
+
+		Date since = new Date(100, 0, 1);
+		Date pageDate = new Date(100, 0, 2);
+		SystemEventDto currentSync = SystemEventDto.build();
+		when(configFacade.getDemisChunkSize()).thenReturn(2);
+
+		ExternalMessageFacadeEjb facade = spy(sut);
+		// the adapter claims more pages, but does not advance the synchronization date
+		doReturn(buildPage(2, false, pageDate), buildPage(2, false, pageDate)).when(facade).fetchExternalMessages(any(), anyInt());
+
+		ExternalMessageFetchResult result = facade.fetchAndSaveExternalMessages(currentSync, since);
+
+		assertTrue(result.isSuccess());
+		verify(facade, times(2)).fetchExternalMessages(any(), anyInt());
+		verify(syncFacade).reportSyncCheckpoint(currentSync, pageDate);
+		verify(syncFacade).reportSuccessfulSyncWithTimestamp(currentSync, pageDate);
+	}
+
+	@Test
+	public void testFetchAndSaveExternalMessagesSavesFailingChunkOneByOne() throws NamingException {
+
+		SystemEventDto currentSync = SystemEventDto.build();
+		Date pageDate = new Date(100, 0, 2);
+		when(configFacade.getDemisChunkSize()).thenReturn(2);
+		ExternalMessageResult<ExternalMessagePage> page = buildPage(2, true, pageDate);
+		doThrow(new RuntimeException("Chunk could not be saved")).when(externalMessageService)
+			.ensurePersistedInNewTransaction(anyCollection());
+
+		ExternalMessageFacadeEjb facade = spy(sut);
+		doReturn(page).when(facade).fetchExternalMessages(any(), anyInt());
+
+		ExternalMessageFetchResult result = facade.fetchAndSaveExternalMessages(currentSync, new Date(100, 0, 1));
+
+		assertTrue(result.isSuccess());
+		ArgumentCaptor<ExternalMessage> savedCaptor = ArgumentCaptor.forClass(ExternalMessage.class);
+		verify(externalMessageService, times(2)).ensurePersistedInNewTransaction(savedCaptor.capture());
+		assertEquals(
+			page.getValue().getMessages().stream().map(ExternalMessageDto::getUuid).collect(Collectors.toList()),
+			savedCaptor.getAllValues().stream().map(ExternalMessage::getUuid).collect(Collectors.toList()));
+		verify(syncFacade).reportSuccessfulSyncWithTimestamp(currentSync, pageDate);
+	}
+
+	@Test
+	public void testFetchAndSaveExternalMessagesResumesAfterCheckpoint() throws NamingException {
+
+		Date since = new Date(100, 0, 1);
+		Date firstPageDate = new Date(100, 0, 2);
+		Date lastPageDate = new Date(100, 0, 3);
+		when(configFacade.getDemisChunkSize()).thenReturn(2);
+
+		// the first synchronization is interrupted after its first page
+		SystemEventDto interruptedSync = SystemEventDto.build();
+		ExternalMessageFacadeEjb facade = spy(sut);
+		doReturn(buildPage(2, false, firstPageDate), new ExternalMessageResult<>(null, null, false, "Adapter not reachable")).when(facade)
+			.fetchExternalMessages(any(), anyInt());
+		assertThrows(CannotProceedException.class, () -> facade.fetchAndSaveExternalMessages(interruptedSync, since));
+		ArgumentCaptor<Date> checkpointCaptor = ArgumentCaptor.forClass(Date.class);
+		verify(syncFacade).reportSyncCheckpoint(eq(interruptedSync), checkpointCaptor.capture());
+		assertEquals(firstPageDate, checkpointCaptor.getValue());
+
+		// the next synchronization continues after the checkpoint instead of fetching the first page again
+		SystemEventDto nextSync = SystemEventDto.build();
+		when(syncFacade.findLastSyncDateFor(SystemEventType.FETCH_EXTERNAL_MESSAGES)).thenReturn(checkpointCaptor.getValue());
+		ExternalMessageFacadeEjb nextFacade = spy(sut);
+		doReturn(buildPage(1, true, lastPageDate)).when(nextFacade).fetchExternalMessages(any(), anyInt());
+
+		assertTrue(nextFacade.fetchAndSaveExternalMessages(nextSync, null).isSuccess());
+		verify(nextFacade).fetchExternalMessages(firstPageDate, 2);
+		verify(syncFacade).reportSuccessfulSyncWithTimestamp(nextSync, lastPageDate);
+	}
+
+	private static ExternalMessageResult<ExternalMessagePage> buildPage(int messageCount, boolean lastPage, Date synchronizationDate) {
+
+		List<ExternalMessageDto> messages = new ArrayList<>();
+		for (int i = 0; i < messageCount; i++) {
+			messages.add(ExternalMessageDto.build());
+		}
+		return new ExternalMessageResult<>(new ExternalMessagePage(messages, lastPage), synchronizationDate, true, null);
+	}
 }
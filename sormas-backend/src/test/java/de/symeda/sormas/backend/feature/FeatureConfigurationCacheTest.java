@@ -0,0 +1,81 @@
+package de.symeda.sormas.backend.feature;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.feature.FeatureConfigurationIndexDto;
+import de.symeda.sormas.api.feature.FeatureType;
+import de.symeda.sormas.api.utils.DataHelper;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.MockProducer;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
+
+public class FeatureConfigurationCacheTest extends AbstractBeanTest {
+
+	@Test
+	public void testChecksServedFromSnapshot() {
+
+		FeatureConfigurationCache cache = getBean(FeatureConfigurationCache.class);
+
+		FeatureConfigurationIndexDto featureConfiguration =
+			new FeatureConfigurationIndexDto(DataHelper.createUuid(), null, null, null, null, null, false, null);
+		getFeatureConfigurationFacade().saveFeatureConfiguration(featureConfiguration, FeatureType.TASK_GENERATION_CASE_SURVEILLANCE);
+		assertFalse(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+
+		long reads = cache.getReadCount();
+		long polls = cache.getPollCount();
+		long rebuilds = cache.getRebuildCount();
+		long queries = cache.getQueryCount();
+		for (int i = 0; i < 10; i++) {
+			assertFalse(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+			assertTrue(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_MANAGEMENT));
+		}
+		assertEquals(reads + 20, cache.getReadCount());
+		assertEquals(polls, cache.getPollCount());
+		assertEquals(rebuilds, cache.getRebuildCount());
+		assertEquals(queries, cache.getQueryCount());
+
+		// changes made through the service are visible right away
+		getFeatureConfigurationFacade().saveFeatureConfiguration(
+			new FeatureConfigurationIndexDto(DataHelper.createUuid(), null, null, null, null, null, false, null),
+			FeatureType.TASK_MANAGEMENT);
+		assertFalse(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_MANAGEMENT));
+		assertEquals(rebuilds + 1, cache.getRebuildCount());
+		// the version query of the invalidation and the version and configuration queries of the rebuild
+		assertEquals(queries + 3, cache.getQueryCount());
+	}
+
+	@Test
+	public void testChangesOfOtherServersNoticedByPolling() {
+
+		FeatureConfigurationCache cache = getBean(FeatureConfigurationCache.class);
+
+		FeatureConfigurationIndexDto featureConfiguration =
+			new FeatureConfigurationIndexDto(DataHelper.createUuid(), null, null, null, null, null, false, null);
+		getFeatureConfigurationFacade().saveFeatureConfiguration(featureConfiguration, FeatureType.TASK_GENERATION_CASE_SURVEILLANCE);
+		assertFalse(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+
+		// another server enables the feature
+		executeInTransaction(em -> {
+			em.createQuery(
+				"UPDATE " + FeatureConfiguration.TABLE_NAME + " f SET f." + FeatureConfiguration.ENABLED + " = true, f."
+					+ FeatureConfiguration.CHANGE_DATE + " = :changeDate WHERE f." + FeatureConfiguration.FEATURE_TYPE + " = :featureType")
+				.setParameter("changeDate", new Timestamp(System.currentTimeMillis() + 1000))
+				.setParameter("featureType", FeatureType.TASK_GENERATION_CASE_SURVEILLANCE)
+				.executeUpdate();
+		});
+
+		// not polled yet
+		assertFalse(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+
+		MockProducer.mockProperty(ConfigFacadeEjb.FEATURE_CACHE_POLL_INTERVAL_SECONDS, "0");
+		long polls = cache.getPollCount();
+		assertTrue(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+		assertEquals(polls + 1, cache.getPollCount());
+	}
+}
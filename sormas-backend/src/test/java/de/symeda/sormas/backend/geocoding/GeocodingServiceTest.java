@@ -0,0 +1,111 @@
+package de.symeda.sormas.backend.geocoding;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+import de.symeda.sormas.api.geo.GeoLatLon;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.MockProducer;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
+
+@WireMockTest(httpPort = 7778)
+public class GeocodingServiceTest extends AbstractBeanTest {
+
+	@BeforeEach
+	public void setup(WireMockRuntimeInfo wireMockRuntime) {
+
+		MockProducer.getProperties()
+			.setProperty(
+				ConfigFacadeEjb.GEOCODING_SERVICE_URL_TEMPLATE,
+				"http://localhost:" + wireMockRuntime.getHttpPort() + "/geocode?street=${street}&houseNumber=${houseNumber}&city=${city}");
+		MockProducer.getProperties().setProperty("geocodingLatitudeJsonPath", "$.features[0].lat");
+		MockProducer.getProperties().setProperty("geocodingLongitudeJsonPath", "$.features[0].lon");
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.GEOCODING_MAX_REQUESTS_PER_SECOND, "0");
+		getGeocodingService().clearCache();
+	}
+
+	@Test
+	public void testGetLatLonIsCached() {
+
+		stubGeocode("{\"features\": [{\"lat\": 49.5, \"lon\": 8.4}]}", HttpStatus.SC_OK);
+		long hits = getGeocodingService().getCacheHitCount();
+
+		GeoLatLon latLon = getGeocodingService().getLatLon(new LocationQuery("5", "Main Street", "12345", "Springfield"));
+		assertEquals(49.5, latLon.getLat(), 0);
+		assertEquals(8.4, latLon.getLon(), 0);
+
+		// same address, written differently
+		latLon = getGeocodingService().getLatLon(new LocationQuery("5", " main  STREET", "12345", "springfield "));
+		assertEquals(49.5, latLon.getLat(), 0);
+		verify(exactly(1), getRequestedFor(urlPathEqualTo("/geocode")));
+		assertEquals(hits + 1, getGeocodingService().getCacheHitCount());
+	}
+
+	@Test
+	public void testAddressNotFoundIsCached() {
+
+		stubGeocode("{\"features\": []}", HttpStatus.SC_OK);
+
+		assertNull(getGeocodingService().getLatLon(new LocationQuery("1", "Unknown Street", "12345", "Springfield")));
+		assertNull(getGeocodingService().getLatLon(new LocationQuery("1", "Unknown Street", "12345", "Springfield")));
+		verify(exactly(1), getRequestedFor(urlPathEqualTo("/geocode")));
+	}
+
+	@Test
+	public void testFailedRequestIsNotCached() {
+
+		stubGeocode("", HttpStatus.SC_INTERNAL_SERVER_ERROR);
+
+		assertNull(getGeocodingService().getLatLon(new LocationQuery("5", "Main Street", "12345", "Springfield")));
+		assertNull(getGeocodingService().getLatLon(new LocationQuery("5", "Main Street", "12345", "Springfield")));
+		verify(exactly(2), getRequestedFor(urlPathEqualTo("/geocode")));
+	}
+
+	@Test
+	public void testGetLatLons() {
+
+		stubGeocode("{\"features\": [{\"lat\": 49.5, \"lon\": 8.4}]}", HttpStatus.SC_OK);
+
+		List<GeoLatLon> latLons = getGeocodingService().getLatLons(
+			Arrays.asList(
+				new LocationQuery("5", "Main Street", "12345", "Springfield"),
+				null,
+				new LocationQuery("7", "Main Street", "12345", "Springfield"),
+				new LocationQuery("5", "Main Street", "12345", "SPRINGFIELD")));
+
+		assertEquals(4, latLons.size());
+		assertEquals(49.5, latLons.get(0).getLat(), 0);
+		assertNull(latLons.get(1));
+		assertEquals(49.5, latLons.get(2).getLat(), 0);
+		assertEquals(49.5, latLons.get(3).getLat(), 0);
+		// the first and the last address are the same
+		verify(exactly(2), getRequestedFor(urlPathEqualTo("/geocode")));
+	}
+
+	private static void stubGeocode(String body, int status) {
+
+		stubFor(
+			get(urlPathEqualTo("/geocode"))
+				.willReturn(aResponse().withBody(body).withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON).withStatus(status)));
+	}
+}
@@ -0,0 +1,74 @@
+package de.symeda.sormas.backend.importexport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityReferenceDto;
+import de.symeda.sormas.api.infrastructure.facility.FacilityType;
+import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+import de.symeda.sormas.backend.infrastructure.district.District;
+import de.symeda.sormas.backend.infrastructure.region.Region;
+import de.symeda.sormas.backend.infrastructure.region.RegionFacadeEjb;
+
+public class InfrastructureNameResolverTest extends AbstractBeanTest {
+
+	@Test
+	public void testLookupsServedFromIndex() {
+
+		InfrastructureNameResolver resolver = getBean(InfrastructureNameResolver.class);
+
+		RDCF rdcf = creator.createRDCF("Région Nord", "Distrïct Nord", "Community", "Hôpital Central");
+
+		List<DistrictReferenceDto> districts = resolver.getDistrictsByName(" district nord ", rdcf.region, false);
+		assertEquals(1, districts.size());
+		assertEquals(rdcf.district.getUuid(), districts.get(0).getUuid());
+		assertEquals(1, resolver.getRegionsByName("REGION NORD", false).size());
+		RegionReferenceDto otherRegion = RegionFacadeEjb.toReferenceDto(creator.createRegion("Other"));
+		assertTrue(resolver.getDistrictsByName("District Nord", otherRegion, false).isEmpty());
+
+		List<FacilityReferenceDto> facilities =
+			resolver.getFacilitiesByNameAndType("hopital central", rdcf.district, null, FacilityType.HOSPITAL, false);
+		assertEquals(1, facilities.size());
+		assertEquals(rdcf.facility.getUuid(), facilities.get(0).getUuid());
+		assertTrue(resolver.getFacilitiesByNameAndType("hopital central", rdcf.district, null, FacilityType.LABORATORY, false).isEmpty());
+
+		long lookups = resolver.getLookupCount();
+		long polls = resolver.getPollCount();
+		long rebuilds = resolver.getRebuildCount();
+		for (int i = 0; i < 10; i++) {
+			assertEquals(1, resolver.getDistrictsByName("district nord", rdcf.region, false).size());
+			assertEquals(1, resolver.getCommunitiesByName("community", rdcf.district, false).size());
+		}
+		assertEquals(lookups + 20, resolver.getLookupCount());
+		assertEquals(polls, resolver.getPollCount());
+		// only the community index had to be built
+		assertEquals(rebuilds + 1, resolver.getRebuildCount());
+	}
+
+	@Test
+	public void testChangesVisibleRightAway() {
+
+		InfrastructureNameResolver resolver = getBean(InfrastructureNameResolver.class);
+
+		RDCF rdcf = creator.createRDCF("Region", "District", "Community", "Facility");
+		assertEquals(1, resolver.getDistrictsByName("District", null, false).size());
+
+		Region otherRegion = creator.createRegion("Other Region");
+		District otherDistrict = creator.createDistrict("District", otherRegion);
+		assertEquals(2, resolver.getDistrictsByName("District", null, false).size());
+		assertEquals(1, resolver.getDistrictsByName("District", RegionFacadeEjb.toReferenceDto(otherRegion), false).size());
+
+		getDistrictService().archive(getDistrictService().getByUuid(otherDistrict.getUuid()));
+		List<DistrictReferenceDto> districts = resolver.getDistrictsByName("District", null, false);
+		assertEquals(1, districts.size());
+		assertEquals(rdcf.district.getUuid(), districts.get(0).getUuid());
+		assertEquals(2, resolver.getDistrictsByName("District", null, true).size());
+	}
+}
@@ -19,7 +19,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.io.File;
+import java.security.cert.X509Certificate;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
@@ -32,6 +39,7 @@ import de.symeda.sormas.api.sormastosormas.SormasToSormasException;
 import de.symeda.sormas.api.sormastosormas.SormasToSormasOriginInfoDto;
 import de.symeda.sormas.api.sormastosormas.entities.caze.SormasToSormasCaseDto;
 import de.symeda.sormas.api.user.UserReferenceDto;
+import de.symeda.sormas.backend.MockProducer;
 import de.symeda.sormas.backend.sormastosormas.SormasToSormasTest;
 
 public class SormasToSormasEncryptionServiceTest extends SormasToSormasTest {
@@ -77,4 +85,30 @@ public class SormasToSormasEncryptionServiceTest extends SormasToSormasTest {
 		assertThat(decryptedBody.getContacts(), is(nullValue()));
 
 	}
+
+	@Test
+	public void testKeyMaterialIsCached() throws Exception {
+
+		SormasToSormasKeyMaterialCache keyMaterialCache = getBean(SormasToSormasKeyMaterialCache.class);
+		keyMaterialCache.clear();
+		mockDefaultServerAccess();
+
+		X509Certificate ownCertificate = getSormasToSormasEncryptionFacade().loadOwnCertificate();
+		long storeLoads = keyMaterialCache.getStoreLoadCount();
+		assertThat(getSormasToSormasEncryptionFacade().loadOwnCertificate(), sameInstance(ownCertificate));
+		assertThat(keyMaterialCache.getStoreLoadCount(), is(storeLoads));
+
+		// changed key store is loaded again
+		File keystore = new File("src/test/java/de/symeda/sormas/backend/sormastosormas/serveraccessdefault/sormas_a.sormas2sormas.keystore.p12");
+		assertThat(keystore.setLastModified(keystore.lastModified() + 1000), is(true));
+		getSormasToSormasEncryptionFacade().loadOwnCertificate();
+		assertThat(keyMaterialCache.getStoreLoadCount(), is(storeLoads + 1));
+
+		// the certificate of the recipient is only requested once
+		mockS2Snetwork();
+		mockDefaultServerAccess();
+		getSormasToSormasEncryptionFacade().signAndEncrypt("first", SECOND_SERVER_ID);
+		getSormasToSormasEncryptionFacade().signAndEncrypt("second", SECOND_SERVER_ID);
+		verify(MockProducer.getSormasToSormasClient(), times(1)).get(eq(SECOND_SERVER_ID), eq("/sormasToSormas/cert"), any());
+	}
 }
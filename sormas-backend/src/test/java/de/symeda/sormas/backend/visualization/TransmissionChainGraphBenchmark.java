@@ -0,0 +1,72 @@
+package de.symeda.sormas.backend.visualization;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.Language;
+import de.symeda.sormas.api.caze.CaseClassification;
+
+/**
+ * Shows the latency of building the transmission chains and the network diagram data from the result rows of the contact query. The
+ * number of contacts defaults to 500,000 and can be changed with the system property {@code benchmark.transmissions}.
+ * <p>
+ * Not part of the test suite (the class name does not end with "Test"), run it manually. Before the diagram was built by an external R
+ * process that loaded the contacts again by their ids.
+ */
+public class TransmissionChainGraphBenchmark {
+
+	private static final Logger logger = LoggerFactory.getLogger(TransmissionChainGraphBenchmark.class);
+
+	private static final int TRANSMISSIONS = Integer.getInteger("benchmark.transmissions", 500_000);
+
+	@Test
+	public void benchmarkTransmissionChainGraph() {
+
+		Random random = new Random(42);
+		long start = System.nanoTime();
+
+		// every contact person is either new or an already known person, the sources are known persons or index cases
+		TransmissionChainGraph.Builder builder = new TransmissionChainGraph.Builder();
+		long personCount = 0;
+		for (int i = 0; i < TRANSMISSIONS; i++) {
+			long source = personCount == 0 || random.nextInt(10) == 0 ? personCount++ : (long) random.nextInt((int) personCount);
+			long target = random.nextInt(5) == 0 ? (long) random.nextInt((int) personCount) : personCount++;
+			builder.addPerson(source, "CASE-" + source, null, CaseClassification.CONFIRMED);
+			builder.addPerson(target, null, null, null);
+			builder.addTransmission(source, target, random.nextBoolean());
+		}
+		long collectedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		start = System.nanoTime();
+		TransmissionChainGraph graph = builder.build();
+		long builtMillis = (System.nanoTime() - start) / 1_000_000;
+
+		start = System.nanoTime();
+		String json = graph.toJson(Language.EN);
+		long jsonMillis = (System.nanoTime() - start) / 1_000_000;
+
+		logger.info(
+			"{} persons, {} transmissions, {} chains (largest {}, max. generation {}): collected in {} ms, built in {} ms, "
+				+ "JSON ({} characters) written in {} ms",
+			graph.getPersonCount(),
+			graph.getTransmissionCount(),
+			graph.getChainCount(),
+			graph.getLargestChainSize(),
+			graph.getMaxGeneration(),
+			collectedMillis,
+			builtMillis,
+			json.length(),
+			jsonMillis);
+
+		assertThat((long) graph.getPersonCount(), lessThanOrEqualTo(personCount));
+		assertThat(graph.getTransmissionCount(), lessThanOrEqualTo(TRANSMISSIONS));
+		assertThat(graph.getLargestChainSize(), greaterThan(1));
+	}
+}
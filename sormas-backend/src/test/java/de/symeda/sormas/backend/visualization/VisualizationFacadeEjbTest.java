@@ -1,94 +1,143 @@
 package de.symeda.sormas.backend.visualization;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.endsWith;
-import static org.hamcrest.Matchers.hasSize;
-import static org.hamcrest.Matchers.is;
-import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 
-import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.io.TempDir;
 
-import de.symeda.sormas.api.Language;
-
-public class VisualizationFacadeEjbTest { // extends AbstractBeanTest {
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-	@TempDir
-	private Path tempDir;
+import de.symeda.sormas.api.Disease;
+import de.symeda.sormas.api.Language;
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.contact.ContactProximity;
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.user.DefaultUserRole;
+import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.TestDataCreator.RDCF;
+import de.symeda.sormas.backend.visualization.VisualizationFacadeEjb.VisualizationFacadeEjbLocal;
+
+public class VisualizationFacadeEjbTest extends AbstractBeanTest {
 
 	@Test
-	public void testStaticBuildTransmissionChainJson() {
-
-		List<Long> contactIds = Arrays.asList(30481L, 30478L);
-
-		String[] rscriptExecutableLocs = {
-			"C:\\Program Files\\R\\R-3.6.2\\bin\\Rscript.exe",
-			"C:\\Program Files\\R\\R-3.6.3\\bin\\Rscript.exe" };
-
-		Optional<String> rscriptExecutable = Arrays.stream(rscriptExecutableLocs).filter(p -> Files.isExecutable(Paths.get(p))).findFirst();
-
-		rscriptExecutable.ifPresent(r -> {
-
-			Path domainXmlPath = writeDomainXml();
-
-			String result = VisualizationFacadeEjb.buildTransmissionChainJson(r, tempDir, domainXmlPath, contactIds, Language.EN);
-			assertThat(result, startsWith("{"));
-			assertThat(result, endsWith("}"));
-		});
+	public void testBuildTransmissionChainJson() throws IOException {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createUser(rdcf, creator.getUserRoleReference(DefaultUserRole.NATIONAL_USER));
+		loginWith(user);
+
+		PersonDto sourcePerson = creator.createPerson();
+		CaseDataDto sourceCase = creator.createCase(user.toReference(), sourcePerson.toReference(), rdcf);
+		PersonDto highRiskPerson = creator.createPerson();
+		createContact(user, highRiskPerson, sourceCase, rdcf, ContactProximity.FACE_TO_FACE_LONG);
+		createContact(user, highRiskPerson, sourceCase, rdcf, ContactProximity.FACE_TO_FACE_SHORT);
+		PersonDto lowRiskPerson = creator.createPerson();
+		createContact(user, lowRiskPerson, sourceCase, rdcf, ContactProximity.SAME_ROOM);
+		PersonDto personWithoutSource = creator.createPerson();
+		createContact(user, personWithoutSource, null, rdcf, null);
+
+		String json = getBean(VisualizationFacadeEjbLocal.class)
+			.buildTransmissionChainJson(null, null, null, null, EnumSet.allOf(Disease.class), Language.EN);
+		JsonNode x = new ObjectMapper().readTree(json).get("x");
+
+		JsonNode nodes = x.get("nodes");
+		assertThat(toList(nodes.get("uuid")), containsInAnyOrder(sourceCase.getUuid(), null, null, null));
+		assertEquals(4, nodes.get("id").size());
+		JsonNode edges = x.get("edges");
+		assertEquals(2, edges.get("from").size());
+		assertThat(toList(edges.get("label")), containsInAnyOrder("1", "2"));
+		// one legend entry per classification and per risk
+		assertEquals(x.get("groups").size() + 2, x.get("legend").get("nodes").get("label").size());
+
+		TransmissionChainGraph graph = getBean(VisualizationFacadeEjbLocal.class)
+			.buildTransmissionChainGraph(null, null, null, null, EnumSet.allOf(Disease.class));
+		assertEquals(2, graph.getChainCount());
+		assertEquals(3, graph.getLargestChainSize());
+		assertEquals(1, graph.getMaxGeneration());
+
+		// contacts of other diseases are not included
+		assertThat(
+			getBean(VisualizationFacadeEjbLocal.class)
+				.buildTransmissionChainJson(null, null, null, null, EnumSet.of(Disease.CHOLERA), Language.EN),
+			nullValue());
 	}
 
 	@Test
-	public void testExtractJson() {
-		String json = VisualizationFacadeEjb.extractJson(
-			"<!DOCTYPE html>\r\n" + "<html>\r\n" + "<head>\r\n" + "<meta charset=\"utf-8\"/>\r\n" + "<style>body{background-color:white;}</style>\r\n"
-				+ "<script src=\"result_files/htmlwidgets-1.5.1/htmlwidgets.js\"></script>\r\n"
-				+ "<link href=\"result_files/vis-4.20.1/vis.css\" rel=\"stylesheet\" />\r\n" + "</head>\r\n" + "<body>\r\n"
-				+ "<div id=\"htmlwidget_container\">\r\n"
-				+ "  <div id=\"htmlwidget-b9f896960aa32dc1f3e5\" style=\"width:90%;height:700px;\" class=\"visNetwork html-widget\"></div>\r\n"
-				+ "</div>\r\n" + "<script type=\"application/json\" data-for=\"htmlwidget-b9f896960aa32dc1f3e5\">{\"x\":\"a\\/b\"}</script>\r\n"
-				+ "</body>\r\n" + "</html>",
-			Language.EN);
-		assertThat(json, is("{\"x\":\"a\\/b\"}"));
+	public void testTransmissionChainGraph() throws IOException {
+
+		Date earlier = DateHelper.subtractDays(new Date(), 1);
+		TransmissionChainGraph graph = new TransmissionChainGraph.Builder()
+			.addPerson(1, "CASE-1", new Date(), CaseClassification.CONFIRMED)
+			.addPerson(2, null, null, null)
+			.addPerson(2, "LATER-CASE", new Date(), CaseClassification.SUSPECT)
+			.addPerson(2, "EARLIER-CASE", earlier, CaseClassification.PROBABLE)
+			.addPerson(3, null, null, null)
+			.addPerson(4, null, null, null)
+			.addPerson(5, null, null, null)
+			.addPerson(6, "CASE-6", new Date(), CaseClassification.NO_CASE)
+			.addTransmission(1, 2, false)
+			.addTransmission(1, 2, true)
+			.addTransmission(2, 3, false)
+			.addTransmission(4, 5, false)
+			.addTransmission(5, 4, false)
+			.addTransmission(6, 6, true)
+			.build();
+
+		assertEquals(6, graph.getPersonCount());
+		assertEquals(4, graph.getTransmissionCount());
+		assertEquals(3, graph.getChainCount());
+		assertEquals(3, graph.getLargestChainSize());
+		assertEquals(2, graph.getMaxGeneration());
+		assertEquals(graph.getChainIndex(1), graph.getChainIndex(3));
+		assertNotEquals(graph.getChainIndex(1), graph.getChainIndex(4));
+		assertEquals(-1, graph.getChainIndex(7));
+
+		JsonNode x = new ObjectMapper().readTree(graph.toJson(Language.EN)).get("x");
+		assertThat(toList(x.get("nodes").get("uuid")), contains("CASE-1", "EARLIER-CASE", null, null, null, "CASE-6"));
+		assertThat(toList(x.get("nodes").get("label")), contains("CASE-1", "EARLIE", null, null, null, "CASE-6"));
+		assertThat(toList(x.get("edges").get("from")), contains("1", "2", "4", "5"));
+		assertThat(toList(x.get("edges").get("to")), contains("2", "3", "5", "4"));
+		assertThat(toList(x.get("edges").get("label")), contains("1", "2", "2", "2"));
+
+		// persons without a case and with a case that is not shown are healthy
+		List<String> classifications = toList(x.get("nodes").get("Classification"));
+		String healthy = toList(x.get("groups")).get(0);
+		assertEquals(healthy, classifications.get(2));
+		assertEquals(healthy, classifications.get(5));
+		assertNotEquals(healthy, classifications.get(1));
 	}
 
-	@Test
-	public void testReadDbConection() throws IOException {
-
-		Path domainXmlPath = writeDomainXml();
-
-		Map<String, String> dbProperties =
-			VisualizationFacadeEjb.getConnectionPoolProperties(domainXmlPath, VisualizationFacadeEjb.SORMAS_DATA_POOL_JNDI);
-		assertThat(dbProperties.entrySet(), hasSize(5));
-		assertThat(dbProperties, Matchers.hasEntry("user", "sormas_user"));
-		assertThat(dbProperties, Matchers.hasEntry("password", "sormas_user"));
-		assertThat(dbProperties, Matchers.hasEntry("portNumber", "5432"));
-		assertThat(dbProperties, Matchers.hasEntry("databaseName", "sormas_db"));
-		assertThat(dbProperties, Matchers.hasEntry("serverName", "localhost"));
+	private void createContact(UserDto user, PersonDto person, CaseDataDto caze, RDCF rdcf, ContactProximity proximity) {
+		creator.createContact(
+			user.toReference(),
+			null,
+			person.toReference(),
+			caze,
+			new Date(),
+			null,
+			Disease.EVD,
+			rdcf,
+			c -> c.setContactProximity(proximity));
 	}
 
-	private Path writeDomainXml() {
-		try {
-			Path domPath = Files.createTempFile(tempDir, "domain", ".xml");
-
-			try (InputStream in = getClass().getResourceAsStream("/domain.xml")) {
-				Files.copy(in, domPath, StandardCopyOption.REPLACE_EXISTING);
-			}
-			return domPath;
-		} catch (IOException e) {
-			throw new UncheckedIOException(e);
-		}
+	private static List<String> toList(JsonNode array) {
+
+		List<String> values = new ArrayList<>();
+		array.forEach(value -> values.add(value.isNull() ? null : value.asText()));
+		return values;
 	}
 }
@@ -454,4 +454,3 @@ if [[ ${DEV_SYSTEM} != true ]]; then
 	echo "  - Execute the server-update.sh file to populate the database and deploy the server"
 	echo "  - Configure the apache web server according to the server setup guide"
 fi
-	echo "  - Execute the r-setup.sh file to enable disease network diagrams"
\ No newline at end of file
@@ -26,7 +26,9 @@ import javax.ws.rs.ApplicationPath;
 
 import org.apache.commons.collections4.SetUtils;
 import org.glassfish.jersey.jackson.JacksonFeature;
+import org.glassfish.jersey.message.GZipEncoder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.filter.EncodingFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +63,8 @@ public class RestConfig extends ResourceConfig {
 		packages(getClass().getPackage().getName());
 
 		register(JacksonFeature.class);
+		// compress responses for clients that send Accept-Encoding: gzip
+		EncodingFilter.enableFor(this, GZipEncoder.class);
 
 		SwaggerConfig.init();
 
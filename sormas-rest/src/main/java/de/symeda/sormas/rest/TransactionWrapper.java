@@ -1,9 +1,12 @@
 package de.symeda.sormas.rest;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 
+import javax.annotation.Resource;
 import javax.annotation.security.PermitAll;
 import javax.ejb.LocalBean;
+import javax.ejb.SessionContext;
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
@@ -26,6 +29,9 @@ import javax.ejb.TransactionAttributeType;
 @PermitAll
 public class TransactionWrapper {
 
+	@Resource
+	private SessionContext context;
+
 	/**
 	 * Calls the passed function in a new JTA transaction.
 	 *
@@ -42,4 +48,24 @@ public class TransactionWrapper {
 
 		return function.apply(data);
 	}
+
+	/**
+	 * Calls the passed function in a new JTA transaction that is rolled back as a whole when the function fails, also for application
+	 * exceptions that would not cause a rollback on their own (e.g. validation errors).
+	 *
+	 * @param function
+	 *            The business logic to be executed.
+	 * @param data
+	 *            The data to be processed.
+	 */
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public <T> void executeAtomic(Consumer<T> function, T data) {
+
+		try {
+			function.accept(data);
+		} catch (RuntimeException e) {
+			context.setRollbackOnly();
+			throw e;
+		}
+	}
 }
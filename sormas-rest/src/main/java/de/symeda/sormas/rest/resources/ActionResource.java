@@ -99,4 +99,9 @@ public class ActionResource extends EntityDtoResource<ActionDto> {
 	public Response postEntityDtos(List<ActionDto> actionDtos) {
 		return super.postEntityDtos(actionDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<ActionDto> actionDtos) {
+		return super.postEntityDtosInBulk(actionDtos);
+	}
 }
@@ -35,7 +35,11 @@ import de.symeda.sormas.api.common.Page;
 import de.symeda.sormas.api.sample.AdditionalTestCriteria;
 import de.symeda.sormas.api.sample.AdditionalTestDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/additionaltests")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -50,11 +54,19 @@ public class AdditionalTestResource extends EntityDtoResource<AdditionalTestDto>
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<AdditionalTestDto> getAllAdditionalTests(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = AdditionalTestDto.class))))
+	public Response getAllAdditionalTests(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getAdditionalTestFacade().getAllActiveAdditionalTestsAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(
+			since,
+			size,
+			lastSynchronizedUuid,
+			byteLimited,
+			FacadeProvider.getAdditionalTestFacade()::getAllActiveAdditionalTestsAfter);
 	}
 
 	@POST
@@ -88,4 +100,9 @@ public class AdditionalTestResource extends EntityDtoResource<AdditionalTestDto>
 	public Response postEntityDtos(List<AdditionalTestDto> additionalTestDtos) {
 		return super.postEntityDtos(additionalTestDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<AdditionalTestDto> additionalTestDtos) {
+		return super.postEntityDtosInBulk(additionalTestDtos);
+	}
 }
@@ -72,4 +72,9 @@ public class AggregateReportResource extends EntityDtoResource<AggregateReportDt
 	public Response postEntityDtos(List<AggregateReportDto> aggregateReportDtos) {
 		return super.postEntityDtos(aggregateReportDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<AggregateReportDto> aggregateReportDtos) {
+		return super.postEntityDtosInBulk(aggregateReportDtos);
+	}
 }
@@ -62,4 +62,9 @@ public class CampaignFormDataResource extends EntityDtoResource<CampaignFormData
 	public Response postEntityDtos(List<CampaignFormDataDto> campaignFormDataDtos) {
 		return super.postEntityDtos(campaignFormDataDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<CampaignFormDataDto> campaignFormDataDtos) {
+		return super.postEntityDtosInBulk(campaignFormDataDtos);
+	}
 }
@@ -51,7 +51,11 @@ import de.symeda.sormas.api.externaldata.ExternalDataDto;
 import de.symeda.sormas.api.externaldata.ExternalDataUpdateException;
 import de.symeda.sormas.api.utils.Experimental;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/cases")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -66,11 +70,14 @@ public class CaseResource extends EntityDtoResource<CaseDataDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<CaseDataDto> getAllCases(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = CaseDataDto.class))))
+	public Response getAllCases(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getCaseFacade().getAllAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getCaseFacade()::getAllAfter);
 	}
 
 	@POST
@@ -229,4 +236,9 @@ public class CaseResource extends EntityDtoResource<CaseDataDto> {
 	public Response postEntityDtos(List<CaseDataDto> caseDataDtos) {
 		return super.postEntityDtos(caseDataDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<CaseDataDto> caseDataDtos) {
+		return super.postEntityDtosInBulk(caseDataDtos);
+	}
 }
@@ -36,7 +36,11 @@ import de.symeda.sormas.api.clinicalcourse.ClinicalVisitDto;
 import de.symeda.sormas.api.clinicalcourse.ClinicalVisitIndexDto;
 import de.symeda.sormas.api.common.Page;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/clinicalvisits")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -51,11 +55,19 @@ public class ClinicalVisitResource extends EntityDtoResource<ClinicalVisitDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<ClinicalVisitDto> getAllVisits(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = ClinicalVisitDto.class))))
+	public Response getAllVisits(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getClinicalVisitFacade().getAllActiveClinicalVisitsAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(
+			since,
+			size,
+			lastSynchronizedUuid,
+			byteLimited,
+			FacadeProvider.getClinicalVisitFacade()::getAllActiveClinicalVisitsAfter);
 	}
 
 	@POST
@@ -89,4 +101,9 @@ public class ClinicalVisitResource extends EntityDtoResource<ClinicalVisitDto> {
 	public Response postEntityDtos(List<ClinicalVisitDto> clinicalVisitDtos) {
 		return super.postEntityDtos(clinicalVisitDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<ClinicalVisitDto> clinicalVisitDtos) {
+		return super.postEntityDtosInBulk(clinicalVisitDtos);
+	}
 }
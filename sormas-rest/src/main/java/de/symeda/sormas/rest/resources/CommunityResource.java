@@ -94,4 +94,9 @@ public class CommunityResource extends EntityDtoResource<CommunityDto> {
 	public Response postEntityDtos(List<CommunityDto> communityDtos) {
 		return super.postEntityDtos(communityDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<CommunityDto> communityDtos) {
+		return super.postEntityDtosInBulk(communityDtos);
+	}
 }
@@ -42,7 +42,11 @@ import de.symeda.sormas.api.contact.ContactIndexDto;
 import de.symeda.sormas.api.externaldata.ExternalDataDto;
 import de.symeda.sormas.api.externaldata.ExternalDataUpdateException;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 /**
  * @see <a href="https://jersey.java.net/documentation/latest/">Jersey
@@ -65,11 +69,14 @@ public class ContactResource extends EntityDtoResource<ContactDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<ContactDto> getAllContacts(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContactDto.class))))
+	public Response getAllContacts(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getContactFacade().getAllAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getContactFacade()::getAllAfter);
 	}
 
 	@POST
@@ -167,4 +174,9 @@ public class ContactResource extends EntityDtoResource<ContactDto> {
 	public Response postEntityDtos(List<ContactDto> contactDtos) {
 		return super.postEntityDtos(contactDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<ContactDto> contactDtos) {
+		return super.postEntityDtosInBulk(contactDtos);
+	}
 }
@@ -90,4 +90,9 @@ public class ContinentResource extends EntityDtoResource<ContinentDto> {
 	public Response postEntityDtos(List<ContinentDto> continentDtos) {
 		return super.postEntityDtos(continentDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<ContinentDto> continentDtos) {
+		return super.postEntityDtosInBulk(continentDtos);
+	}
 }
@@ -95,4 +95,9 @@ public class CountryResource extends EntityDtoResource<CountryDto> {
 	public Response postEntityDtos(List<CountryDto> countryDtos) {
 		return super.postEntityDtos(countryDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<CountryDto> countryDtos) {
+		return super.postEntityDtosInBulk(countryDtos);
+	}
 }
@@ -95,4 +95,9 @@ public class DistrictResource extends EntityDtoResource<DistrictDto> {
 	public Response postEntityDtos(List<DistrictDto> districtDtos) {
 		return super.postEntityDtos(districtDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<DistrictDto> districtDtos) {
+		return super.postEntityDtosInBulk(districtDtos);
+	}
 }
@@ -101,4 +101,9 @@ public class EventGroupResource extends EntityDtoResource<EventGroupDto> {
 	public Response postEntityDtos(List<EventGroupDto> eventGroupDtos) {
 		return super.postEntityDtos(eventGroupDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<EventGroupDto> eventGroupDtos) {
+		return super.postEntityDtosInBulk(eventGroupDtos);
+	}
 }
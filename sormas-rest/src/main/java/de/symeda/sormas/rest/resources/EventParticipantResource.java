@@ -36,7 +36,11 @@ import de.symeda.sormas.api.event.EventParticipantCriteria;
 import de.symeda.sormas.api.event.EventParticipantDto;
 import de.symeda.sormas.api.event.EventParticipantIndexDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 /**
  * @see <a href="https://jersey.java.net/documentation/latest/">Jersey
@@ -58,11 +62,14 @@ public class EventParticipantResource extends EntityDtoResource<EventParticipant
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<EventParticipantDto> getAllEventParticipantsAfter(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventParticipantDto.class))))
+	public Response getAllEventParticipantsAfter(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getEventParticipantFacade().getAllAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getEventParticipantFacade()::getAllAfter);
 	}
 
 	@GET
@@ -132,4 +139,9 @@ public class EventParticipantResource extends EntityDtoResource<EventParticipant
 	public Response postEntityDtos(List<EventParticipantDto> eventParticipantDtos) {
 		return super.postEntityDtos(eventParticipantDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<EventParticipantDto> eventParticipantDtos) {
+		return super.postEntityDtosInBulk(eventParticipantDtos);
+	}
 }
@@ -40,7 +40,11 @@ import de.symeda.sormas.api.event.EventIndexDto;
 import de.symeda.sormas.api.externaldata.ExternalDataDto;
 import de.symeda.sormas.api.externaldata.ExternalDataUpdateException;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/events")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -55,11 +59,14 @@ public class EventResource extends EntityDtoResource<EventDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<EventDto> getAllEvents(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventDto.class))))
+	public Response getAllEvents(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getEventFacade().getAllAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getEventFacade()::getAllAfter);
 	}
 
 	/**
@@ -161,4 +168,9 @@ public class EventResource extends EntityDtoResource<EventDto> {
 	public Response postEntityDtos(List<EventDto> eventDtos) {
 		return super.postEntityDtos(eventDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<EventDto> eventDtos) {
+		return super.postEntityDtosInBulk(eventDtos);
+	}
 }
@@ -101,4 +101,9 @@ public class FacilityResource extends EntityDtoResource<FacilityDto> {
 	public Response postEntityDtos(List<FacilityDto> facilityDtos) {
 		return super.postEntityDtos(facilityDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<FacilityDto> facilityDtos) {
+		return super.postEntityDtosInBulk(facilityDtos);
+	}
 }
@@ -47,7 +47,11 @@ import de.symeda.sormas.api.person.PersonReferenceDto;
 import de.symeda.sormas.api.utils.Experimental;
 import de.symeda.sormas.api.vaccination.VaccinationDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/immunizations")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -62,11 +66,14 @@ public class ImmunizationResource extends EntityDtoResource<ImmunizationDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<ImmunizationDto> getAllAfter(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = ImmunizationDto.class))))
+	public Response getAllAfter(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getImmunizationFacade().getAllAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getImmunizationFacade()::getAllAfter);
 	}
 
 	@POST
@@ -190,4 +197,9 @@ public class ImmunizationResource extends EntityDtoResource<ImmunizationDto> {
 	public Response postEntityDtos(List<ImmunizationDto> immunizationDtos) {
 		return super.postEntityDtos(immunizationDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<ImmunizationDto> immunizationDtos) {
+		return super.postEntityDtosInBulk(immunizationDtos);
+	}
 }
@@ -85,4 +85,9 @@ public class OutbreakResource extends EntityDtoResource<OutbreakDto> {
 	public Response postEntityDtos(List<OutbreakDto> outbreakDtos) {
 		return super.postEntityDtos(outbreakDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<OutbreakDto> outbreakDtos) {
+		return super.postEntityDtosInBulk(outbreakDtos);
+	}
 }
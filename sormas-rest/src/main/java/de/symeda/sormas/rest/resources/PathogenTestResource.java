@@ -35,7 +35,11 @@ import de.symeda.sormas.api.common.Page;
 import de.symeda.sormas.api.sample.PathogenTestCriteria;
 import de.symeda.sormas.api.sample.PathogenTestDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/pathogentests")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -50,11 +54,19 @@ public class PathogenTestResource extends EntityDtoResource<PathogenTestDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<PathogenTestDto> getAllPathogenTests(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = PathogenTestDto.class))))
+	public Response getAllPathogenTests(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getPathogenTestFacade().getAllActivePathogenTestsAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(
+			since,
+			size,
+			lastSynchronizedUuid,
+			byteLimited,
+			FacadeProvider.getPathogenTestFacade()::getAllActivePathogenTestsAfter);
 	}
 
 	@POST
@@ -100,4 +112,9 @@ public class PathogenTestResource extends EntityDtoResource<PathogenTestDto> {
 	public Response postEntityDtos(List<PathogenTestDto> pathogenTestDtos) {
 		return super.postEntityDtos(pathogenTestDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<PathogenTestDto> pathogenTestDtos) {
+		return super.postEntityDtosInBulk(pathogenTestDtos);
+	}
 }
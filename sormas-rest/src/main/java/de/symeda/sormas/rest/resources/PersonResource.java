@@ -41,7 +41,11 @@ import de.symeda.sormas.api.person.PersonIndexDto;
 import de.symeda.sormas.api.person.PersonSimilarityCriteria;
 import de.symeda.sormas.api.person.SimilarPersonDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 /**
  * @see <a href="https://jersey.java.net/documentation/latest/">Jersey
@@ -64,11 +68,14 @@ public class PersonResource extends EntityDtoResource<PersonDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<PersonDto> getAllPersons(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = PersonDto.class))))
+	public Response getAllPersons(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getPersonFacade().getAllAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getPersonFacade()::getAllAfter);
 	}
 
 	@POST
@@ -131,4 +138,9 @@ public class PersonResource extends EntityDtoResource<PersonDto> {
 	public Response postEntityDtos(List<PersonDto> personDtos) {
 		return super.postEntityDtos(personDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<PersonDto> personDtos) {
+		return super.postEntityDtosInBulk(personDtos);
+	}
 }
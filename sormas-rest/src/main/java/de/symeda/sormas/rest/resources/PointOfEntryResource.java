@@ -94,4 +94,9 @@ public class PointOfEntryResource extends EntityDtoResource<PointOfEntryDto> {
 	public Response postEntityDtos(List<PointOfEntryDto> pointOfEntryDtos) {
 		return super.postEntityDtos(pointOfEntryDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<PointOfEntryDto> pointOfEntryDtos) {
+		return super.postEntityDtosInBulk(pointOfEntryDtos);
+	}
 }
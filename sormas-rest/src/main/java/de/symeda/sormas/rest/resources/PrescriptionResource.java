@@ -25,6 +25,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -34,7 +35,11 @@ import de.symeda.sormas.api.therapy.PrescriptionCriteria;
 import de.symeda.sormas.api.therapy.PrescriptionDto;
 import de.symeda.sormas.api.therapy.PrescriptionIndexDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/prescriptions")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -49,11 +54,19 @@ public class PrescriptionResource extends EntityDtoResource<PrescriptionDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<PrescriptionDto> getAllPrescriptions(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = PrescriptionDto.class))))
+	public Response getAllPrescriptions(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getPrescriptionFacade().getAllActivePrescriptionsAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(
+			since,
+			size,
+			lastSynchronizedUuid,
+			byteLimited,
+			FacadeProvider.getPrescriptionFacade()::getAllActivePrescriptionsAfter);
 	}
 
 	@GET
@@ -83,4 +96,9 @@ public class PrescriptionResource extends EntityDtoResource<PrescriptionDto> {
 	public Response postEntityDtos(List<PrescriptionDto> prescriptionDtos) {
 		return super.postEntityDtos(prescriptionDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<PrescriptionDto> prescriptionDtos) {
+		return super.postEntityDtosInBulk(prescriptionDtos);
+	}
 }
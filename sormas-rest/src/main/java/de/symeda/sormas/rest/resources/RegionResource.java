@@ -95,4 +95,9 @@ public class RegionResource extends EntityDtoResource<RegionDto> {
 	public Response postEntityDtos(List<RegionDto> regionDtos) {
 		return super.postEntityDtos(regionDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<RegionDto> regionDtos) {
+		return super.postEntityDtosInBulk(regionDtos);
+	}
 }
@@ -38,7 +38,11 @@ import de.symeda.sormas.api.sample.SampleCriteria;
 import de.symeda.sormas.api.sample.SampleDto;
 import de.symeda.sormas.api.sample.SampleIndexDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/samples")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -53,11 +57,14 @@ public class SampleResource extends EntityDtoResource<SampleDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<SampleDto> getAllSamples(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = SampleDto.class))))
+	public Response getAllSamples(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getSampleFacade().getAllActiveSamplesAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getSampleFacade()::getAllActiveSamplesAfter);
 	}
 
 	@GET
@@ -121,4 +128,9 @@ public class SampleResource extends EntityDtoResource<SampleDto> {
 	public Response postEntityDtos(List<SampleDto> sampleDtos) {
 		return super.postEntityDtos(sampleDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<SampleDto> sampleDtos) {
+		return super.postEntityDtosInBulk(sampleDtos);
+	}
 }
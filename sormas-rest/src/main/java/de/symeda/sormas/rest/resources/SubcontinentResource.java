@@ -90,4 +90,9 @@ public class SubcontinentResource extends EntityDtoResource<SubcontinentDto> {
 	public Response postEntityDtos(List<SubcontinentDto> subcontinentDtos) {
 		return super.postEntityDtos(subcontinentDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<SubcontinentDto> subcontinentDtos) {
+		return super.postEntityDtosInBulk(subcontinentDtos);
+	}
 }
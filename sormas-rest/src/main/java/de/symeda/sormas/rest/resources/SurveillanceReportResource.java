@@ -49,4 +49,9 @@ public class SurveillanceReportResource extends EntityDtoResource<SurveillanceRe
 	public Response postEntityDtos(List<SurveillanceReportDto> surveillanceReportDtos) {
 		return super.postEntityDtos(surveillanceReportDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<SurveillanceReportDto> surveillanceReportDtos) {
+		return super.postEntityDtosInBulk(surveillanceReportDtos);
+	}
 }
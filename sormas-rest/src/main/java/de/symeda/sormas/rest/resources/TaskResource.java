@@ -36,7 +36,11 @@ import de.symeda.sormas.api.task.TaskCriteria;
 import de.symeda.sormas.api.task.TaskDto;
 import de.symeda.sormas.api.task.TaskIndexDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 /**
  * @see <a href="https://jersey.java.net/documentation/latest/">Jersey
@@ -59,11 +63,14 @@ public class TaskResource extends EntityDtoResource<TaskDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<TaskDto> getAll(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskDto.class))))
+	public Response getAll(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getTaskFacade().getAllActiveTasksAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getTaskFacade()::getAllActiveTasksAfter);
 	}
 
 	@POST
@@ -120,4 +127,9 @@ public class TaskResource extends EntityDtoResource<TaskDto> {
 	public Response postEntityDtos(List<TaskDto> taskDtos) {
 		return super.postEntityDtos(taskDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<TaskDto> taskDtos) {
+		return super.postEntityDtosInBulk(taskDtos);
+	}
 }
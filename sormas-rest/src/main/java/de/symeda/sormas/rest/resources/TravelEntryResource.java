@@ -77,4 +77,9 @@ public class TravelEntryResource extends EntityDtoResource<TravelEntryDto> {
 	public Response postEntityDtos(List<TravelEntryDto> travelEntryDtos) {
 		return super.postEntityDtos(travelEntryDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<TravelEntryDto> travelEntryDtos) {
+		return super.postEntityDtosInBulk(travelEntryDtos);
+	}
 }
@@ -25,6 +25,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -34,7 +35,11 @@ import de.symeda.sormas.api.therapy.TreatmentCriteria;
 import de.symeda.sormas.api.therapy.TreatmentDto;
 import de.symeda.sormas.api.therapy.TreatmentIndexDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/treatments")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -49,11 +54,19 @@ public class TreatmentResource extends EntityDtoResource<TreatmentDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<TreatmentDto> getAllTreatments(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = TreatmentDto.class))))
+	public Response getAllTreatments(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getTreatmentFacade().getAllActiveTreatmentsAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(
+			since,
+			size,
+			lastSynchronizedUuid,
+			byteLimited,
+			FacadeProvider.getTreatmentFacade()::getAllActiveTreatmentsAfter);
 	}
 
 	@POST
@@ -83,4 +96,9 @@ public class TreatmentResource extends EntityDtoResource<TreatmentDto> {
 	public Response postEntityDtos(List<TreatmentDto> treatmentDtos) {
 		return super.postEntityDtos(treatmentDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<TreatmentDto> treatmentDtos) {
+		return super.postEntityDtosInBulk(treatmentDtos);
+	}
 }
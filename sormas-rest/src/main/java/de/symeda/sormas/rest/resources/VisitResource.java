@@ -36,7 +36,11 @@ import de.symeda.sormas.api.visit.VisitCriteria;
 import de.symeda.sormas.api.visit.VisitDto;
 import de.symeda.sormas.api.visit.VisitIndexDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 /**
  * @see <a href="https://jersey.java.net/documentation/latest/">Jersey
@@ -62,11 +66,14 @@ public class VisitResource extends EntityDtoResource<VisitDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<VisitDto> getAllVisits(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = VisitDto.class))))
+	public Response getAllVisits(
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getVisitFacade().getAllActiveVisitsAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(since, size, lastSynchronizedUuid, byteLimited, FacadeProvider.getVisitFacade()::getAllActiveVisitsAfter);
 	}
 
 	@POST
@@ -99,4 +106,9 @@ public class VisitResource extends EntityDtoResource<VisitDto> {
 	public Response postEntityDtos(List<VisitDto> visitDtos) {
 		return super.postEntityDtos(visitDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<VisitDto> visitDtos) {
+		return super.postEntityDtosInBulk(visitDtos);
+	}
 }
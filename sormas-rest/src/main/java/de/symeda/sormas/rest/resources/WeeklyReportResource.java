@@ -25,6 +25,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -33,6 +34,10 @@ import javax.ws.rs.core.SecurityContext;
 import de.symeda.sormas.api.FacadeProvider;
 import de.symeda.sormas.api.report.WeeklyReportDto;
 import de.symeda.sormas.rest.resources.base.EntityDtoResource;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 @Path("/weeklyreports")
 @Produces(MediaType.APPLICATION_JSON + "; charset=UTF-8")
@@ -47,12 +52,20 @@ public class WeeklyReportResource extends EntityDtoResource<WeeklyReportDto> {
 
 	@GET
 	@Path("/all/{since}/{size}/{lastSynchronizedUuid}")
-	public List<WeeklyReportDto> getAllWeeklyReports(
+	@ApiResponse(description = "default response",
+		content = @Content(array = @ArraySchema(schema = @Schema(implementation = WeeklyReportDto.class))))
+	public Response getAllWeeklyReports(
 		@Context SecurityContext sc,
 		@PathParam("since") long since,
 		@PathParam("size") int size,
-		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid) {
-		return FacadeProvider.getWeeklyReportFacade().getAllWeeklyReportsAfter(new Date(since), size, lastSynchronizedUuid);
+		@PathParam("lastSynchronizedUuid") String lastSynchronizedUuid,
+		@QueryParam("byteLimited") boolean byteLimited) {
+		return streamAllAfter(
+			since,
+			size,
+			lastSynchronizedUuid,
+			byteLimited,
+			FacadeProvider.getWeeklyReportFacade()::getAllWeeklyReportsAfter);
 	}
 
 	@POST
@@ -76,4 +89,9 @@ public class WeeklyReportResource extends EntityDtoResource<WeeklyReportDto> {
 	public Response postEntityDtos(List<WeeklyReportDto> weeklyReportDtos) {
 		return super.postEntityDtos(weeklyReportDtos);
 	}
+
+	@Override
+	public Response postEntityDtosInBulk(List<WeeklyReportDto> weeklyReportDtos) {
+		return super.postEntityDtosInBulk(weeklyReportDtos);
+	}
 }
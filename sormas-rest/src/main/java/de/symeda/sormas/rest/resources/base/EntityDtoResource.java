@@ -16,14 +16,17 @@
 package de.symeda.sormas.rest.resources.base;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
 import javax.validation.Valid;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.Providers;
@@ -32,7 +35,12 @@ import org.apache.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
+
+import de.symeda.sormas.api.EntityDto;
+import de.symeda.sormas.api.FacadeProvider;
 import de.symeda.sormas.api.PostResponse;
+import de.symeda.sormas.api.common.ReferencePrefetchFacade;
 import de.symeda.sormas.rest.TransactionWrapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -56,6 +64,42 @@ public abstract class EntityDtoResource<DTO> {
 			return Response.status(HttpStatus.SC_OK).build();
 		}
 
+		return toResponse(savePostedDtos(dtos, saveEntityDto));
+	}
+
+	/**
+	 * Saves the DTOs in chunks of {@link de.symeda.sormas.api.ConfigFacade#getBulkPushChunkSize()} with one transaction per chunk. The
+	 * entities referenced by a chunk are loaded with one query per entity type before it is saved. When saving a chunk fails, it is
+	 * rolled back and its DTOs are saved one by one, so the responses are the same as for {@link #savePostedDtosNonAtomic}.
+	 */
+	protected <T> Response savePostedDtosInChunks(List<T> dtos, UnaryOperator<T> saveEntityDto) {
+		if (dtos == null || dtos.isEmpty()) {
+			return Response.status(HttpStatus.SC_OK).build();
+		}
+
+		ReferencePrefetchFacade prefetchFacade = FacadeProvider.getReferencePrefetchFacade();
+		List<PostResponse> results = new ArrayList<>(dtos.size());
+
+		for (List<T> chunk : Lists.partition(dtos, FacadeProvider.getConfigFacade().getBulkPushChunkSize())) {
+			List<EntityDto> entityDtos =
+				chunk.stream().filter(EntityDto.class::isInstance).map(EntityDto.class::cast).collect(Collectors.toList());
+			try {
+				transactionWrapper.executeAtomic(c -> {
+					prefetchFacade.prefetch(entityDtos);
+					c.forEach(saveEntityDto::apply);
+				}, chunk);
+				chunk.forEach(dto -> results.add(new PostResponse(HttpStatus.SC_OK, null)));
+			} catch (Exception e) {
+				logger.debug("Saving a chunk of {} entities failed, saving them one by one: {}", chunk.size(), e.getMessage());
+				results.addAll(savePostedDtos(chunk, saveEntityDto));
+			}
+		}
+
+		return toResponse(results);
+	}
+
+	private <T> List<PostResponse> savePostedDtos(List<T> dtos, UnaryOperator<T> saveEntityDto) {
+
 		List<PostResponse> results = new ArrayList<>(dtos.size());
 
 		for (T dto : dtos) {
@@ -68,13 +112,38 @@ public abstract class EntityDtoResource<DTO> {
 			}
 		}
 
-		if (dtos.size() == 1) {
+		return results;
+	}
+
+	private Response toResponse(List<PostResponse> results) {
+
+		if (results.size() == 1) {
 			return Response.status(results.get(0).getStatusCode()).entity(results).build();
 		} else {
 			return Response.status(HttpStatus.SC_MULTI_STATUS).entity(results).build();
 		}
 	}
 
+	/**
+	 * Streams the entities changed since {@code since} in chunks instead of serializing one list of {@code size} entities.
+	 *
+	 * @param byteLimited
+	 *            When true, the response may end before {@code size} entities once it exceeds
+	 *            {@link de.symeda.sormas.api.ConfigFacade#getSyncResponseSizeLimitMb()}. The client then continues with the last
+	 *            received entity until it receives an empty array.
+	 */
+	protected <T extends EntityDto> Response streamAllAfter(
+		long since,
+		int size,
+		String lastSynchronizedUuid,
+		boolean byteLimited,
+		SyncStreamingOutput.ChunkLoader<T> loader) {
+
+		long maxBytes = byteLimited ? FacadeProvider.getConfigFacade().getSyncResponseSizeLimitMb() * 1024 * 1024 : Long.MAX_VALUE;
+		SyncStreamingOutput<T> output = new SyncStreamingOutput<>(new Date(since), size, lastSynchronizedUuid, maxBytes, loader);
+		return Response.ok(output, MediaType.APPLICATION_JSON + "; charset=UTF-8").build();
+	}
+
 	private PostResponse getPostResultError(Exception e) {
 
 		logger.warn("{}", e.getMessage());
@@ -111,6 +180,22 @@ public abstract class EntityDtoResource<DTO> {
 		return savePostedDtosNonAtomic(dtos, getSave());
 	}
 
+	@Operation(summary = "Create or update many entities in chunks.",
+		description = "Like /push, but saves the entities in chunks with one transaction per chunk, which is considerably faster for "
+			+ "large numbers of entities. When saving a chunk fails, its entities are saved one by one, "
+			+ "so the responses are the same as for /push.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "207",
+			description = "Array of responses, matching the posted array of entities. "
+				+ "Provides an HTML status code for every entity and an optional body (e.g. a string with an error message).",
+			content = {
+				@Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = PostResponse.class))) }) })
+	@POST
+	@Path("/push/bulk")
+	public Response postEntityDtosInBulk(@Valid List<DTO> dtos) {
+		return savePostedDtosInChunks(dtos, getSave());
+	}
+
 	public abstract UnaryOperator<DTO> getSave();
 
 }
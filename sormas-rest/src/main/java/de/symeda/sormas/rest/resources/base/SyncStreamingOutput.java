@@ -0,0 +1,112 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.rest.resources.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.List;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.io.CountingOutputStream;
+
+import de.symeda.sormas.api.EntityDto;
+
+/**
+ * Writes the entities changed since a date as a JSON array while they are loaded chunk by chunk, so neither the whole list of entities
+ * nor the whole response has to be held in memory.
+ * <p>
+ * The response ends after {@code size} entities or - if a byte limit is given - after the first entity that exceeds it. The paging
+ * semantics stay those of the {@code /all/{since}/{size}/{lastSynchronizedUuid}} endpoints: the client continues with the change date
+ * and uuid of the last received entity.
+ */
+public class SyncStreamingOutput<T extends EntityDto> implements StreamingOutput {
+
+	/**
+	 * Number of entities loaded with one query.
+	 */
+	public static final int CHUNK_SIZE = 200;
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+	@FunctionalInterface
+	public interface ChunkLoader<T> {
+
+		List<T> getAllAfter(Date since, Integer size, String lastSynchronizedUuid);
+	}
+
+	private final ChunkLoader<T> loader;
+	private final int size;
+	private final long maxBytes;
+	private final List<T> firstChunk;
+
+	/**
+	 * Loads the first chunk right away, so errors while loading still lead to a proper error response.
+	 */
+	public SyncStreamingOutput(Date since, int size, String lastSynchronizedUuid, long maxBytes, ChunkLoader<T> loader) {
+
+		this.loader = loader;
+		this.size = size;
+		this.maxBytes = maxBytes;
+		this.firstChunk = loader.getAllAfter(since, Math.min(size, CHUNK_SIZE), lastSynchronizedUuid);
+	}
+
+	@Override
+	public void write(OutputStream output) throws IOException {
+
+		CountingOutputStream counting = new CountingOutputStream(output);
+		ObjectWriter writer = MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+		try (JsonGenerator json = MAPPER.getFactory().createGenerator(counting)) {
+			json.writeStartArray();
+
+			List<T> chunk = firstChunk;
+			int requested = Math.min(size, CHUNK_SIZE);
+			int written = 0;
+			while (true) {
+				T last = null;
+				for (T dto : chunk) {
+					writer.writeValue(json, dto);
+					last = dto;
+					written++;
+					if (isLimitReached(written, counting, json)) {
+						break;
+					}
+				}
+
+				if (chunk.size() < requested || isLimitReached(written, counting, json)) {
+					break;
+				}
+
+				// hand the finished chunk to the client (and the compression) before loading the next one
+				json.flush();
+				requested = Math.min(size - written, CHUNK_SIZE);
+				chunk = loader.getAllAfter(last.getChangeDate(), requested, last.getUuid());
+			}
+
+			json.writeEndArray();
+		}
+	}
+
+	private boolean isLimitReached(int written, CountingOutputStream counting, JsonGenerator json) {
+		return written >= size || counting.getCount() + json.getOutputBuffered() >= maxBytes;
+	}
+}
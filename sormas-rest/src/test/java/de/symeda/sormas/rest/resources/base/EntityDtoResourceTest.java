@@ -0,0 +1,187 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.rest.resources.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Providers;
+
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import de.symeda.sormas.api.ConfigFacade;
+import de.symeda.sormas.api.EntityDto;
+import de.symeda.sormas.api.FacadeProvider;
+import de.symeda.sormas.api.PostResponse;
+import de.symeda.sormas.api.common.ReferencePrefetchFacade;
+import de.symeda.sormas.api.utils.ValidationRuntimeException;
+import de.symeda.sormas.rest.TransactionWrapper;
+
+@ExtendWith(MockitoExtension.class)
+public class EntityDtoResourceTest {
+
+	private static final String INVALID_UUID = "invalid";
+
+	@Mock
+	private TransactionWrapper transactionWrapper;
+	@Mock
+	private Providers providers;
+	@Mock
+	private ReferencePrefetchFacade prefetchFacade;
+	@Mock
+	private ConfigFacade configFacade;
+
+	@InjectMocks
+	private TestResource resource = new TestResource();
+
+	/**
+	 * The DTOs saved in transactions that were committed, the DTOs of rolled back transactions are discarded.
+	 */
+	private final List<String> committedUuids = new ArrayList<>();
+	private final List<String> pendingUuids = new ArrayList<>();
+
+	@BeforeEach
+	public void setup() throws ReflectiveOperationException {
+
+		setFacadeProvider(new FacadeProvider() {
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public <P> P lookupEjbRemote(Class<P> clazz) {
+				if (clazz == ReferencePrefetchFacade.class) {
+					return (P) prefetchFacade;
+				} else if (clazz == ConfigFacade.class) {
+					return (P) configFacade;
+				}
+				throw new UnsupportedOperationException(clazz.getSimpleName());
+			}
+		});
+		when(configFacade.getBulkPushChunkSize()).thenReturn(2);
+
+		doAnswer(invocation -> {
+			Consumer<Object> function = invocation.getArgument(0);
+			inTransaction(() -> function.accept(invocation.getArgument(1)));
+			return null;
+		}).when(transactionWrapper).executeAtomic(any(), any());
+		doAnswer(invocation -> {
+			Function<Object, Object> function = invocation.getArgument(0);
+			inTransaction(() -> function.apply(invocation.getArgument(1)));
+			return null;
+		}).when(transactionWrapper).execute(any(), any());
+	}
+
+	@AfterEach
+	public void tearDown() throws ReflectiveOperationException {
+		setFacadeProvider(null);
+	}
+
+	@Test
+	public void testFailingChunkIsSavedOneByOne() {
+
+		List<TestDto> dtos = Arrays.asList(buildDto("a"), buildDto("b"), buildDto("c"), buildDto(INVALID_UUID), buildDto("d"));
+
+		Response response = resource.postEntityDtosInBulk(dtos);
+
+		assertEquals(HttpStatus.SC_MULTI_STATUS, response.getStatus());
+		@SuppressWarnings("unchecked")
+		List<PostResponse> results = (List<PostResponse>) response.getEntity();
+		List<Integer> statusCodes = results.stream().map(PostResponse::getStatusCode).collect(Collectors.toList());
+		assertEquals(
+			Arrays.asList(HttpStatus.SC_OK, HttpStatus.SC_OK, HttpStatus.SC_OK, HttpStatus.SC_UNPROCESSABLE_ENTITY, HttpStatus.SC_OK),
+			statusCodes);
+
+		// the second chunk was rolled back, its valid entity is saved again on its own
+		assertEquals(Arrays.asList("a", "b", "c", "d"), committedUuids);
+		verify(transactionWrapper, times(3)).executeAtomic(any(), any());
+		verify(transactionWrapper, times(2)).execute(any(), any());
+		verify(prefetchFacade).prefetch(dtos.subList(0, 2));
+		verify(prefetchFacade).prefetch(dtos.subList(2, 4));
+		verify(prefetchFacade).prefetch(dtos.subList(4, 5));
+	}
+
+	@Test
+	public void testSingleEntity() {
+
+		Response response = resource.postEntityDtosInBulk(Arrays.asList(buildDto(INVALID_UUID)));
+
+		// like /push, a single entity is answered with its own status
+		assertEquals(HttpStatus.SC_UNPROCESSABLE_ENTITY, response.getStatus());
+		assertEquals(0, committedUuids.size());
+	}
+
+	private void inTransaction(Runnable runnable) {
+
+		pendingUuids.clear();
+		try {
+			runnable.run();
+			committedUuids.addAll(pendingUuids);
+		} finally {
+			pendingUuids.clear();
+		}
+	}
+
+	private static TestDto buildDto(String uuid) {
+
+		TestDto dto = new TestDto();
+		dto.setUuid(uuid);
+		return dto;
+	}
+
+	private static void setFacadeProvider(FacadeProvider facadeProvider) throws ReflectiveOperationException {
+
+		Field instance = FacadeProvider.class.getDeclaredField("instance");
+		instance.setAccessible(true);
+		instance.set(null, facadeProvider);
+	}
+
+	public static class TestDto extends EntityDto {
+	}
+
+	public class TestResource extends EntityDtoResource<TestDto> {
+
+		@Override
+		public UnaryOperator<TestDto> getSave() {
+			return dto -> {
+				if (INVALID_UUID.equals(dto.getUuid())) {
+					throw new ValidationRuntimeException("Invalid entity");
+				}
+				pendingUuids.add(dto.getUuid());
+				return dto;
+			};
+		}
+	}
+}
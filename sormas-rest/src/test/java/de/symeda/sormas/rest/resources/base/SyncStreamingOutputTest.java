@@ -0,0 +1,193 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.rest.resources.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import de.symeda.sormas.api.EntityDto;
+
+public class SyncStreamingOutputTest {
+
+	private static final Date SINCE = new Date(1_000_000L);
+
+	@Test
+	public void testContinuesAfterLastEntityOfChunk() throws IOException {
+
+		// three entities share each change date, so the chunk boundaries fall between entities with the same change date
+		FakeChunkLoader loader = new FakeChunkLoader(buildEntities(450, 3, 0));
+
+		JsonNode json = write(new SyncStreamingOutput<>(SINCE, 1000, null, Long.MAX_VALUE, loader));
+
+		assertEquals(loader.entities.stream().map(EntityDto::getUuid).collect(Collectors.toList()), getUuids(json));
+		assertEquals(3, loader.calls.size());
+		assertEquals(SINCE, loader.calls.get(0).since);
+		assertNull(loader.calls.get(0).lastSynchronizedUuid);
+		assertChunkCall(loader.calls.get(1), loader.entities.get(199), 200);
+		assertChunkCall(loader.calls.get(2), loader.entities.get(399), 200);
+	}
+
+	@Test
+	public void testStopsAtSize() throws IOException {
+
+		FakeChunkLoader loader = new FakeChunkLoader(buildEntities(450, 1, 0));
+
+		JsonNode json = write(new SyncStreamingOutput<>(SINCE, 250, null, Long.MAX_VALUE, loader));
+
+		assertEquals(loader.entities.subList(0, 250).stream().map(EntityDto::getUuid).collect(Collectors.toList()), getUuids(json));
+		assertEquals(2, loader.calls.size());
+		assertEquals(200, loader.calls.get(0).size);
+		assertChunkCall(loader.calls.get(1), loader.entities.get(199), 50);
+
+		// a size that ends with a full chunk does not load another one
+		loader = new FakeChunkLoader(buildEntities(450, 1, 0));
+		json = write(new SyncStreamingOutput<>(SINCE, 200, null, Long.MAX_VALUE, loader));
+		assertEquals(200, json.size());
+		assertEquals(1, loader.calls.size());
+	}
+
+	@Test
+	public void testStopsAfterFirstEntityExceedingByteLimit() throws IOException {
+
+		// the byte limit is calculated like EntityDtoResource does for a syncresponsesizelimitmb of 1
+		long maxBytes = 1 * 1024 * 1024;
+		FakeChunkLoader loader = new FakeChunkLoader(buildEntities(20, 1, 100_000));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new SyncStreamingOutput<>(SINCE, 1000, null, maxBytes, loader).write(output);
+		JsonNode json = new ObjectMapper().readTree(output.toByteArray());
+
+		// ten entities stay below 1 MiB, the eleventh exceeds it and is the last one written
+		assertEquals(loader.entities.subList(0, 11).stream().map(EntityDto::getUuid).collect(Collectors.toList()), getUuids(json));
+		assertTrue(output.size() > maxBytes);
+		assertTrue(output.size() < maxBytes + 100_000);
+		assertEquals(1, loader.calls.size());
+	}
+
+	@Test
+	public void testEmptyResult() throws IOException {
+
+		FakeChunkLoader loader = new FakeChunkLoader(new ArrayList<>());
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new SyncStreamingOutput<>(SINCE, 1000, EntityDto.NO_LAST_SYNCED_UUID, Long.MAX_VALUE, loader).write(output);
+
+		assertEquals("[]", output.toString("UTF-8"));
+		assertEquals(1, loader.calls.size());
+	}
+
+	private static JsonNode write(SyncStreamingOutput<TestDto> streamingOutput) throws IOException {
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		streamingOutput.write(output);
+		JsonNode json = new ObjectMapper().readTree(output.toByteArray());
+		assertTrue(json.isArray());
+		return json;
+	}
+
+	private static List<String> getUuids(JsonNode json) {
+
+		List<String> uuids = new ArrayList<>();
+		json.forEach(node -> uuids.add(node.get(EntityDto.UUID).asText()));
+		return uuids;
+	}
+
+	private static void assertChunkCall(LoaderCall call, TestDto lastEntity, int size) {
+
+		assertEquals(lastEntity.getChangeDate(), call.since);
+		assertEquals(lastEntity.getUuid(), call.lastSynchronizedUuid);
+		assertEquals(size, call.size.intValue());
+	}
+
+	/**
+	 * Entities sorted by change date and uuid, like the getAllAfter queries of the facades return them.
+	 */
+	private static List<TestDto> buildEntities(int count, int perChangeDate, int payloadLength) {
+
+		List<TestDto> entities = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			TestDto dto = new TestDto();
+			dto.setUuid(StringUtils.leftPad(Integer.toString(i), 6, '0'));
+			dto.setChangeDate(new Date(SINCE.getTime() + 1 + i / perChangeDate));
+			dto.setPayload(StringUtils.repeat('x', payloadLength));
+			entities.add(dto);
+		}
+		return entities;
+	}
+
+	private static class LoaderCall {
+
+		private final Date since;
+		private final Integer size;
+		private final String lastSynchronizedUuid;
+
+		private LoaderCall(Date since, Integer size, String lastSynchronizedUuid) {
+			this.since = since;
+			this.size = size;
+			this.lastSynchronizedUuid = lastSynchronizedUuid;
+		}
+	}
+
+	private static class FakeChunkLoader implements SyncStreamingOutput.ChunkLoader<TestDto> {
+
+		private final List<TestDto> entities;
+		private final List<LoaderCall> calls = new ArrayList<>();
+
+		private FakeChunkLoader(List<TestDto> entities) {
+			this.entities = entities;
+		}
+
+		@Override
+		public List<TestDto> getAllAfter(Date since, Integer size, String lastSynchronizedUuid) {
+
+			calls.add(new LoaderCall(since, size, lastSynchronizedUuid));
+			boolean hasLastUuid = lastSynchronizedUuid != null && !EntityDto.NO_LAST_SYNCED_UUID.equals(lastSynchronizedUuid);
+			return entities.stream()
+				.filter(
+					e -> e.getChangeDate().after(since)
+						|| hasLastUuid && e.getChangeDate().equals(since) && e.getUuid().compareTo(lastSynchronizedUuid) > 0)
+				.limit(size)
+				.collect(Collectors.toList());
+		}
+	}
+
+	public static class TestDto extends EntityDto {
+
+		private String payload;
+
+		public String getPayload() {
+			return payload;
+		}
+
+		public void setPayload(String payload) {
+			this.payload = payload;
+		}
+	}
+}
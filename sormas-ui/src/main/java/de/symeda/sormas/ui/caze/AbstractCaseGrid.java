@@ -298,7 +298,7 @@ public abstract class AbstractCaseGrid<IndexDto extends CaseIndexDto> extends Fi
 
 	public void setLazyDataProvider() {
 
-		setLazyDataProvider(this::getGridData, FacadeProvider.getCaseFacade()::count);
+		setLazyDataProvider(this::getGridData, FacadeProvider.getCaseFacade()::count, FacadeProvider.getCaseFacade()::estimateCount);
 	}
 
 	public void setEagerDataProvider() {
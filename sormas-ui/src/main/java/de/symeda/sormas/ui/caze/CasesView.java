@@ -338,8 +338,9 @@ public class CasesView extends AbstractView {
 				StreamResource sampleExportStreamResource = DownloadUtil.createCsvExportStreamResource(
 					SampleExportDto.class,
 					null,
-					(Integer start, Integer max) -> FacadeProvider.getSampleFacade()
-						.getExportList(grid.getCriteria(), this.getSelectedRows(), start, max),
+					(Long afterId, Integer max) -> FacadeProvider.getSampleFacade()
+						.getExportListAfter(grid.getCriteria(), this.getSelectedRows(), afterId, max),
+					SampleExportDto::getId,
 					(propertyId, type) -> {
 						String caption = I18nProperties.findPrefixCaption(
 							propertyId,
@@ -627,6 +628,9 @@ public class CasesView extends AbstractView {
 		statusButtons = new HashMap<>();
 
 		Button statusAll = ButtonHelper.createButton(Captions.all, e -> {
+			if (e.getButton() == activeStatusButton && grid.countExactly()) {
+				return;
+			}
 			criteria.investigationStatus(null);
 			navigateTo(criteria);
 		}, ValoTheme.BUTTON_BORDERLESS, CssStyles.BUTTON_FILTER);
@@ -638,6 +642,9 @@ public class CasesView extends AbstractView {
 
 		for (InvestigationStatus status : InvestigationStatus.values()) {
 			Button statusButton = ButtonHelper.createButton(status.toString(), e -> {
+				if (e.getButton() == activeStatusButton && grid.countExactly()) {
+					return;
+				}
 				criteria.investigationStatus(status);
 				navigateTo(criteria);
 			}, ValoTheme.BUTTON_BORDERLESS, CssStyles.BUTTON_FILTER, CssStyles.BUTTON_FILTER_LIGHT);
@@ -900,6 +907,7 @@ public class CasesView extends AbstractView {
 		statusButtons.keySet().forEach(b -> {
 			CssStyles.style(b, CssStyles.BUTTON_FILTER_LIGHT);
 			b.setCaption(statusButtons.get(b));
+			b.setDescription(null);
 			if (b.getData() == criteria.getInvestigationStatus()) {
 				activeStatusButton = b;
 			}
@@ -907,7 +915,8 @@ public class CasesView extends AbstractView {
 		CssStyles.removeStyles(activeStatusButton, CssStyles.BUTTON_FILTER_LIGHT);
 		if (activeStatusButton != null) {
 			activeStatusButton
-				.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, String.valueOf(grid.getDataSize())));
+				.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, grid.getDataSizeCaption()));
+			activeStatusButton.setDescription(grid.isDataSizeEstimated() ? I18nProperties.getString(Strings.infoCountEstimated) : null);
 		}
 	}
 
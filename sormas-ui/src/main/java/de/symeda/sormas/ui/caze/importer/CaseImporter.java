@@ -48,6 +48,7 @@ import de.symeda.sormas.ui.importer.CaseImportSimilarityInput;
 import de.symeda.sormas.ui.importer.CaseImportSimilarityResult;
 import de.symeda.sormas.ui.importer.DataImporter;
 import de.symeda.sormas.ui.importer.ImportLineResult;
+import de.symeda.sormas.ui.importer.ImportPipeline;
 import de.symeda.sormas.ui.importer.ImportSimilarityResultOption;
 import de.symeda.sormas.ui.utils.ButtonHelper;
 import de.symeda.sormas.ui.utils.CommitDiscardWrapperComponent;
@@ -110,123 +111,179 @@ public class CaseImporter extends DataImporter {
 			writeImportError(values, importResult.getMessage());
 			return ImportLineResult.ERROR;
 		} else if (importResult.isDuplicate()) {
-			CaseImportEntities entities = importResult.getImportEntities();
-			CaseDataDto importCase = entities.getCaze();
-			PersonDto importPerson = entities.getPerson();
-
-			String selectedPersonUuid = null;
-			String selectedCaseUuid = null;
-
-			CaseImportConsumer consumer = new CaseImportConsumer();
-			ImportSimilarityResultOption resultOption = null;
-
-			CaseImportLock personSelectLock = new CaseImportLock();
-			// We need to pause the current thread to prevent the import from continuing until the user has acted
-			synchronized (personSelectLock) {
-				// Call the logic that allows the user to handle the similarity; once this has been done, the LOCK should be notified
-				// to allow the importer to resume
-				handlePersonSimilarity(
-					importPerson,
-					result -> consumer.onImportResult(result, personSelectLock),
-					(person, similarityResultOption) -> new CaseImportSimilarityResult(person, null, similarityResultOption),
-					Strings.infoSelectOrCreatePersonForImport,
-					currentUI);
-
-				try {
-					if (!personSelectLock.wasNotified) {
-						personSelectLock.wait();
-					}
-				} catch (InterruptedException e) {
-					logger.error("InterruptedException when trying to perform LOCK.wait() in case import: " + e.getMessage());
-					throw e;
-				}
+			return handleDuplicate(values, entityClasses, entityProperties, entityPropertyPaths, importResult);
+		}
 
-				if (consumer.result != null) {
-					resultOption = consumer.result.getResultOption();
-				}
+		return ImportLineResult.SUCCESS;
+	}
 
-				// If the user picked an existing person, override the case person with it
-				if (ImportSimilarityResultOption.PICK.equals(resultOption)) {
-					selectedPersonUuid = consumer.result.getMatchingPerson().getUuid();
-					// Reset the importResult option for case selection
-					resultOption = null;
+	@Override
+	protected ImportPipeline<CaseImportEntities> getImportPipeline() {
+
+		return new ImportPipeline<CaseImportEntities>() {
+
+			@Override
+			public ImportLineResultDto<CaseImportEntities> prepareLine(
+				String[] values,
+				String[] entityClasses,
+				String[] entityProperties,
+				String[][] entityPropertyPaths,
+				boolean firstLine)
+				throws InvalidColumnException {
+
+				// regenerate the UUID to prevent overwrite in case of export and import of the same entities
+				setValueUuid(values, entityProperties, DataHelper.createUuid());
+
+				return caseImportFacade.prepareCaseData(values, entityClasses, entityProperties, entityPropertyPaths, !firstLine);
+			}
+
+			@Override
+			public List<ImportLineResultDto<CaseImportEntities>> saveChunk(List<CaseImportEntities> entities) {
+				return caseImportFacade.saveImportedEntities(entities);
+			}
+
+			@Override
+			public ImportLineResult resolveDuplicate(
+				String[] values,
+				String[] entityClasses,
+				String[] entityProperties,
+				String[][] entityPropertyPaths,
+				ImportLineResultDto<CaseImportEntities> duplicateResult)
+				throws IOException, InvalidColumnException, InterruptedException {
+
+				return handleDuplicate(values, entityClasses, entityProperties, entityPropertyPaths, duplicateResult);
+			}
+		};
+	}
+
+	/**
+	 * Lets the user pick or create the person and case of a line whose person is similar to an existing one, and saves the line
+	 * accordingly.
+	 */
+	private ImportLineResult handleDuplicate(
+		String[] values,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		ImportLineResultDto<CaseImportEntities> importResult)
+		throws IOException, InvalidColumnException, InterruptedException {
+
+		CaseImportEntities entities = importResult.getImportEntities();
+		CaseDataDto importCase = entities.getCaze();
+		PersonDto importPerson = entities.getPerson();
+
+		String selectedPersonUuid = null;
+		String selectedCaseUuid = null;
+
+		CaseImportConsumer consumer = new CaseImportConsumer();
+		ImportSimilarityResultOption resultOption = null;
+
+		CaseImportLock personSelectLock = new CaseImportLock();
+		// We need to pause the current thread to prevent the import from continuing until the user has acted
+		synchronized (personSelectLock) {
+			// Call the logic that allows the user to handle the similarity; once this has been done, the LOCK should be notified
+			// to allow the importer to resume
+			handlePersonSimilarity(
+				importPerson,
+				result -> consumer.onImportResult(result, personSelectLock),
+				(person, similarityResultOption) -> new CaseImportSimilarityResult(person, null, similarityResultOption),
+				Strings.infoSelectOrCreatePersonForImport,
+				currentUI);
+
+			try {
+				if (!personSelectLock.wasNotified) {
+					personSelectLock.wait();
 				}
+			} catch (InterruptedException e) {
+				logger.error("InterruptedException when trying to perform LOCK.wait() in case import: " + e.getMessage());
+				throw e;
 			}
 
-			if (ImportSimilarityResultOption.SKIP.equals(resultOption)) {
-				return ImportLineResult.SKIPPED;
-			} else {
-				final CaseImportLock caseSelectLock = new CaseImportLock();
-				synchronized (caseSelectLock) {
-					// Retrieve all similar cases from the database
-					CaseSimilarityCriteria criteria =
-						CaseSimilarityCriteria.forCase(importCase, selectedPersonUuid != null ? selectedPersonUuid : importPerson.getUuid());
-
-					List<CaseSelectionDto> similarCases = caseFacade.getSimilarCases(criteria);
-
-					if (similarCases.size() > 0) {
-						// Call the logic that allows the user to handle the similarity; once this has been done, the LOCK should be notified
-						// to allow the importer to resume
-						if (selectedPersonUuid != null) {
-							importPerson = personFacade.getByUuid(selectedPersonUuid);
-						}
+			if (consumer.result != null) {
+				resultOption = consumer.result.getResultOption();
+			}
 
-						handleCaseSimilarity(
-							new CaseImportSimilarityInput(importCase, importPerson, similarCases),
-							result -> consumer.onImportResult(result, caseSelectLock));
-
-						try {
-							if (!caseSelectLock.wasNotified) {
-								caseSelectLock.wait();
-							}
-						} catch (InterruptedException e) {
-							logger.error("InterruptedException when trying to perform LOCK.wait() in case import: " + e.getMessage());
-							throw e;
-						}
+			// If the user picked an existing person, override the case person with it
+			if (ImportSimilarityResultOption.PICK.equals(resultOption)) {
+				selectedPersonUuid = consumer.result.getMatchingPerson().getUuid();
+				// Reset the importResult option for case selection
+				resultOption = null;
+			}
+		}
 
-						if (consumer.result != null) {
-							resultOption = consumer.result.getResultOption();
-						}
+		if (ImportSimilarityResultOption.SKIP.equals(resultOption)) {
+			return ImportLineResult.SKIPPED;
+		} else {
+			final CaseImportLock caseSelectLock = new CaseImportLock();
+			synchronized (caseSelectLock) {
+				// Retrieve all similar cases from the database
+				CaseSimilarityCriteria criteria =
+					CaseSimilarityCriteria.forCase(importCase, selectedPersonUuid != null ? selectedPersonUuid : importPerson.getUuid());
+
+				List<CaseSelectionDto> similarCases = caseFacade.getSimilarCases(criteria);
+
+				if (similarCases.size() > 0) {
+					// Call the logic that allows the user to handle the similarity; once this has been done, the LOCK should be notified
+					// to allow the importer to resume
+					if (selectedPersonUuid != null) {
+						importPerson = personFacade.getByUuid(selectedPersonUuid);
+					}
+
+					handleCaseSimilarity(
+						new CaseImportSimilarityInput(importCase, importPerson, similarCases),
+						result -> consumer.onImportResult(result, caseSelectLock));
 
-						// If the user chose to override an existing case with the imported case, insert the new data into the existing case and associate the imported samples with it
-						if (resultOption == ImportSimilarityResultOption.OVERRIDE
-							&& consumer.result != null
-							&& consumer.result.getMatchingCase() != null) {
-							selectedCaseUuid = consumer.result.getMatchingCase().getUuid();
-							setValueUuid(values, entityProperties, selectedCaseUuid);
+					try {
+						if (!caseSelectLock.wasNotified) {
+							caseSelectLock.wait();
 						}
+					} catch (InterruptedException e) {
+						logger.error("InterruptedException when trying to perform LOCK.wait() in case import: " + e.getMessage());
+						throw e;
+					}
+
+					if (consumer.result != null) {
+						resultOption = consumer.result.getResultOption();
+					}
+
+					// If the user chose to override an existing case with the imported case, insert the new data into the existing case and associate the imported samples with it
+					if (resultOption == ImportSimilarityResultOption.OVERRIDE
+						&& consumer.result != null
+						&& consumer.result.getMatchingCase() != null) {
+						selectedCaseUuid = consumer.result.getMatchingCase().getUuid();
+						setValueUuid(values, entityProperties, selectedCaseUuid);
 					}
 				}
 			}
+		}
 
-			if (resultOption == ImportSimilarityResultOption.SKIP) {
-				consumer.result = null;
-				return ImportLineResult.SKIPPED;
-			} else if (resultOption == ImportSimilarityResultOption.PICK) {
-				consumer.result = null;
-				return ImportLineResult.DUPLICATE;
-			} else if (resultOption == ImportSimilarityResultOption.CANCEL) {
-				cancelImport();
-				return ImportLineResult.SKIPPED;
+		if (resultOption == ImportSimilarityResultOption.SKIP) {
+			consumer.result = null;
+			return ImportLineResult.SKIPPED;
+		} else if (resultOption == ImportSimilarityResultOption.PICK) {
+			consumer.result = null;
+			return ImportLineResult.DUPLICATE;
+		} else if (resultOption == ImportSimilarityResultOption.CANCEL) {
+			cancelImport();
+			return ImportLineResult.SKIPPED;
+		} else {
+			ImportLineResultDto<CaseImportEntities> saveResult;
+			boolean skipPersonValidation = selectedPersonUuid != null;
+			if (selectedPersonUuid != null || selectedCaseUuid != null) {
+				saveResult = caseImportFacade.updateCaseWithImportData(
+					selectedPersonUuid,
+					selectedCaseUuid,
+					values,
+					entityClasses,
+					entityPropertyPaths,
+					skipPersonValidation);
 			} else {
-				ImportLineResultDto<CaseImportEntities> saveResult;
-				boolean skipPersonValidation = selectedPersonUuid != null;
-				if (selectedPersonUuid != null || selectedCaseUuid != null) {
-					saveResult = caseImportFacade.updateCaseWithImportData(
-						selectedPersonUuid,
-						selectedCaseUuid,
-						values,
-						entityClasses,
-						entityPropertyPaths,
-						skipPersonValidation);
-				} else {
-					saveResult = caseImportFacade.saveImportedEntities(entities, skipPersonValidation);
-				}
+				saveResult = caseImportFacade.saveImportedEntities(entities, skipPersonValidation);
+			}
 
-				if (saveResult.isError()) {
-					writeImportError(values, importResult.getMessage());
-					return ImportLineResult.ERROR;
-				}
+			if (saveResult.isError()) {
+				writeImportError(values, saveResult.getMessage());
+				return ImportLineResult.ERROR;
 			}
 		}
 
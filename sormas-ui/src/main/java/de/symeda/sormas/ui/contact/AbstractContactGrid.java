@@ -255,7 +255,7 @@ public abstract class AbstractContactGrid<IndexDto extends ContactIndexDto> exte
 
 	public void setLazyDataProvider() {
 
-		setLazyDataProvider(this::getGridData, FacadeProvider.getContactFacade()::count);
+		setLazyDataProvider(this::getGridData, FacadeProvider.getContactFacade()::count, FacadeProvider.getContactFacade()::estimateCount);
 	}
 
 	public void setEagerDataProvider() {
@@ -409,6 +409,9 @@ public class ContactsView extends AbstractView {
 		statusButtons = new HashMap<>();
 
 		Button statusAll = ButtonHelper.createButton(I18nProperties.getCaption(Captions.all), e -> {
+			if (e.getButton() == activeStatusButton && grid.countExactly()) {
+				return;
+			}
 			criteria.contactStatus(null);
 			navigateTo(criteria);
 		}, ValoTheme.BUTTON_BORDERLESS, CssStyles.BUTTON_FILTER);
@@ -425,6 +428,9 @@ public class ContactsView extends AbstractView {
 
 		for (ContactStatus status : ContactStatus.values()) {
 			Button statusButton = ButtonHelper.createButton("status-" + status.toString(), status.toString(), e -> {
+				if (e.getButton() == activeStatusButton && grid.countExactly()) {
+					return;
+				}
 				criteria.contactStatus(status);
 				navigateTo(criteria);
 			}, ValoTheme.BUTTON_BORDERLESS, CssStyles.BUTTON_FILTER, CssStyles.BUTTON_FILTER_LIGHT);
@@ -694,6 +700,7 @@ public class ContactsView extends AbstractView {
 		statusButtons.keySet().forEach(b -> {
 			CssStyles.style(b, CssStyles.BUTTON_FILTER_LIGHT);
 			b.setCaption(statusButtons.get(b));
+			b.setDescription(null);
 			if (b.getData() == criteria.getContactStatus()) {
 				activeStatusButton = b;
 			}
@@ -701,7 +708,8 @@ public class ContactsView extends AbstractView {
 		CssStyles.removeStyles(activeStatusButton, CssStyles.BUTTON_FILTER_LIGHT);
 		if (activeStatusButton != null) {
 			activeStatusButton
-				.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, String.valueOf(grid.getDataSize())));
+				.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, grid.getDataSizeCaption()));
+			activeStatusButton.setDescription(grid.isDataSizeEstimated() ? I18nProperties.getString(Strings.infoCountEstimated) : null);
 		}
 	}
 
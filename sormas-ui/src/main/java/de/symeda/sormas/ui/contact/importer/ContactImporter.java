@@ -387,8 +387,11 @@ public class ContactImporter extends DataImporter {
 					if (executeDefaultInvoke(pd, currentElement, entry, entryHeaderPath)) {
 						continue;
 					} else if (propertyType.isAssignableFrom(DistrictReferenceDto.class)) {
-						List<DistrictReferenceDto> district = FacadeProvider.getDistrictFacade()
-							.getByName(entry, ImporterPersonHelper.getRegionBasedOnDistrict(pd.getName(), contact, person, currentElement), false);
+						List<DistrictReferenceDto> district = FacadeProvider.getInfrastructureNameResolverFacade()
+							.getDistrictsByName(
+								entry,
+								ImporterPersonHelper.getRegionBasedOnDistrict(pd.getName(), contact, person, currentElement),
+								false);
 						if (district.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties
@@ -404,8 +407,11 @@ public class ContactImporter extends DataImporter {
 						DistrictReferenceDto district = currentElement instanceof ContactDto
 							? ((ContactDto) currentElement).getDistrict()
 							: (currentElement instanceof LocationDto ? ((LocationDto) currentElement).getDistrict() : null);
-						List<CommunityReferenceDto> community = FacadeProvider.getCommunityFacade()
-							.getByName(entry, district != null ? district : ImporterPersonHelper.getPersonDistrict(pd.getName(), person), false);
+						List<CommunityReferenceDto> community = FacadeProvider.getInfrastructureNameResolverFacade()
+							.getCommunitiesByName(
+								entry,
+								district != null ? district : ImporterPersonHelper.getPersonDistrict(pd.getName(), person),
+								false);
 
 						if (community.isEmpty()) {
 							throw new ImportErrorException(
@@ -427,8 +433,8 @@ public class ContactImporter extends DataImporter {
 							entry = FacilityDto.OTHER_FACILITY;
 						}
 
-						List<FacilityReferenceDto> facility = FacadeProvider.getFacilityFacade()
-							.getByNameAndType(
+						List<FacilityReferenceDto> facility = FacadeProvider.getInfrastructureNameResolverFacade()
+							.getFacilitiesByNameAndType(
 								entry,
 								infrastructureData.getElement0(),
 								infrastructureData.getElement1(),
@@ -29,7 +29,6 @@ import com.vaadin.ui.HorizontalLayout;
 import com.vaadin.ui.Label;
 import com.vaadin.ui.VerticalLayout;
 
-import de.symeda.sormas.api.ConfigFacade;
 import de.symeda.sormas.api.FacadeProvider;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.i18n.Strings;
@@ -128,9 +127,7 @@ public class ContactsDashboardView extends AbstractDashboardView {
 
 		// add network diagram
 		if (UserProvider.getCurrent().hasUserRight(UserRight.DASHBOARD_CONTACT_VIEW_TRANSMISSION_CHAINS)) {
-			networkDiagramComponent = Optional.of(FacadeProvider.getConfigFacade())
-				.map(ConfigFacade::getRScriptExecutable)
-				.map(x -> new DashboardNetworkComponent(dashboardDataProvider));
+			networkDiagramComponent = Optional.of(new DashboardNetworkComponent(dashboardDataProvider));
 
 			networkDiagramRowLayout = createNetworkDiagramRowLayout();
 			rowsLayout.addComponent(networkDiagramRowLayout);
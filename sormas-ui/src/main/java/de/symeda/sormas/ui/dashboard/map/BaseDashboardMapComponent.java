@@ -95,7 +95,12 @@ public abstract class BaseDashboardMapComponent<C extends BaseDashboardCriteria<
 		}
 
 		if (!forced && maxDisplayCount >= 0 && count > maxDisplayCount) {
-			showMapOverlay(maxDisplayCount);
+			if (loadAggregatedMapData(fromDate, toDate)) {
+				hideMapOverlay();
+				legendDropdown.setContent(createLegend());
+			} else {
+				showMapOverlay(maxDisplayCount);
+			}
 		} else {
 			hideMapOverlay();
 
@@ -124,6 +129,15 @@ public abstract class BaseDashboardMapComponent<C extends BaseDashboardCriteria<
 
 	protected abstract void loadMapData(Date fromDate, Date toDate);
 
+	/**
+	 * Shows aggregated data instead of single markers when there are more markers than the configured limit.
+	 *
+	 * @return {@code false} if the map can't aggregate its data, so the user is asked whether all markers should be shown anyway.
+	 */
+	protected boolean loadAggregatedMapData(Date fromDate, Date toDate) {
+		return false;
+	}
+
 	public void setExpandListener(Consumer<Boolean> listener) {
 		externalExpandListener = listener;
 	}
@@ -56,7 +56,10 @@ import de.symeda.sormas.api.contact.MapContactDto;
 import de.symeda.sormas.api.dashboard.DashboardCriteria;
 import de.symeda.sormas.api.dashboard.DashboardEventDto;
 import de.symeda.sormas.api.event.EventStatus;
+import de.symeda.sormas.api.geo.GeoBounds;
 import de.symeda.sormas.api.geo.GeoLatLon;
+import de.symeda.sormas.api.geo.MapClusterDto;
+import de.symeda.sormas.api.geo.MapClusterGrouping;
 import de.symeda.sormas.api.i18n.Captions;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.i18n.Strings;
@@ -111,6 +114,8 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 	private final List<DashboardEventDto> markerEvents = new ArrayList<DashboardEventDto>();
 	private final List<RegionReferenceDto> polygonRegions = new ArrayList<RegionReferenceDto>();
 	private final List<DistrictReferenceDto> polygonDistricts = new ArrayList<DistrictReferenceDto>();
+	private final List<GeoLatLon> caseClusterCenters = new ArrayList<>();
+	private final List<GeoLatLon> contactClusterCenters = new ArrayList<>();
 
 	// Others
 	private CaseMeasure caseMeasure = CaseMeasure.CASE_COUNT;
@@ -120,6 +125,8 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 	private BigDecimal districtValuesUpperQuartile;
 	private Consumer<Boolean> externalExpandListener;
 	private boolean emptyPopulationDistrictPresent;
+	private MapClusterGrouping mapClusterGrouping = MapClusterGrouping.GRID;
+	private boolean clustersShown;
 
 	public DashboardMapComponent(DashboardDataProvider dashboardDataProvider) {
 		super(
@@ -150,6 +157,12 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		showCurrentEpiSituation = false;
 
 		super.addComponents();
+
+		map.addViewportChangeListener(event -> {
+			if (clustersShown) {
+				loadClusters(dashboardDataProvider.getFromDate(), dashboardDataProvider.getToDate());
+			}
+		});
 	}
 
 	protected void refreshMap(boolean forced) {
@@ -205,6 +218,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 
 	@Override
 	protected void loadMapData(Date fromDate, Date toDate) {
+		clustersShown = false;
 		RegionReferenceDto region = dashboardDataProvider.getRegion();
 		DistrictReferenceDto district = dashboardDataProvider.getDistrict();
 		Disease disease = dashboardDataProvider.getDisease();
@@ -228,6 +242,47 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		}
 	}
 
+	/**
+	 * Cases and contacts are clustered for the visible part of the map and reloaded whenever it changes.
+	 */
+	@Override
+	protected boolean loadAggregatedMapData(Date fromDate, Date toDate) {
+		clustersShown = true;
+		loadClusters(fromDate, toDate);
+		if (showEvents) {
+			showEventMarkers(dashboardDataProvider.getEvents());
+		}
+		return true;
+	}
+
+	private void loadClusters(Date fromDate, Date toDate) {
+		RegionReferenceDto region = dashboardDataProvider.getRegion();
+		DistrictReferenceDto district = dashboardDataProvider.getDistrict();
+		Disease disease = dashboardDataProvider.getDisease();
+		GeoBounds bounds = map.getViewportBounds();
+		int zoom = map.getViewportZoom();
+
+		if (showCases) {
+			showCaseClusters(
+				FacadeProvider.getCaseFacade()
+					.getCaseClustersForMap(
+						region,
+						district,
+						disease,
+						fromDate,
+						toDate,
+						showCurrentEpiSituation ? null : dashboardDataProvider.getNewCaseDateType(),
+						bounds,
+						zoom,
+						mapClusterGrouping));
+		}
+		if (showContacts) {
+			showContactClusters(
+				FacadeProvider.getContactFacade()
+					.getContactClustersForMap(region, district, disease, fromDate, toDate, bounds, zoom, mapClusterGrouping));
+		}
+	}
+
 	public List<CaseDataDto> getCasesForFacility(FacilityReferenceDto facility) {
 		List<CaseDataDto> casesForFacility = new ArrayList<>();
 		CaseFacade caseFacade = FacadeProvider.getCaseFacade();
@@ -246,7 +301,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		caseClassificationOptions.setValue(caseClassificationOption);
 		caseClassificationOptions.addValueChangeListener(event -> {
 			caseClassificationOption = (MapCaseClassificationOption) event.getProperty().getValue();
-			refreshMap(true);
+			refreshMap();
 		});
 
 		// Optiongroup to select what property the coordinates should be based on
@@ -256,7 +311,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		mapCaseDisplayModeSelect.setValue(mapCaseDisplayMode);
 		mapCaseDisplayModeSelect.addValueChangeListener(event -> {
 			mapCaseDisplayMode = (MapCaseDisplayMode) event.getProperty().getValue();
-			refreshMap(true);
+			refreshMap();
 		});
 
 		HorizontalLayout showCasesLayout = new HorizontalLayout();
@@ -272,7 +327,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 				mapCaseDisplayModeSelect.setEnabled(showCases);
 				mapCaseDisplayModeSelect.setValue(mapCaseDisplayMode);
 				caseClassificationOptions.setEnabled(showCases);
-				refreshMap(true);
+				refreshMap();
 			});
 			showCasesLayout.addComponent(showCasesCheckBox);
 
@@ -291,6 +346,18 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		layersLayout.addComponent(caseClassificationOptions);
 		caseClassificationOptions.setEnabled(showCases);
 
+		// only used when there are more markers than the configured limit
+		OptionGroup mapClusterGroupingSelect = new OptionGroup();
+		mapClusterGroupingSelect.setWidth(100, Unit.PERCENTAGE);
+		mapClusterGroupingSelect.addItems((Object[]) MapClusterGrouping.values());
+		mapClusterGroupingSelect.setValue(mapClusterGrouping);
+		mapClusterGroupingSelect.addValueChangeListener(event -> {
+			mapClusterGrouping = (MapClusterGrouping) event.getProperty().getValue();
+			refreshMap();
+		});
+		CssStyles.style(mapClusterGroupingSelect, CssStyles.VSPACE_3);
+		layersLayout.addComponent(mapClusterGroupingSelect);
+
 		CheckBox showConfirmedContactsCheckBox = new CheckBox();
 		showConfirmedContactsCheckBox.setId(Captions.dashboardShowConfirmedContacts);
 		CheckBox showUnconfirmedContactsCheckBox = new CheckBox();
@@ -306,7 +373,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 			showConfirmedContactsCheckBox.setValue(true);
 			showUnconfirmedContactsCheckBox.setEnabled(showContacts);
 			showUnconfirmedContactsCheckBox.setValue(true);
-			refreshMap(true);
+			refreshMap();
 		});
 		layersLayout.addComponent(showContactsCheckBox);
 
@@ -314,7 +381,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		showConfirmedContactsCheckBox.setValue(showConfirmedContacts);
 		showConfirmedContactsCheckBox.addValueChangeListener(e -> {
 			showConfirmedContacts = (boolean) e.getProperty().getValue();
-			refreshMap(true);
+			refreshMap();
 		});
 		layersLayout.addComponent(showConfirmedContactsCheckBox);
 
@@ -323,7 +390,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		showUnconfirmedContactsCheckBox.setValue(showUnconfirmedContacts);
 		showUnconfirmedContactsCheckBox.addValueChangeListener(e -> {
 			showUnconfirmedContacts = (boolean) e.getProperty().getValue();
-			refreshMap(true);
+			refreshMap();
 		});
 		layersLayout.addComponent(showUnconfirmedContactsCheckBox);
 
@@ -337,7 +404,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		showEventsCheckBox.setValue(showEvents);
 		showEventsCheckBox.addValueChangeListener(e -> {
 			showEvents = (boolean) e.getProperty().getValue();
-			refreshMap(true);
+			refreshMap();
 		});
 		layersLayout.addComponent(showEventsCheckBox);
 		if (nonNull(UserProvider.getCurrent()) && UserProvider.getCurrent().hasNationJurisdictionLevel()) {
@@ -347,7 +414,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 			regionMapVisualizationSelect.setValue(caseMeasure);
 			regionMapVisualizationSelect.addValueChangeListener(event -> {
 				caseMeasure = (CaseMeasure) event.getProperty().getValue();
-				refreshMap(true);
+				refreshMap();
 			});
 
 			HorizontalLayout showRegionsLayout = new HorizontalLayout();
@@ -362,7 +429,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 					showRegions = (boolean) e.getProperty().getValue();
 					regionMapVisualizationSelect.setEnabled(showRegions);
 					regionMapVisualizationSelect.setValue(caseMeasure);
-					refreshMap(true);
+					refreshMap();
 				});
 				showRegionsLayout.addComponent(showRegionsCheckBox);
 
@@ -384,7 +451,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		hideOtherCountriesCheckBox.setValue(hideOtherCountries);
 		hideOtherCountriesCheckBox.addValueChangeListener(e -> {
 			hideOtherCountries = (boolean) e.getProperty().getValue();
-			refreshMap(true);
+			refreshMap();
 		});
 		CssStyles.style(hideOtherCountriesCheckBox, CssStyles.VSPACE_3);
 		layersLayout.addComponent(hideOtherCountriesCheckBox);
@@ -395,7 +462,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		showCurrentEpiSituationCB.setValue(false);
 		showCurrentEpiSituationCB.addValueChangeListener(e -> {
 			showCurrentEpiSituation = (boolean) e.getProperty().getValue();
-			refreshMap(true);
+			refreshMap();
 		});
 		layersLayout.addComponent(showCurrentEpiSituationCB);
 	}
@@ -768,6 +835,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		casesByFacility.clear();
 		mapCaseDtos.clear();
 		mapAndFacilityCases.clear();
+		caseClusterCenters.clear();
 	}
 
 	private void showCaseMarkers(List<MapCaseDto> cases) {
@@ -814,18 +882,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 
 		for (MapCaseDto caze : mapCaseDtos) {
 			LeafletMarker marker = new LeafletMarker();
-			CaseClassification caseClassification = caze.getCaseClassification();
-			if (caseClassification == CaseClassification.CONFIRMED
-				|| caseClassification == CaseClassification.CONFIRMED_NO_SYMPTOMS
-				|| caseClassification == CaseClassification.CONFIRMED_UNKNOWN_SYMPTOMS) {
-				marker.setIcon(MarkerIcon.CASE_CONFIRMED);
-			} else if (caseClassification == CaseClassification.PROBABLE) {
-				marker.setIcon(MarkerIcon.CASE_PROBABLE);
-			} else if (caseClassification == CaseClassification.SUSPECT) {
-				marker.setIcon(MarkerIcon.CASE_SUSPECT);
-			} else {
-				marker.setIcon(MarkerIcon.CASE_UNCLASSIFIED);
-			}
+			marker.setIcon(getCaseMarkerIcon(caze.getCaseClassification()));
 
 			if (caze.getAddressLat() != null && caze.getAddressLon() != null) {
 				marker.setLatLon(caze.getAddressLat(), caze.getAddressLon());
@@ -839,6 +896,44 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		map.addMarkerGroup("cases", caseMarkers);
 	}
 
+	private static MarkerIcon getCaseMarkerIcon(CaseClassification caseClassification) {
+
+		if (caseClassification == CaseClassification.CONFIRMED
+			|| caseClassification == CaseClassification.CONFIRMED_NO_SYMPTOMS
+			|| caseClassification == CaseClassification.CONFIRMED_UNKNOWN_SYMPTOMS) {
+			return MarkerIcon.CASE_CONFIRMED;
+		} else if (caseClassification == CaseClassification.PROBABLE) {
+			return MarkerIcon.CASE_PROBABLE;
+		} else if (caseClassification == CaseClassification.SUSPECT) {
+			return MarkerIcon.CASE_SUSPECT;
+		} else {
+			return MarkerIcon.CASE_UNCLASSIFIED;
+		}
+	}
+
+	private void showCaseClusters(List<MapClusterDto<CaseClassification>> clusters) {
+
+		clearCaseMarkers();
+
+		List<LeafletMarker> caseMarkers = new ArrayList<>();
+		for (MapClusterDto<CaseClassification> cluster : clusters) {
+			// the same filter as for single cases
+			if (caseClassificationOption == MapCaseClassificationOption.CONFIRMED_CASES_ONLY
+				&& cluster.getClassification() != CaseClassification.CONFIRMED) {
+				continue;
+			}
+
+			LeafletMarker marker = new LeafletMarker();
+			marker.setIcon(getCaseMarkerIcon(cluster.getClassification()));
+			marker.setLatLon(cluster.getLatitude(), cluster.getLongitude());
+			marker.setMarkerCount((int) cluster.getCount());
+			caseMarkers.add(marker);
+			caseClusterCenters.add(new GeoLatLon(cluster.getLatitude(), cluster.getLongitude()));
+		}
+
+		map.addMarkerGroup(CASES_GROUP_ID, caseMarkers);
+	}
+
 	private void fillCaseLists(List<MapCaseDto> cases) {
 		for (MapCaseDto caze : cases) {
 			// these filters need to be used for the count too
@@ -884,6 +979,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		map.removeGroup(CONTACTS_GROUP_ID);
 		markerContacts.clear();
 		mapContactDtos.clear();
+		contactClusterCenters.clear();
 	}
 
 	private void showContactMarkers(List<MapContactDto> contacts) {
@@ -925,20 +1021,7 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 			//			} else {
 			//				icon = MarkerIcon.CONTACT_LONG_OVERDUE;
 			//			}
-			switch (contact.getContactClassification()) {
-			case CONFIRMED:
-				icon = MarkerIcon.CONTACT_LONG_OVERDUE;
-				break;
-			case UNCONFIRMED:
-				icon = MarkerIcon.CONTACT_OVERDUE;
-				break;
-			case NO_CONTACT:
-				icon = MarkerIcon.CONTACT_OK;
-				break;
-			default:
-				icon = MarkerIcon.CONTACT_OK;
-				break;
-			}
+			icon = getContactMarkerIcon(contact.getContactClassification());
 
 			LeafletMarker marker = new LeafletMarker();
 			marker.setIcon(icon);
@@ -953,6 +1036,45 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 		map.addMarkerGroup(CONTACTS_GROUP_ID, contactMarkers);
 	}
 
+	private static MarkerIcon getContactMarkerIcon(ContactClassification contactClassification) {
+
+		switch (contactClassification) {
+		case CONFIRMED:
+			return MarkerIcon.CONTACT_LONG_OVERDUE;
+		case UNCONFIRMED:
+			return MarkerIcon.CONTACT_OVERDUE;
+		case NO_CONTACT:
+			return MarkerIcon.CONTACT_OK;
+		default:
+			return MarkerIcon.CONTACT_OK;
+		}
+	}
+
+	private void showContactClusters(List<MapClusterDto<ContactClassification>> clusters) {
+
+		clearContactMarkers();
+
+		List<LeafletMarker> contactMarkers = new ArrayList<>();
+		for (MapClusterDto<ContactClassification> cluster : clusters) {
+			// the same filters as for single contacts
+			if (!showUnconfirmedContacts && cluster.getClassification() == ContactClassification.UNCONFIRMED) {
+				continue;
+			}
+			if (!showConfirmedContacts && cluster.getClassification() != ContactClassification.UNCONFIRMED) {
+				continue;
+			}
+
+			LeafletMarker marker = new LeafletMarker();
+			marker.setIcon(getContactMarkerIcon(cluster.getClassification()));
+			marker.setLatLon(cluster.getLatitude(), cluster.getLongitude());
+			marker.setMarkerCount((int) cluster.getCount());
+			contactMarkers.add(marker);
+			contactClusterCenters.add(new GeoLatLon(cluster.getLatitude(), cluster.getLongitude()));
+		}
+
+		map.addMarkerGroup(CONTACTS_GROUP_ID, contactMarkers);
+	}
+
 	private void clearEventMarkers() {
 		map.removeGroup(EVENTS_GROUP_ID);
 		markerEvents.clear();
@@ -1006,6 +1128,17 @@ public class DashboardMapComponent extends BaseDashboardMapComponent<DashboardCr
 	@Override
 	protected void onMarkerClicked(String groupId, int markerIndex) {
 
+		if (clustersShown) {
+			// zoom into the clicked cluster, which then is split up into smaller ones
+			List<GeoLatLon> clusterCenters =
+				CASES_GROUP_ID.equals(groupId) ? caseClusterCenters : CONTACTS_GROUP_ID.equals(groupId) ? contactClusterCenters : null;
+			if (clusterCenters != null) {
+				map.setCenter(clusterCenters.get(markerIndex));
+				map.setZoom(map.getViewportZoom() + 2);
+				return;
+			}
+		}
+
 		switch (groupId) {
 		case CASES_GROUP_ID:
 			if (markerIndex < markerCaseFacilities.size()) {
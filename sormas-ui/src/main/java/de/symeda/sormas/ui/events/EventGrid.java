@@ -309,7 +309,10 @@ public class EventGrid extends FilteredGrid<EventIndexDto, EventCriteria> {
 
 	public void setLazyDataProvider() {
 
-		setLazyDataProvider(FacadeProvider.getEventFacade()::getIndexList, FacadeProvider.getEventFacade()::count);
+		setLazyDataProvider(
+			FacadeProvider.getEventFacade()::getIndexList,
+			FacadeProvider.getEventFacade()::count,
+			FacadeProvider.getEventFacade()::estimateCount);
 	}
 
 	public void setEagerDataProvider() {
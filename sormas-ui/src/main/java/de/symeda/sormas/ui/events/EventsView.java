@@ -439,6 +439,9 @@ public class EventsView extends AbstractView {
 
 		if (isDefaultViewType()) {
 			Button statusAll = ButtonHelper.createButton(Captions.all, e -> {
+				if (e.getButton() == activeStatusButton && grid.countExactly()) {
+					return;
+				}
 				eventCriteria.setEventStatus(null);
 				navigateTo(eventCriteria);
 			}, ValoTheme.BUTTON_BORDERLESS, CssStyles.BUTTON_FILTER);
@@ -451,6 +454,9 @@ public class EventsView extends AbstractView {
 
 			for (EventStatus status : EventStatus.values()) {
 				Button statusButton = ButtonHelper.createButton("status-" + status, status.toString(), e -> {
+					if (e.getButton() == activeStatusButton && grid.countExactly()) {
+						return;
+					}
 					eventCriteria.setEventStatus(status);
 					navigateTo(eventCriteria);
 				}, ValoTheme.BUTTON_BORDERLESS, CssStyles.BUTTON_FILTER, CssStyles.BUTTON_FILTER_LIGHT);
@@ -722,6 +728,7 @@ public class EventsView extends AbstractView {
 		statusButtons.keySet().forEach(b -> {
 			CssStyles.style(b, CssStyles.BUTTON_FILTER_LIGHT);
 			b.setCaption(statusButtons.get(b));
+			b.setDescription(null);
 			if (b.getData() == (isDefaultViewType() ? eventCriteria.getEventStatus() : eventCriteria.getActionStatus())) {
 				activeStatusButton = b;
 			}
@@ -731,7 +738,8 @@ public class EventsView extends AbstractView {
 			CssStyles.removeStyles(activeStatusButton, CssStyles.BUTTON_FILTER_LIGHT);
 			if (activeStatusButton != null) {
 				activeStatusButton
-					.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, String.valueOf(grid.getDataSize())));
+					.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, grid.getDataSizeCaption()));
+				activeStatusButton.setDescription(grid.isDataSizeEstimated() ? I18nProperties.getString(Strings.infoCountEstimated) : null);
 			}
 		}
 	}
@@ -344,8 +344,11 @@ public class EventParticipantImporter extends DataImporter {
 					if (executeDefaultInvoke(pd, currentElement, entry, entryHeaderPath)) {
 						continue;
 					} else if (propertyType.isAssignableFrom(DistrictReferenceDto.class)) {
-						List<DistrictReferenceDto> district = FacadeProvider.getDistrictFacade()
-							.getByName(entry, ImporterPersonHelper.getRegionBasedOnDistrict(pd.getName(), null, person, currentElement), false);
+						List<DistrictReferenceDto> district = FacadeProvider.getInfrastructureNameResolverFacade()
+							.getDistrictsByName(
+								entry,
+								ImporterPersonHelper.getRegionBasedOnDistrict(pd.getName(), null, person, currentElement),
+								false);
 						if (district.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties
@@ -357,8 +360,8 @@ public class EventParticipantImporter extends DataImporter {
 							pd.getWriteMethod().invoke(currentElement, district.get(0));
 						}
 					} else if (propertyType.isAssignableFrom(CommunityReferenceDto.class)) {
-						List<CommunityReferenceDto> community =
-							FacadeProvider.getCommunityFacade().getByName(entry, ImporterPersonHelper.getPersonDistrict(pd.getName(), person), false);
+						List<CommunityReferenceDto> community = FacadeProvider.getInfrastructureNameResolverFacade()
+							.getCommunitiesByName(entry, ImporterPersonHelper.getPersonDistrict(pd.getName(), person), false);
 						if (community.isEmpty()) {
 							throw new ImportErrorException(
 								I18nProperties.getValidationError(
@@ -374,8 +377,8 @@ public class EventParticipantImporter extends DataImporter {
 					} else if (propertyType.isAssignableFrom(FacilityReferenceDto.class)) {
 						DataHelper.Pair<DistrictReferenceDto, CommunityReferenceDto> infrastructureData =
 							ImporterPersonHelper.getPersonDistrictAndCommunity(pd.getName(), person);
-						List<FacilityReferenceDto> facility = FacadeProvider.getFacilityFacade()
-							.getByNameAndType(
+						List<FacilityReferenceDto> facility = FacadeProvider.getInfrastructureNameResolverFacade()
+							.getFacilitiesByNameAndType(
 								entry,
 								infrastructureData.getElement0(),
 								infrastructureData.getElement1(),
@@ -17,11 +17,21 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.ParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -46,6 +56,7 @@ import com.vaadin.ui.UI;
 import com.vaadin.ui.Window;
 
 import de.symeda.sormas.api.FacadeProvider;
+import de.symeda.sormas.api.Language;
 import de.symeda.sormas.api.caze.CaseDataDto;
 import de.symeda.sormas.api.customizableenum.CustomizableEnumType;
 import de.symeda.sormas.api.i18n.Captions;
@@ -62,7 +73,6 @@ import de.symeda.sormas.api.infrastructure.area.AreaReferenceDto;
 import de.symeda.sormas.api.infrastructure.continent.ContinentReferenceDto;
 import de.symeda.sormas.api.infrastructure.country.CountryReferenceDto;
 import de.symeda.sormas.api.infrastructure.facility.FacilityType;
-import de.symeda.sormas.api.infrastructure.region.RegionDto;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
 import de.symeda.sormas.api.infrastructure.subcontinent.SubcontinentReferenceDto;
 import de.symeda.sormas.api.person.OccupationType;
@@ -88,13 +98,19 @@ import de.symeda.sormas.ui.utils.components.progress.ProgressResult;
  * These are the steps performed by the data importer (sub classes might add additional logic):
  * 1) Read the CSV file from the passed file path and open an error report file
  * 2) Read the header row(s) from the CSV and build a list of properties based on its columns
- * 3) Insert every line of data into the object using a callback
+ * 3) Insert every line of data into the object using a callback, or, for importers providing an {@link ImportPipeline}, prepare the
+ * lines in parallel and save them in chunks
  * 4) Present the result of the import and, if errors occurred, an error report file to the user
  */
 public abstract class DataImporter {
 
 	protected static final String ERROR_COLUMN_NAME = I18nProperties.getCaption(Captions.importErrorDescription);
 
+	/**
+	 * Minimum time between two progress updates; the UI polls for changes every 300 ms anyway.
+	 */
+	private static final long PROGRESS_UPDATE_INTERVAL_MILLIS = 300;
+
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
 	/**
@@ -113,13 +129,16 @@ public abstract class DataImporter {
 	protected String errorReportFilePath;
 	protected String errorReportFileName = "sormas_import_error_report.csv";
 	/**
-	 * Called whenever one line of the import file has been processed. Used e.g. to update the progress bar.
+	 * Called with the results of the lines processed since the last call, at most every {@link #PROGRESS_UPDATE_INTERVAL_MILLIS}. Used
+	 * e.g. to update the progress bar.
 	 */
-	private Consumer<ImportLineResult> importedLineCallback;
+	private Consumer<ImportProgressUpdateInfo> importedLineCallback;
+	private final Map<ImportLineResult, Integer> unreportedLineResults = new EnumMap<>(ImportLineResult.class);
+	private long lastProgressUpdate;
 	/**
 	 * Whether the import should be canceled after the current line.
 	 */
-	private boolean cancelAfterCurrent;
+	private volatile boolean cancelAfterCurrent;
 	/**
 	 * Whether or not the current import has resulted in at least one error.
 	 */
@@ -161,7 +180,7 @@ public abstract class DataImporter {
 
 		ImportProgressLayout progressLayout = this.getImportProgressLayout(currentUI, duplicatesPossible);
 
-		importedLineCallback = result -> progressLayout.updateProgress(new ImportProgressUpdateInfo(result));
+		importedLineCallback = progressLayout::updateProgress;
 
 		Window window = VaadinUiUtil.createPopupWindow();
 		window.setCaption(I18nProperties.getString(Strings.headingDataImport));
@@ -292,18 +311,24 @@ public abstract class DataImporter {
 			}
 
 			int lineCounter = 0;
-			while (nextLine != null) {
-				ImportLineResult lineResult = importDataFromCsvLine(nextLine, entityClasses, entityProperties, entityPropertyPaths, lineCounter == 0);
-				logger.debug("runImport - line {}", lineCounter);
-				if (importedLineCallback != null) {
-					importedLineCallback.accept(lineResult);
-				}
-				if (cancelAfterCurrent) {
-					break;
+			ImportPipeline<?> importPipeline = getImportPipeline();
+			if (importPipeline != null) {
+				lineCounter =
+					new PipelinedImport<>(importPipeline, entityClasses, entityProperties, entityPropertyPaths).run(csvReader, nextLine);
+			} else {
+				while (nextLine != null) {
+					ImportLineResult lineResult =
+						importDataFromCsvLine(nextLine, entityClasses, entityProperties, entityPropertyPaths, lineCounter == 0);
+					logger.debug("runImport - line {}", lineCounter);
+					reportLineResult(lineResult);
+					if (cancelAfterCurrent) {
+						break;
+					}
+					nextLine = readNextValidLine(csvReader);
+					lineCounter++;
 				}
-				nextLine = readNextValidLine(csvReader);
-				lineCounter++;
 			}
+			updateProgress();
 
 			if (logger.isDebugEnabled()) {
 				logger.debug("runImport - done");
@@ -333,6 +358,30 @@ public abstract class DataImporter {
 		cancelAfterCurrent = true;
 	}
 
+	private void reportLineResult(ImportLineResult lineResult) {
+
+		if (importedLineCallback == null) {
+			return;
+		}
+
+		unreportedLineResults.merge(lineResult, 1, Integer::sum);
+		if (System.currentTimeMillis() - lastProgressUpdate >= PROGRESS_UPDATE_INTERVAL_MILLIS) {
+			updateProgress();
+		}
+	}
+
+	/**
+	 * Passes the results of the lines processed since the last update to the progress callback.
+	 */
+	private void updateProgress() {
+
+		if (importedLineCallback != null && !unreportedLineResults.isEmpty()) {
+			importedLineCallback.accept(new ImportProgressUpdateInfo(unreportedLineResults));
+			unreportedLineResults.clear();
+			lastProgressUpdate = System.currentTimeMillis();
+		}
+	}
+
 	protected Writer createErrorReportWriter() throws IOException {
 		File errorReportFile = new File(errorReportFilePath);
 		if (errorReportFile.exists()) {
@@ -402,6 +451,16 @@ public abstract class DataImporter {
 		boolean firstLine)
 		throws IOException, InvalidColumnException, InterruptedException;
 
+	/**
+	 * Importers whose lines can be prepared independently of each other and saved in chunks return the stages of their import here.
+	 * The lines are then prepared by {@code importThreadCount} threads while the file is read, and saved in chunks of
+	 * {@code importChunkSize} lines, in the order of the file. All other importers import one line after the other with
+	 * {@link #importDataFromCsvLine}.
+	 */
+	protected ImportPipeline<?> getImportPipeline() {
+		return null;
+	}
+
 	/**
 	 * Contains checks for the most common data types for entries in the import file. This method should be called
 	 * in every subclass whenever data from the import file is supposed to be written to the entity in question.
@@ -529,7 +588,7 @@ public abstract class DataImporter {
 			}
 		}
 		if (propertyType.isAssignableFrom(RegionReferenceDto.class)) {
-			List<RegionDto> regions = FacadeProvider.getRegionFacade().getByName(entry, false);
+			List<RegionReferenceDto> regions = FacadeProvider.getInfrastructureNameResolverFacade().getRegionsByName(entry, false);
 			if (regions.isEmpty()) {
 				throw new ImportErrorException(
 					I18nProperties.getValidationError(Validations.importEntryDoesNotExist, entry, buildEntityProperty(entryHeaderPath)));
@@ -537,14 +596,14 @@ public abstract class DataImporter {
 				throw new ImportErrorException(
 					I18nProperties.getValidationError(Validations.importRegionNotUnique, entry, buildEntityProperty(entryHeaderPath)));
 			} else {
-				RegionDto region = regions.get(0);
+				RegionReferenceDto region = regions.get(0);
 				CountryReferenceDto serverCountry = FacadeProvider.getCountryFacade().getServerCountry();
 
-				if (region.getCountry() != null && !region.getCountry().equals(serverCountry)) {
+				if (!FacadeProvider.getInfrastructureNameResolverFacade().isRegionInCountry(region, serverCountry)) {
 					throw new ImportErrorException(
 						I18nProperties.getValidationError(Validations.importRegionNotInServerCountry, entry, buildEntityProperty(entryHeaderPath)));
 				} else {
-					pd.getWriteMethod().invoke(element, region.toReference());
+					pd.getWriteMethod().invoke(element, region);
 					return true;
 				}
 			}
@@ -774,4 +833,207 @@ public abstract class DataImporter {
 			}
 		}
 	}
+
+	/**
+	 * Reads the lines of the file, prepares them with several threads and saves the prepared lines in chunks. Errors, duplicates and
+	 * progress are handled by the reading thread in the order of the file, so the error report keeps the order of the lines.
+	 */
+	private final class PipelinedImport<E> {
+
+		private final ImportPipeline<E> pipeline;
+		private final String[] entityClasses;
+		private final String[] entityProperties;
+		private final String[][] entityPropertyPaths;
+		private final int chunkSize;
+		/**
+		 * The lines that were read but not yet saved, in the order of the file.
+		 */
+		private final Deque<PipelineLine<E>> lines = new ArrayDeque<>();
+
+		private PipelinedImport(
+			ImportPipeline<E> pipeline,
+			String[] entityClasses,
+			String[] entityProperties,
+			String[][] entityPropertyPaths) {
+
+			this.pipeline = pipeline;
+			this.entityClasses = entityClasses;
+			this.entityProperties = entityProperties;
+			this.entityPropertyPaths = entityPropertyPaths;
+			this.chunkSize = Math.max(1, FacadeProvider.getConfigFacade().getImportChunkSize());
+		}
+
+		/**
+		 * @return The number of lines read.
+		 */
+		private int run(CSVReader csvReader, String[] firstLine)
+			throws IOException, InvalidColumnException, InterruptedException, CsvValidationException {
+
+			int threadCount = FacadeProvider.getConfigFacade().getImportThreadCount();
+			ExecutorService executor = threadCount > 1 ? createImportExecutor(threadCount) : null;
+			int lineCounter = 0;
+			try {
+				String[] nextLine = firstLine;
+				while (nextLine != null && !cancelAfterCurrent) {
+					String[] values = nextLine;
+					boolean isFirstLine = lineCounter == 0;
+					FutureTask<ImportLineResultDto<E>> prepareTask = new FutureTask<>(
+						() -> pipeline.prepareLine(values, entityClasses, entityProperties, entityPropertyPaths, isFirstLine));
+					if (executor != null) {
+						executor.execute(prepareTask);
+					} else {
+						prepareTask.run();
+					}
+					lines.addLast(new PipelineLine<>(values, prepareTask));
+					lineCounter++;
+
+					// don't read further ahead than two chunks
+					if (lines.size() >= 2 * chunkSize) {
+						writeLines(false);
+					}
+					nextLine = readNextValidLine(csvReader);
+				}
+
+				writeLines(true);
+			} finally {
+				if (executor != null) {
+					executor.shutdownNow();
+				}
+			}
+
+			return lineCounter;
+		}
+
+		/**
+		 * Saves the read lines in chunks until less than a chunk is left, or all of them if {@code allLines} is set.
+		 */
+		private void writeLines(boolean allLines) throws IOException, InvalidColumnException, InterruptedException {
+
+			while (!lines.isEmpty() && (allLines || lines.size() >= chunkSize) && !cancelAfterCurrent) {
+				PipelineLine<E> firstLine = lines.peekFirst();
+				ImportLineResultDto<E> prepareResult = firstLine.getPrepareResult();
+				if (!prepareResult.isSuccess()) {
+					lines.removeFirst();
+					writeImportError(firstLine.values, prepareResult.getMessage());
+					reportLineResult(ImportLineResult.ERROR);
+					continue;
+				}
+
+				List<PipelineLine<E>> chunk = new ArrayList<>(chunkSize);
+				for (PipelineLine<E> line : lines) {
+					if (chunk.size() == chunkSize || !line.getPrepareResult().isSuccess()) {
+						break;
+					}
+					chunk.add(line);
+				}
+
+				int writtenLines = writeChunk(chunk);
+				for (int i = 0; i < writtenLines; i++) {
+					lines.removeFirst();
+				}
+			}
+		}
+
+		/**
+		 * @return The number of lines of the chunk that were handled; the remaining lines still have to be saved.
+		 */
+		private int writeChunk(List<PipelineLine<E>> chunk) throws IOException, InvalidColumnException, InterruptedException {
+
+			List<E> entities = new ArrayList<>(chunk.size());
+			for (PipelineLine<E> line : chunk) {
+				entities.add(line.getPrepareResult().getImportEntities());
+			}
+
+			List<ImportLineResultDto<E>> results;
+			try {
+				results = pipeline.saveChunk(entities);
+			} catch (RuntimeException e) {
+				if (chunk.size() == 1) {
+					throw e;
+				}
+
+				// save the lines one by one, so an unexpected error only affects the line causing it
+				logger.warn("Saving a chunk of {} imported lines failed, saving them one by one: {}", chunk.size(), e.getMessage());
+				int writtenLines = 0;
+				while (writtenLines < chunk.size() && !cancelAfterCurrent) {
+					writtenLines += writeChunk(chunk.subList(writtenLines, writtenLines + 1));
+				}
+				return writtenLines;
+			}
+
+			int handledLines = results.size();
+			ImportLineResultDto<E> lastResult = results.get(handledLines - 1);
+			if (lastResult.isError() && handledLines > 1) {
+				// the transaction was rolled back, so the lines before the failed one have to be saved again
+				int writtenLines = writeChunk(chunk.subList(0, handledLines - 1));
+				if (writtenLines < handledLines - 1) {
+					return writtenLines;
+				}
+			} else {
+				for (int i = 0; i < handledLines - 1; i++) {
+					reportLineResult(ImportLineResult.SUCCESS);
+				}
+			}
+
+			PipelineLine<E> lastLine = chunk.get(handledLines - 1);
+			if (lastResult.isError()) {
+				writeImportError(lastLine.values, lastResult.getMessage());
+				reportLineResult(ImportLineResult.ERROR);
+			} else if (lastResult.isDuplicate()) {
+				updateProgress();
+				reportLineResult(
+					pipeline.resolveDuplicate(lastLine.values, entityClasses, entityProperties, entityPropertyPaths, lastResult));
+			} else {
+				reportLineResult(ImportLineResult.SUCCESS);
+			}
+
+			return handledLines;
+		}
+	}
+
+	/**
+	 * The worker threads use the language of the importing user, like the thread running the import.
+	 */
+	private ExecutorService createImportExecutor(int threadCount) {
+
+		Language language = currentUser.getLanguage();
+		AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool(threadCount, runnable -> {
+			Thread thread = new Thread(() -> {
+				I18nProperties.setUserLanguage(language);
+				FacadeProvider.getI18nFacade().setUserLanguage(language);
+				runnable.run();
+			}, "import-worker-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static final class PipelineLine<E> {
+
+		private final String[] values;
+		private final Future<ImportLineResultDto<E>> prepareResult;
+
+		private PipelineLine(String[] values, Future<ImportLineResultDto<E>> prepareResult) {
+			this.values = values;
+			this.prepareResult = prepareResult;
+		}
+
+		private ImportLineResultDto<E> getPrepareResult() throws InvalidColumnException, InterruptedException {
+
+			try {
+				return prepareResult.get();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof InvalidColumnException) {
+					throw (InvalidColumnException) cause;
+				} else if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
 }
@@ -0,0 +1,62 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.ui.importer;
+
+import java.io.IOException;
+import java.util.List;
+
+import de.symeda.sormas.api.importexport.ImportLineResultDto;
+import de.symeda.sormas.api.importexport.InvalidColumnException;
+
+/**
+ * The stages of an import whose lines are prepared in parallel and saved in chunks, see {@link DataImporter#getImportPipeline()}.
+ *
+ * @param <E>
+ *            The entities built from one line.
+ */
+public interface ImportPipeline<E> {
+
+	/**
+	 * Builds and validates the entities of a line without saving them. Called by several threads at the same time.
+	 *
+	 * @return A success result containing the entities or an error result.
+	 */
+	ImportLineResultDto<E> prepareLine(
+		String[] values,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		boolean firstLine)
+		throws InvalidColumnException;
+
+	/**
+	 * Saves the prepared entities of several lines in one transaction, in the given order. Saving stops at the first line that is a
+	 * duplicate (nothing of this line is saved) or that cannot be saved (error result, the whole transaction is rolled back). The results
+	 * only cover the lines up to this one.
+	 */
+	List<ImportLineResultDto<E>> saveChunk(List<E> entities);
+
+	/**
+	 * Lets the user decide how to handle a line whose entities are similar to existing ones, and saves it accordingly.
+	 */
+	ImportLineResult resolveDuplicate(
+		String[] values,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		ImportLineResultDto<E> duplicateResult)
+		throws IOException, InvalidColumnException, InterruptedException;
+}
@@ -81,18 +81,24 @@ public class ImportProgressLayout extends AbstractProgressLayout<ImportProgressU
 	@Override
 	protected void handleOptionalProgressUpdates(ImportProgressUpdateInfo progressUpdateInfo) {
 
-		ImportLineResult result = progressUpdateInfo.getImportLineResult();
-		if (result == ImportLineResult.SUCCESS) {
-			successfulImportsCount++;
+		int successCount = progressUpdateInfo.getResultCount(ImportLineResult.SUCCESS);
+		if (successCount > 0) {
+			successfulImportsCount += successCount;
 			successfulImportsLabel.setValue(String.format(I18nProperties.getCaption(Captions.importImports), successfulImportsCount));
-		} else if (result == ImportLineResult.ERROR) {
-			failedImportsCount++;
+		}
+		int errorCount = progressUpdateInfo.getResultCount(ImportLineResult.ERROR);
+		if (errorCount > 0) {
+			failedImportsCount += errorCount;
 			failedImportsLabel.setValue(String.format(I18nProperties.getCaption(Captions.importErrors), failedImportsCount));
-		} else if (result == ImportLineResult.SKIPPED) {
-			skippedImportsCount++;
+		}
+		int skipCount = progressUpdateInfo.getResultCount(ImportLineResult.SKIPPED);
+		if (skipCount > 0) {
+			skippedImportsCount += skipCount;
 			skippedImportsLabel.setValue(String.format(I18nProperties.getCaption(Captions.importSkips), skippedImportsCount));
-		} else if (result == ImportLineResult.DUPLICATE) {
-			duplicateImportsCount++;
+		}
+		int duplicateCount = progressUpdateInfo.getResultCount(ImportLineResult.DUPLICATE);
+		if (duplicateCount > 0) {
+			duplicateImportsCount += duplicateCount;
 			duplicateImportsLabel.setValue(String.format(I18nProperties.getCaption(Captions.importDuplicates), duplicateImportsCount));
 		}
 	}
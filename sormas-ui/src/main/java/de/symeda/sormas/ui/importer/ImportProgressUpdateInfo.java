@@ -15,19 +15,31 @@
 
 package de.symeda.sormas.ui.importer;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
 import de.symeda.sormas.ui.utils.components.progress.ProgressUpdateInfo;
 
 public class ImportProgressUpdateInfo extends ProgressUpdateInfo {
 
-	private final ImportLineResult importLineResult;
+	private final Map<ImportLineResult, Integer> resultCounts;
 
 	public ImportProgressUpdateInfo(ImportLineResult importLineResult) {
-		super(1);
-		this.importLineResult = importLineResult;
+		this(Collections.singletonMap(importLineResult, 1));
+	}
+
+	/**
+	 * @param resultCounts
+	 *            The number of lines processed since the last update, by result.
+	 */
+	public ImportProgressUpdateInfo(Map<ImportLineResult, Integer> resultCounts) {
+		super(resultCounts.values().stream().mapToInt(Integer::intValue).sum());
+		this.resultCounts = new EnumMap<>(resultCounts);
 	}
 
-	public ImportLineResult getImportLineResult() {
-		return importLineResult;
+	public int getResultCount(ImportLineResult importLineResult) {
+		return resultCounts.getOrDefault(importLineResult, 0);
 	}
 
 }
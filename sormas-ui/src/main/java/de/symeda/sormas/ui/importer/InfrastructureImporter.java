@@ -184,13 +184,16 @@ public class InfrastructureImporter extends DataImporter {
 							List<DistrictReferenceDto> district;
 							switch (type) {
 							case COMMUNITY:
-								district = FacadeProvider.getDistrictFacade().getByName(value, ((CommunityDto) newEntityDto).getRegion(), false);
+								district = FacadeProvider.getInfrastructureNameResolverFacade()
+									.getDistrictsByName(value, ((CommunityDto) newEntityDto).getRegion(), false);
 								break;
 							case FACILITY:
-								district = FacadeProvider.getDistrictFacade().getByName(value, ((FacilityDto) newEntityDto).getRegion(), false);
+								district = FacadeProvider.getInfrastructureNameResolverFacade()
+									.getDistrictsByName(value, ((FacilityDto) newEntityDto).getRegion(), false);
 								break;
 							case POINT_OF_ENTRY:
-								district = FacadeProvider.getDistrictFacade().getByName(value, ((PointOfEntryDto) newEntityDto).getRegion(), false);
+								district = FacadeProvider.getInfrastructureNameResolverFacade()
+									.getDistrictsByName(value, ((PointOfEntryDto) newEntityDto).getRegion(), false);
 								break;
 							default:
 								throw new UnsupportedOperationException(
@@ -212,7 +215,8 @@ public class InfrastructureImporter extends DataImporter {
 						} else if (propertyType.isAssignableFrom(CommunityReferenceDto.class)) {
 							List<CommunityReferenceDto> community;
 							if (type == InfrastructureType.FACILITY) {
-								community = FacadeProvider.getCommunityFacade().getByName(value, ((FacilityDto) newEntityDto).getDistrict(), false);
+								community = FacadeProvider.getInfrastructureNameResolverFacade()
+									.getCommunitiesByName(value, ((FacilityDto) newEntityDto).getDistrict(), false);
 							} else {
 								throw new UnsupportedOperationException(
 									I18nProperties.getValidationError(Validations.importPropertyTypeNotAllowed, propertyType.getName()));
@@ -33,6 +33,7 @@ import com.vaadin.ui.JavaScriptFunction;
 import com.vaadin.util.ReflectTools;
 
 import de.symeda.sormas.api.FacadeProvider;
+import de.symeda.sormas.api.geo.GeoBounds;
 import de.symeda.sormas.api.geo.GeoLatLon;
 import elemental.json.Json;
 import elemental.json.JsonArray;
@@ -67,6 +68,9 @@ public class LeafletMap extends AbstractJavaScriptComponent {
 
 	private int mapId = nextMapId();
 
+	private GeoBounds viewportBounds;
+	private Integer viewportZoom;
+
 	/**
 	 * Creates the chart object.
 	 */
@@ -93,6 +97,16 @@ public class LeafletMap extends AbstractJavaScriptComponent {
 				LeafletMap.this.fireEvent(new MarkerClickEvent(LeafletMap.this, groupId, markerIndex));
 			}
 		});
+		addFunction("onViewportChanged", new JavaScriptFunction() {
+
+			@Override
+			public void call(JsonArray arguments) {
+				viewportBounds =
+					new GeoBounds(arguments.getNumber(0), arguments.getNumber(1), arguments.getNumber(2), arguments.getNumber(3));
+				viewportZoom = (int) arguments.getNumber(4);
+				LeafletMap.this.fireEvent(new ViewportChangeEvent(LeafletMap.this));
+			}
+		});
 		// credit where credit's due
 		String attribution = FacadeProvider.getGeoShapeProvider().loadShapefileAttributions();
 		this.addShapefileAttribution(attribution);
@@ -124,6 +138,20 @@ public class LeafletMap extends AbstractJavaScriptComponent {
 		return getState().getZoom();
 	}
 
+	/**
+	 * @return The part of the map that is visible in the browser, {@code null} until it has been reported by the browser.
+	 */
+	public GeoBounds getViewportBounds() {
+		return viewportBounds;
+	}
+
+	/**
+	 * @return The zoom level that is used in the browser, which changes when the user zooms the map.
+	 */
+	public int getViewportZoom() {
+		return viewportZoom != null ? viewportZoom : getZoom();
+	}
+
 	public void setCenter(GeoLatLon coordinates) {
 		getState().setCenterLatitude(coordinates.getLat());
 		getState().setCenterLongitude(coordinates.getLon());
@@ -161,6 +189,14 @@ public class LeafletMap extends AbstractJavaScriptComponent {
 		addListener(MarkerClickEvent.class, listener, MarkerClickListener.MARKER_CLICK_METHOD);
 	}
 
+	/**
+	 * The browser only reports changes of the viewport once a listener has been added.
+	 */
+	public void addViewportChangeListener(ViewportChangeListener listener) {
+		getState().setReportViewport(true);
+		addListener(ViewportChangeEvent.class, listener, ViewportChangeListener.VIEWPORT_CHANGE_METHOD);
+	}
+
 	/**
 	 * Append the give attribution to the Leaflet attribution list.
 	 * See https://leafletjs.com/reference-1.7.1.html#control-attribution
@@ -199,4 +235,20 @@ public class LeafletMap extends AbstractJavaScriptComponent {
 			return markerIndex;
 		}
 	}
+
+	public interface ViewportChangeListener extends Serializable {
+
+		Method VIEWPORT_CHANGE_METHOD = ReflectTools.findMethod(ViewportChangeListener.class, "viewportChange", ViewportChangeEvent.class);
+
+		void viewportChange(ViewportChangeEvent event);
+	}
+
+	public static class ViewportChangeEvent extends EventObject {
+
+		private static final long serialVersionUID = 5128737407395236384L;
+
+		public ViewportChangeEvent(LeafletMap map) {
+			super(map);
+		}
+	}
 }
@@ -33,6 +33,7 @@ public class LeafletState extends JavaScriptComponentState {
 
 	private boolean tileLayerVisible;
 	private float tileLayerOpacity;
+	private boolean reportViewport;
 
 	public int getZoom() {
 		return zoom;
@@ -73,4 +74,12 @@ public class LeafletState extends JavaScriptComponentState {
 	public void setTileLayerOpacity(float tileLayerOpacity) {
 		this.tileLayerOpacity = tileLayerOpacity;
 	}
+
+	public boolean isReportViewport() {
+		return reportViewport;
+	}
+
+	public void setReportViewport(boolean reportViewport) {
+		this.reportViewport = reportViewport;
+	}
 }
@@ -87,6 +87,7 @@ public class PersonGrid extends FilteredGrid<PersonIndexDto, PersonCriteria> {
 		setLazyDataProvider(
 			FacadeProvider.getPersonFacade()::getIndexList,
 			FacadeProvider.getPersonFacade()::count,
+			FacadeProvider.getPersonFacade()::estimateCount,
 			bulkEditMode && UserProvider.getCurrent().hasUserRight(UserRight.PERFORM_BULK_OPERATIONS) ? SelectionMode.MULTI : SelectionMode.NONE);
 	}
 
@@ -258,6 +258,7 @@ public class PersonsView extends AbstractView {
 		associationButtons.keySet().forEach(b -> {
 			CssStyles.style(b, CssStyles.BUTTON_FILTER_LIGHT);
 			b.setCaption(associationButtons.get(b).toString());
+			b.setDescription(null);
 			if (b.getData() == criteria.getPersonAssociation()) {
 				activeAssociationButton = b;
 			}
@@ -265,7 +266,8 @@ public class PersonsView extends AbstractView {
 		if (activeAssociationButton != null && grid != null) {
 			CssStyles.removeStyles(activeAssociationButton, CssStyles.BUTTON_FILTER_LIGHT);
 			activeAssociationButton.setCaption(
-				associationButtons.get(activeAssociationButton) + LayoutUtil.spanCss(CssStyles.BADGE, String.valueOf(grid.getDataSize())));
+				associationButtons.get(activeAssociationButton) + LayoutUtil.spanCss(CssStyles.BADGE, grid.getDataSizeCaption()));
+			activeAssociationButton.setDescription(grid.isDataSizeEstimated() ? I18nProperties.getString(Strings.infoCountEstimated) : null);
 		}
 	}
 
@@ -307,6 +309,9 @@ public class PersonsView extends AbstractView {
 		for (PersonAssociation association : FacadeProvider.getPersonFacade().getPermittedAssociations()) {
 
 			Button associationButton = ButtonHelper.createButton(association.toString(), e -> {
+				if (e.getButton() == activeAssociationButton && grid != null && grid.countExactly()) {
+					return;
+				}
 				if ((nonNull(UserProvider.getCurrent()) && !UserProvider.getCurrent().hasNationJurisdictionLevel())
 					&& association == PersonAssociation.ALL) {
 					Label contentLabel = new Label(I18nProperties.getString(Strings.confirmationSeeAllPersons));
@@ -233,7 +233,10 @@ public class SampleGrid extends FilteredGrid<SampleIndexDto, SampleCriteria> {
 
 	public void setLazyDataProvider() {
 
-		setLazyDataProvider(FacadeProvider.getSampleFacade()::getIndexList, FacadeProvider.getSampleFacade()::count);
+		setLazyDataProvider(
+			FacadeProvider.getSampleFacade()::getIndexList,
+			FacadeProvider.getSampleFacade()::count,
+			FacadeProvider.getSampleFacade()::estimateCount);
 	}
 
 	public void setEagerDataProvider() {
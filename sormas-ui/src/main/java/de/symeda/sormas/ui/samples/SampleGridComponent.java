@@ -19,6 +19,7 @@ package de.symeda.sormas.ui.samples;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Objects;
 
 import com.vaadin.icons.VaadinIcons;
 import com.vaadin.navigator.ViewChangeListener.ViewChangeEvent;
@@ -34,6 +35,7 @@ import com.vaadin.v7.ui.ComboBox;
 import de.symeda.sormas.api.EntityRelevanceStatus;
 import de.symeda.sormas.api.i18n.Captions;
 import de.symeda.sormas.api.i18n.I18nProperties;
+import de.symeda.sormas.api.i18n.Strings;
 import de.symeda.sormas.api.sample.SampleAssociationType;
 import de.symeda.sormas.api.sample.SampleCriteria;
 import de.symeda.sormas.api.user.UserRight;
@@ -287,6 +289,11 @@ public class SampleGridComponent extends VerticalLayout {
 	}
 
 	private void processStatusChange(String status) {
+		// clicking the active button again counts its estimated entries exactly
+		if (activeStatusButton != null && Objects.equals(activeStatusButton.getData(), status) && grid.countExactly()) {
+			return;
+		}
+
 		if (NOT_SHIPPED.equals(status)) {
 			criteria.shipped(false);
 			criteria.received(null);
@@ -332,6 +339,7 @@ public class SampleGridComponent extends VerticalLayout {
 		statusButtons.keySet().forEach(b -> {
 			CssStyles.style(b, CssStyles.BUTTON_FILTER_LIGHT);
 			b.setCaption(statusButtons.get(b));
+			b.setDescription(null);
 			if ((NOT_SHIPPED.equals(b.getData()) && criteria.getShipped() == Boolean.FALSE)
 				|| (SHIPPED.equals(b.getData()) && criteria.getShipped() == Boolean.TRUE)
 				|| (RECEIVED.equals(b.getData()) && criteria.getReceived() == Boolean.TRUE)
@@ -342,7 +350,8 @@ public class SampleGridComponent extends VerticalLayout {
 		CssStyles.removeStyles(activeStatusButton, CssStyles.BUTTON_FILTER_LIGHT);
 		if (activeStatusButton != null) {
 			activeStatusButton
-				.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, String.valueOf(grid.getDataSize())));
+				.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, grid.getDataSizeCaption()));
+			activeStatusButton.setDescription(grid.isDataSizeEstimated() ? I18nProperties.getString(Strings.infoCountEstimated) : null);
 		}
 	}
 
@@ -100,8 +100,9 @@ public class SamplesView extends AbstractView {
 			StreamResource extendedExportStreamResource = DownloadUtil.createCsvExportStreamResource(
 				SampleExportDto.class,
 				null,
-				(Integer start, Integer max) -> FacadeProvider.getSampleFacade()
-					.getExportList(sampleListComponent.getGrid().getCriteria(), this.getSelectedRows(), start, max),
+				(Long afterId, Integer max) -> FacadeProvider.getSampleFacade()
+					.getExportListAfter(sampleListComponent.getGrid().getCriteria(), this.getSelectedRows(), afterId, max),
+				SampleExportDto::getId,
 				(propertyId, type) -> {
 					String caption = I18nProperties.getPrefixCaption(
 						SampleExportDto.I18N_PREFIX,
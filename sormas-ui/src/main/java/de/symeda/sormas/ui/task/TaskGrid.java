@@ -201,7 +201,10 @@ public class TaskGrid extends FilteredGrid<TaskIndexDto, TaskCriteria> {
 	}
 
 	public void setLazyDataProvider() {
-		setLazyDataProvider(FacadeProvider.getTaskFacade()::getIndexList, FacadeProvider.getTaskFacade()::count);
+		setLazyDataProvider(
+			FacadeProvider.getTaskFacade()::getIndexList,
+			FacadeProvider.getTaskFacade()::count,
+			FacadeProvider.getTaskFacade()::estimateCount);
 	}
 
 	public void setEagerDataProvider() {
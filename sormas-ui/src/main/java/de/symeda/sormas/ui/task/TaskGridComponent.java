@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import com.vaadin.icons.VaadinIcons;
 import com.vaadin.navigator.ViewChangeListener.ViewChangeEvent;
@@ -39,6 +40,7 @@ import de.symeda.sormas.api.EntityRelevanceStatus;
 import de.symeda.sormas.api.FacadeProvider;
 import de.symeda.sormas.api.i18n.Captions;
 import de.symeda.sormas.api.i18n.I18nProperties;
+import de.symeda.sormas.api.i18n.Strings;
 import de.symeda.sormas.api.task.TaskCriteria;
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.ui.ControllerProvider;
@@ -224,6 +226,11 @@ public class TaskGridComponent extends VerticalLayout {
 	}
 
 	private void processAssigneeFilterChange(String assignee) {
+		// clicking the active button again counts its estimated entries exactly
+		if (activeStatusButton != null && Objects.equals(activeStatusButton.getData(), assignee) && grid.countExactly()) {
+			return;
+		}
+
 		if (OFFICER_TASKS.equals(assignee)) {
 			criteria.assigneeUser(null);
 			criteria.excludeAssigneeUser(FacadeProvider.getUserFacade().getCurrentUserAsReference());
@@ -268,6 +275,7 @@ public class TaskGridComponent extends VerticalLayout {
 		statusButtons.keySet().forEach(b -> {
 			CssStyles.style(b, CssStyles.BUTTON_FILTER_LIGHT);
 			b.setCaption(statusButtons.get(b));
+			b.setDescription(null);
 			if ((OFFICER_TASKS.equals(b.getData()) && criteria.getExcludeAssigneeUser() != null)
 				|| (MY_TASKS.equals(b.getData()) && criteria.getAssigneeUser() != null)
 				|| (b.getData() == null && criteria.getExcludeAssigneeUser() == null && criteria.getAssigneeUser() == null)) {
@@ -277,7 +285,8 @@ public class TaskGridComponent extends VerticalLayout {
 		if (activeStatusButton != null) {
 			CssStyles.removeStyles(activeStatusButton, CssStyles.BUTTON_FILTER_LIGHT);
 			activeStatusButton
-				.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, String.valueOf(grid.getDataSize())));
+				.setCaption(statusButtons.get(activeStatusButton) + LayoutUtil.spanCss(CssStyles.BADGE, grid.getDataSizeCaption()));
+			activeStatusButton.setDescription(grid.isDataSizeEstimated() ? I18nProperties.getString(Strings.infoCountEstimated) : null);
 		}
 	}
 
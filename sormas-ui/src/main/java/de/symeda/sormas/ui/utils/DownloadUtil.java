@@ -43,6 +43,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -564,17 +565,50 @@ public final class DownloadUtil {
 		ExportEntityName entityName,
 		ExportConfigurationDto exportConfiguration) {
 
+		return createCsvExportStreamResource(
+			entityName,
+			out -> CsvStreamUtils.writeCsvContentToStream(
+				exportRowClass,
+				exportRowsSupplier,
+				propertyIdCaptionFunction,
+				exportConfiguration,
+				(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
+				FacadeProvider.getConfigFacade(),
+				out));
+	}
+
+	/**
+	 * Creates a CSV export that fetches the rows with keyset paging: Each page is requested with the key of the last row of the
+	 * previous page, extracted by {@code rowKeyExtractor}.
+	 */
+	public static <T> StreamResource createCsvExportStreamResource(
+		Class<T> exportRowClass,
+		Enum<?> exportType,
+		CsvStreamUtils.SupplierBiFunction<Long, Integer, List<T>> exportRowsAfterSupplier,
+		Function<T, Long> rowKeyExtractor,
+		CsvStreamUtils.SupplierBiFunction<String, Class<?>, String> propertyIdCaptionFunction,
+		ExportEntityName entityName,
+		ExportConfigurationDto exportConfiguration) {
+
+		return createCsvExportStreamResource(
+			entityName,
+			out -> CsvStreamUtils.writeCsvContentToStream(
+				exportRowClass,
+				exportRowsAfterSupplier,
+				rowKeyExtractor,
+				propertyIdCaptionFunction,
+				exportConfiguration,
+				(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
+				FacadeProvider.getConfigFacade(),
+				out));
+	}
+
+	private static StreamResource createCsvExportStreamResource(ExportEntityName entityName, Consumer<OutputStream> csvWriter) {
+
 		String exportFileName = createFileNameWithCurrentDate(entityName, ".csv");
 		StreamResource extendedStreamResource = new StreamResource(() -> new DelayedInputStream((out) -> {
 			try {
-				CsvStreamUtils.writeCsvContentToStream(
-					exportRowClass,
-					exportRowsSupplier,
-					propertyIdCaptionFunction,
-					exportConfiguration,
-					(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
-					FacadeProvider.getConfigFacade(),
-					out);
+				csvWriter.accept(out);
 			} catch (Exception e) {
 				LoggerFactory.getLogger(DownloadUtil.class).error(e.getMessage(), e);
 
@@ -47,8 +47,9 @@ public class EventParticipantDownloadUtil {
 		return DownloadUtil.createCsvExportStreamResource(
 			EventParticipantExportDto.class,
 			null,
-			(Integer start, Integer max) -> FacadeProvider.getEventParticipantFacade()
-				.getExportList(criteria, selectedRows.get(), start, max, I18nProperties.getUserLanguage(), exportConfiguration),
+			(Long afterId, Integer max) -> FacadeProvider.getEventParticipantFacade()
+				.getExportListAfter(criteria, selectedRows.get(), afterId, max, I18nProperties.getUserLanguage(), exportConfiguration),
+			EventParticipantExportDto::getId,
 			EventParticipantDownloadUtil::captionProvider,
 			ExportEntityName.EVENT_PARTICIPANTS,
 			exportConfiguration);
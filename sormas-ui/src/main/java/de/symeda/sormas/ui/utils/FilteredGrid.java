@@ -1,5 +1,7 @@
 package de.symeda.sormas.ui.utils;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -48,6 +50,8 @@ public class FilteredGrid<T, C extends BaseCriteria> extends Grid<T> {
 	private C criteria;
 	private boolean inEagerMode;
 	private int dataSize;
+	private boolean dataSizeEstimated;
+	private boolean exactCountRequested;
 
 	public FilteredGrid(Class<T> beanType) {
 		super(beanType);
@@ -64,6 +68,7 @@ public class FilteredGrid<T, C extends BaseCriteria> extends Grid<T> {
 
 	public void setCriteria(C criteria, boolean ignoreDataProvider) {
 		this.criteria = criteria;
+		exactCountRequested = false;
 		if (!ignoreDataProvider && !inEagerMode) {
 			getFilteredDataProvider().setFilter(criteria);
 		}
@@ -84,6 +89,48 @@ public class FilteredGrid<T, C extends BaseCriteria> extends Grid<T> {
 		return dataSize;
 	}
 
+	/**
+	 * @return Whether {@link #getDataSize()} is only an estimate, see {@link #countExactly()}.
+	 */
+	public boolean isDataSizeEstimated() {
+		return dataSizeEstimated;
+	}
+
+	/**
+	 * @return The data size to be shown to the user, e.g. "~1.2M" when it is estimated.
+	 */
+	public String getDataSizeCaption() {
+
+		if (!dataSizeEstimated) {
+			return String.valueOf(dataSize);
+		}
+
+		DecimalFormat format = new DecimalFormat("#.#", DecimalFormatSymbols.getInstance(I18nProperties.getUserLanguage().getLocale()));
+		if (dataSize >= 1_000_000) {
+			return "~" + format.format(dataSize / 1_000_000d) + "M";
+		} else if (dataSize >= 1_000) {
+			return "~" + format.format(dataSize / 1_000d) + "K";
+		} else {
+			return "~" + dataSize;
+		}
+	}
+
+	/**
+	 * Replaces the estimated data size with the exact count until the criteria are changed.
+	 * 
+	 * @return Whether the data size was estimated and is now counted.
+	 */
+	public boolean countExactly() {
+
+		if (!dataSizeEstimated) {
+			return false;
+		}
+
+		exactCountRequested = true;
+		getDataProvider().refreshAll();
+		return true;
+	}
+
 	public void setDataSize(int dataSize) {
 
 		this.dataSize = dataSize;
@@ -119,6 +166,36 @@ public class FilteredGrid<T, C extends BaseCriteria> extends Grid<T> {
 	 */
 	public void setLazyDataProvider(CriteriaFetchCallback<T, C> fetchCallback, CriteriaCountCallback<C> countCallback, SelectionMode selectionMode) {
 
+		setLazyDataProvider(fetchCallback, countCallback, null, selectionMode);
+	}
+
+	/**
+	 * <ul>
+	 * <li>selectionMode = {@link SelectionMode#NONE}</li>
+	 * </ul>
+	 * 
+	 * @see #setLazyDataProvider(CriteriaFetchCallback, CriteriaCountCallback, CriteriaCountCallback, SelectionMode)
+	 */
+	public void setLazyDataProvider(
+		CriteriaFetchCallback<T, C> fetchCallback,
+		CriteriaCountCallback<C> countCallback,
+		CriteriaCountCallback<C> estimateCallback) {
+
+		setLazyDataProvider(fetchCallback, countCallback, estimateCallback, SelectionMode.NONE);
+	}
+
+	/**
+	 * @param estimateCallback
+	 *            Estimates the data size of lists too large to be counted each time; returns {@code null} when the list has to be
+	 *            counted with the countCallback. The estimate is used until {@link #countExactly()} is called.
+	 * @see DataProvider#fromFilteringCallbacks
+	 */
+	public void setLazyDataProvider(
+		CriteriaFetchCallback<T, C> fetchCallback,
+		CriteriaCountCallback<C> countCallback,
+		CriteriaCountCallback<C> estimateCallback,
+		SelectionMode selectionMode) {
+
 		setDataProvider(
 			query -> fetchCallback
 				.fetchData(
@@ -130,7 +207,12 @@ public class FilteredGrid<T, C extends BaseCriteria> extends Grid<T> {
 						.map(sortOrder -> new SortProperty(sortOrder.getSorted(), sortOrder.getDirection() == SortDirection.ASCENDING))
 						.collect(Collectors.toList()))
 				.stream(),
-			query -> countCallback.countData(query.getFilter().orElse(null)).intValue());
+			query -> {
+				C filter = query.getFilter().orElse(null);
+				Long estimate = estimateCallback != null && !exactCountRequested ? estimateCallback.countData(filter) : null;
+				dataSizeEstimated = estimate != null;
+				return (dataSizeEstimated ? estimate : countCallback.countData(filter)).intValue();
+			});
 		setSelectionMode(selectionMode);
 	}
 
@@ -176,6 +258,7 @@ public class FilteredGrid<T, C extends BaseCriteria> extends Grid<T> {
 	 */
 	public void setDataProvider(Stream<T> items) {
 
+		dataSizeEstimated = false;
 		ListDataProvider<T> dataProvider = DataProvider.fromStream(items);
 
 		// Every the in-memory data is updated/filtered, then notify to get the cached dataSize updated
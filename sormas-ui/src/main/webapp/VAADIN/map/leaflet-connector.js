@@ -64,6 +64,14 @@ window.de_symeda_sormas_ui_map_LeafletMap = function () {
 //		exportOnly: true,
 //	}).addTo(map);
 	
+	// report the visible part of the map, e.g. to load clusters for it
+	map.on("moveend", function() {
+		if (connector.getState().reportViewport) {
+			var bounds = map.getBounds();
+			connector.onViewportChanged(bounds.getSouth(), bounds.getWest(), bounds.getNorth(), bounds.getEast(), map.getZoom());
+		}
+	});
+
 	// update the map whenever the vaadin element is resized
 	this.addResizeListener(this.getElement(), function(o,b) {
 		map.invalidateSize(true);
@@ -14,6 +14,7 @@ public class ExtendedH2Dialect extends H2Dialect {
 	public final static String ILIKE = "ilike";
 	public final static String WINDOW_FIRST_VALUE_DESC = "window_first_value_desc";
 	public final static String WINDOW_COUNT = "window_count";
+	public final static String ARRAY_CONTAINS_ID = "array_contains_id";
 
 	public ExtendedH2Dialect() {
 		super();
@@ -23,6 +24,7 @@ public class ExtendedH2Dialect extends H2Dialect {
 		registerFunction(CONCAT_FUNCTION, new StandardSQLFunction("concat"));
 		registerFunction(ARRAY_AGG, new StandardSQLFunction(ARRAY_AGG));
 		registerFunction(ILIKE, new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "?1 ILIKE ?2"));
+		registerFunction(ARRAY_CONTAINS_ID, new SQLFunctionTemplate(StandardBasicTypes.BOOLEAN, "ARRAY_CONTAINS(?1, ?2)"));
 
 		// UNACCENT function is not available in H2 database, so let's just make sure it won't fail on tests
 		registerFunction(UNACCENT, new SQLFunctionTemplate(StandardBasicTypes.STRING, "?1"));
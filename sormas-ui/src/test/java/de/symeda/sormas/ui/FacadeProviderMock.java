@@ -36,6 +36,7 @@ import de.symeda.sormas.api.hospitalization.HospitalizationFacade;
 import de.symeda.sormas.api.immunization.ImmunizationFacade;
 import de.symeda.sormas.api.importexport.ExportFacade;
 import de.symeda.sormas.api.importexport.ImportFacade;
+import de.symeda.sormas.api.importexport.InfrastructureNameResolverFacade;
 import de.symeda.sormas.api.infrastructure.community.CommunityFacade;
 import de.symeda.sormas.api.infrastructure.country.CountryFacade;
 import de.symeda.sormas.api.infrastructure.district.DistrictFacade;
@@ -76,6 +77,7 @@ import de.symeda.sormas.backend.hospitalization.HospitalizationFacadeEjb.Hospita
 import de.symeda.sormas.backend.immunization.ImmunizationFacadeEjb;
 import de.symeda.sormas.backend.importexport.ExportFacadeEjb.ExportFacadeEjbLocal;
 import de.symeda.sormas.backend.importexport.ImportFacadeEjb.ImportFacadeEjbLocal;
+import de.symeda.sormas.backend.importexport.InfrastructureNameResolverFacadeEjb.InfrastructureNameResolverFacadeEjbLocal;
 import de.symeda.sormas.backend.infrastructure.community.CommunityFacadeEjb.CommunityFacadeEjbLocal;
 import de.symeda.sormas.backend.infrastructure.country.CountryFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.district.DistrictFacadeEjb.DistrictFacadeEjbLocal;
@@ -151,6 +153,8 @@ public final class FacadeProviderMock extends FacadeProvider {
 			return (P) bm.getBean(ExportFacadeEjbLocal.class);
 		} else if (ImportFacade.class == clazz) {
 			return (P) bm.getBean(ImportFacadeEjbLocal.class);
+		} else if (InfrastructureNameResolverFacade.class == clazz) {
+			return (P) bm.getBean(InfrastructureNameResolverFacadeEjbLocal.class);
 		} else if (CaseClassificationFacade.class == clazz) {
 			return (P) bm.getBean(CaseClassificationFacadeEjbLocal.class);
 		} else if (PointOfEntryFacade.class == clazz) {
@@ -79,6 +79,8 @@ public class MockProducer implements InitialContextFactory {
 		properties.setProperty(ConfigFacadeEjb.COUNTRY_NAME, "nigeria");
 		properties.setProperty(ConfigFacadeEjb.CSV_SEPARATOR, ",");
 		properties.setProperty(ConfigFacadeEjb.COUNTRY_EPID_PREFIX, "ng");
+		// the entity manager of the test container must not be used by several threads
+		properties.setProperty(ConfigFacadeEjb.IMPORT_THREAD_COUNT, "1");
 
 		try {
 			Field instance = InfoProvider.class.getDeclaredField("instance");
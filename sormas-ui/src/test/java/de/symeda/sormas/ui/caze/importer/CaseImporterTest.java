@@ -32,6 +32,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -48,14 +49,19 @@ import com.vaadin.ui.UI;
 
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.FacadeProvider;
+import de.symeda.sormas.api.caze.CaseClassification;
 import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.caze.InvestigationStatus;
 import de.symeda.sormas.api.caze.Vaccine;
+import de.symeda.sormas.api.i18n.I18nProperties;
+import de.symeda.sormas.api.i18n.Strings;
 import de.symeda.sormas.api.importexport.InvalidColumnException;
 import de.symeda.sormas.api.importexport.ValueSeparator;
 import de.symeda.sormas.api.infrastructure.facility.FacilityType;
 import de.symeda.sormas.api.person.PersonDto;
 import de.symeda.sormas.api.person.PersonHelper;
 import de.symeda.sormas.api.person.PersonSimilarityCriteria;
+import de.symeda.sormas.api.person.Sex;
 import de.symeda.sormas.api.person.SimilarPersonDto;
 import de.symeda.sormas.api.sample.PathogenTestDto;
 import de.symeda.sormas.api.sample.PathogenTestResultType;
@@ -67,7 +73,9 @@ import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.api.utils.LocationHelper;
 import de.symeda.sormas.api.utils.YesNoUnknown;
 import de.symeda.sormas.api.vaccination.VaccinationDto;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.ui.AbstractBeanTest;
+import de.symeda.sormas.ui.MockProducer;
 import de.symeda.sormas.ui.TestDataCreator;
 import de.symeda.sormas.ui.importer.CaseImportSimilarityInput;
 import de.symeda.sormas.ui.importer.CaseImportSimilarityResult;
@@ -291,6 +299,95 @@ public class CaseImporterTest extends AbstractBeanTest {
 		assertEquals(12, getCaseFacade().count(null));
 	}
 
+	@Test
+	public void testImportInChunks() throws IOException, InvalidColumnException, InterruptedException, CsvException, URISyntaxException {
+
+		TestDataCreator.RDCF rdcf = creator.createRDCF("Abia", "Umuahia North", "Urban Ward 2", "Anelechi Hospital");
+		UserDto user = creator.createUser(
+			rdcf.region.getUuid(),
+			rdcf.district.getUuid(),
+			rdcf.facility.getUuid(),
+			"Surv",
+			"Sup",
+			creator.getUserRoleReference(DefaultUserRole.SURVEILLANCE_SUPERVISOR));
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.IMPORT_CHUNK_SIZE, "2");
+		try {
+			File csvFile = new File(getClass().getClassLoader().getResource("sormas_import_test_success.csv").toURI());
+			CaseImporterExtension caseImporter = new CaseImporterExtension(csvFile, true, user);
+			ImportResultStatus importResult = caseImporter.runImport();
+
+			assertEquals(ImportResultStatus.COMPLETED, importResult, caseImporter.stringBuilder.toString());
+			assertEquals(5, getCaseFacade().count(null));
+
+			// errors are reported in the order of the lines
+			csvFile = new File(getClass().getClassLoader().getResource("sormas_import_test_errors.csv").toURI());
+			caseImporter = new CaseImporterExtension(csvFile, true, user);
+			importResult = caseImporter.runImport();
+
+			assertEquals(ImportResultStatus.COMPLETED_WITH_ERRORS, importResult);
+			assertEquals(5, getCaseFacade().count(null));
+			String errorReport = caseImporter.stringBuilder.toString();
+			for (int i = 30; i < 34; i++) {
+				int index = errorReport.indexOf("ABC-DEF-GHI-19-" + i);
+				assertTrue(index >= 0, errorReport);
+				assertTrue(index < errorReport.indexOf("ABC-DEF-GHI-19-" + (i + 1)), errorReport);
+			}
+		} finally {
+			MockProducer.getProperties().remove(ConfigFacadeEjb.IMPORT_CHUNK_SIZE);
+		}
+	}
+
+	@Test
+	public void testImportDuplicateWithFailingSave()
+		throws IOException, InvalidColumnException, InterruptedException, CsvException, URISyntaxException {
+
+		TestDataCreator.RDCF rdcf = creator.createRDCF("Abia", "Umuahia North", "Urban Ward 2", "Anelechi Hospital");
+		UserDto user = creator.createUser(
+			rdcf.region.getUuid(),
+			rdcf.district.getUuid(),
+			rdcf.facility.getUuid(),
+			"Surv",
+			"Sup",
+			creator.getUserRoleReference(DefaultUserRole.SURVEILLANCE_SUPERVISOR));
+
+		// an existing case of a similar person that already uses the epid number of the imported case
+		PersonDto person = creator.createPerson("Import Test", "One", Sex.MALE);
+		CaseDataDto caze = creator.createCase(
+			user.toReference(),
+			person.toReference(),
+			Disease.EVD,
+			CaseClassification.SUSPECT,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		caze.setEpidNumber("ABC-DEF-GHI-19-10");
+		getCaseFacade().save(caze);
+
+		File csvFile = new File(getClass().getClassLoader().getResource("sormas_import_test_similarities.csv").toURI());
+		CaseImporterExtension caseImporter = new CaseImporterExtension(csvFile, true, user) {
+
+			@Override
+			protected <T extends PersonImportSimilarityResult> void handlePersonSimilarity(
+				PersonDto newPerson,
+				Consumer<T> resultConsumer,
+				BiFunction<SimilarPersonDto, ImportSimilarityResultOption, T> createSimilarityResult,
+				String infoText,
+				UI currentUI) {
+
+				SimilarPersonDto similarPerson = FacadeProvider.getPersonFacade().getSimilarPersonDtos(new PersonSimilarityCriteria()).get(0);
+				resultConsumer.accept((T) new CaseImportSimilarityResult(similarPerson, null, ImportSimilarityResultOption.PICK));
+			}
+		};
+		ImportResultStatus importResult = caseImporter.runImport();
+
+		// the error report contains the reason why saving the resolved duplicate failed
+		assertEquals(ImportResultStatus.COMPLETED_WITH_ERRORS, importResult);
+		assertEquals(1, getCaseFacade().count(null));
+		String errorReport = caseImporter.stringBuilder.toString();
+		assertTrue(errorReport.contains(I18nProperties.getString(Strings.messageEpidNumberWarning)), errorReport);
+	}
+
 	@Test
 	public void testLineListingImport() throws IOException, InvalidColumnException, InterruptedException, CsvValidationException, URISyntaxException {
 		TestDataCreator.RDCF rdcf = new TestDataCreator().createRDCF("Abia", "Bende", "Bende Ward", "Bende Maternity Home");